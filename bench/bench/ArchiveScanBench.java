@@ -0,0 +1,65 @@
+package bench;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import ai.*;
+import ai.strategies.*;
+import javamon.battle.*;
+import javamon.replay.*;
+import javamon.util.BattleRandom;
+
+/**
+ * Records random-vs-random battles to a replay archive in two append sessions, then measures a full
+ * scan over every round and random access by battle ID.
+ *
+ * <p>Usage: {@code ArchiveScanBench [battles] [archive path]}
+ */
+public class ArchiveScanBench {
+    private static final int SCANS = 5;
+    private static final int RANDOM_READS = 100_000;
+
+    public static void main(String[] args) throws IOException {
+        int battles = Bench.intArg(args, 0, 1_000_000);
+        Path path;
+        if (args.length > 1) {
+            path = Paths.get(args[1]);
+            Files.deleteIfExists(path);
+        } else {
+            path = Files.createTempFile("archive", ".jrpx");
+            Files.delete(path);
+            path.toFile().deleteOnExit();
+        }
+
+        BattleSimulator simulator = new BattleSimulator(Bench.starterTeam1(), Bench.starterTeam2(),
+                new RandomStrategy(1), new RandomStrategy(2), 1000, BattleRandom.seeded(5));
+        long turns = 0;
+        for (int session = 0; session < 2; session++) {
+            try (ReplayArchiveWriter writer = ReplayArchiveWriter.open(path)) {
+                turns += simulator.run(battles / 2, writer).getTotalTurns();
+            }
+        }
+        ReplayArchive archive = ReplayArchive.open(path);
+        System.out.printf("%d battles, %,d bytes%n", archive.getBattleCount(), Files.size(path));
+
+        for (int scan = 0; scan < SCANS; scan++) {
+            long start = System.nanoTime();
+            long rounds = 0;
+            for (ReplayArchive.Cursor cursor : archive) {
+                while (cursor.nextRound()) {
+                    rounds++;
+                }
+            }
+            double seconds = (System.nanoTime() - start) / 1e9;
+            System.out.printf("scan: %,.0f battles/s, %d rounds (simulator played %d)%n",
+                    archive.getBattleCount() / seconds, rounds, turns);
+        }
+
+        SplittableRandom rng = new SplittableRandom(3);
+        long start = System.nanoTime();
+        for (int i = 0; i < RANDOM_READS; i++) {
+            archive.get(rng.nextLong(archive.getBattleCount())).play(BattleListener.NONE);
+        }
+        System.out.printf("%d random get + replay: %.2f s%n", RANDOM_READS, (System.nanoTime() - start) / 1e9);
+    }
+}
@@ -0,0 +1,71 @@
+package bench;
+
+import java.io.*;
+import java.lang.management.*;
+import java.util.*;
+import javamon.entities.*;
+import javamon.entities.moves.*;
+
+/**
+ * Shared fixtures for the benchmarks in this package.
+ *
+ * <p>Most benchmarks are a plain {@code main} that warms up, then prints what it measured; they exist so
+ * the performance figures quoted in the history can be re-run. {@link DamageAllocationBench} is a JMH
+ * benchmark. Compile {@code bench} against the classes of {@code src} (with {@code registry.bin} next to
+ * {@code RegistryData}) and the JMH jars in {@code lib}, and run e.g.
+ * {@code java -cp out bench.SilentPlayoutBench}.
+ */
+final class Bench {
+    static final PrintStream NULL_OUTPUT = new PrintStream(OutputStream.nullOutputStream());
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private Bench() {}
+
+    /**
+     * @return bytes allocated so far by the calling thread
+     */
+    static long allocatedBytes() {
+        return THREADS.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * @return the command line argument at the given index as an int, or the default if there is none
+     */
+    static int intArg(String[] args, int index, int defaultValue) {
+        return (args.length > index) ? Integer.parseInt(args[index]) : defaultValue;
+    }
+
+    /**
+     * The small fixed teams used by the throughput benchmarks.
+     */
+    static List<Pokemon> starterTeam1() {
+        return List.of(PokemonRegistry.create("Charmander", 32, new String[]{"Ember", "Tackle"}),
+                PokemonRegistry.create("Bulbasaur", 31, new String[]{"Vine Whip", "Tackle"}),
+                PokemonRegistry.create("Pidgey", 30, new String[]{"Tackle", "Growl"}));
+    }
+
+    static List<Pokemon> starterTeam2() {
+        return List.of(PokemonRegistry.create("Squirtle", 32, new String[]{"Water Gun", "Tackle"}),
+                PokemonRegistry.create("Pikachu", 31, new String[]{"Quick Attack", "Growl"}),
+                PokemonRegistry.create("Rattata", 30, new String[]{"Tackle"}));
+    }
+
+    /**
+     * Six random registry species at level 50, each with 4 distinct random moves.
+     */
+    static List<Pokemon> randomTeam(SplittableRandom rng) {
+        int[] species = new int[6];
+        int[][] moves = new int[6][];
+        for (int i = 0; i < species.length; i++) {
+            species[i] = rng.nextInt(PokemonRegistry.size());
+            moves[i] = rng.ints(0, MoveRegistry.size())
+                    .filter(id -> id != MoveRegistry.STRUGGLE_ID)
+                    .distinct()
+                    .limit(4)
+                    .toArray();
+        }
+        return PokemonRegistry.createTeam(species, 50, moves);
+    }
+}
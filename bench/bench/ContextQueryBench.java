@@ -0,0 +1,66 @@
+package bench;
+
+import java.util.*;
+import ai.*;
+import javamon.battle.*;
+import javamon.entities.*;
+
+/**
+ * Bytes allocated and time taken per {@link BattleContext} query. The list helpers are measured too,
+ * for contrast.
+ *
+ * <p>Usage: {@code ContextQueryBench [calls]}
+ */
+public class ContextQueryBench {
+    private static final int ROUNDS = 3;
+
+    private static long sink;
+
+    public static void main(String[] args) {
+        int calls = Bench.intArg(args, 0, 10_000_000);
+        BattleContext context = new BattleContext(new BattleEngine(Bench.starterTeam1(), Bench.starterTeam2(), 1L), 1);
+
+        for (int round = 0; round < ROUNDS; round++) {
+            // The first round is warm-up
+            boolean report = round == ROUNDS - 1;
+
+            long bytes = Bench.allocatedBytes();
+            long start = System.nanoTime();
+            for (int i = 0; i < calls; i++) {
+                sink += context.getLegalActions();
+            }
+            print(report, "getLegalActions()", bytes, start, calls);
+
+            bytes = Bench.allocatedBytes();
+            start = System.nanoTime();
+            for (int i = 0; i < calls; i++) {
+                List<Pokemon> team = context.getOpponentTeam();
+                sink += team.get(i % team.size()).getCurrentHp();
+            }
+            print(report, "getOpponentTeam().get(i)", bytes, start, calls);
+
+            bytes = Bench.allocatedBytes();
+            start = System.nanoTime();
+            for (int i = 0; i < calls; i++) {
+                sink += context.getMyActiveIndex() + context.getOpponentLegalActions();
+            }
+            print(report, "active index + opponent actions", bytes, start, calls);
+
+            bytes = Bench.allocatedBytes();
+            start = System.nanoTime();
+            for (int i = 0; i < calls / 10; i++) {
+                sink += context.getValidMoves().size() + context.getValidSwitchTargets().size();
+            }
+            print(report, "getValidMoves + getValidSwitchTargets", bytes, start, calls / 10);
+        }
+        System.out.println("(checksum " + sink + ")");
+    }
+
+    private static void print(boolean report, String query, long bytes, long start, int calls) {
+        long nanos = System.nanoTime() - start;
+        bytes = Bench.allocatedBytes() - bytes;
+        if (report) {
+            System.out.printf("%-38s %6.2f B/call %6.1f ns/call%n", query, bytes / (double) calls, nanos / (double) calls);
+        }
+    }
+}
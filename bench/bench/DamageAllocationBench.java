@@ -0,0 +1,51 @@
+package bench;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import javamon.battle.BattleListener;
+import javamon.entities.*;
+import javamon.entities.moves.*;
+import javamon.util.BattleRandom;
+
+/**
+ * JMH benchmark of one hit of {@link DamagingMove#apply} with no listener: stat lookup, STAB, type
+ * effectiveness, the damage roll and the secondary effect. Run it with the GC profiler and read
+ * {@code gc.alloc.rate.norm} for bytes per hit.
+ *
+ * <p>Compile with the JMH jars from {@code lib} on the classpath so the annotation processor generates
+ * the harness, then run e.g. {@code java -cp out:lib/* org.openjdk.jmh.Main DamageAllocationBench -prof gc}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DamageAllocationBench {
+    @Param({"Ember", "Tackle"})
+    public String moveName;
+
+    private Move move;
+    private Pokemon attacker;
+    private Pokemon defender;
+    private BattleRandom random;
+
+    @Setup
+    public void setUp() {
+        move = MoveRegistry.get(moveName);
+        attacker = PokemonRegistry.create("Charmander", 32, new String[]{"Ember", "Tackle"});
+        defender = PokemonRegistry.create("Bulbasaur", 31, new String[]{"Vine Whip", "Tackle"});
+        random = BattleRandom.seeded(1);
+    }
+
+    /**
+     * @return damage dealt, so the hit cannot be optimized away
+     */
+    @Benchmark
+    public int hit() {
+        defender.setCurrentHp(defender.getMaxHp());
+        defender.setStatusCondition(Pokemon.StatusCondition.None);
+        move.apply(attacker, defender, random, BattleListener.NONE);
+        return defender.getMaxHp() - defender.getCurrentHp();
+    }
+}
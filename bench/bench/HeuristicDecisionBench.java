@@ -0,0 +1,91 @@
+package bench;
+
+import java.util.*;
+import ai.strategies.*;
+import javamon.battle.*;
+import javamon.util.BattleRandom;
+
+/**
+ * Mean time per {@link HeuristicStrategy#decideAction} call, for positions from random battles between
+ * random 6v6 teams. Each strategy gets a fresh oracle per battle, so the cache warms up the way it does
+ * in play. Timer overhead is included, and the median of five measured rounds is printed. Every strategy
+ * should decide in under {@value #BUDGET_NS} ns; one that does not is flagged.
+ *
+ * <p>Usage: {@code HeuristicDecisionBench [battles]}
+ */
+public class HeuristicDecisionBench {
+    private static final int MAX_ROUNDS = 30;
+    private static final int REPEATS = 50;
+    private static final int WARMUP_ROUNDS = 2;
+    private static final int ROUNDS = 7;
+    private static final int BUDGET_NS = 1000;
+
+    private static long sink;
+
+    public static void main(String[] args) {
+        int battles = Bench.intArg(args, 0, 200);
+        List<BattleEngine> engines = new ArrayList<>();
+        List<List<BattleState>> positions = new ArrayList<>();
+        SplittableRandom rng = new SplittableRandom(11);
+        BattleRandom random = BattleRandom.seeded(3);
+        for (int b = 0; b < battles; b++) {
+            BattleEngine engine = new BattleEngine(Bench.randomTeam(rng), Bench.randomTeam(rng), (long) b);
+            List<BattleState> states = new ArrayList<>();
+            for (int round = 0; round < MAX_ROUNDS && !engine.isFinished(); round++) {
+                if (round % 3 == 0) {
+                    states.add(engine.snapshot());
+                }
+                for (int playerN = 1; playerN <= 2; playerN++) {
+                    int mask = engine.getLegalActions(playerN);
+                    engine.queueAction(playerN, BattleEngine.nthAction(mask, random.nextInt(Integer.bitCount(mask))));
+                }
+                engine.playOutTurns();
+            }
+            engines.add(engine);
+            positions.add(states);
+        }
+
+        String[] names = {"Greedy", "Lookahead", "Switching"};
+        double[][] times = new double[names.length][ROUNDS - WARMUP_ROUNDS];
+        for (int round = 0; round < ROUNDS; round++) {
+            for (int s = 0; s < names.length; s++) {
+                long calls = 0;
+                long nanos = 0;
+                for (int b = 0; b < battles; b++) {
+                    HeuristicStrategy strategy = create(s);
+                    BattleEngine engine = engines.get(b);
+                    for (int repeat = 0; repeat < REPEATS; repeat++) {
+                        for (BattleState state : positions.get(b)) {
+                            engine.restore(state);
+                            long start = System.nanoTime();
+                            sink += strategy.decideAction(engine, 1) + strategy.decideAction(engine, 2);
+                            nanos += System.nanoTime() - start;
+                            calls += 2;
+                        }
+                    }
+                }
+                if (round >= WARMUP_ROUNDS) {
+                    times[s][round - WARMUP_ROUNDS] = nanos / (double) calls;
+                }
+            }
+        }
+        // The median round, since other load on the machine can slow any single round a lot
+        for (int s = 0; s < names.length; s++) {
+            Arrays.sort(times[s]);
+            double median = times[s][times[s].length / 2];
+            System.out.printf("%-9s %.0f ns/decision%s%n", names[s], median, (median < BUDGET_NS) ? "" : "  OVER BUDGET");
+        }
+        System.out.println("(checksum " + sink + ")");
+    }
+
+    private static HeuristicStrategy create(int index) {
+        switch (index) {
+            case 0:
+                return new GreedyStrategy();
+            case 1:
+                return new LookaheadStrategy();
+            default:
+                return new SwitchingStrategy();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package bench;
+
+import java.util.*;
+import ai.*;
+import ai.strategies.*;
+import javamon.battle.*;
+import javamon.entities.*;
+import javamon.util.BattleRandom;
+
+/**
+ * Iterations per second of {@link ParallelMonteCarloStrategy} from the opening position, per mode and
+ * thread count, next to the serial {@link MonteCarloStrategy}. Scaling needs as many cores as threads;
+ * the number of available processors is printed first.
+ *
+ * <p>In quality mode, each parallel mode instead plays the serial search at the same iteration budget
+ * per decision, on random 6v6 teams at level 50. Every team pair is played twice with the same battle
+ * seed, once from each side, and the parallel search's win rate is printed.
+ *
+ * <p>Usage: {@code ParallelSearchBench [budget ms] [max threads]} or
+ * {@code ParallelSearchBench quality [iterations] [games] [threads]}
+ */
+public class ParallelSearchBench {
+    private static final int MAX_TURNS = 300;
+
+    public static void main(String[] args) {
+        if (args.length > 0 && args[0].equals("quality")) {
+            quality(Bench.intArg(args, 1, 2000), Bench.intArg(args, 2, 200), Bench.intArg(args, 3, 4));
+            return;
+        }
+        int budget = Bench.intArg(args, 0, 300);
+        int maxThreads = Bench.intArg(args, 1, Math.max(4, Runtime.getRuntime().availableProcessors()));
+        List<Pokemon> team1 = Bench.starterTeam1();
+        List<Pokemon> team2 = Bench.starterTeam2();
+        System.out.println("available processors: " + Runtime.getRuntime().availableProcessors());
+
+        MonteCarloStrategy serial = new MonteCarloStrategy(0, budget, 1);
+        BattleContext context = new BattleContext(new BattleEngine(team1, team2, 1L), 1);
+        serial.decideTurn(context); // Warm-up
+        serial.decideTurn(context);
+        System.out.printf("Serial: %,.0f it/s%n", serial.getIterationsPerSecond());
+
+        for (ParallelMonteCarloStrategy.Mode mode : ParallelMonteCarloStrategy.Mode.values()) {
+            for (int threads = 1; threads <= maxThreads; threads *= 2) {
+                try (ParallelMonteCarloStrategy search = new ParallelMonteCarloStrategy(mode, threads, 0, budget, 1)) {
+                    context = new BattleContext(new BattleEngine(team1, team2, 1L), 1);
+                    search.decideTurn(context); // Warm-up
+                    search.decideTurn(context);
+                    System.out.printf("%s, %d threads: %,.0f it/s%n", mode, threads, search.getIterationsPerSecond());
+                }
+            }
+        }
+    }
+
+    private static void quality(int iterations, int games, int threads) {
+        System.out.printf("%d games per mode, %d iterations per decision, %d threads%n", games, iterations, threads);
+        for (ParallelMonteCarloStrategy.Mode mode : ParallelMonteCarloStrategy.Mode.values()) {
+            int wins = 0;
+            int losses = 0;
+            SplittableRandom rng = new SplittableRandom(7);
+            List<Pokemon> team1 = null;
+            List<Pokemon> team2 = null;
+            for (int game = 0; game < games; game++) {
+                int pair = game / 2;
+                if (game % 2 == 0) {
+                    team1 = Bench.randomTeam(rng);
+                    team2 = Bench.randomTeam(rng);
+                }
+                // Odd games swap sides, so the parallel search plays the other team of the same pair
+                int parallelN = (game % 2 == 0) ? 1 : 2;
+                try (ParallelMonteCarloStrategy parallel = new ParallelMonteCarloStrategy(mode, threads, iterations, 0, game)) {
+                    MonteCarloStrategy serial = new MonteCarloStrategy(iterations, 0, game + 1_000_000L);
+                    BattleSimulator simulator = (parallelN == 1)
+                            ? new BattleSimulator(team1, team2, parallel, serial, MAX_TURNS, BattleRandom.seeded(pair))
+                            : new BattleSimulator(team1, team2, serial, parallel, MAX_TURNS, BattleRandom.seeded(pair));
+                    BattleSimulator.Results results = simulator.run(1);
+                    long parallelWins = (parallelN == 1) ? results.getPlayer1Wins() : results.getPlayer2Wins();
+                    long serialWins = (parallelN == 1) ? results.getPlayer2Wins() : results.getPlayer1Wins();
+                    wins += parallelWins;
+                    losses += serialWins;
+                }
+            }
+            int draws = games - wins - losses;
+            double rate = (wins + 0.5 * draws) / games;
+            // Normal approximation of the binomial, good enough to tell a real difference from noise
+            double margin = 1.96 * Math.sqrt(rate * (1.0 - rate) / games);
+            System.out.printf("%s, %d threads vs serial: %d-%d-%d (W-L-D), win rate %.1f%% +/- %.1f%%%n",
+                    mode, threads, wins, losses, draws, 100 * rate, 100 * margin);
+        }
+    }
+}
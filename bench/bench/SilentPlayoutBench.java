@@ -0,0 +1,69 @@
+package bench;
+
+import java.util.*;
+import ai.*;
+import ai.strategies.*;
+import javamon.battle.*;
+import javamon.entities.*;
+
+/**
+ * Random-vs-random battles per second with narration to a discarding stream versus the silent
+ * {@link BattleEngine#playOutTurns()}, after checking that both modes play every seed the same way.
+ *
+ * <p>Usage: {@code SilentPlayoutBench [battles]}
+ */
+public class SilentPlayoutBench {
+    private static final int ROUNDS = 5;
+    private static final int MAX_TURNS = 1000;
+
+    public static void main(String[] args) {
+        int battles = Bench.intArg(args, 0, 200_000);
+        List<Pokemon> team1 = Bench.starterTeam1();
+        List<Pokemon> team2 = Bench.starterTeam2();
+
+        for (long seed = 0; seed < 20_000; seed++) {
+            if (play(team1, team2, seed, true) != play(team1, team2, seed, false)) {
+                throw new AssertionError("Narrated and silent battles diverge for seed " + seed);
+            }
+        }
+        System.out.println("20000 seeds play out identically in both modes");
+
+        for (int round = 0; round < ROUNDS; round++) {
+            for (boolean narrated : new boolean[]{true, false}) {
+                long start = System.nanoTime();
+                long checksum = 0;
+                for (long seed = 0; seed < battles; seed++) {
+                    checksum += play(team1, team2, seed, narrated);
+                }
+                double seconds = (System.nanoTime() - start) / 1e9;
+                System.out.printf("%-8s %,.0f battles/s (checksum %d)%n", narrated ? "narrated" : "silent", battles / seconds, checksum);
+            }
+        }
+    }
+
+    /**
+     * @return hash of the winner, the turn count and every Pokemon's final HP
+     */
+    private static long play(List<Pokemon> team1, List<Pokemon> team2, long seed, boolean narrated) {
+        BattleEngine engine = new BattleEngine(team1, team2, seed);
+        BattleBot bot1 = new BattleBot(new RandomStrategy(seed * 7), 1);
+        BattleBot bot2 = new BattleBot(new RandomStrategy(seed * 13), 2);
+        while (!engine.isFinished() && engine.getTurnN() <= MAX_TURNS) {
+            bot1.queueTurn(engine);
+            bot2.queueTurn(engine);
+            if (narrated) {
+                engine.playOutTurns(Bench.NULL_OUTPUT);
+            } else {
+                engine.playOutTurns();
+            }
+        }
+
+        long hash = engine.getWinner() * 31L + engine.getTurnN();
+        for (int playerN = 1; playerN <= 2; playerN++) {
+            for (Pokemon poke : engine.getPokemon(playerN)) {
+                hash = hash * 31 + poke.getCurrentHp();
+            }
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,60 @@
+package bench;
+
+import java.lang.management.*;
+import java.util.*;
+import javamon.battle.*;
+import javamon.entities.*;
+import javamon.entities.moves.*;
+
+/**
+ * Time from JVM launch to the first round of a battle played out: two teams created, an engine built,
+ * both players' moves queued and the round resolved. Only meaningful as the first thing the JVM does,
+ * so run it on its own, a few times over.
+ *
+ * <p>The steps are timed one after another, so the first species lookup and the move registry, which
+ * any first team has to load, show up as lines of their own. Decoding every species comes after the
+ * battle and is not part of the headline figure.
+ *
+ * <p>Usage: {@code StartupBench}
+ */
+public class StartupBench {
+    public static void main(String[] args) {
+        long start = System.nanoTime();
+        long sinceLaunch = System.currentTimeMillis() - ManagementFactory.getRuntimeMXBean().getStartTime();
+
+        Pokemon first = PokemonRegistry.create("Charmander", 5);
+        long firstSpecies = System.nanoTime();
+
+        int moves = MoveRegistry.size();
+        long moveRegistry = System.nanoTime();
+
+        List<Pokemon> team1 = Bench.starterTeam1();
+        List<Pokemon> team2 = Bench.starterTeam2();
+        long teams = System.nanoTime();
+
+        BattleEngine engine = new BattleEngine(team1, team2, 1L);
+        long built = System.nanoTime();
+
+        engine.queueMove(1, MoveRegistry.getId("Ember"));
+        engine.queueMove(2, MoveRegistry.getId("Water Gun"));
+        engine.playOutTurns();
+        long firstRound = System.nanoTime();
+
+        int decoded = 0;
+        for (int id = 0; id < PokemonRegistry.size(); id++) {
+            if (PokemonRegistry.getSpecies(id) != null) {
+                decoded++;
+            }
+        }
+        long allSpecies = System.nanoTime();
+
+        System.out.printf("launch to first round played: %.1f ms%n", sinceLaunch + (firstRound - start) / 1e6);
+        System.out.printf("  JVM launch to main: %d ms%n", sinceLaunch);
+        System.out.printf("  first species (%s): %.1f ms%n", first.getSpeciesName(), (firstSpecies - start) / 1e6);
+        System.out.printf("  move registry (%d moves): %.1f ms%n", moves, (moveRegistry - firstSpecies) / 1e6);
+        System.out.printf("  both teams: %.1f ms%n", (teams - moveRegistry) / 1e6);
+        System.out.printf("  engine: %.1f ms%n", (built - teams) / 1e6);
+        System.out.printf("  first round: %.1f ms%n", (firstRound - built) / 1e6);
+        System.out.printf("every species (%d decoded): %.1f ms%n", decoded, (allSpecies - firstRound) / 1e6);
+    }
+}
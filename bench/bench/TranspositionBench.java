@@ -0,0 +1,80 @@
+package bench;
+
+import java.util.*;
+import ai.*;
+import ai.strategies.*;
+import javamon.battle.*;
+
+/**
+ * Nodes searched by {@link ExpectiminimaxStrategy} with and without a {@link TranspositionTable}, the
+ * table's hit rate, and whether the table ever changes a decision. Positions are every third turn of
+ * random-vs-random battles between random 6v6 teams.
+ *
+ * <p>Usage: {@code TranspositionBench [depth] [battles]}
+ */
+public class TranspositionBench {
+    private static final int POSITIONS_PER_BATTLE = 6;
+    private static final int CAPACITY = 1 << 20;
+
+    public static void main(String[] args) {
+        int depth = Bench.intArg(args, 0, 3);
+        int battles = Bench.intArg(args, 1, 2);
+        List<BattleContext> positions = positions(battles);
+        System.out.printf("%d positions from %d battles, depth %d%n", positions.size(), battles, depth);
+
+        long baseline = 0;
+        long start = System.nanoTime();
+        List<Turn> decisions = new ArrayList<>();
+        for (BattleContext position : positions) {
+            ExpectiminimaxStrategy search = new ExpectiminimaxStrategy(depth, 0);
+            decisions.add(search.decideTurn(position));
+            baseline += search.getLastNodes();
+        }
+        System.out.printf("no table: %,d nodes, %.0f ms%n", baseline, (System.nanoTime() - start) / 1e6);
+
+        for (TranspositionTable.Replacement replacement : TranspositionTable.Replacement.values()) {
+            TranspositionTable table = new TranspositionTable(CAPACITY, replacement);
+            long nodes = 0;
+            int same = 0;
+            start = System.nanoTime();
+            for (int i = 0; i < positions.size(); i++) {
+                ExpectiminimaxStrategy search = new ExpectiminimaxStrategy(depth, 0, table);
+                Turn turn = search.decideTurn(positions.get(i));
+                nodes += search.getLastNodes();
+                if (sameTurn(turn, decisions.get(i))) {
+                    same++;
+                }
+            }
+            System.out.printf("%s: %,d nodes (%.0f%%), hit rate %.1f%%, same decision %d/%d, %.0f ms%n",
+                    replacement, nodes, 100.0 * nodes / baseline, 100 * table.getHitRate(),
+                    same, positions.size(), (System.nanoTime() - start) / 1e6);
+        }
+    }
+
+    private static List<BattleContext> positions(int battles) {
+        SplittableRandom rng = new SplittableRandom(42);
+        List<BattleContext> positions = new ArrayList<>();
+        for (int b = 0; b < battles; b++) {
+            BattleEngine engine = new BattleEngine(Bench.randomTeam(rng), Bench.randomTeam(rng), (long) b);
+            BattleBot bot1 = new BattleBot(new RandomStrategy(b), 1);
+            BattleBot bot2 = new BattleBot(new RandomStrategy(b + 100), 2);
+            int taken = 0;
+            while (!engine.isFinished() && taken < POSITIONS_PER_BATTLE) {
+                if (engine.getTurnN() % 3 == 1) {
+                    BattleEngine copy = new BattleEngine(engine.getPokemon(1), engine.getPokemon(2), 1L);
+                    copy.restore(engine.snapshot());
+                    positions.add(new BattleContext(copy, 1));
+                    taken++;
+                }
+                bot1.queueTurn(engine);
+                bot2.queueTurn(engine);
+                engine.playOutTurns();
+            }
+        }
+        return positions;
+    }
+
+    private static boolean sameTurn(Turn a, Turn b) {
+        return a.getType() == b.getType() && a.getMoveId() == b.getMoveId() && a.getNewPokemon() == b.getNewPokemon();
+    }
+}
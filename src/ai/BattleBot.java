@@ -7,6 +7,7 @@ import javamon.entities.*;
 public class BattleBot {
     private final Strategy strategy;
     private final int playerNumber;
+    private BattleContext context; // Reused while the bot plays the same engine
     
     public BattleBot(Strategy strategy, int playerNumber) {
         this.strategy = strategy;
@@ -17,7 +18,9 @@ public class BattleBot {
      * Makes a decision and queues it in the battle engine.
      */
     public void queueTurn(BattleEngine engine) {
-        BattleContext context = new BattleContext(engine, playerNumber);
+        if (context == null || !context.reads(engine)) {
+            context = new BattleContext(engine, playerNumber);
+        }
         
         // Check if forced to switch (Pokemon fainted)
         Pokemon active = context.getMyActivePokemon();
@@ -32,7 +35,7 @@ public class BattleBot {
         
         // Queue the decision in the engine
         if (decision.getType() == Turn.TurnType.Move) {
-            engine.queueTurn(decision.getPlayerN(), decision.getMoveName());
+            engine.queueMove(decision.getPlayerN(), decision.getMoveId());
         } else {
             engine.queueTurn(decision.getPlayerN(), decision.getNewPokemon());
         }
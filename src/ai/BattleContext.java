@@ -4,8 +4,18 @@ import java.util.*;
 import javamon.battle.*;
 import javamon.entities.*;
 import javamon.entities.moves.*;
+import javamon.util.BattleRandom;
 
 public class BattleContext {
+    /**
+     * Legal actions are reported as a bitmask over small action codes: 0-3 use the move in that slot,
+     * {@code STRUGGLE} uses Struggle, and {@code SWITCH + i} switches to team index i
+     * (the engine's codes, see {@link BattleEngine#getLegalActions(int)}).
+     */
+    public static final int STRUGGLE = BattleEngine.ACTION_STRUGGLE;
+    public static final int SWITCH = BattleEngine.ACTION_SWITCH;
+    public static final int MAX_ACTIONS = BattleEngine.MAX_ACTIONS;
+
     private final BattleEngine engine;
     private final int playerN;
     
@@ -47,13 +57,27 @@ public class BattleContext {
         return engine.getActivePokemon(getOpponentPlayerN());
     }
     
+    /**
+     * @return read-only live view of this player's team (not a copy)
+     */
     public List<Pokemon> getMyTeam() {
         return engine.getPokemon(playerN);
     }
     
+    /**
+     * @return read-only live view of the opponent's team (not a copy)
+     */
     public List<Pokemon> getOpponentTeam() {
         return engine.getPokemon(getOpponentPlayerN());
     }
+
+    public int getMyActiveIndex() {
+        return engine.getActiveIndex(playerN);
+    }
+
+    public int getOpponentActiveIndex() {
+        return engine.getActiveIndex(getOpponentPlayerN());
+    }
     
     public int getTurnN() {
         return engine.getTurnN();
@@ -62,16 +86,66 @@ public class BattleContext {
     public boolean isValidTurn(Turn turn) {
         return engine.isValidTurn(turn);
     }
+
+    /**
+     * @return bitmask of this player's legal action codes (see {@link #STRUGGLE} and {@link #SWITCH})
+     */
+    public int getLegalActions() {
+        return engine.getLegalActions(playerN);
+    }
+
+    /**
+     * @return bitmask of the opponent's legal action codes
+     */
+    public int getOpponentLegalActions() {
+        return engine.getLegalActions(getOpponentPlayerN());
+    }
+
+    /**
+     * @return true if the action code uses a move (a move slot or Struggle) rather than switching
+     */
+    public static boolean isMoveAction(int action) {
+        return action < SWITCH;
+    }
+
+    /**
+     * Converts one of this player's action codes into the {@link Turn} a strategy returns.
+     */
+    public Turn toTurn(int action) {
+        return engine.toTurn(playerN, action);
+    }
+
+    /**
+     * @return true if this context reads the given engine
+     */
+    boolean reads(BattleEngine engine) {
+        return this.engine == engine;
+    }
+
+    /**
+     * @return packed snapshot of the current battle state
+     */
+    public BattleState getState() {
+        return engine.snapshot();
+    }
+
+    /**
+     * Creates a private engine in the current battle state for search strategies to play ahead on.
+     * Nothing done to it affects the real battle.
+     * @param random randomness for the simulated battle
+     */
+    public BattleEngine createSimulation(BattleRandom random) {
+        return engine.copy(random);
+    }
     
-    // Helper: Get all valid moves for current Pokemon
+    // Helper: Get all valid moves for current Pokemon (see getLegalActions() for an allocation-free version)
     public List<String> getValidMoves() {
         Pokemon active = getMyActivePokemon();
         List<String> validMoves = new ArrayList<>();
         
-        for (Move move : active.getMoves()) {
-            String moveName = move.getName();
-            if (active.getRemainingPP(moveName) > 0) {
-                validMoves.add(moveName);
+        for (int slot = 0; slot < active.getMoveSlotCount(); slot++) {
+            if (active.getSlotPP(slot) > 0) {
+                validMoves.add(MoveRegistry.get(active.getSlotMoveId(slot)).getName());
             }
         }
         
@@ -82,17 +156,12 @@ public class BattleContext {
         return validMoves;
     }
     
-    // Helper: Get all valid switch targets
+    // Helper: Get all valid switch targets (see getLegalActions() for an allocation-free version)
     public List<Integer> getValidSwitchTargets() {
         List<Integer> targets = new ArrayList<>();
-        List<Pokemon> team = getMyTeam();
-        Pokemon active = getMyActivePokemon();
         
-        for (int i = 0; i < team.size(); i++) {
-            Pokemon p = team.get(i);
-            if (p != active && !p.isKnockedOut()) {
-                targets.add(i);
-            }
+        for (int switches = getLegalActions() >>> SWITCH; switches != 0; switches &= switches - 1) {
+            targets.add(Integer.numberOfTrailingZeros(switches));
         }
         
         return targets;
@@ -0,0 +1,144 @@
+package ai;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+import ai.strategies.*;
+import javamon.entities.*;
+import javamon.util.BattleRandom;
+
+/**
+ * Spreads bot-vs-bot battles across cores with a work-stealing pool.
+ *
+ * <p>Battles are cut into fixed-size chunks. Each chunk derives its own seeds from the master seed and
+ * its chunk index, then plays on a private {@link BattleSimulator} with its own engine randomness and
+ * its own strategy instances. Because the chunking never depends on the thread count and the merged
+ * statistics are plain sums, a master seed gives identical results on 1 thread or 64.
+ */
+public class BattleFarm {
+    private static final int CHUNK_SIZE = 1024;
+    private static final int DEFAULT_MAX_TURNS = 1000;
+
+    private final List<Pokemon> team1;
+    private final List<Pokemon> team2;
+    private final LongFunction<Strategy> strategy1;
+    private final LongFunction<Strategy> strategy2;
+    private final int threads;
+    private final int maxTurns;
+
+    /**
+     * Creates a farm that uses every available core.
+     * @param strategy1 builds a fresh player 1 strategy from a seed (e.g. {@code RandomStrategy::new})
+     * @param strategy2 builds a fresh player 2 strategy from a seed
+     */
+    public BattleFarm(List<Pokemon> team1, List<Pokemon> team2, LongFunction<Strategy> strategy1, LongFunction<Strategy> strategy2) {
+        this(team1, team2, strategy1, strategy2, Runtime.getRuntime().availableProcessors(), DEFAULT_MAX_TURNS);
+    }
+
+    /**
+     * Creates a farm with an explicit worker count and turn limit.
+     * @param threads number of worker threads
+     * @param maxTurns battles still running after this many turns are counted as draws
+     */
+    public BattleFarm(List<Pokemon> team1, List<Pokemon> team2, LongFunction<Strategy> strategy1, LongFunction<Strategy> strategy2, int threads, int maxTurns) {
+        if (team1 == null || team2 == null || team1.isEmpty() || team2.isEmpty()) {
+            throw new IllegalArgumentException("Simulation must have two non-empty teams!");
+        }
+        if (strategy1 == null || strategy2 == null) {
+            throw new IllegalArgumentException("Simulation must have two strategy factories!");
+        }
+        if (threads <= 0) {
+            throw new IllegalArgumentException("Farm needs at least one thread");
+        }
+        if (maxTurns <= 0) {
+            throw new IllegalArgumentException("Turn limit must be positive");
+        }
+
+        this.team1 = List.copyOf(team1);
+        this.team2 = List.copyOf(team2);
+        this.strategy1 = strategy1;
+        this.strategy2 = strategy2;
+        this.threads = threads;
+        this.maxTurns = maxTurns;
+    }
+
+    /**
+     * Plays the given number of battles across the worker threads.
+     * @param battles total number of battles
+     * @param masterSeed seed from which every chunk's randomness is derived
+     * @return merged results over all battles
+     */
+    public BattleSimulator.Results run(long battles, long masterSeed) {
+        if (battles < 0) {
+            throw new IllegalArgumentException("Cannot play a negative number of battles");
+        }
+
+        long chunks = (battles + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            return pool.invoke(new ChunkTask(0, chunks, battles, masterSeed));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Plays one chunk on its own simulator, engine randomness and strategies.
+     */
+    private BattleSimulator.Results playChunk(long chunk, long battles, long masterSeed) {
+        long first = chunk * CHUNK_SIZE;
+        int count = (int) Math.min(CHUNK_SIZE, battles - first);
+
+        // Independent seeds per chunk, derived only from (masterSeed, chunk)
+        long chunkSeed = mix(masterSeed + chunk * 0x9E3779B97F4A7C15L);
+        long engineSeed = mix(chunkSeed ^ 0x1L);
+        long seed1 = mix(chunkSeed ^ 0x2L);
+        long seed2 = mix(chunkSeed ^ 0x3L);
+
+        BattleSimulator sim = new BattleSimulator(team1, team2, strategy1.apply(seed1), strategy2.apply(seed2), maxTurns, BattleRandom.seeded(engineSeed));
+        return sim.run(count);
+    }
+
+    /**
+     * SplitMix64 finalizer, used to decorrelate neighbouring seeds.
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Recursively splits a range of chunks so idle workers can steal halves.
+     */
+    private class ChunkTask extends RecursiveTask<BattleSimulator.Results> {
+        private static final long serialVersionUID = 1L;
+
+        private final long from;
+        private final long to;
+        private final long battles;
+        private final long masterSeed;
+
+        ChunkTask(long from, long to, long battles, long masterSeed) {
+            this.from = from;
+            this.to = to;
+            this.battles = battles;
+            this.masterSeed = masterSeed;
+        }
+
+        @Override
+        protected BattleSimulator.Results compute() {
+            if (to - from <= 1) {
+                return (from < to) ? playChunk(from, battles, masterSeed) : new BattleSimulator.Results();
+            }
+
+            long mid = (from + to) >>> 1;
+            ChunkTask left = new ChunkTask(from, mid, battles, masterSeed);
+            ChunkTask right = new ChunkTask(mid, to, battles, masterSeed);
+            left.fork();
+            BattleSimulator.Results results = right.compute();
+            results.merge(left.join());
+            return results;
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package ai;
+
+import java.util.*;
+import ai.strategies.*;
+import javamon.battle.*;
+import javamon.entities.*;
+import javamon.replay.ReplayWriter;
+import javamon.util.BattleRandom;
+
+/**
+ * Plays bot-vs-bot battles back to back without any console I/O and collects aggregate statistics.
+ * Each battle starts from fresh copies of the two teams, so results do not leak between battles.
+ */
+public class BattleSimulator {
+    private static final int DEFAULT_MAX_TURNS = 1000;
+
+    private final List<Pokemon> team1;
+    private final List<Pokemon> team2;
+    private final BattleBot bot1;
+    private final BattleBot bot2;
+    private final int maxTurns;
+    private final BattleRandom random;
+
+    /**
+     * Creates a simulator with the default turn limit.
+     * @param team1 player 1 team
+     * @param team2 player 2 team
+     * @param strategy1 strategy used by player 1
+     * @param strategy2 strategy used by player 2
+     */
+    public BattleSimulator(List<Pokemon> team1, List<Pokemon> team2, Strategy strategy1, Strategy strategy2) {
+        this(team1, team2, strategy1, strategy2, DEFAULT_MAX_TURNS);
+    }
+
+    /**
+     * Creates a simulator with unseeded battle randomness.
+     * @param maxTurns battles still running after this many turns are counted as draws
+     */
+    public BattleSimulator(List<Pokemon> team1, List<Pokemon> team2, Strategy strategy1, Strategy strategy2, int maxTurns) {
+        this(team1, team2, strategy1, strategy2, maxTurns, BattleRandom.seeded(new SplittableRandom().nextLong()));
+    }
+
+    /**
+     * Creates a simulator whose battles draw their randomness from the given generator.
+     * Given deterministic strategies, the same seed always produces the same results.
+     * @param maxTurns battles still running after this many turns are counted as draws
+     * @param random generator that seeds each battle played by this simulator (must not be shared across threads)
+     */
+    public BattleSimulator(List<Pokemon> team1, List<Pokemon> team2, Strategy strategy1, Strategy strategy2, int maxTurns, BattleRandom random) {
+        if (team1 == null || team2 == null || team1.isEmpty() || team2.isEmpty()) {
+            throw new IllegalArgumentException("Simulation must have two non-empty teams!");
+        }
+        if (strategy1 == null || strategy2 == null) {
+            throw new IllegalArgumentException("Simulation must have two strategies!");
+        }
+        if (maxTurns <= 0) {
+            throw new IllegalArgumentException("Turn limit must be positive");
+        }
+        if (random == null) {
+            throw new IllegalArgumentException("Simulation must have a source of randomness!");
+        }
+
+        this.team1 = List.copyOf(team1);
+        this.team2 = List.copyOf(team2);
+        this.bot1 = new BattleBot(strategy1, 1);
+        this.bot2 = new BattleBot(strategy2, 2);
+        this.maxTurns = maxTurns;
+        this.random = random;
+    }
+
+    /**
+     * Plays the given number of complete battles.
+     * @param battles number of battles to play
+     * @return aggregate results over all battles
+     */
+    public Results run(int battles) {
+        if (battles < 0) {
+            throw new IllegalArgumentException("Cannot play a negative number of battles");
+        }
+
+        Results results = new Results();
+        for (int i = 0; i < battles; i++) {
+            // Seed each battle on its own so any single battle can be replayed from its seed
+            BattleEngine engine = new BattleEngine(team1, team2, random.nextLong());
+            playOut(engine, BattleListener.NONE);
+            results.record(engine.getWinner(), engine.getTurnN() - 1);
+        }
+        return results;
+    }
+
+    /**
+     * Plays the given number of complete battles, recording every one of them to a replay log.
+     * The teams must be fresh (full HP and PP) so that the log can rebuild them.
+     * @param battles number of battles to play
+     * @param replays log that receives each battle's seed, teams and turns
+     * @return aggregate results over all battles
+     */
+    public Results run(int battles, ReplayWriter replays) {
+        if (battles < 0) {
+            throw new IllegalArgumentException("Cannot play a negative number of battles");
+        }
+        if (replays == null) {
+            throw new IllegalArgumentException("Recording needs a replay log!");
+        }
+
+        Results results = new Results();
+        for (int i = 0; i < battles; i++) {
+            long seed = random.nextLong();
+            BattleEngine engine = new BattleEngine(team1, team2, seed);
+            replays.beginBattle(seed, team1, team2);
+            playOut(engine, replays);
+            replays.endBattle();
+            results.record(engine.getWinner(), engine.getTurnN() - 1);
+        }
+        return results;
+    }
+
+    /**
+     * Plays one battle until a side is wiped or the turn limit is hit.
+     */
+    private void playOut(BattleEngine engine, BattleListener listener) {
+        while (!engine.isFinished() && engine.getTurnN() <= maxTurns) {
+            bot1.queueTurn(engine);
+            bot2.queueTurn(engine);
+            engine.playOutTurns(listener);
+        }
+    }
+
+    /**
+     * Aggregate win/loss/turn statistics over a batch of battles.
+     */
+    public static class Results {
+        private long battles;
+        private long player1Wins;
+        private long player2Wins;
+        private long draws;
+        private long totalTurns;
+        private int minTurns = Integer.MAX_VALUE;
+        private int maxTurns;
+
+        /**
+         * Records the outcome of a single battle.
+         * @param winner 1 or 2, or 0 for a draw
+         * @param turns number of turns the battle took
+         */
+        void record(int winner, int turns) {
+            battles++;
+            if (winner == 1) {
+                player1Wins++;
+            } else if (winner == 2) {
+                player2Wins++;
+            } else {
+                draws++;
+            }
+            totalTurns += turns;
+            minTurns = Math.min(minTurns, turns);
+            maxTurns = Math.max(maxTurns, turns);
+        }
+
+        /**
+         * Adds another batch of results into this one.
+         */
+        public void merge(Results other) {
+            battles += other.battles;
+            player1Wins += other.player1Wins;
+            player2Wins += other.player2Wins;
+            draws += other.draws;
+            totalTurns += other.totalTurns;
+            minTurns = Math.min(minTurns, other.minTurns);
+            maxTurns = Math.max(maxTurns, other.maxTurns);
+        }
+
+        public long getBattles() {
+            return battles;
+        }
+
+        public long getPlayer1Wins() {
+            return player1Wins;
+        }
+
+        public long getPlayer2Wins() {
+            return player2Wins;
+        }
+
+        public long getDraws() {
+            return draws;
+        }
+
+        public long getTotalTurns() {
+            return totalTurns;
+        }
+
+        /** @return shortest battle in turns, or 0 if no battles were played. */
+        public int getMinTurns() {
+            return battles == 0 ? 0 : minTurns;
+        }
+
+        /** @return longest battle in turns. */
+        public int getMaxTurns() {
+            return maxTurns;
+        }
+
+        /** @return fraction of battles won by player 1. */
+        public double getPlayer1WinRate() {
+            return battles == 0 ? 0.0 : (double) player1Wins / battles;
+        }
+
+        /** @return mean battle length in turns. */
+        public double getAverageTurns() {
+            return battles == 0 ? 0.0 : (double) totalTurns / battles;
+        }
+
+        @Override
+        public String toString() {
+            return "Battles: " + battles + "\n"
+                 + "Player 1 wins: " + player1Wins + "\n"
+                 + "Player 2 wins: " + player2Wins + "\n"
+                 + "Draws: " + draws + "\n"
+                 + "Turns (min/avg/max): " + getMinTurns() + "/" + String.format("%.2f", getAverageTurns()) + "/" + maxTurns + "\n";
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package ai.strategies;
+
+import java.util.*;
+import javamon.entities.moves.DamagingMove;
+import javamon.util.BattleRandom;
+
+/**
+ * Battle randomness that enumerates outcomes instead of sampling them, for searches that branch on chance.
+ *
+ * <p>Every draw the battle makes becomes a branch point on a tape. A round is played once per outcome
+ * sequence: after each pass, {@link #next()} advances the tape like an odometer, so the next pass
+ * replays the same choices up to the last branch that still has untried outcomes and takes the next one
+ * there. {@link #getProbability()} gives the probability of the sequence just played.
+ *
+ * <p>Accuracy checks and effect procs branch two ways with their own odds (certain checks do not
+ * branch), speed ties two ways. A damage roll that may or may not knock the defender out is split at the
+ * knockout threshold: one branch for the knockout with its exact probability, and the rolls below it in
+ * {@value #DAMAGE_ROLLS} - 1 equally likely buckets. Rolls that cannot change whether the defender faints
+ * are bucketed the same way as {@link #nextDouble()}: {@value #DAMAGE_ROLLS} equally likely buckets, or no
+ * branch at all when every roll knocks out. Each bucket is represented by its midpoint.
+ * {@link #split()} hands out this same generator, so a split stream's draws branch on the same tape.
+ * {@link #nextLong()} is never drawn inside a round (see {@link BattleRandom}) and is not supported.
+ */
+final class ChanceRandom implements BattleRandom {
+    static final int DAMAGE_ROLLS = 3;
+
+    private int[] choices = new int[16];
+    private int[] arities = new int[16];
+    private int length;   // Branch points on the tape
+    private int position; // Next draw of the current pass
+    private double probability = 1.0;
+
+    /**
+     * Starts enumerating from the first outcome sequence.
+     */
+    void reset() {
+        length = 0;
+        position = 0;
+        probability = 1.0;
+    }
+
+    /**
+     * Moves to the next outcome sequence.
+     * @return false once every sequence has been played
+     */
+    boolean next() {
+        // Draws past the last one made on this pass never happened
+        length = position;
+        while (length > 0 && choices[length - 1] == arities[length - 1] - 1) {
+            length--;
+        }
+        if (length == 0) {
+            return false;
+        }
+
+        choices[length - 1]++;
+        position = 0;
+        probability = 1.0;
+        return true;
+    }
+
+    /**
+     * @return probability of the outcome sequence played since the last reset() or next()
+     */
+    double getProbability() {
+        return probability;
+    }
+
+    @Override
+    public int nextInt(int bound) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("Bound must be positive");
+        }
+        if (bound == 1) {
+            return 0;
+        }
+        probability /= bound;
+        return draw(bound);
+    }
+
+    /**
+     * @return midpoint of one of {@value #DAMAGE_ROLLS} equally likely buckets of [0.0, 1.0)
+     */
+    @Override
+    public double nextDouble() {
+        probability /= DAMAGE_ROLLS;
+        return (draw(DAMAGE_ROLLS) + 0.5) / DAMAGE_ROLLS;
+    }
+
+    /**
+     * @return midpoint of the knockout range or of one of the buckets below it (see above)
+     */
+    @Override
+    public double nextDamageRoll(double baseDamage, boolean stab, double typeEffectiveness, int koDamage) {
+        double koRoll = DamagingMove.rollThreshold(baseDamage, stab, typeEffectiveness, koDamage);
+        if (koRoll <= 0.0) {
+            return 0.5;
+        }
+        if (koRoll >= 1.0) {
+            return nextDouble();
+        }
+
+        int choice = draw(DAMAGE_ROLLS);
+        if (choice == 0) {
+            probability *= 1.0 - koRoll;
+            return (koRoll + 1.0) / 2.0;
+        }
+        probability *= koRoll / (DAMAGE_ROLLS - 1);
+        return koRoll * (choice - 0.5) / (DAMAGE_ROLLS - 1);
+    }
+
+    @Override
+    public boolean nextBoolean() {
+        probability *= 0.5;
+        return draw(2) == 0;
+    }
+
+    @Override
+    public boolean chance(int percent) {
+        return chance(percent / 100.0);
+    }
+
+    @Override
+    public boolean chance(double probability) {
+        if (probability >= 1.0) {
+            return true;
+        }
+        if (probability <= 0.0) {
+            return false;
+        }
+
+        boolean success = draw(2) == 0;
+        this.probability *= success ? probability : 1.0 - probability;
+        return success;
+    }
+
+    @Override
+    public long nextLong() {
+        throw new UnsupportedOperationException("Chance enumeration only covers in-battle rolls");
+    }
+
+    /**
+     * Enumerating every draw on one tape already treats the draws as independent, so the split stream is
+     * this generator.
+     */
+    @Override
+    public BattleRandom split() {
+        return this;
+    }
+
+    private int draw(int arity) {
+        if (position == length) {
+            if (length == choices.length) {
+                choices = Arrays.copyOf(choices, length * 2);
+                arities = Arrays.copyOf(arities, length * 2);
+            }
+            choices[length] = 0;
+            arities[length] = arity;
+            length++;
+        }
+        return choices[position++];
+    }
+}
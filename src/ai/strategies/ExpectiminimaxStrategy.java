@@ -0,0 +1,514 @@
+package ai.strategies;
+
+import java.util.*;
+import ai.BattleContext;
+import javamon.battle.*;
+import javamon.entities.*;
+
+/**
+ * Depth-limited expectiminimax over whole rounds, with chance nodes for the battle's random rolls.
+ *
+ * <p>Both players choose at once; the search treats the round as this player choosing first and the
+ * opponent answering with knowledge of the choice, which gives a safe (pessimistic) value. Each joint
+ * action leads to a chance node whose outcomes are enumerated exactly by {@link ChanceRandom}: hit or
+ * miss, damage rolls split at the knockout threshold, effect procs and speed ties. Outcome sequences
+ * that end in the same state are merged. Leaves are scored by
+ * remaining HP, as in {@link SearchActions#evaluate}.
+ *
+ * <p>Max and min nodes use alpha-beta. Chance nodes prune with Ballard's Star1, which bounds the
+ * unsearched outcomes by the score range, and Star2, which first probes each outcome with a single
+ * reply to get a cheap lower bound and cuts off if those bounds already reach beta. Depth is deepened
+ * iteratively until the time budget runs out; the last fully searched depth decides. Replies that
+ * caused the best value at a depth are tried first on later visits (killer moves), which makes both the
+ * probes and the cutoffs sharper.
+ *
+ * <p>With a {@link TranspositionTable}, positions reached again by a different order of events (e.g. a
+ * miss then a hit instead of a hit then a miss) are looked up instead of searched, and the best action
+ * stored for a position is tried first. A table can be shared between strategies and threads; keys mix
+ * in both teams and the searching player, so searches of different battles do not mistake each
+ * other's entries.
+ */
+public class ExpectiminimaxStrategy implements Strategy {
+    private static final int DEFAULT_MAX_DEPTH = 8;
+    private static final long DEFAULT_TIME_BUDGET_MILLIS = 100;
+    // Every score lies in [LOWER, UPPER]; Star1 needs the bounds to prune chance nodes
+    private static final double LOWER = 0.0;
+    private static final double UPPER = 1.0;
+
+    private final int maxDepth;
+    private final long timeBudgetNanos;
+    private final ChanceRandom chance = new ChanceRandom();
+    private final TranspositionTable table;
+    private final TranspositionTable.Entry entry = new TranspositionTable.Entry();
+
+    // Per-search state
+    private BattleEngine simulation;
+    private int me;
+    private int opponent;
+    private long salt; // Mixed into table keys: identifies the teams and this player
+    private long deadline;
+    private boolean aborted;
+    private boolean depthLimited;
+    private long nodes;
+    private double rootValue; // Value of the action searchRoot last returned
+
+    // Indexed by remaining depth
+    private Outcomes[] outcomes = new Outcomes[0];
+    private int[] killers = new int[0];         // This player's best action
+    private int[] opponentKillers = new int[0]; // The opponent's best reply
+
+    private int lastDepth;
+    private double lastValue;
+    private long lastNodes;
+    private long lastSearchNanos;
+
+    /**
+     * Creates a search that deepens up to {@value #DEFAULT_MAX_DEPTH} rounds within
+     * {@value #DEFAULT_TIME_BUDGET_MILLIS} ms per decision.
+     */
+    public ExpectiminimaxStrategy() {
+        this(DEFAULT_MAX_DEPTH, DEFAULT_TIME_BUDGET_MILLIS);
+    }
+
+    /**
+     * Creates a search that deepens until the depth limit or the time budget is reached.
+     * @param maxDepth deepest search in rounds
+     * @param timeBudgetMillis wall-clock time per decision in milliseconds (0 for no limit)
+     */
+    public ExpectiminimaxStrategy(int maxDepth, long timeBudgetMillis) {
+        this(maxDepth, timeBudgetMillis, null);
+    }
+
+    /**
+     * Creates a search that caches positions in a transposition table.
+     * @param maxDepth deepest search in rounds
+     * @param timeBudgetMillis wall-clock time per decision in milliseconds (0 for no limit)
+     * @param table table to read and fill, possibly shared with other searches (null for none)
+     */
+    public ExpectiminimaxStrategy(int maxDepth, long timeBudgetMillis, TranspositionTable table) {
+        if (maxDepth <= 0) {
+            throw new IllegalArgumentException("Search depth must be positive");
+        }
+        if (timeBudgetMillis < 0) {
+            throw new IllegalArgumentException("Search budgets cannot be negative");
+        }
+
+        this.maxDepth = maxDepth;
+        this.timeBudgetNanos = timeBudgetMillis * 1_000_000L;
+        this.table = table;
+    }
+
+    @Override
+    public Turn decideTurn(BattleContext context) {
+        return search(context);
+    }
+
+    @Override
+    public Turn decideForceSwitch(BattleContext context) {
+        return search(context);
+    }
+
+    /**
+     * @return deepest fully searched depth (in rounds) for the last decision
+     */
+    public int getLastDepth() {
+        return lastDepth;
+    }
+
+    /**
+     * @return expected score of the chosen action at the deepest fully searched depth, or NaN if the last
+     *         decision had only one legal action (or not even one depth finished)
+     */
+    public double getLastValue() {
+        return lastValue;
+    }
+
+    /**
+     * @return positions visited for the last decision, including any unfinished final depth
+     */
+    public long getLastNodes() {
+        return lastNodes;
+    }
+
+    /**
+     * @return wall-clock time spent on the last decision, in nanoseconds
+     */
+    public long getLastSearchNanos() {
+        return lastSearchNanos;
+    }
+
+    private Turn search(BattleContext context) {
+        me = context.getPlayerN();
+        opponent = context.getOpponentPlayerN();
+        simulation = context.createSimulation(chance);
+        BattleState rootState = simulation.snapshot();
+
+        int rootMask = simulation.getLegalActions(me);
+        if (rootMask == 0) {
+            throw new IllegalStateException("No legal actions available!");
+        }
+        lastDepth = 0;
+        lastValue = Double.NaN;
+        lastNodes = 0;
+        lastSearchNanos = 0;
+        if (Integer.bitCount(rootMask) == 1) {
+            return simulation.toTurn(me, Integer.numberOfTrailingZeros(rootMask));
+        }
+
+        if (outcomes.length <= maxDepth) {
+            outcomes = Arrays.copyOf(outcomes, maxDepth + 1);
+            killers = new int[maxDepth + 1];
+            opponentKillers = new int[maxDepth + 1];
+        }
+        Arrays.fill(killers, -1);
+        Arrays.fill(opponentKillers, -1);
+        if (table != null) {
+            table.newSearch();
+            salt = teamsKey();
+        }
+
+        long start = System.nanoTime();
+        deadline = start + timeBudgetNanos;
+        aborted = false;
+        nodes = 0;
+
+        int best = Integer.numberOfTrailingZeros(rootMask);
+        for (int depth = 1; depth <= maxDepth; depth++) {
+            depthLimited = false;
+            killers[depth] = best;
+            int candidate = searchRoot(rootState, depth);
+            if (aborted) {
+                break;
+            }
+            best = candidate;
+            lastDepth = depth;
+            lastValue = rootValue;
+            // Every line ended the battle, so searching deeper would change nothing
+            if (!depthLimited) {
+                break;
+            }
+        }
+
+        lastNodes = nodes;
+        lastSearchNanos = System.nanoTime() - start;
+        simulation.restore(rootState);
+        return simulation.toTurn(me, best);
+    }
+
+    /**
+     * Max node at the root, returning the action rather than its value.
+     */
+    private int searchRoot(BattleState state, int depth) {
+        simulation.restore(state);
+        int myMask = simulation.getLegalActions(me);
+        int opponentMask = simulation.getLegalActions(opponent);
+
+        int best = -1;
+        double bestValue = Double.NEGATIVE_INFINITY;
+        for (int remaining = myMask; remaining != 0; ) {
+            int action = pick(remaining, killers[depth]);
+            remaining &= ~(1 << action);
+            double value = minNode(state, depth, action, opponentMask, bestValue, Double.POSITIVE_INFINITY);
+            if (aborted) {
+                return best;
+            }
+            if (value > bestValue) {
+                bestValue = value;
+                best = action;
+            }
+        }
+        rootValue = bestValue;
+        return best;
+    }
+
+    /**
+     * This player's choice. Fail-soft: a result at or below alpha is an upper bound, at or above beta a
+     * lower bound, and exact in between.
+     * @param probe search only the first action, giving a lower bound cheaply
+     */
+    private double maxNode(BattleState state, int depth, double alpha, double beta, boolean probe) {
+        if ((++nodes & 255) == 0 && timeBudgetNanos > 0 && System.nanoTime() - deadline >= 0) {
+            aborted = true;
+        }
+        if (aborted) {
+            return LOWER;
+        }
+
+        simulation.restore(state);
+        if (state.isFinished() || depth == 0) {
+            depthLimited |= !state.isFinished();
+            return SearchActions.evaluate(simulation, me);
+        }
+
+        int killer = killers[depth];
+        long key = 0;
+        if (table != null) {
+            key = state.zobristHash() ^ salt;
+            if (table.probe(key, entry)) {
+                if (entry.getDepth() >= depth && cutsOff(entry, alpha, beta)) {
+                    // The stored search may have stopped short of the end of the battle
+                    depthLimited = true;
+                    return entry.getValue();
+                }
+                if (entry.getBestAction() >= 0) {
+                    killer = entry.getBestAction();
+                }
+            }
+        }
+
+        int myMask = simulation.getLegalActions(me);
+        int opponentMask = simulation.getLegalActions(opponent);
+
+        double best = Double.NEGATIVE_INFINITY;
+        int bestAction = -1;
+        for (int remaining = myMask; remaining != 0; ) {
+            int action = pick(remaining, killer);
+            remaining &= ~(1 << action);
+            double value = minNode(state, depth, action, opponentMask, Math.max(alpha, best), beta);
+            if (value > best) {
+                best = value;
+                bestAction = action;
+                if (best >= beta) {
+                    killers[depth] = action;
+                    break;
+                }
+            }
+            if (probe || aborted) {
+                break;
+            }
+        }
+
+        // A probe only looked at one action, so its value is not the position's
+        if (table != null && !probe && !aborted) {
+            TranspositionTable.Bound bound = (best <= alpha) ? TranspositionTable.Bound.Upper
+                    : (best >= beta) ? TranspositionTable.Bound.Lower : TranspositionTable.Bound.Exact;
+            table.store(key, best, depth, bound, bestAction);
+        }
+        return best;
+    }
+
+    /**
+     * @return true if a stored value settles a node with the given window
+     */
+    private static boolean cutsOff(TranspositionTable.Entry entry, double alpha, double beta) {
+        switch (entry.getBound()) {
+            case Exact:
+                return true;
+            case Lower:
+                return entry.getValue() >= beta;
+            default:
+                return entry.getValue() <= alpha;
+        }
+    }
+
+    /**
+     * The opponent's reply to this player's action.
+     */
+    private double minNode(BattleState state, int depth, int myAction, int opponentMask, double alpha, double beta) {
+        int killer = opponentKillers[depth];
+
+        double best = Double.POSITIVE_INFINITY;
+        for (int remaining = opponentMask; remaining != 0; ) {
+            int action = pick(remaining, killer);
+            remaining &= ~(1 << action);
+            double value = (me == 1)
+                    ? chanceNode(state, depth, myAction, action, alpha, Math.min(beta, best))
+                    : chanceNode(state, depth, action, myAction, alpha, Math.min(beta, best));
+            if (value < best) {
+                best = value;
+                if (best <= alpha) {
+                    opponentKillers[depth] = action;
+                    break;
+                }
+            }
+            if (aborted) {
+                break;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Expected value over the round's random outcomes, pruned with Star2 probing followed by Star1.
+     */
+    private double chanceNode(BattleState state, int depth, int action1, int action2, double alpha, double beta) {
+        // The score range alone already decides windows that lie outside it
+        if (beta <= LOWER) {
+            return LOWER;
+        }
+        if (alpha >= UPPER) {
+            return UPPER;
+        }
+
+        Outcomes o = expand(state, depth, action1, action2);
+        int n = o.count;
+
+        // Star2: probe every outcome with one reply for a lower bound
+        double boundSum = 0.0; // Sum of probability * lower bound over all outcomes
+        for (int i = 0; i < n; i++) {
+            o.bounds[i] = LOWER;
+            o.exact[i] = false;
+            boundSum += o.probabilities[i] * LOWER;
+        }
+        if (beta < UPPER) {
+            for (int i = 0; i < n; i++) {
+                double p = o.probabilities[i];
+                double needed = (beta - (boundSum - p * o.bounds[i])) / p;
+                BattleState child = o.states[i];
+                double value = maxNode(child, depth - 1, LOWER, Math.min(UPPER, needed), true);
+                if (aborted) {
+                    return LOWER;
+                }
+                // A lone probe is exact where the child has nothing to choose between
+                o.exact[i] = child.isFinished() || depth == 1;
+                boundSum += p * (value - o.bounds[i]);
+                o.bounds[i] = value;
+                if (boundSum >= beta) {
+                    return boundSum;
+                }
+            }
+        }
+
+        // Star1: search outcomes in turn, bounding the rest by their lower bounds and UPPER
+        double sum = 0.0;
+        double restProbability = 1.0;
+        double restBounds = boundSum;
+        for (int i = 0; i < n; i++) {
+            double p = o.probabilities[i];
+            restProbability -= p;
+            restBounds -= p * o.bounds[i];
+
+            double value;
+            if (o.exact[i]) {
+                value = o.bounds[i];
+            } else {
+                double low = (alpha - sum - UPPER * restProbability) / p;
+                double high = (beta - sum - restBounds) / p;
+                if (low >= UPPER) {
+                    return sum + p * UPPER + UPPER * restProbability;
+                }
+                if (high <= o.bounds[i]) {
+                    return sum + p * o.bounds[i] + restBounds;
+                }
+                value = maxNode(o.states[i], depth - 1, Math.max(LOWER, low), Math.min(UPPER, high), false);
+                if (aborted) {
+                    return LOWER;
+                }
+                if (value <= low) {
+                    return sum + p * value + UPPER * restProbability;
+                }
+                if (value >= high) {
+                    return sum + p * value + restBounds;
+                }
+            }
+            sum += p * value;
+        }
+        return sum;
+    }
+
+    /**
+     * Plays the round once per outcome sequence and merges sequences that reach the same state.
+     * Outcomes are left sorted by probability, most likely first.
+     */
+    private Outcomes expand(BattleState state, int depth, int action1, int action2) {
+        Outcomes o = outcomes[depth];
+        if (o == null) {
+            o = new Outcomes();
+            outcomes[depth] = o;
+        }
+        o.count = 0;
+
+        chance.reset();
+        do {
+            simulation.restore(state);
+            simulation.queueAction(1, action1);
+            simulation.queueAction(2, action2);
+            simulation.playOutTurns();
+            o.add(simulation.snapshot(), chance.getProbability());
+        } while (chance.next());
+
+        o.sort();
+        return o;
+    }
+
+    /**
+     * Fingerprint of both teams' species, levels and moves plus the searching player, which is all that
+     * a {@link BattleState} leaves out.
+     */
+    private long teamsKey() {
+        long h = me;
+        for (int playerN = 1; playerN <= 2; playerN++) {
+            for (int i = 0; i < simulation.getTeamSize(playerN); i++) {
+                Pokemon poke = simulation.getPokemon(playerN, i);
+                h = h * 31 + poke.getSpeciesId();
+                h = h * 31 + poke.getLevel();
+                for (int slot = 0; slot < poke.getMoveSlotCount(); slot++) {
+                    h = h * 31 + poke.getSlotMoveId(slot);
+                }
+            }
+            h = h * 31 + 0xFF;
+        }
+        // Spread the polynomial hash over all 64 bits before it is XORed with position hashes
+        h = (h ^ (h >>> 30)) * 0xBF58476D1CE4E5B9L;
+        h = (h ^ (h >>> 27)) * 0x94D049BB133111EBL;
+        return h ^ (h >>> 31);
+    }
+
+    /**
+     * @return the preferred action if it is still in the mask, otherwise the lowest one
+     */
+    private static int pick(int remaining, int preferred) {
+        if (preferred >= 0 && (remaining & (1 << preferred)) != 0) {
+            return preferred;
+        }
+        return Integer.numberOfTrailingZeros(remaining);
+    }
+
+    /**
+     * Chance outcomes of one node: distinct resulting states and their probabilities.
+     */
+    private static final class Outcomes {
+        private BattleState[] states = new BattleState[16];
+        private double[] probabilities = new double[16];
+        private double[] bounds = new double[16];
+        private boolean[] exact = new boolean[16];
+        private int count;
+
+        void add(BattleState state, double probability) {
+            int hash = state.hashCode();
+            for (int i = 0; i < count; i++) {
+                if (states[i].hashCode() == hash && states[i].equals(state)) {
+                    probabilities[i] += probability;
+                    return;
+                }
+            }
+
+            if (count == states.length) {
+                states = Arrays.copyOf(states, count * 2);
+                probabilities = Arrays.copyOf(probabilities, count * 2);
+                bounds = Arrays.copyOf(bounds, count * 2);
+                exact = Arrays.copyOf(exact, count * 2);
+            }
+            states[count] = state;
+            probabilities[count++] = probability;
+        }
+
+        /**
+         * Insertion sort, most likely first; outcome lists are short.
+         */
+        void sort() {
+            for (int i = 1; i < count; i++) {
+                BattleState state = states[i];
+                double probability = probabilities[i];
+                int j = i - 1;
+                while (j >= 0 && probabilities[j] < probability) {
+                    states[j + 1] = states[j];
+                    probabilities[j + 1] = probabilities[j];
+                    j--;
+                }
+                states[j + 1] = state;
+                probabilities[j + 1] = probability;
+            }
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package ai.strategies;
+
+import java.util.*;
+import javamon.entities.*;
+
+/**
+ * This strategy always uses the move with the highest expected damage against the opposing Pokemon,
+ * counting accuracy, type effectiveness and STAB. Damage past a KO counts for nothing, so a sure KO
+ * beats a harder but less accurate hit. It never switches unless it must, and then sends out the next
+ * Pokemon in the team.
+ */
+public class GreedyStrategy extends HeuristicStrategy {
+    @Override
+    protected int chooseAction(Pokemon active, List<Pokemon> team, int mask, Pokemon opponent, int opponentMask) {
+        return bestMove(active, opponent, mask);
+    }
+}
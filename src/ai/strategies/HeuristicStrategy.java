@@ -0,0 +1,234 @@
+package ai.strategies;
+
+import java.util.*;
+import ai.BattleContext;
+import javamon.battle.*;
+import javamon.entities.*;
+import javamon.entities.moves.*;
+
+/**
+ * Base for strategies that decide from a damage estimate of the current matchup rather than by search.
+ *
+ * <p>Damage comes from a {@link DamageOracle}, so type effectiveness, STAB and stat stages are counted
+ * exactly and repeated matchups are cache hits. A decision reads only the two active Pokemon, the team
+ * and the legal action masks and costs a handful of cache lookups, which makes these strategies cheap
+ * enough to play whole battles inside a search: {@link #decideAction(BattleEngine, int)} works on a bare
+ * engine as well as on a context.
+ *
+ * <p>Every player sees both teams in full, as in the rest of the engine, so the opponent's moves are
+ * known.
+ */
+public abstract class HeuristicStrategy implements Strategy {
+    static final int MOVES = (1 << BattleEngine.ACTION_SWITCH) - 1; // Every move action, including Struggle
+
+    private final DamageOracle oracle = new DamageOracle();
+    // Expected damage and range of the move the last bestMove() call picked, so callers need not look them up again
+    private double bestFraction;
+    private DamageOracle.Range bestRange;
+
+    @Override
+    public Turn decideTurn(BattleContext context) {
+        return context.toTurn(choose(context.getMyActivePokemon(), context.getMyTeam(), context.getLegalActions(),
+                context.getOpponentActivePokemon(), context.getOpponentLegalActions()));
+    }
+
+    /**
+     * Picks the replacement with {@link #chooseSwitch}.
+     */
+    @Override
+    public Turn decideForceSwitch(BattleContext context) {
+        return decideTurn(context);
+    }
+
+    /**
+     * Picks an action for a player of a bare engine, e.g. a simulation inside a search. Works whether or
+     * not the player is forced to switch.
+     * @return action code (see {@link BattleEngine#getLegalActions(int)})
+     */
+    public int decideAction(BattleEngine engine, int playerN) {
+        int opponentN = (playerN == 1) ? 2 : 1;
+        return choose(engine.getActivePokemon(playerN), engine.getPokemon(playerN), engine.getLegalActions(playerN),
+                engine.getActivePokemon(opponentN), engine.getLegalActions(opponentN));
+    }
+
+    /**
+     * Picks an action when the active Pokemon can still move (switching is allowed too).
+     * @param active this player's active Pokemon
+     * @param team this player's team, indexed like the switch actions
+     * @param mask this player's legal actions
+     * @param opponentMask the opponent's legal actions
+     * @return one of the actions in mask
+     */
+    protected abstract int chooseAction(Pokemon active, List<Pokemon> team, int mask, Pokemon opponent, int opponentMask);
+
+    /**
+     * Picks a replacement when the active Pokemon has fainted. Default: the first one available, like
+     * {@link Strategy#decideForceSwitch}.
+     * @param mask this player's legal actions, all of them switches
+     * @return one of the actions in mask
+     */
+    protected int chooseSwitch(List<Pokemon> team, int mask, Pokemon opponent, int opponentMask) {
+        return Integer.numberOfTrailingZeros(mask);
+    }
+
+    private int choose(Pokemon active, List<Pokemon> team, int mask, Pokemon opponent, int opponentMask) {
+        if (mask == 0) {
+            throw new IllegalStateException("No legal actions available!");
+        }
+        if ((mask & MOVES) == 0) {
+            return chooseSwitch(team, mask, opponent, opponentMask);
+        }
+        return chooseAction(active, team, mask, opponent, opponentMask);
+    }
+
+    /**
+     * @return the oracle behind this strategy's damage estimates
+     */
+    public DamageOracle getOracle() {
+        return oracle;
+    }
+
+    /**
+     * Expected damage of one use of a move, counting accuracy, as a fraction of the defender's max HP.
+     * Damage beyond the remaining HP is wasted, so the result is at most the defender's HP fraction.
+     */
+    double expectedFraction(Pokemon attacker, Pokemon defender, int moveId) {
+        return expectedFraction(oracle.getRange(attacker, defender, moveId), defender, moveId);
+    }
+
+    /**
+     * {@link #expectedFraction(Pokemon, Pokemon, int)} from a range the caller already looked up.
+     */
+    static double expectedFraction(DamageOracle.Range range, Pokemon defender, int moveId) {
+        return expectedFraction(range, defender.getCurrentHp(), defender.getMaxHp(), moveId);
+    }
+
+    private static double expectedFraction(DamageOracle.Range range, int hp, int maxHp, int moveId) {
+        if (hp <= 0) {
+            return 0.0;
+        }
+        double hitChance = DamageOracle.getHitChance(MoveRegistry.get(moveId));
+        if (range.getMin() >= hp) {
+            return hitChance * hp / maxHp;
+        }
+        if (range.getMax() < hp) {
+            // No roll is cut short, so the total is the one the average came from (exact, as ROLLS is a power of two)
+            return hitChance * (range.getAverage() * DamageOracle.ROLLS) / ((double) DamageOracle.ROLLS * maxHp);
+        }
+        int total = 0;
+        for (int i = 0; i < DamageOracle.ROLLS; i++) {
+            total += Math.min(range.getRoll(i), hp);
+        }
+        return hitChance * total / ((double) DamageOracle.ROLLS * maxHp);
+    }
+
+    /**
+     * @param mask legal actions; only the move actions are considered
+     * @return the move action with the highest expected damage, or -1 if mask holds none
+     */
+    int bestMove(Pokemon attacker, Pokemon defender, int mask) {
+        int best = -1;
+        double bestFraction = -1.0;
+        DamageOracle.Range bestRange = null;
+        for (int m = mask & MOVES; m != 0; m &= m - 1) {
+            int action = Integer.numberOfTrailingZeros(m);
+            int moveId = moveId(attacker, action);
+            DamageOracle.Range range = oracle.getRange(attacker, defender, moveId);
+            double fraction = expectedFraction(range, defender, moveId);
+            if (fraction > bestFraction) {
+                bestFraction = fraction;
+                bestRange = range;
+                best = action;
+            }
+        }
+        this.bestFraction = Math.max(bestFraction, 0.0);
+        this.bestRange = bestRange;
+        return best;
+    }
+
+    /**
+     * @return expected damage fraction of the move the last {@link #bestMove} call returned, or 0.0 if it
+     *         returned -1
+     */
+    double lastBestFraction() {
+        return bestFraction;
+    }
+
+    /**
+     * @return damage range of the move the last {@link #bestMove} call returned, or null if it returned -1
+     */
+    DamageOracle.Range lastBestRange() {
+        return bestRange;
+    }
+
+    /**
+     * @param range the move's damage range against the defender
+     * @return chance that one use of the move knocks the defender out, counting accuracy
+     */
+    static double koChance(DamageOracle.Range range, Pokemon defender, int moveId) {
+        return DamageOracle.getHitChance(MoveRegistry.get(moveId)) * range.getChanceAtLeast(defender.getCurrentHp());
+    }
+
+    /**
+     * The reply is the same for every move the attacker weighs, so its figures are worked out once by the
+     * caller.
+     * @param taken {@link #expectedFraction} of the reply against the attacker
+     * @param replyKo {@link #koChance} of the reply against the attacker
+     * @return value of one exchange between two moves for the first attacker, in fractions of max
+     *         HP: expected damage dealt minus expected damage taken, where a KO by whoever moves first
+     *         stops the other's move
+     */
+    double exchange(Pokemon attacker, int moveId, Pokemon defender, int replyId, double taken, double replyKo) {
+        DamageOracle.Range range = oracle.getRange(attacker, defender, moveId);
+        double dealt = expectedFraction(range, defender, moveId);
+        if (replyId < 0) {
+            return dealt;
+        }
+        return exchange(dealt, koChance(range, defender, moveId), taken, replyKo, firstChance(attacker, moveId, defender, replyId));
+    }
+
+    /**
+     * {@link #exchange(Pokemon, int, Pokemon, int, double, double)} from figures the caller already has.
+     * @param ko {@link #koChance} of the move against the defender
+     * @param first chance that the move resolves before the reply
+     */
+    static double exchange(double dealt, double ko, double taken, double replyKo, double first) {
+        return first * (dealt - (1.0 - ko) * taken) + (1.0 - first) * ((1.0 - replyKo) * dealt - taken);
+    }
+
+    /**
+     * @return chance that the first attacker's move resolves before the reply, by priority then speed
+     */
+    static double firstChance(Pokemon attacker, int moveId, Pokemon defender, int replyId) {
+        int priority = MoveRegistry.get(moveId).getPriority();
+        int replyPriority = MoveRegistry.get(replyId).getPriority();
+        if (priority != replyPriority) {
+            return (priority > replyPriority) ? 1.0 : 0.0;
+        }
+        if (attacker.isFasterThan(defender)) {
+            return 1.0;
+        }
+        // Speed ties are a coin flip
+        return defender.isFasterThan(attacker) ? 0.0 : 0.5;
+    }
+
+    /**
+     * @return the move ID behind a move action of the given Pokemon
+     */
+    static int moveId(Pokemon poke, int action) {
+        return (action == BattleEngine.ACTION_STRUGGLE) ? MoveRegistry.STRUGGLE_ID : poke.getSlotMoveId(action);
+    }
+
+    /**
+     * @return move actions the Pokemon could take if it were active: slots with PP left, or Struggle
+     */
+    static int moveMask(Pokemon poke) {
+        int mask = 0;
+        for (int slot = 0; slot < poke.getMoveSlotCount(); slot++) {
+            if (poke.getSlotPP(slot) > 0) {
+                mask |= 1 << slot;
+            }
+        }
+        return (mask == 0) ? 1 << BattleEngine.ACTION_STRUGGLE : mask;
+    }
+}
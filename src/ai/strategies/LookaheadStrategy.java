@@ -0,0 +1,62 @@
+package ai.strategies;
+
+import java.util.*;
+import javamon.battle.BattleEngine;
+import javamon.entities.*;
+
+/**
+ * This strategy looks one round ahead: it assumes the opponent answers with its most damaging move and
+ * picks the action that comes out best from that exchange.
+ *
+ * <p>A move is scored as expected damage dealt minus expected damage taken, each as a fraction of the
+ * target's max HP, so a nearly fainted Pokemon has little left to protect. Speed order (priority, then
+ * {@link Pokemon#isFasterThan}) decides who hits first, and a likely KO by the first attacker cancels the
+ * second one's hit. Switches are only considered when every move loses its exchange; a switch is scored
+ * by the damage the incoming Pokemon takes from that same reply, so it wins when a teammate takes the
+ * hit much better.
+ */
+public class LookaheadStrategy extends HeuristicStrategy {
+    // A switch gives up a turn of damage; without a price, near-equal switches would bounce back and forth
+    static final double SWITCH_COST = 0.2;
+
+    @Override
+    protected int chooseAction(Pokemon active, List<Pokemon> team, int mask, Pokemon opponent, int opponentMask) {
+        int reply = bestMove(opponent, active, opponentMask);
+        int replyId = (reply < 0) ? -1 : moveId(opponent, reply);
+        double taken = lastBestFraction();
+        double replyKo = (reply < 0) ? 0.0 : koChance(lastBestRange(), active, replyId);
+
+        int best = -1;
+        double bestValue = Double.NEGATIVE_INFINITY;
+        for (int m = mask & MOVES; m != 0; m &= m - 1) {
+            int action = Integer.numberOfTrailingZeros(m);
+            double value = exchange(active, moveId(active, action), opponent, replyId, taken, replyKo);
+            if (value > bestValue) {
+                bestValue = value;
+                best = action;
+            }
+        }
+
+        if (replyId < 0 || bestValue >= 0.0) {
+            return best;
+        }
+        for (int m = mask >>> BattleEngine.ACTION_SWITCH; m != 0; m &= m - 1) {
+            int index = Integer.numberOfTrailingZeros(m);
+            double value = switchValue(team, index, opponent, replyId);
+            if (value > bestValue) {
+                bestValue = value;
+                best = BattleEngine.ACTION_SWITCH + index;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Scores switching in a teammate that takes the opponent's reply meant for the active one.
+     * @param index the teammate's index in the team
+     * @param replyId move the opponent answers with
+     */
+    double switchValue(List<Pokemon> team, int index, Pokemon opponent, int replyId) {
+        return -expectedFraction(opponent, team.get(index), replyId) - SWITCH_COST;
+    }
+}
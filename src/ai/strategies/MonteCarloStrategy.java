@@ -0,0 +1,283 @@
+package ai.strategies;
+
+import java.util.*;
+import ai.BattleContext;
+import javamon.battle.*;
+import javamon.util.BattleRandom;
+
+/**
+ * Simultaneous-move Monte Carlo tree search using decoupled UCT.
+ *
+ * <p>Both players choose at once, so every tree node keeps separate UCB statistics for each player's
+ * actions and each player picks independently; a child is reached through the joint action. The tree is
+ * open-loop: nodes stand for action sequences rather than exact states, and every iteration replays the
+ * sequence from the root with fresh damage rolls, so chance outcomes are sampled instead of branched on.
+ * Leaves are scored by uniformly random playouts, cut off after {@value #ROLLOUT_LIMIT} rounds and scored
+ * by remaining HP.
+ *
+ * <p>The search runs on a private simulation engine that is restored from a packed snapshot at the start
+ * of every iteration, so iterations allocate nothing beyond the nodes they add.
+ */
+public class MonteCarloStrategy implements Strategy {
+    private static final int DEFAULT_ITERATIONS = 50_000;
+    static final int ROLLOUT_LIMIT = 200;
+    static final double EXPLORATION = 0.7;
+
+    private final int maxIterations;
+    private final long timeBudgetNanos;
+    private final BattleRandom random;
+
+    // Scratch path for the current iteration, grown as needed
+    private Node[] path = new Node[64];
+    private int[] pathActions1 = new int[64];
+    private int[] pathActions2 = new int[64];
+
+    private long lastIterations;
+    private long lastSearchNanos;
+
+    /**
+     * Creates a search with the default budget of {@value #DEFAULT_ITERATIONS} iterations per decision.
+     */
+    public MonteCarloStrategy() {
+        this(DEFAULT_ITERATIONS, 0, new SplittableRandom().nextLong());
+    }
+
+    /**
+     * Creates a deterministic search with the default iteration budget.
+     */
+    public MonteCarloStrategy(long seed) {
+        this(DEFAULT_ITERATIONS, 0, seed);
+    }
+
+    /**
+     * Creates a search that stops at whichever budget runs out first.
+     * @param maxIterations iterations per decision (0 for no limit)
+     * @param timeBudgetMillis wall-clock time per decision in milliseconds (0 for no limit)
+     * @param seed seed for playouts and simulated battle randomness
+     */
+    public MonteCarloStrategy(int maxIterations, long timeBudgetMillis, long seed) {
+        if (maxIterations < 0 || timeBudgetMillis < 0) {
+            throw new IllegalArgumentException("Search budgets cannot be negative");
+        }
+        if (maxIterations == 0 && timeBudgetMillis == 0) {
+            throw new IllegalArgumentException("Search needs an iteration or time budget");
+        }
+
+        this.maxIterations = maxIterations;
+        this.timeBudgetNanos = timeBudgetMillis * 1_000_000L;
+        this.random = BattleRandom.seeded(seed);
+    }
+
+    @Override
+    public Turn decideTurn(BattleContext context) {
+        return search(context);
+    }
+
+    @Override
+    public Turn decideForceSwitch(BattleContext context) {
+        return search(context);
+    }
+
+    /**
+     * @return iterations run for the last decision
+     */
+    public long getLastIterations() {
+        return lastIterations;
+    }
+
+    /**
+     * @return wall-clock time spent on the last decision, in nanoseconds
+     */
+    public long getLastSearchNanos() {
+        return lastSearchNanos;
+    }
+
+    /**
+     * @return search speed over the last decision
+     */
+    public double getIterationsPerSecond() {
+        return (lastSearchNanos == 0) ? 0.0 : lastIterations * 1e9 / lastSearchNanos;
+    }
+
+    /**
+     * @return the generator behind this search's playouts, for building its simulation engines
+     */
+    BattleRandom getRandom() {
+        return random;
+    }
+
+    private Turn search(BattleContext context) {
+        int me = context.getPlayerN();
+        BattleEngine simulation = context.createSimulation(random);
+        BattleState rootState = simulation.snapshot();
+
+        int rootMask = simulation.getLegalActions(me);
+        if (rootMask == 0) {
+            throw new IllegalStateException("No legal actions available!");
+        }
+        if (Integer.bitCount(rootMask) == 1) {
+            lastIterations = 0;
+            lastSearchNanos = 0;
+            return simulation.toTurn(me, Integer.numberOfTrailingZeros(rootMask));
+        }
+
+        Node root = searchTree(simulation, rootState, maxIterations, timeBudgetNanos);
+        simulation.restore(rootState);
+        return simulation.toTurn(me, root.mostVisited(me - 1, rootMask));
+    }
+
+    /**
+     * Grows a fresh tree from the given state until a budget runs out, recording the search statistics.
+     * @param iterationLimit iterations to run (0 for no limit)
+     * @param timeLimitNanos wall-clock limit (0 for no limit)
+     * @return the root, whose action statistics rank the first moves
+     */
+    Node searchTree(BattleEngine simulation, BattleState rootState, long iterationLimit, long timeLimitNanos) {
+        Node root = new Node();
+        long start = System.nanoTime();
+        long iterations = 0;
+        while (iterationLimit == 0 || iterations < iterationLimit) {
+            // Reading the clock is not free, so only check it every 64 iterations
+            if (timeLimitNanos > 0 && (iterations & 63) == 0 && System.nanoTime() - start >= timeLimitNanos) {
+                break;
+            }
+            simulation.restore(rootState);
+            iterate(simulation, root);
+            iterations++;
+        }
+        lastSearchNanos = System.nanoTime() - start;
+        lastIterations = iterations;
+        return root;
+    }
+
+    /**
+     * One iteration: descend by decoupled UCB, expand one joint action, play out, back up.
+     */
+    private void iterate(BattleEngine simulation, Node root) {
+        Node node = root;
+        int depth = 0;
+        while (!simulation.isFinished()) {
+            int action1 = node.select(0, simulation.getLegalActions(1), random);
+            int action2 = node.select(1, simulation.getLegalActions(2), random);
+            push(depth++, node, action1, action2);
+
+            simulation.queueAction(1, action1);
+            simulation.queueAction(2, action2);
+            simulation.playOutTurns();
+
+            Node child = node.child(action1, action2);
+            if (child == null) {
+                node.addChild(action1, action2, new Node());
+                break;
+            }
+            node = child;
+        }
+
+        double reward = SearchActions.rollout(simulation, random, ROLLOUT_LIMIT);
+        for (int i = 0; i < depth; i++) {
+            path[i].update(pathActions1[i], pathActions2[i], reward);
+        }
+    }
+
+    private void push(int depth, Node node, int action1, int action2) {
+        if (depth == path.length) {
+            path = Arrays.copyOf(path, depth * 2);
+            pathActions1 = Arrays.copyOf(pathActions1, depth * 2);
+            pathActions2 = Arrays.copyOf(pathActions2, depth * 2);
+        }
+        path[depth] = node;
+        pathActions1[depth] = action1;
+        pathActions2[depth] = action2;
+    }
+
+    /**
+     * Open-loop tree node with independent per-player action statistics.
+     */
+    static final class Node {
+        private int visits;
+        // Indexed [player][action]; rewards are from that player's point of view
+        private final int[][] actionVisits = new int[2][BattleEngine.MAX_ACTIONS];
+        private final double[][] actionRewards = new double[2][BattleEngine.MAX_ACTIONS];
+
+        // Children keyed by joint action; few enough for a linear scan
+        private int[] childKeys = new int[4];
+        private Node[] children = new Node[4];
+        private int childCount;
+
+        /**
+         * Picks a player's action by UCB1 among the currently legal ones, trying untried actions first.
+         */
+        int select(int player, int mask, BattleRandom random) {
+            int[] counts = actionVisits[player];
+            int untried = 0;
+            for (int m = mask; m != 0; m &= m - 1) {
+                if (counts[Integer.numberOfTrailingZeros(m)] == 0) {
+                    untried |= m & -m;
+                }
+            }
+            if (untried != 0) {
+                return BattleEngine.nthAction(untried, random.nextInt(Integer.bitCount(untried)));
+            }
+
+            double[] rewards = actionRewards[player];
+            double logVisits = Math.log(visits);
+            int best = -1;
+            double bestScore = Double.NEGATIVE_INFINITY;
+            for (int m = mask; m != 0; m &= m - 1) {
+                int action = Integer.numberOfTrailingZeros(m);
+                double score = rewards[action] / counts[action] + EXPLORATION * Math.sqrt(logVisits / counts[action]);
+                if (score > bestScore) {
+                    bestScore = score;
+                    best = action;
+                }
+            }
+            return best;
+        }
+
+        /**
+         * @param player 0 for player 1, 1 for player 2
+         * @return how often the player's action was tried from this node
+         */
+        int getActionVisits(int player, int action) {
+            return actionVisits[player][action];
+        }
+
+        void update(int action1, int action2, double reward1) {
+            visits++;
+            actionVisits[0][action1]++;
+            actionRewards[0][action1] += reward1;
+            actionVisits[1][action2]++;
+            actionRewards[1][action2] += 1.0 - reward1;
+        }
+
+        int mostVisited(int player, int mask) {
+            int best = Integer.numberOfTrailingZeros(mask);
+            for (int m = mask; m != 0; m &= m - 1) {
+                int action = Integer.numberOfTrailingZeros(m);
+                if (actionVisits[player][action] > actionVisits[player][best]) {
+                    best = action;
+                }
+            }
+            return best;
+        }
+
+        Node child(int action1, int action2) {
+            int key = action1 * BattleEngine.MAX_ACTIONS + action2;
+            for (int i = 0; i < childCount; i++) {
+                if (childKeys[i] == key) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        void addChild(int action1, int action2, Node child) {
+            if (childCount == children.length) {
+                childKeys = Arrays.copyOf(childKeys, childCount * 2);
+                children = Arrays.copyOf(children, childCount * 2);
+            }
+            childKeys[childCount] = action1 * BattleEngine.MAX_ACTIONS + action2;
+            children[childCount++] = child;
+        }
+    }
+}
@@ -0,0 +1,449 @@
+package ai.strategies;
+
+import java.lang.invoke.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import ai.BattleContext;
+import javamon.battle.*;
+import javamon.util.BattleRandom;
+
+/**
+ * Multi-threaded version of {@link MonteCarloStrategy}, with the same decoupled-UCT selection,
+ * open-loop tree and random playouts.
+ *
+ * <p>{@link Mode#Root} gives every worker its own private tree and splits the iteration budget between
+ * them; the decision sums the workers' root visit counts. Workers share nothing while searching, so
+ * with an iteration budget the result is deterministic for a seed and thread count.
+ *
+ * <p>{@link Mode#Tree} grows one tree that all workers descend together. Node statistics are updated
+ * with atomic adds and children are published with a compare-and-set, so there are no locks. A worker
+ * counts its visit to each node on the way down, before the playout result is known, which is a virtual
+ * loss: other workers see those actions as tried-and-lost and spread out over the tree instead of
+ * piling onto the same line. Backing up then only has to add the reward. The order in which workers
+ * interleave is up to the scheduler, so tree-parallel results are not reproducible.
+ *
+ * <p>The workers run on a pool owned by the strategy; {@link #close()} shuts it down. The pool's threads
+ * are daemons and retire when idle, so a strategy that is never closed does not keep the JVM alive.
+ */
+public class ParallelMonteCarloStrategy implements Strategy, AutoCloseable {
+    private static final int DEFAULT_ITERATIONS = 50_000;
+    // Rewards in [0, 1] are summed as fixed-point longs so they can be added atomically
+    private static final double REWARD_SCALE = 1L << 32;
+
+    private static final VarHandle INTS = MethodHandles.arrayElementVarHandle(int[].class);
+    private static final VarHandle LONGS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    /**
+     * How the workers divide the search.
+     */
+    public enum Mode {
+        /** Independent trees per worker, merged at the root */
+        Root,
+        /** One shared tree with virtual loss */
+        Tree
+    }
+
+    private final Mode mode;
+    private final int threads;
+    private final int maxIterations;
+    private final long timeBudgetNanos;
+    private final ForkJoinPool pool;
+
+    // One per thread, kept across decisions so every worker has its own random stream
+    private final MonteCarloStrategy[] rootWorkers;
+    private final TreeWorker[] treeWorkers;
+
+    private long lastIterations;
+    private long lastSearchNanos;
+
+    /**
+     * Creates a search on every available core with the default budget of {@value #DEFAULT_ITERATIONS}
+     * iterations per decision, shared between the workers.
+     */
+    public ParallelMonteCarloStrategy(Mode mode, long seed) {
+        this(mode, Runtime.getRuntime().availableProcessors(), DEFAULT_ITERATIONS, 0, seed);
+    }
+
+    /**
+     * Creates a search that stops at whichever budget runs out first.
+     * @param threads number of worker threads
+     * @param maxIterations iterations per decision across all workers (0 for no limit)
+     * @param timeBudgetMillis wall-clock time per decision in milliseconds (0 for no limit)
+     * @param seed seed from which every worker's randomness is derived
+     */
+    public ParallelMonteCarloStrategy(Mode mode, int threads, int maxIterations, long timeBudgetMillis, long seed) {
+        if (mode == null) {
+            throw new IllegalArgumentException("Search must have a parallel mode!");
+        }
+        if (threads <= 0) {
+            throw new IllegalArgumentException("Search needs at least one thread");
+        }
+        if (maxIterations < 0 || timeBudgetMillis < 0) {
+            throw new IllegalArgumentException("Search budgets cannot be negative");
+        }
+        if (maxIterations == 0 && timeBudgetMillis == 0) {
+            throw new IllegalArgumentException("Search needs an iteration or time budget");
+        }
+
+        this.mode = mode;
+        this.threads = threads;
+        this.maxIterations = maxIterations;
+        this.timeBudgetNanos = timeBudgetMillis * 1_000_000L;
+        this.pool = new ForkJoinPool(threads);
+
+        BattleRandom seeds = BattleRandom.seeded(seed);
+        this.rootWorkers = new MonteCarloStrategy[threads];
+        this.treeWorkers = new TreeWorker[threads];
+        for (int i = 0; i < threads; i++) {
+            if (mode == Mode.Root) {
+                // The per-worker budgets are unused; searchTree() is given explicit limits
+                rootWorkers[i] = new MonteCarloStrategy(DEFAULT_ITERATIONS, 0, seeds.nextLong());
+            } else {
+                treeWorkers[i] = new TreeWorker(seeds.split());
+            }
+        }
+    }
+
+    @Override
+    public Turn decideTurn(BattleContext context) {
+        return search(context);
+    }
+
+    @Override
+    public Turn decideForceSwitch(BattleContext context) {
+        return search(context);
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    /**
+     * @return iterations run for the last decision, summed over all workers
+     */
+    public long getLastIterations() {
+        return lastIterations;
+    }
+
+    /**
+     * @return wall-clock time spent on the last decision, in nanoseconds
+     */
+    public long getLastSearchNanos() {
+        return lastSearchNanos;
+    }
+
+    /**
+     * @return combined search speed of all workers over the last decision
+     */
+    public double getIterationsPerSecond() {
+        return (lastSearchNanos == 0) ? 0.0 : lastIterations * 1e9 / lastSearchNanos;
+    }
+
+    /**
+     * Shuts down the worker pool. The strategy cannot search afterwards.
+     */
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+
+    private Turn search(BattleContext context) {
+        int me = context.getPlayerN();
+        BattleState rootState = context.getState();
+
+        // Simulations are built on the calling thread; workers only restore the shared immutable state
+        BattleEngine[] simulations = new BattleEngine[threads];
+        for (int i = 0; i < threads; i++) {
+            BattleRandom random = (mode == Mode.Root) ? rootWorkers[i].getRandom() : treeWorkers[i].random;
+            simulations[i] = context.createSimulation(random);
+        }
+
+        int rootMask = simulations[0].getLegalActions(me);
+        if (rootMask == 0) {
+            throw new IllegalStateException("No legal actions available!");
+        }
+        if (Integer.bitCount(rootMask) == 1) {
+            lastIterations = 0;
+            lastSearchNanos = 0;
+            return simulations[0].toTurn(me, Integer.numberOfTrailingZeros(rootMask));
+        }
+
+        long start = System.nanoTime();
+        int[] visits = (mode == Mode.Root) ? searchRoot(simulations, rootState) : searchTree(simulations, rootState);
+        lastSearchNanos = System.nanoTime() - start;
+
+        int best = Integer.numberOfTrailingZeros(rootMask);
+        for (int m = rootMask; m != 0; m &= m - 1) {
+            int action = Integer.numberOfTrailingZeros(m);
+            if (visits[(me - 1) * BattleEngine.MAX_ACTIONS + action] > visits[(me - 1) * BattleEngine.MAX_ACTIONS + best]) {
+                best = action;
+            }
+        }
+        simulations[0].restore(rootState);
+        return simulations[0].toTurn(me, best);
+    }
+
+    /**
+     * Runs one private tree per worker and sums their root visit counts.
+     * @return visit counts indexed player * MAX_ACTIONS + action
+     */
+    private int[] searchRoot(BattleEngine[] simulations, BattleState rootState) {
+        List<Callable<MonteCarloStrategy.Node>> tasks = new ArrayList<>(threads);
+        for (int i = 0; i < threads; i++) {
+            MonteCarloStrategy worker = rootWorkers[i];
+            BattleEngine simulation = simulations[i];
+            // Spread the remainder so the shares add up to exactly maxIterations
+            long share = (maxIterations == 0) ? 0 : maxIterations / threads + ((i < maxIterations % threads) ? 1 : 0);
+            if (maxIterations != 0 && share == 0) {
+                continue;
+            }
+            tasks.add(() -> worker.searchTree(simulation, rootState, share, timeBudgetNanos));
+        }
+
+        int[] visits = new int[2 * BattleEngine.MAX_ACTIONS];
+        long iterations = 0;
+        List<Future<MonteCarloStrategy.Node>> roots = pool.invokeAll(tasks);
+        for (int i = 0; i < roots.size(); i++) {
+            MonteCarloStrategy.Node root = join(roots.get(i));
+            for (int action = 0; action < BattleEngine.MAX_ACTIONS; action++) {
+                visits[action] += root.getActionVisits(0, action);
+                visits[BattleEngine.MAX_ACTIONS + action] += root.getActionVisits(1, action);
+            }
+            iterations += rootWorkers[i].getLastIterations();
+        }
+        lastIterations = iterations;
+        return visits;
+    }
+
+    /**
+     * Runs every worker on one shared tree.
+     * @return the root's visit counts indexed player * MAX_ACTIONS + action
+     */
+    private int[] searchTree(BattleEngine[] simulations, BattleState rootState) {
+        SharedNode root = new SharedNode();
+        AtomicLong claimed = new AtomicLong();
+        long deadline = System.nanoTime() + timeBudgetNanos;
+
+        List<Callable<Long>> tasks = new ArrayList<>(threads);
+        for (int i = 0; i < threads; i++) {
+            TreeWorker worker = treeWorkers[i];
+            BattleEngine simulation = simulations[i];
+            tasks.add(() -> worker.run(simulation, rootState, root, claimed, deadline));
+        }
+
+        long iterations = 0;
+        for (Future<Long> done : pool.invokeAll(tasks)) {
+            iterations += join(done);
+        }
+        lastIterations = iterations;
+        return root.actionVisits.clone();
+    }
+
+    private static <T> T join(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Search was interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException("Search worker failed", e.getCause());
+        }
+    }
+
+    /**
+     * Tree-parallel worker: its own randomness and scratch path, sharing the tree with the others.
+     */
+    private final class TreeWorker {
+        private final BattleRandom random;
+        private SharedNode[] path = new SharedNode[64];
+        private int[] pathActions1 = new int[64];
+        private int[] pathActions2 = new int[64];
+
+        TreeWorker(BattleRandom random) {
+            this.random = random;
+        }
+
+        /**
+         * Claims iterations from the shared counter until the budget runs out.
+         * @return iterations this worker ran
+         */
+        long run(BattleEngine simulation, BattleState rootState, SharedNode root, AtomicLong claimed, long deadline) {
+            long iterations = 0;
+            while (maxIterations == 0 || claimed.getAndIncrement() < maxIterations) {
+                // Reading the clock is not free, so only check it every 64 iterations
+                if (timeBudgetNanos > 0 && (iterations & 63) == 0 && System.nanoTime() - deadline >= 0) {
+                    break;
+                }
+                simulation.restore(rootState);
+                iterate(simulation, root);
+                iterations++;
+            }
+            return iterations;
+        }
+
+        private void iterate(BattleEngine simulation, SharedNode root) {
+            SharedNode node = root;
+            int depth = 0;
+            while (!simulation.isFinished()) {
+                int action1 = node.select(0, simulation.getLegalActions(1), random);
+                int action2 = node.select(1, simulation.getLegalActions(2), random);
+                node.addVisit(action1, action2);
+                push(depth++, node, action1, action2);
+
+                simulation.queueAction(1, action1);
+                simulation.queueAction(2, action2);
+                simulation.playOutTurns();
+
+                SharedNode child = node.child(action1, action2);
+                if (child == null) {
+                    node.addChild(action1, action2);
+                    break;
+                }
+                node = child;
+            }
+
+            long reward1 = Math.round(SearchActions.rollout(simulation, random, MonteCarloStrategy.ROLLOUT_LIMIT) * REWARD_SCALE);
+            for (int i = 0; i < depth; i++) {
+                path[i].addReward(pathActions1[i], pathActions2[i], reward1);
+            }
+        }
+
+        private void push(int depth, SharedNode node, int action1, int action2) {
+            if (depth == path.length) {
+                path = Arrays.copyOf(path, depth * 2);
+                pathActions1 = Arrays.copyOf(pathActions1, depth * 2);
+                pathActions2 = Arrays.copyOf(pathActions2, depth * 2);
+            }
+            path[depth] = node;
+            pathActions1[depth] = action1;
+            pathActions2[depth] = action2;
+        }
+    }
+
+    /**
+     * Tree node that many workers update at once. Visits are counted on the way down and rewards added
+     * on the way back up, each with a single atomic add; reads are racy but never torn.
+     */
+    private static final class SharedNode {
+        private static final VarHandle VISITS;
+        private static final VarHandle CHILDREN;
+
+        static {
+            try {
+                MethodHandles.Lookup lookup = MethodHandles.lookup();
+                VISITS = lookup.findVarHandle(SharedNode.class, "visits", int.class);
+                CHILDREN = lookup.findVarHandle(SharedNode.class, "children", Edge.class);
+            } catch (ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        private volatile int visits;
+        // Indexed player * MAX_ACTIONS + action; rewards are fixed-point, from that player's point of view
+        private final int[] actionVisits = new int[2 * BattleEngine.MAX_ACTIONS];
+        private final long[] actionRewards = new long[2 * BattleEngine.MAX_ACTIONS];
+
+        // Children keyed by joint action, pushed onto the head of an immutable list
+        private volatile Edge children;
+
+        /**
+         * Picks a player's action by UCB1 among the currently legal ones, trying untried actions first.
+         * Visits already taken by workers still mid-playout count as losses until their rewards arrive.
+         */
+        int select(int player, int mask, BattleRandom random) {
+            int base = player * BattleEngine.MAX_ACTIONS;
+            int untried = 0;
+            for (int m = mask; m != 0; m &= m - 1) {
+                if ((int) INTS.getOpaque(actionVisits, base + Integer.numberOfTrailingZeros(m)) == 0) {
+                    untried |= m & -m;
+                }
+            }
+            if (untried != 0) {
+                return BattleEngine.nthAction(untried, random.nextInt(Integer.bitCount(untried)));
+            }
+
+            double logVisits = Math.log(Math.max(1, visits));
+            int best = -1;
+            double bestScore = Double.NEGATIVE_INFINITY;
+            for (int m = mask; m != 0; m &= m - 1) {
+                int action = Integer.numberOfTrailingZeros(m);
+                int count = (int) INTS.getOpaque(actionVisits, base + action);
+                double mean = (long) LONGS.getOpaque(actionRewards, base + action) / REWARD_SCALE / count;
+                double score = mean + MonteCarloStrategy.EXPLORATION * Math.sqrt(logVisits / count);
+                if (score > bestScore) {
+                    bestScore = score;
+                    best = action;
+                }
+            }
+            return best;
+        }
+
+        /**
+         * Counts a joint action as visited with no reward yet (the virtual loss).
+         */
+        void addVisit(int action1, int action2) {
+            VISITS.getAndAdd(this, 1);
+            INTS.getAndAdd(actionVisits, action1, 1);
+            INTS.getAndAdd(actionVisits, BattleEngine.MAX_ACTIONS + action2, 1);
+        }
+
+        /**
+         * Settles a virtual loss with the real playout reward.
+         * @param reward1 player 1's fixed-point reward
+         */
+        void addReward(int action1, int action2, long reward1) {
+            LONGS.getAndAdd(actionRewards, action1, reward1);
+            LONGS.getAndAdd(actionRewards, BattleEngine.MAX_ACTIONS + action2, (long) REWARD_SCALE - reward1);
+        }
+
+        SharedNode child(int action1, int action2) {
+            int key = action1 * BattleEngine.MAX_ACTIONS + action2;
+            for (Edge edge = children; edge != null; edge = edge.next) {
+                if (edge.key == key) {
+                    return edge.node;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Adds a child for the joint action unless another worker got there first.
+         */
+        void addChild(int action1, int action2) {
+            int key = action1 * BattleEngine.MAX_ACTIONS + action2;
+            SharedNode node = null;
+            Edge head;
+            do {
+                head = children;
+                for (Edge edge = head; edge != null; edge = edge.next) {
+                    if (edge.key == key) {
+                        return;
+                    }
+                }
+                if (node == null) {
+                    node = new SharedNode();
+                }
+            } while (!CHILDREN.compareAndSet(this, head, new Edge(key, node, head)));
+        }
+    }
+
+    private static final class Edge {
+        final int key;
+        final SharedNode node;
+        final Edge next;
+
+        Edge(int key, SharedNode node, Edge next) {
+            this.key = key;
+            this.node = node;
+            this.next = next;
+        }
+    }
+}
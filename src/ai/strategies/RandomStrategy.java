@@ -2,7 +2,7 @@ package ai.strategies;
 
 import java.util.*;
 import ai.BattleContext;
-import javamon.battle.Turn;
+import javamon.battle.*;
 
 /**
  * This strategy chooses a random move for each turn. Pokemon are never switched when not necessary.
@@ -21,8 +21,7 @@ public class RandomStrategy implements Strategy {
     
     @Override
     public Turn decideTurn(BattleContext context) {
-        List<String> validMoves = context.getValidMoves();
-        String chosenMove = validMoves.get(rng.nextInt(validMoves.size()));
-        return new Turn(context.getPlayerN(), chosenMove);
+        int moves = context.getLegalActions() & ((1 << BattleContext.SWITCH) - 1);
+        return context.toTurn(BattleEngine.nthAction(moves, rng.nextInt(Integer.bitCount(moves))));
     }
 }
\ No newline at end of file
@@ -0,0 +1,56 @@
+package ai.strategies;
+
+import javamon.battle.*;
+import javamon.entities.*;
+import javamon.util.BattleRandom;
+
+/**
+ * Playouts and position scoring shared by the search strategies. Both work on a bare engine, as searches
+ * play on simulations that have no context; actions are the engine's codes, see
+ * {@link BattleEngine#getLegalActions(int)}.
+ */
+final class SearchActions {
+    private SearchActions() {}
+
+    /**
+     * Plays uniformly random legal actions for both sides until the battle ends or the round limit is hit.
+     * @return player 1's score for where the playout stopped, as in {@link #evaluate(BattleEngine, int)}
+     */
+    static double rollout(BattleEngine engine, BattleRandom random, int roundLimit) {
+        for (int round = 0; round < roundLimit && !engine.isFinished(); round++) {
+            int mask1 = engine.getLegalActions(1);
+            int mask2 = engine.getLegalActions(2);
+            engine.queueAction(1, BattleEngine.nthAction(mask1, random.nextInt(Integer.bitCount(mask1))));
+            engine.queueAction(2, BattleEngine.nthAction(mask2, random.nextInt(Integer.bitCount(mask2))));
+            engine.playOutTurns();
+        }
+        return evaluate(engine, 1);
+    }
+
+    /**
+     * Scores a position for a player from remaining HP alone: 1 for a win, 0 for a loss, and otherwise
+     * 0.5 plus half the difference between the two sides' total HP fractions.
+     */
+    static double evaluate(BattleEngine engine, int playerN) {
+        int winner = engine.getWinner();
+        if (winner != 0) {
+            return (winner == playerN) ? 1.0 : 0.0;
+        }
+        if (engine.isFinished()) {
+            return 0.5;
+        }
+
+        int opponentN = (playerN == 1) ? 2 : 1;
+        return 0.5 + (hpFraction(engine, playerN) - hpFraction(engine, opponentN)) / 2.0;
+    }
+
+    private static double hpFraction(BattleEngine engine, int playerN) {
+        double total = 0.0;
+        int size = engine.getTeamSize(playerN);
+        for (int i = 0; i < size; i++) {
+            Pokemon poke = engine.getPokemon(playerN, i);
+            total += (double) poke.getCurrentHp() / poke.getMaxHp();
+        }
+        return total / size;
+    }
+}
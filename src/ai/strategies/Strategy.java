@@ -1,6 +1,5 @@
 package ai.strategies;
 
-import java.util.*;
 import ai.BattleContext;
 import javamon.battle.Turn;
 
@@ -14,13 +13,13 @@ public interface Strategy {
     
     /**
      * Optional: Called when bot's Pokemon faints (must switch).
-     * Default: picks first available non-fainted Pokemon.
+     * Default: picks first available non-fainted Pokemon, straight from the legal action mask.
      */
     default Turn decideForceSwitch(BattleContext context) {
-        List<Integer> validSwitches = context.getValidSwitchTargets();
-        if (validSwitches.isEmpty()) {
+        int switches = context.getLegalActions() >>> BattleContext.SWITCH;
+        if (switches == 0) {
             throw new IllegalStateException("No valid switches available!");
         }
-        return new Turn(context.getPlayerN(), validSwitches.get(0));
+        return context.toTurn(Integer.numberOfTrailingZeros(switches) + BattleContext.SWITCH);
     }
 }
\ No newline at end of file
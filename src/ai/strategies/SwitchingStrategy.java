@@ -0,0 +1,170 @@
+package ai.strategies;
+
+import java.util.*;
+import javamon.battle.BattleEngine;
+import javamon.entities.*;
+import javamon.entities.moves.DamageOracle;
+
+/**
+ * One-round lookahead, as in {@link LookaheadStrategy}, that also weighs how each teammate would fare
+ * against the opposing Pokemon once it is in.
+ *
+ * <p>A teammate's matchup is the exchange between its best move and the opponent's reply. A voluntary
+ * switch counts the hit taken on the way in plus that matchup, with the opponent's reply being the move
+ * it was expected to use this round. When a Pokemon faints, the replacement whose matchup against the
+ * opponent's best move for it is strongest is sent out, instead of the next one in the team.
+ *
+ * <p>Matchups are cached per teammate and only worked out again once the opposing active Pokemon, its HP
+ * or its stat stages change, so decisions against an unchanged opponent skip the teammates' damage
+ * estimates.
+ */
+public class SwitchingStrategy extends LookaheadStrategy {
+    private static final int TEAM_SIZE = BattleEngine.MAX_ACTIONS - BattleEngine.ACTION_SWITCH;
+    private static final int NONE = Integer.MIN_VALUE;
+
+    // One set of matchups per team, so that a strategy playing both sides of a battle keeps both
+    private final Matchups[] sides = {new Matchups(), new Matchups()};
+    private int lastSide;
+
+    @Override
+    protected int chooseSwitch(List<Pokemon> team, int mask, Pokemon opponent, int opponentMask) {
+        Matchups matchups = matchups(team, opponent);
+        int best = -1;
+        double bestValue = Double.NEGATIVE_INFINITY;
+        for (int m = mask >>> BattleEngine.ACTION_SWITCH; m != 0; m &= m - 1) {
+            int index = Integer.numberOfTrailingZeros(m);
+            Pokemon poke = team.get(index);
+            Matchup cached = matchups.get(index, poke);
+            if (cached.opponentMask != opponentMask) {
+                int reply = bestMove(opponent, poke, opponentMask);
+                if (reply < 0) {
+                    cached.replacementValue = matchup(poke, cached.moves, opponent, -1, 0.0, 0.0);
+                } else {
+                    int replyId = moveId(opponent, reply);
+                    double replyKo = koChance(lastBestRange(), poke, replyId);
+                    cached.replacementValue = matchup(poke, cached.moves, opponent, replyId, lastBestFraction(), replyKo);
+                }
+                cached.opponentMask = opponentMask;
+            }
+            if (cached.replacementValue > bestValue) {
+                bestValue = cached.replacementValue;
+                best = BattleEngine.ACTION_SWITCH + index;
+            }
+        }
+        return best;
+    }
+
+    @Override
+    double switchValue(List<Pokemon> team, int index, Pokemon opponent, int replyId) {
+        Pokemon incoming = team.get(index);
+        Matchup cached = matchups(team, opponent).get(index, incoming);
+        if (cached.replyId != replyId) {
+            // The opponent is assumed to keep the move it chose this round, which saves a search for its best reply
+            DamageOracle.Range reply = getOracle().getRange(opponent, incoming, replyId);
+            double taken = expectedFraction(reply, incoming, replyId);
+            double replyKo = koChance(reply, incoming, replyId);
+            cached.switchValue = -taken - SWITCH_COST + matchup(incoming, cached.moves, opponent, replyId, taken, replyKo);
+            cached.replyId = replyId;
+        }
+        return cached.switchValue;
+    }
+
+    /**
+     * @param moves {@link #moveMask} of the Pokemon
+     * @param replyId move the opponent answers with, or -1 if it cannot attack
+     * @param taken {@link #expectedFraction} of that reply against the Pokemon
+     * @param replyKo {@link #koChance} of that reply against the Pokemon
+     * @return value of the exchange if the Pokemon were active against the opponent
+     */
+    private double matchup(Pokemon poke, int moves, Pokemon opponent, int replyId, double taken, double replyKo) {
+        int moveId = moveId(poke, bestMove(poke, opponent, moves));
+        double dealt = lastBestFraction();
+        if (replyId < 0) {
+            return dealt;
+        }
+        return exchange(dealt, koChance(lastBestRange(), opponent, moveId), taken, replyKo,
+                firstChance(poke, moveId, opponent, replyId));
+    }
+
+    /**
+     * @return the team's matchups, valid against the opponent as it is now
+     */
+    private Matchups matchups(List<Pokemon> team, Pokemon opponent) {
+        if (sides[lastSide].team != team) {
+            // Either the other team's set, or the one used less recently, which is taken over
+            lastSide ^= 1;
+        }
+        Matchups matchups = sides[lastSide];
+        matchups.validate(team, opponent);
+        return matchups;
+    }
+
+    /**
+     * One team's matchups against one opposing Pokemon, by team index.
+     */
+    private static final class Matchups {
+        private final Matchup[] entries = new Matchup[TEAM_SIZE];
+        private List<Pokemon> team;
+        private Pokemon opponent;
+        private int opponentHp;
+        private int opponentStages;
+
+        Matchups() {
+            for (int i = 0; i < TEAM_SIZE; i++) {
+                entries[i] = new Matchup();
+            }
+        }
+
+        /**
+         * Drops every entry unless they were worked out for this team against the opponent as it is now.
+         */
+        void validate(List<Pokemon> team, Pokemon opponent) {
+            int hp = opponent.getCurrentHp();
+            int stages = opponent.getPackedStages();
+            if (team == this.team && opponent == this.opponent && hp == opponentHp && stages == opponentStages) {
+                return;
+            }
+            this.team = team;
+            this.opponent = opponent;
+            opponentHp = hp;
+            opponentStages = stages;
+            for (Matchup entry : entries) {
+                entry.poke = null;
+            }
+        }
+
+        /**
+         * A teammate's own HP, stages and usable moves only differ from the entry's when a search jumps
+         * between states, but the entry is redone then as well.
+         * @return the teammate's entry, emptied if it was worked out for the teammate in another state
+         */
+        Matchup get(int index, Pokemon poke) {
+            Matchup entry = entries[index];
+            int hp = poke.getCurrentHp();
+            int stages = poke.getPackedStages();
+            int moves = moveMask(poke);
+            if (entry.poke != poke || entry.hp != hp || entry.stages != stages || entry.moves != moves) {
+                entry.poke = poke;
+                entry.hp = hp;
+                entry.stages = stages;
+                entry.moves = moves;
+                entry.replyId = NONE;
+                entry.opponentMask = NONE;
+            }
+            return entry;
+        }
+    }
+
+    private static final class Matchup {
+        private Pokemon poke;
+        private int hp;
+        private int stages;
+        private int moves;
+        // Value as a voluntary switch against the reply with this move ID, or NONE if not worked out
+        private int replyId = NONE;
+        private double switchValue;
+        // Value as the replacement for a fainted Pokemon against these opponent actions, or NONE
+        private int opponentMask = NONE;
+        private double replacementValue;
+    }
+}
@@ -0,0 +1,268 @@
+package ai.strategies;
+
+import java.lang.invoke.*;
+import java.util.*;
+import java.util.concurrent.atomic.*;
+import javamon.battle.BattleEngine;
+
+/**
+ * Fixed-size hash table of search results, keyed by a 64-bit position hash such as
+ * {@link javamon.battle.BattleState#zobristHash()}, that any number of search threads can share.
+ *
+ * <p>Each entry stores a value, the depth it was searched to, whether the value is exact or only a
+ * bound, and the best action found (as an action code below {@link BattleEngine#MAX_ACTIONS}). The table is lock-free: an entry is
+ * three longs written with single atomic stores, the first holding the key XORed with the other two.
+ * A reader that races a writer sees a mismatched key and treats the entry as a miss, so torn entries
+ * are never returned and no thread ever waits.
+ *
+ * <p>When two positions map to the same place, a {@link Replacement} policy decides which one stays.
+ * Entries from before the last {@link #newSearch()} always give way, so old results are reused while
+ * they survive but never crowd out the current search.
+ */
+public final class TranspositionTable {
+    private static final VarHandle LONGS = MethodHandles.arrayElementVarHandle(long[].class);
+    private static final int STRIDE = 3; // check, value, meta
+
+    // Meta layout: depth (bits 0-7), bound (8-9, 0 for an empty entry), best action + 1 (10-13), generation (14-21)
+    private static final int MAX_DEPTH = 0xFF;
+    private static final Bound[] BOUNDS = Bound.values();
+
+    static {
+        // Best action + 1 has to fit the meta word's 4 bits
+        if (BattleEngine.MAX_ACTIONS > 0xF) {
+            throw new AssertionError("Action codes no longer fit a transposition table entry");
+        }
+    }
+
+    /**
+     * What a stored value says about the true value of the position.
+     */
+    public enum Bound {
+        /** The value is exact */
+        Exact,
+        /** The true value is at least the stored value (the search failed high) */
+        Lower,
+        /** The true value is at most the stored value (the search failed low) */
+        Upper
+    }
+
+    /**
+     * Which entry gives way when a new result lands where another position is stored.
+     */
+    public enum Replacement {
+        /** The newest result always wins */
+        AlwaysReplace,
+        /** A result only replaces a different position if that one was searched to the same depth or shallower */
+        DepthPreferred,
+        /**
+         * Entries come in pairs: a depth-preferred slot, and an always-replace slot that takes what the
+         * first one turns away as well as whatever it evicts
+         */
+        TwoTier
+    }
+
+    private final long[] table;
+    private final int mask;
+    private final Replacement replacement;
+    private volatile int generation;
+
+    private final LongAdder probes = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder stores = new LongAdder();
+
+    /**
+     * @param capacity number of entries, rounded up to a power of two (at least 2); each takes 24 bytes
+     */
+    public TranspositionTable(int capacity, Replacement replacement) {
+        if (capacity <= 0 || capacity > (1 << 26)) {
+            throw new IllegalArgumentException("Table capacity must be between 1 and 2^26 entries");
+        }
+        if (replacement == null) {
+            throw new IllegalArgumentException("Table must have a replacement policy!");
+        }
+
+        int size = Math.max(2, Integer.highestOneBit(capacity - 1) << 1);
+        this.table = new long[size * STRIDE];
+        this.mask = size - 1;
+        this.replacement = replacement;
+    }
+
+    /**
+     * Caller-owned holder for a probed entry, so probing allocates nothing. Give each thread its own.
+     */
+    public static final class Entry {
+        private double value;
+        private int depth;
+        private Bound bound;
+        private int bestAction;
+
+        public double getValue() {
+            return value;
+        }
+
+        public int getDepth() {
+            return depth;
+        }
+
+        public Bound getBound() {
+            return bound;
+        }
+
+        /**
+         * @return search action code of the best action, or -1 if none was stored
+         */
+        public int getBestAction() {
+            return bestAction;
+        }
+    }
+
+    /**
+     * Looks up a position.
+     * @param entry filled in on a hit, untouched on a miss
+     * @return true on a hit
+     */
+    public boolean probe(long key, Entry entry) {
+        probes.increment();
+        int index = index(key);
+        if (read(index, key, entry) || (replacement == Replacement.TwoTier && read(index ^ 1, key, entry))) {
+            hits.increment();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Stores a search result, subject to the replacement policy.
+     * @param depth depth the value was searched to (capped at 255)
+     * @param bestAction action code of the best action (0 to {@link BattleEngine#MAX_ACTIONS} - 1), or -1 for none
+     */
+    public void store(long key, double value, int depth, Bound bound, int bestAction) {
+        if (depth < 0 || bound == null || bestAction < -1 || bestAction >= BattleEngine.MAX_ACTIONS) {
+            throw new IllegalArgumentException("Invalid transposition table entry");
+        }
+
+        long meta = Math.min(depth, MAX_DEPTH)
+                | (long) (bound.ordinal() + 1) << 8
+                | (long) (bestAction + 1) << 10
+                | (long) (generation & 0xFF) << 14;
+        long valueBits = Double.doubleToRawLongBits(value);
+        int index = index(key);
+
+        switch (replacement) {
+            case AlwaysReplace:
+                write(index, key, valueBits, meta);
+                break;
+            case DepthPreferred:
+                if (replaceable(index, key, depth)) {
+                    write(index, key, valueBits, meta);
+                }
+                break;
+            case TwoTier:
+                int first = index & ~1;
+                if (replaceable(first, key, depth)) {
+                    long oldMeta = (long) LONGS.getOpaque(table, first * STRIDE + 2);
+                    long oldCheck = (long) LONGS.getOpaque(table, first * STRIDE);
+                    long oldValue = (long) LONGS.getOpaque(table, first * STRIDE + 1);
+                    long oldKey = oldCheck ^ oldValue ^ oldMeta;
+                    // Demote what the deep slot held rather than losing it outright
+                    if (oldMeta != 0 && oldKey != key) {
+                        write(first + 1, oldKey, oldValue, oldMeta);
+                    }
+                    write(first, key, valueBits, meta);
+                } else {
+                    write(first + 1, key, valueBits, meta);
+                }
+                break;
+        }
+        stores.increment();
+    }
+
+    /**
+     * Starts a new search: every entry stored so far may now be replaced regardless of depth.
+     */
+    public void newSearch() {
+        generation++;
+    }
+
+    /**
+     * Empties the table and resets its statistics. Not safe while other threads use the table.
+     */
+    public void clear() {
+        Arrays.fill(table, 0L);
+        probes.reset();
+        hits.reset();
+        stores.reset();
+    }
+
+    /**
+     * @return number of entries the table holds
+     */
+    public int getCapacity() {
+        return mask + 1;
+    }
+
+    public Replacement getReplacement() {
+        return replacement;
+    }
+
+    public long getProbes() {
+        return probes.sum();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getStores() {
+        return stores.sum();
+    }
+
+    /**
+     * @return fraction of probes that found their position
+     */
+    public double getHitRate() {
+        long total = probes.sum();
+        return (total == 0) ? 0.0 : (double) hits.sum() / total;
+    }
+
+    private int index(long key) {
+        // The low bits pick the slot; fold in the high bits so keys differing only there still spread
+        return (int) (key ^ (key >>> 32)) & mask;
+    }
+
+    private boolean read(int index, long key, Entry entry) {
+        int base = index * STRIDE;
+        long check = (long) LONGS.getOpaque(table, base);
+        long valueBits = (long) LONGS.getOpaque(table, base + 1);
+        long meta = (long) LONGS.getOpaque(table, base + 2);
+        if (meta == 0 || (check ^ valueBits ^ meta) != key) {
+            return false;
+        }
+
+        entry.value = Double.longBitsToDouble(valueBits);
+        entry.depth = (int) (meta & MAX_DEPTH);
+        entry.bound = BOUNDS[(int) (meta >>> 8 & 0x3) - 1];
+        entry.bestAction = (int) (meta >>> 10 & 0xF) - 1;
+        return true;
+    }
+
+    private void write(int index, long key, long valueBits, long meta) {
+        int base = index * STRIDE;
+        LONGS.setOpaque(table, base, key ^ valueBits ^ meta);
+        LONGS.setOpaque(table, base + 1, valueBits);
+        LONGS.setOpaque(table, base + 2, meta);
+    }
+
+    /**
+     * @return true if a result of the given depth may overwrite the entry at index
+     */
+    private boolean replaceable(int index, long key, int depth) {
+        int base = index * STRIDE;
+        long meta = (long) LONGS.getOpaque(table, base + 2);
+        if (meta == 0 || (meta >>> 14 & 0xFF) != (generation & 0xFF) || depth >= (meta & MAX_DEPTH)) {
+            return true;
+        }
+        long storedKey = (long) LONGS.getOpaque(table, base) ^ (long) LONGS.getOpaque(table, base + 1) ^ meta;
+        return storedKey == key;
+    }
+}
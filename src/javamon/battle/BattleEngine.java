@@ -4,15 +4,40 @@ import java.io.*;
 import java.util.*;
 import javamon.entities.*;
 import javamon.entities.moves.*;
+import javamon.util.BattleRandom;
 
 public class BattleEngine {
-    
+    /** Action code of Struggle in legal action masks; codes 0-3 use the move in that slot */
+    public static final int ACTION_STRUGGLE = 4;
+    /** Action code of switching to team index 0; team index i is ACTION_SWITCH + i */
+    public static final int ACTION_SWITCH = 5;
+    /** Number of action codes, and so of bits a legal action mask can use */
+    public static final int MAX_ACTIONS = ACTION_SWITCH + 6;
+
+    private static final Pokemon.StatusCondition[] STATUSES = Pokemon.StatusCondition.values();
+    // With assertions enabled, rounds draw through a RoundRandom that enforces the BattleRandom contract
+    private static final boolean CHECK_DRAWS = BattleEngine.class.desiredAssertionStatus();
+
     private final Side side1;
     private final Side side2;
 
     private int turnN;
-    private List<Turn> turnQueue;
-    private Random random;
+    // At most one queued turn per player; a fixed pair avoids list churn on every turn
+    private final Turn[] turnQueue = new Turn[2];
+    private int queued;
+    private final BattleRandom random;
+    // Last state restored or snapshotted; the next snapshot's Zobrist hash is worked out from its hash
+    private BattleState base;
+
+    // Make/unmake journal: fixed-size entries of old values, plus where each make() frame starts
+    private static final int ENTRY_SIZE = 5;
+    private static final int ENTRY_TURN = 1 << 8;
+    private static final int ENTRY_SIDE = 2 << 8;
+    private int[] journal = new int[64 * ENTRY_SIZE];
+    private int journalTop;
+    private int[] frames = new int[16];
+    private int depth;
+    private boolean journaling;
 
     /**
      * Creates a battle with two teams (max 6 each) and resets turn state.
@@ -20,6 +45,24 @@ public class BattleEngine {
      * @param team2 player 2 team (copied internally)
      */
     public BattleEngine(List<Pokemon> team1, List<Pokemon> team2) {
+        this(team1, team2, new SplittableRandom().nextLong());
+    }
+
+    /**
+     * Creates a battle whose randomness is fully determined by the given seed.
+     */
+    public BattleEngine(List<Pokemon> team1, List<Pokemon> team2, long seed) {
+        this(team1, team2, BattleRandom.seeded(seed));
+    }
+
+    /**
+     * Creates a battle that draws all of its randomness (speed ties, accuracy, damage rolls, effects)
+     * from the given generator. The generator must not be shared with another thread.
+     */
+    public BattleEngine(List<Pokemon> team1, List<Pokemon> team2, BattleRandom random) {
+        if (random == null) {
+            throw new IllegalArgumentException("Battle must have a source of randomness!");
+        }
         if (team1 == null || team2 == null) {
             throw new IllegalArgumentException("Battle must have two teams!");
         }
@@ -30,8 +73,7 @@ public class BattleEngine {
         this.side1 = new Side(team1);
         this.side2 = new Side(team2);
         this.turnN = 1;
-        this.turnQueue = new LinkedList<>();
-        this.random = new Random();
+        this.random = random;
     }
 
     /**
@@ -40,21 +82,35 @@ public class BattleEngine {
      * @param moveName name of the move (or Struggle)
      */
     public void queueTurn(int playerN, String moveName) {
+        int moveId = MoveRegistry.getId(moveName);
+        if (moveId < 0) {
+            throw new IllegalArgumentException("Pokemon does not know move: " + moveName);
+        }
+        queueMove(playerN, moveId);
+    }
+
+    /**
+     * Queues a move by interned ID, coercing to Struggle if PP is empty.
+     * @param playerN 1 or 2
+     * @param moveId interned move ID (see {@link MoveRegistry#getId(String)})
+     */
+    public void queueMove(int playerN, int moveId) {
         Pokemon active = getActivePokemon(playerN);
 
         // Check if PP is exhausted - if so, force Struggle
-        if (!moveName.equals("Struggle") && active.hasMoveByName(moveName)) {
-            if (active.getRemainingPP(moveName) <= 0) {
-                moveName = "Struggle";
+        if (moveId != MoveRegistry.STRUGGLE_ID && active.hasMove(moveId)) {
+            if (active.getRemainingPP(moveId) <= 0) {
+                moveId = MoveRegistry.STRUGGLE_ID;
             }
         }
         
         // Validate the move (Struggle doesn't need to be known by the Pokemon)
-        if (!moveName.equals("Struggle") && !active.hasMoveByName(moveName)) {
-            throw new IllegalArgumentException("Pokemon does not know move: " + moveName);
+        if (moveId != MoveRegistry.STRUGGLE_ID && !active.hasMove(moveId)) {
+            Move move = MoveRegistry.get(moveId);
+            throw new IllegalArgumentException("Pokemon does not know move: " + (move == null ? moveId : move.getName()));
         }
 
-        queueTurn(new Turn(playerN, moveName));
+        queueTurn(Turn.move(playerN, moveId));
     }
     /**
      * Queues a switch for the given player.
@@ -78,7 +134,7 @@ public class BattleEngine {
      * Adds or replaces a queued turn, enforcing one per player and validity.
      */
     private void queueTurn(Turn turn) {
-        if (turnQueue.size() >= 2) {
+        if (queued >= 2) {
             throw new IllegalArgumentException("Only up to two turns can be queued per turn");
         }
 
@@ -86,41 +142,300 @@ public class BattleEngine {
             throw new IllegalArgumentException("Turns are not valid for current battle state!");
         }
 
-        for (int i = 0; i < turnQueue.size(); i++) {
-            if (turnQueue.get(i).getPlayerN() == turn.getPlayerN()) {
+        for (int i = 0; i < queued; i++) {
+            if (turnQueue[i].getPlayerN() == turn.getPlayerN()) {
                 // Need to override turn
-                turnQueue.remove(i);
-                turnQueue.add(i, turn);
+                turnQueue[i] = turn;
                 return;
             }
         }
 
-        turnQueue.add(turn);
+        turnQueue[queued++] = turn;
+    }
+
+    /**
+     * Resolves the two queued turns in order without narrating anything.
+     * This is the mode bots and simulations should use: no text is built, and the battle
+     * plays out exactly as it would with any listener attached for the same seed.
+     */
+    public void playOutTurns() {
+        playOutTurns(BattleListener.NONE);
     }
 
     /**
      * Resolves the two queued turns in order, writing battle text to output.
      */
     public void playOutTurns(PrintStream output) {
-        if (turnQueue.size() != 2) {
+        playOutTurns(new TextBattleListener(output));
+    }
+
+    /**
+     * Resolves the two queued turns in order, reporting what happens to the listener.
+     * @param listener receives battle events ({@link BattleListener#NONE} to ignore them)
+     */
+    public void playOutTurns(BattleListener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Battle must have a listener!");
+        }
+        resolveRound(listener, random);
+    }
+
+    /**
+     * Resolves the queued pair of turns, drawing randomness from the given generator.
+     */
+    private void resolveRound(BattleListener listener, BattleRandom random) {
+        if (queued != 2) {
             throw new IllegalArgumentException("Must have two turns queued before playing out round");
         }
+        if (CHECK_DRAWS) {
+            random = new RoundRandom(random);
+        }
+
+        boolean player1First = turnQueue[0].getPlayerN() == 1;
+        listener.onRoundStart(turnN, player1First ? turnQueue[0] : turnQueue[1], player1First ? turnQueue[1] : turnQueue[0]);
+
+        Turn first = fasterMove(turnQueue[0], turnQueue[1], random);
+        Turn second = (first == turnQueue[0]) ? turnQueue[1] : turnQueue[0];
+        turnQueue[0] = null;
+        turnQueue[1] = null;
+        queued = 0;
 
-        Turn first = fasterMove(turnQueue.get(0), turnQueue.get(1));
-        Turn second = (first == turnQueue.get(0)) ? turnQueue.get(1) : turnQueue.get(0);
-        turnQueue.clear();
-        turnQueue.addAll(List.of(first, second));
+        playTurn(first, listener, random);
+        playTurn(second, listener, random);
 
-        for (Turn t : turnQueue) {
-            if (t.getType() == Turn.TurnType.Switch) {
-                playSwitch(t, output);
+        this.turnN++;
+    }
+
+    private void playTurn(Turn t, BattleListener listener, BattleRandom random) {
+        if (t.getType() == Turn.TurnType.Switch) {
+            playSwitch(t, listener);
+        } else {
+            playMove(t, listener, random);
+        }
+    }
+
+    /**
+     * Captures the current battle state (turn queue excluded) as a packed, immutable snapshot.
+     */
+    public BattleState snapshot() {
+        int size1 = side1.getTeamSize();
+        int size2 = side2.getTeamSize();
+        int[] data = new int[BattleState.size(size1, size2)];
+        data[0] = turnN;
+        int offset = pack(side1, data, 1);
+        pack(side2, data, offset);
+
+        // A round changes a handful of fields, so update the base state's hash by those (turn number excluded)
+        long zobrist;
+        if (base == null || base.data().length != data.length) {
+            zobrist = BattleState.zobristHash(data);
+        } else {
+            int[] old = base.data();
+            zobrist = base.zobristHash();
+            for (int i = 1; i < data.length; i++) {
+                if (data[i] != old[i]) {
+                    zobrist ^= BattleState.zobristKey(i, old[i]) ^ BattleState.zobristKey(i, data[i]);
+                }
+            }
+        }
+        base = new BattleState(data, zobrist);
+        return base;
+    }
+
+    private static int pack(Side side, int[] data, int offset) {
+        data[offset++] = BattleState.header(side.getActiveIndex(), side.needsSwitch(), side.getTeamSize());
+        for (int i = 0; i < side.getTeamSize(); i++) {
+            Pokemon poke = side.getPokemon(i);
+            data[offset + BattleState.HP] = poke.getCurrentHp();
+            data[offset + BattleState.STATUS] = poke.getStatusCondition().ordinal();
+            data[offset + BattleState.STAGES] = poke.getPackedStages();
+            data[offset + BattleState.PP] = poke.getPackedPP();
+            offset += BattleState.FIELDS;
+        }
+        return offset;
+    }
+
+    /**
+     * Creates an independent engine in this battle's current state, stat stages included, that draws
+     * from the given generator. Building an engine from {@link #getPokemon} would start stages over.
+     * @param random randomness for the copy (must not be shared with another thread)
+     */
+    public BattleEngine copy(BattleRandom random) {
+        BattleEngine copy = new BattleEngine(side1.getTeam(), side2.getTeam(), random);
+        copy.restore(snapshot());
+        return copy;
+    }
+
+    /**
+     * Puts the battle back into a snapshotted state and clears any queued turns and {@link #make} history.
+     * @param state snapshot taken from an engine built from the same teams
+     */
+    public void restore(BattleState state) {
+        int[] data = state.data();
+        if (state.getTeamSize(1) != side1.getTeamSize() || state.getTeamSize(2) != side2.getTeamSize()) {
+            throw new IllegalArgumentException("Battle state does not match this battle's teams");
+        }
+
+        this.turnN = data[0];
+        this.base = state;
+        int offset = unpack(side1, data, 1);
+        unpack(side2, data, offset);
+        side1.refresh();
+        side2.refresh();
+        turnQueue[0] = null;
+        turnQueue[1] = null;
+        queued = 0;
+        depth = 0;
+        journalTop = 0;
+    }
+
+    private static int unpack(Side side, int[] data, int offset) {
+        int header = data[offset++];
+        side.restore(header & 0x7, (header & (1 << 3)) != 0);
+        for (int i = 0; i < side.getTeamSize(); i++) {
+            Pokemon poke = side.getPokemon(i);
+            poke.setCurrentHp(data[offset + BattleState.HP]);
+            poke.setStatusCondition(STATUSES[data[offset + BattleState.STATUS]]);
+            poke.setPackedStages(data[offset + BattleState.STAGES]);
+            poke.setPackedPP(data[offset + BattleState.PP]);
+            offset += BattleState.FIELDS;
+        }
+        return offset;
+    }
+
+    /**
+     * Transition function for search: restores {@code state}, plays one round with the given turns
+     * and randomness, and returns the resulting state. This engine is left in the resulting state.
+     * Moves out of PP are coerced to Struggle, as in {@link #queueMove(int, int)}.
+     * @param turn1 player 1's turn
+     * @param turn2 player 2's turn
+     * @param random randomness for this round only (the engine's own generator is not touched)
+     */
+    public BattleState transition(BattleState state, Turn turn1, Turn turn2, BattleRandom random) {
+        if (turn1.getPlayerN() != 1 || turn2.getPlayerN() != 2) {
+            throw new IllegalArgumentException("Transition needs player 1's turn then player 2's turn");
+        }
+
+        restore(state);
+        queue(turn1);
+        queue(turn2);
+        resolveRound(BattleListener.NONE, random);
+        return snapshot();
+    }
+
+    /**
+     * Plays one round and journals what it changes so that {@link #unmake()} can take it back exactly.
+     * Rounds can be nested to any depth; each unmake() undoes the most recent one. Only the Pokemon a round
+     * can touch (both actives and anything switched in) are recorded, so a round costs a few dozen ints
+     * of journal and allocates nothing once the journal has grown to the search depth.
+     * Moves out of PP are coerced to Struggle, as in {@link #queueMove(int, int)}.
+     * @param turn1 player 1's turn
+     * @param turn2 player 2's turn
+     * @param random randomness for this round only (the engine's own generator is not touched)
+     */
+    public void make(Turn turn1, Turn turn2, BattleRandom random) {
+        if (turn1.getPlayerN() != 1 || turn2.getPlayerN() != 2) {
+            throw new IllegalArgumentException("Make needs player 1's turn then player 2's turn");
+        }
+        if (queued != 0) {
+            throw new IllegalStateException("Cannot make a round while turns are queued");
+        }
+
+        try {
+            queue(turn1);
+            queue(turn2);
+        } catch (RuntimeException e) {
+            turnQueue[0] = null;
+            turnQueue[1] = null;
+            queued = 0;
+            throw e;
+        }
+
+        if (depth == frames.length) {
+            frames = Arrays.copyOf(frames, depth * 2);
+        }
+        frames[depth++] = journalTop;
+        journalEntry(ENTRY_TURN, turnN, 0, 0, 0);
+        journalSide(1, side1);
+        journalSide(2, side2);
+        journalPokemon(1, side1.getActiveIndex());
+        journalPokemon(2, side2.getActiveIndex());
+
+        journaling = true;
+        try {
+            resolveRound(BattleListener.NONE, random);
+        } finally {
+            journaling = false;
+        }
+    }
+
+    /**
+     * Undoes the most recent {@link #make}, restoring HP, PP, stat stages, status, active Pokemon,
+     * switch flags and turn number exactly.
+     */
+    public void unmake() {
+        if (depth == 0) {
+            throw new IllegalStateException("No round to unmake");
+        }
+
+        int start = frames[--depth];
+        // Newest first, so a Pokemon journaled twice ends up with its oldest values
+        for (int e = journalTop - ENTRY_SIZE; e >= start; e -= ENTRY_SIZE) {
+            int key = journal[e];
+            if (key == ENTRY_TURN) {
+                turnN = journal[e + 1];
+            } else if ((key & ENTRY_SIDE) != 0) {
+                Side side = ((key & 0xF) == 1) ? side1 : side2;
+                side.restore(journal[e + 1], journal[e + 2] != 0);
             } else {
-                playMove(t, output);
+                Side side = ((key >>> 4) == 1) ? side1 : side2;
+                Pokemon poke = side.getPokemon(key & 0xF);
+                poke.setCurrentHp(journal[e + 1]);
+                poke.setStatusCondition(STATUSES[journal[e + 2]]);
+                poke.setPackedStages(journal[e + 3]);
+                poke.setPackedPP(journal[e + 4]);
             }
         }
+        journalTop = start;
+        side1.refresh();
+        side2.refresh();
+    }
 
-        this.turnN++;
-        this.turnQueue.clear();
+    /**
+     * @return number of rounds made and not yet unmade
+     */
+    public int getMakeDepth() {
+        return depth;
+    }
+
+    private void journalSide(int playerN, Side side) {
+        journalEntry(ENTRY_SIDE | playerN, side.getActiveIndex(), side.needsSwitch() ? 1 : 0, 0, 0);
+    }
+
+    private void journalPokemon(int playerN, int index) {
+        Pokemon poke = ((playerN == 1) ? side1 : side2).getPokemon(index);
+        journalEntry((playerN << 4) | index, poke.getCurrentHp(), poke.getStatusCondition().ordinal(),
+            poke.getPackedStages(), poke.getPackedPP());
+    }
+
+    private void journalEntry(int key, int a, int b, int c, int d) {
+        if (journalTop + ENTRY_SIZE > journal.length) {
+            journal = Arrays.copyOf(journal, journal.length * 2);
+        }
+        journal[journalTop] = key;
+        journal[journalTop + 1] = a;
+        journal[journalTop + 2] = b;
+        journal[journalTop + 3] = c;
+        journal[journalTop + 4] = d;
+        journalTop += ENTRY_SIZE;
+    }
+
+    private void queue(Turn turn) {
+        if (turn.getType() == Turn.TurnType.Switch) {
+            queueTurn(turn.getPlayerN(), turn.getNewPokemon());
+        } else {
+            queueMove(turn.getPlayerN(), turn.getMoveId());
+        }
     }
 
     /**
@@ -130,59 +445,46 @@ public class BattleEngine {
         return side1.isWiped() || side2.isWiped();
     }
 
+    /**
+     * @return the winning player (1 or 2), or 0 if the battle is unfinished or both sides are wiped.
+     */
+    public int getWinner() {
+        boolean wiped1 = side1.isWiped();
+        boolean wiped2 = side2.isWiped();
+        if (wiped1 == wiped2) {
+            return 0;
+        }
+        return wiped1 ? 2 : 1;
+    }
+
     /**
      * Checks if a proposed turn is legal for the current battle state.
      */
     public boolean isValidTurn(Turn t) {
+        int legal = side(t.getPlayerN()).getLegalActions();
         if (t.getType() == Turn.TurnType.Switch) {
-            // Validate switch turn
-            int playerN = t.getPlayerN();
-            Side side = (playerN == 1) ? side1 : side2;
+            // The mask only has switches to healthy benched Pokemon
             int newPokemonIndex = t.getNewPokemon();
-            
-            // Check that index is valid
-            if (newPokemonIndex < 0 || newPokemonIndex >= side.getTeamSize()) {
-                return false;
-            }
-            
-            // Check that we're not switching to the currently active Pokemon
-            if (newPokemonIndex == side.getActiveIndex()) {
-                return false;
-            }
-            
-            // Check that the Pokemon we're switching to is not knocked out
-            Pokemon targetPokemon = side.getPokemon(newPokemonIndex);
-            if (targetPokemon.isKnockedOut()) {
-                return false;
-            }
-            
-            return true;
+            return newPokemonIndex >= 0 && newPokemonIndex < 6 && (legal & (1 << (ACTION_SWITCH + newPokemonIndex))) != 0;
         } else {
             // Validate move turn
-            int playerN = t.getPlayerN();
-            Side side = (playerN == 1) ? side1 : side2;
-            Pokemon active = getActivePokemon(playerN);
-            
-            // Check that active Pokemon is not knocked out
-            if (active.isKnockedOut()) {
-                return false;
-            }
+            Pokemon active = getActivePokemon(t.getPlayerN());
             
-            // If a switch is needed (Pokemon fainted), only switches are allowed
-            if (side.needsSwitch()) {
+            // Moves are out while the active Pokemon is knocked out or must be switched out
+            if ((legal & ((1 << ACTION_SWITCH) - 1)) == 0) {
                 return false;
             }
             
-            String moveName = t.getMoveName();
+            int moveId = t.getMoveId();
             
             // Check that move exists in registry
-            Move move = MoveRegistry.get(moveName);
+            Move move = MoveRegistry.get(moveId);
             if (move == null) {
                 return false;
             }
             
             // Struggle doesn't need to be known by the Pokemon (it's a fallback move)
-            if (!moveName.equals("Struggle") && !active.hasMoveByName(moveName)) {
+            if (moveId != MoveRegistry.STRUGGLE_ID && !active.hasMove(moveId)) {
                 return false;
             }
             
@@ -190,6 +492,61 @@ public class BattleEngine {
         }
     }
 
+    /**
+     * Returns every action a player may take right now as a bitmask over action codes: bits 0-3 for
+     * move slots with PP left, {@link #ACTION_STRUGGLE} when none has, and {@link #ACTION_SWITCH} + i
+     * for each healthy benched Pokemon. Moves are absent while the active Pokemon must be switched out.
+     * The masks are maintained as the battle changes, so this is a field read.
+     * @param playerN 1 or 2
+     */
+    public int getLegalActions(int playerN) {
+        return side(playerN).getLegalActions();
+    }
+
+    /**
+     * Queues a legal action by code, as from {@link #getLegalActions(int)}.
+     * @param playerN 1 or 2
+     */
+    public void queueAction(int playerN, int action) {
+        if (action < 0 || action >= MAX_ACTIONS || (getLegalActions(playerN) & (1 << action)) == 0) {
+            throw new IllegalArgumentException("Action is not legal for current battle state: " + action);
+        }
+
+        if (action >= ACTION_SWITCH) {
+            queueTurn(new Turn(playerN, action - ACTION_SWITCH));
+        } else if (action == ACTION_STRUGGLE) {
+            queueTurn(Turn.move(playerN, MoveRegistry.STRUGGLE_ID));
+        } else {
+            queueTurn(Turn.move(playerN, getActivePokemon(playerN).getSlotMoveId(action)));
+        }
+    }
+
+    /**
+     * Converts an action code into the equivalent {@link Turn} for the current state.
+     * @param playerN 1 or 2
+     */
+    public Turn toTurn(int playerN, int action) {
+        if (action >= ACTION_SWITCH) {
+            return new Turn(playerN, action - ACTION_SWITCH);
+        } else if (action == ACTION_STRUGGLE) {
+            return Turn.move(playerN, MoveRegistry.STRUGGLE_ID);
+        } else {
+            return Turn.move(playerN, getActivePokemon(playerN).getSlotMoveId(action));
+        }
+    }
+
+    /**
+     * Picks an action out of a mask by position, e.g. with a random n in [0, bitCount(mask)) to sample
+     * uniformly. Takes at most {@link #MAX_ACTIONS} steps.
+     * @return code of the n-th (0-indexed) set bit of mask
+     */
+    public static int nthAction(int mask, int n) {
+        for (int i = 0; i < n; i++) {
+            mask &= mask - 1;
+        }
+        return Integer.numberOfTrailingZeros(mask);
+    }
+
     /**
      * @param playerN 1 or 2
      * @return the active Pokemon for that side
@@ -205,25 +562,56 @@ public class BattleEngine {
     }
 
     /**
-     * Returns a copy of the team's current Pokemon order for a player.
+     * Returns a player's team in team order. The list is a read-only view of the live team, created
+     * once per battle, so calling this allocates nothing; copy it to keep a team as it is now.
      * @param playerN 1 or 2
      * @return list of Pokemon on that side
      */
     public List<Pokemon> getPokemon(int playerN) {
-        List<Pokemon> pokes = new ArrayList<>();
+        return side(playerN).getTeam();
+    }
+
+    /**
+     * Reads one team member without copying the team.
+     * @param playerN 1 or 2
+     * @param index position in that player's team
+     */
+    public Pokemon getPokemon(int playerN, int index) {
+        return side(playerN).getPokemon(index);
+    }
+
+    /**
+     * @param playerN 1 or 2
+     * @return number of Pokemon on that side
+     */
+    public int getTeamSize(int playerN) {
+        return side(playerN).getTeamSize();
+    }
+
+    /**
+     * @param playerN 1 or 2
+     * @return team index of that side's active Pokemon
+     */
+    public int getActiveIndex(int playerN) {
+        return side(playerN).getActiveIndex();
+    }
+
+    /**
+     * @param playerN 1 or 2
+     * @return true if that side's active Pokemon fainted and only a switch is allowed
+     */
+    public boolean needsSwitch(int playerN) {
+        return side(playerN).needsSwitch();
+    }
+
+    private Side side(int playerN) {
         if (playerN == 1) {
-            for (int i = 0; i < side1.getTeamSize(); i++) {
-                pokes.add(side1.getPokemon(i));
-            }
+            return side1;
         } else if (playerN == 2) {
-            for (int i = 0; i < side2.getTeamSize(); i++) {
-                pokes.add(side2.getPokemon(i));
-            }
+            return side2;
         } else {
             throw new IllegalArgumentException();
         }
-
-        return pokes;
     }
 
     /**
@@ -236,7 +624,7 @@ public class BattleEngine {
     /**
      * Executes a switch turn: announce, then swap active Pokemon.
      */
-    private void playSwitch(Turn t, PrintStream output) {
+    private void playSwitch(Turn t, BattleListener listener) {
         int playerN = t.getPlayerN();
         Side side = (playerN == 1) ? side1 : side2;
         int newPokemonIndex = t.getNewPokemon();
@@ -244,18 +632,20 @@ public class BattleEngine {
         Pokemon currentPokemon = side.activePokemon();
         Pokemon newPokemon = side.getPokemon(newPokemonIndex);
         
-        // Output the switch message
-        output.println("Player " + playerN + " withdrew " + currentPokemon.getNickname() + ".\n");
-        output.println("Player " + playerN + " sent out " + newPokemon.getNickname() + "!\n");
-        
+        // The incoming Pokemon can be hit later this round, so remember its state first
+        if (journaling) {
+            journalPokemon(playerN, newPokemonIndex);
+        }
+
         // Switch the active Pokemon
         side.switchActive(newPokemonIndex);
+        listener.onSwitched(playerN, currentPokemon, newPokemon);
     }
 
     /**
      * Orders two turns by switch priority, move priority, speed, then coin flip.
      */
-    private Turn fasterMove(Turn turn1, Turn turn2) {
+    private Turn fasterMove(Turn turn1, Turn turn2, BattleRandom random) {
 
         // Switches take priority (except for pursuit)
         if (turn1.getType() == Turn.TurnType.Switch) {
@@ -264,14 +654,14 @@ public class BattleEngine {
             return turn2;
         }
         
-        Move move1 = MoveRegistry.get(turn1.getMoveName());
-        Move move2 = MoveRegistry.get(turn2.getMoveName());
+        Move move1 = MoveRegistry.get(turn1.getMoveId());
+        Move move2 = MoveRegistry.get(turn2.getMoveId());
         
         // Safety check: if moves don't exist in registry, this shouldn't happen after validation
         // but we'll handle it gracefully
         if (move1 == null || move2 == null) {
             throw new IllegalStateException("Move not found in registry: " + 
-                (move1 == null ? turn1.getMoveName() : turn2.getMoveName()));
+                (move1 == null ? turn1.getMoveId() : turn2.getMoveId()));
         }
 
         // Check move priority
@@ -297,7 +687,7 @@ public class BattleEngine {
     /**
      * Executes a move turn: accuracy, PP, damage, and faint checks.
      */
-    private void playMove(Turn t, PrintStream output) {
+    private void playMove(Turn t, BattleListener listener, BattleRandom random) {
         int playerN = t.getPlayerN();
         Pokemon attacker = getActivePokemon(playerN);
         
@@ -315,59 +705,119 @@ public class BattleEngine {
             return;
         }
         
-        String moveName = t.getMoveName();
-        Move move = MoveRegistry.get(moveName);
+        int moveId = t.getMoveId();
+        Move move = MoveRegistry.get(moveId);
         
         if (move == null) {
-            output.println("Error: Move " + moveName + " not found in registry!");
-            return;
+            throw new IllegalStateException("Move not found in registry: " + moveId);
         }
+        listener.onMoveUsed(attacker, move);
         
         // Check accuracy (moves with 100+ accuracy always hit, otherwise roll)
         // Note: Integer.MAX_VALUE is used for moves that never miss
         boolean hit = true;
         int accuracy = move.getAccuracy();
         if (accuracy < 100) {
-            int roll = random.nextInt(100);
-            hit = roll < accuracy;
+            hit = random.chance(accuracy);
         }
         // If accuracy >= 100 or is Integer.MAX_VALUE, the move always hits
         
         if (!hit) {
-            output.print(attacker.getNickname() + " used " + moveName + "!\n");
-            output.println("But it missed!");
+            listener.onMissed(attacker, move);
             return;
         }
         
         // Decrement PP (unless it's Struggle)
-        if (!moveName.equals("Struggle")) {
-            attacker.decrementPP(moveName);
+        if (moveId != MoveRegistry.STRUGGLE_ID) {
+            attacker.decrementPP(moveId);
         }
         
         // Apply the move
-        String result = move.apply(attacker, defender);
-        output.print(result);
+        move.apply(attacker, defender, random, listener);
         
         // Check if defender is knocked out
+        Side defenderSide = (opponentN == 1) ? side1 : side2;
         if (defender.isKnockedOut()) {
-            Side defenderSide = (opponentN == 1) ? side1 : side2;
             defenderSide.setNeedsSwitch(true);
-            output.println(defender.getNickname() + " fainted!");
+            listener.onFainted(opponentN, defender);
         }
         
         // Check if attacker is knocked out (e.g., from recoil damage)
+        Side attackerSide = (playerN == 1) ? side1 : side2;
         if (attacker.isKnockedOut()) {
-            Side attackerSide = (playerN == 1) ? side1 : side2;
             attackerSide.setNeedsSwitch(true);
-            output.println(attacker.getNickname() + " fainted!");
+            listener.onFainted(playerN, attacker);
+        }
+
+        // Only the two actives can have lost HP or PP
+        defenderSide.activeChanged();
+        attackerSide.activeChanged();
+    }
+
+    /**
+     * Passes on only the draws that code resolving a round may make (see {@link BattleRandom}), so that a
+     * move or effect that breaks the rule fails every test run with assertions enabled rather than only
+     * the searches that enumerate chance.
+     */
+    private static class RoundRandom implements BattleRandom {
+        private final BattleRandom random;
+
+        RoundRandom(BattleRandom random) {
+            this.random = random;
+        }
+
+        @Override
+        public int nextInt(int bound) {
+            return random.nextInt(bound);
+        }
+
+        @Override
+        public long nextLong() {
+            throw new AssertionError("nextLong() cannot be drawn while a round resolves");
+        }
+
+        @Override
+        public double nextDouble() {
+            return random.nextDouble();
+        }
+
+        @Override
+        public boolean nextBoolean() {
+            return random.nextBoolean();
+        }
+
+        @Override
+        public double nextDamageRoll(double baseDamage, boolean stab, double typeEffectiveness, int koDamage) {
+            return random.nextDamageRoll(baseDamage, stab, typeEffectiveness, koDamage);
+        }
+
+        @Override
+        public boolean chance(int percent) {
+            return random.chance(percent);
+        }
+
+        @Override
+        public boolean chance(double probability) {
+            return random.chance(probability);
+        }
+
+        @Override
+        public BattleRandom split() {
+            return new RoundRandom(random.split());
         }
     }
 
     private static class Side {
         private List<Pokemon> team;
+        private List<Pokemon> view;
         private int active;
         private boolean needsSwitch;
 
+        // Kept in step with every HP, PP, faint and switch change the engine makes
+        private int alive;            // Bit i set while team member i can still battle
+        private final int[] moveMasks; // Per member: bit per move slot that has PP left
+        private int legal;            // Legal action mask, built from the above
+
         public Side(List<Pokemon> team) {
             if (team == null || team.size() > 6) {
                 throw new IllegalArgumentException();
@@ -377,6 +827,9 @@ public class BattleEngine {
             for (Pokemon p : team) {
                 this.team.add(new Pokemon(p)); // Uses the copy constructor
             }
+            this.view = Collections.unmodifiableList(this.team);
+            this.moveMasks = new int[team.size()];
+            refresh();
 
             this.active = 0;
         }
@@ -387,6 +840,56 @@ public class BattleEngine {
 
         public void setNeedsSwitch(boolean needsSwitch) {
             this.needsSwitch = needsSwitch;
+            updateLegal();
+        }
+
+        public int getLegalActions() {
+            return legal;
+        }
+
+        /**
+         * Rebuilds every mask from scratch, after the whole side was overwritten.
+         */
+        public void refresh() {
+            alive = 0;
+            for (int i = 0; i < team.size(); i++) {
+                updateMember(i);
+            }
+            updateLegal();
+        }
+
+        /**
+         * Updates the masks after the active Pokemon's HP or PP may have changed.
+         */
+        public void activeChanged() {
+            updateMember(active);
+            updateLegal();
+        }
+
+        private void updateMember(int index) {
+            Pokemon poke = team.get(index);
+            if (poke.isKnockedOut()) {
+                alive &= ~(1 << index);
+            } else {
+                alive |= 1 << index;
+            }
+
+            int moves = 0;
+            for (int slot = 0; slot < poke.getMoveSlotCount(); slot++) {
+                if (poke.getSlotPP(slot) > 0) {
+                    moves |= 1 << slot;
+                }
+            }
+            moveMasks[index] = moves;
+        }
+
+        private void updateLegal() {
+            int mask = (alive & ~(1 << active)) << ACTION_SWITCH;
+            if ((alive & (1 << active)) != 0 && !needsSwitch) {
+                int moves = moveMasks[active];
+                mask |= (moves == 0) ? 1 << ACTION_STRUGGLE : moves;
+            }
+            legal = mask;
         }
 
         public Pokemon activePokemon() {
@@ -394,13 +897,17 @@ public class BattleEngine {
         }
 
         public boolean isWiped() {
-            return team.isEmpty() || team.stream().allMatch(Pokemon::isKnockedOut);
+            return alive == 0;
         }
 
         public int getTeamSize() {
             return team.size();
         }
 
+        public List<Pokemon> getTeam() {
+            return view;
+        }
+
         public Pokemon getPokemon(int index) {
             if (index < 0 || index >= team.size()) {
                 throw new IndexOutOfBoundsException("Invalid Pokemon index: " + index);
@@ -412,6 +919,18 @@ public class BattleEngine {
             return active;
         }
 
+        /**
+         * Sets the active index and switch flag directly, bypassing switch rules (used to restore snapshots).
+         * Call {@link #refresh()} once the team's Pokemon are restored too.
+         */
+        public void restore(int active, boolean needsSwitch) {
+            if (active < 0 || active >= team.size()) {
+                throw new IndexOutOfBoundsException("Invalid Pokemon index: " + active);
+            }
+            this.active = active;
+            this.needsSwitch = needsSwitch;
+        }
+
         public void switchActive(int newActiveIndex) {
             if (newActiveIndex < 0 || newActiveIndex >= team.size()) {
                 throw new IndexOutOfBoundsException("Invalid Pokemon index for switch: " + newActiveIndex);
@@ -424,6 +943,7 @@ public class BattleEngine {
             }
             this.active = newActiveIndex;
             this.needsSwitch = false; // Reset the flag after switching
+            updateLegal();
         }
     }
 }
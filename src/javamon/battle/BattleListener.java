@@ -0,0 +1,71 @@
+package javamon.battle;
+
+import javamon.entities.*;
+import javamon.entities.moves.*;
+
+/**
+ * Receives typed battle events as the engine resolves turns.
+ *
+ * <p>Every callback defaults to doing nothing, so a listener only overrides the events it cares about
+ * and {@link #NONE} costs no more than an empty virtual call. Events carry the live battle objects;
+ * listeners must not modify them and must copy anything they want to keep past the callback.
+ * Text is produced only by listeners that ask for it, such as {@link TextBattleListener}.
+ */
+public interface BattleListener {
+    /**
+     * Listener that ignores every event.
+     */
+    BattleListener NONE = new BattleListener() {};
+
+    /**
+     * Both players' turns for a round are locked in and about to be resolved.
+     * @param turnN the round's turn number
+     */
+    default void onRoundStart(int turnN, Turn player1Turn, Turn player2Turn) {}
+
+    /**
+     * A Pokemon used a move (fired before accuracy is resolved, so a miss follows as {@link #onMissed}).
+     */
+    default void onMoveUsed(Pokemon attacker, Move move) {}
+
+    /**
+     * The move announced by the last {@link #onMoveUsed} missed.
+     */
+    default void onMissed(Pokemon attacker, Move move) {}
+
+    /**
+     * A damaging move hit with the given type effectiveness.
+     * @param effectiveness effectiveness in quarters (see {@code TypeChart.NEUTRAL})
+     */
+    default void onEffectiveness(Pokemon defender, Move move, int effectiveness) {}
+
+    /**
+     * A Pokemon took damage.
+     * @param damage damage dealt before HP is clamped at zero; 0 means the hit had no effect
+     * @param source what dealt the damage
+     */
+    default void onDamage(Pokemon target, int damage, DamageSource source) {}
+
+    /**
+     * A Pokemon's HP reached zero.
+     * @param playerN side the Pokemon belongs to (1 or 2)
+     */
+    default void onFainted(int playerN, Pokemon pokemon) {}
+
+    /**
+     * A player withdrew their active Pokemon and sent out another.
+     * @param playerN 1 or 2
+     */
+    default void onSwitched(int playerN, Pokemon withdrawn, Pokemon sentOut) {}
+
+    /**
+     * A major status condition was inflicted.
+     */
+    default void onStatusApplied(Pokemon target, Pokemon.StatusCondition status) {}
+
+    /**
+     * A stat stage changed.
+     * @param stages change actually applied after clamping to -6..+6 (0 if the stage was already at its limit)
+     */
+    default void onStatChanged(Pokemon target, Stat stat, int stages) {}
+}
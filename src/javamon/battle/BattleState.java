@@ -0,0 +1,229 @@
+package javamon.battle;
+
+import java.util.*;
+import javamon.entities.*;
+
+/**
+ * Immutable, packed snapshot of everything in a battle that changes from turn to turn:
+ * turn number, each side's active index and forced-switch flag, and every Pokemon's HP,
+ * status, stat stages and remaining PP.
+ *
+ * <p>What never changes during a battle (species, level, stats, moves) stays with the
+ * {@link BattleEngine}, so a snapshot is a single small {@code int[]}. Being immutable, a state can be
+ * shared between search nodes and threads without copying; a transition clones the array once.
+ * Use {@link BattleEngine#snapshot()}, {@link BattleEngine#restore(BattleState)} and
+ * {@link BattleEngine#transition(BattleState, Turn, Turn, javamon.util.BattleRandom)} to move between
+ * states and engines. States only compare meaningfully between engines built from the same teams.
+ */
+public final class BattleState {
+    // Layout: [turnN, side 1 header, side 1 Pokemon..., side 2 header, side 2 Pokemon...]
+    // Side header: active index (bits 0-2), needsSwitch (bit 3), team size (bits 4-7)
+    // Pokemon: FIELDS ints each
+    static final int HP = 0;
+    static final int STATUS = 1;
+    static final int STAGES = 2;
+    static final int PP = 3;
+    static final int FIELDS = 4;
+
+    private static final Pokemon.StatusCondition[] STATUSES = Pokemon.StatusCondition.values();
+
+    private final int[] data;
+    private final long zobrist;
+    private int hash; // Cached; 0 until computed
+
+    /**
+     * @param zobrist {@link #zobristHash(int[])} of data, usually worked out from an earlier state's
+     */
+    BattleState(int[] data, long zobrist) {
+        this.data = data;
+        this.zobrist = zobrist;
+    }
+
+    static int size(int teamSize1, int teamSize2) {
+        return 3 + FIELDS * (teamSize1 + teamSize2);
+    }
+
+    static int header(int active, boolean needsSwitch, int teamSize) {
+        return active | (needsSwitch ? 1 << 3 : 0) | (teamSize << 4);
+    }
+
+    /**
+     * @return offset of a side's header in the packed array
+     */
+    static int sideOffset(int[] data, int playerN) {
+        if (playerN == 1) {
+            return 1;
+        } else if (playerN == 2) {
+            return 2 + FIELDS * ((data[1] >>> 4) & 0xF);
+        } else {
+            throw new IllegalArgumentException();
+        }
+    }
+
+    /**
+     * @return offset of a Pokemon's first field in the packed array
+     */
+    static int pokemonOffset(int[] data, int playerN, int index) {
+        int side = sideOffset(data, playerN);
+        if (index < 0 || index >= ((data[side] >>> 4) & 0xF)) {
+            throw new IndexOutOfBoundsException("Invalid Pokemon index: " + index);
+        }
+        return side + 1 + FIELDS * index;
+    }
+
+    /**
+     * Exposes the packed array to the engine without copying. Callers must not modify it.
+     */
+    int[] data() {
+        return data;
+    }
+
+    public int getTurnN() {
+        return data[0];
+    }
+
+    /**
+     * @param playerN 1 or 2
+     */
+    public int getTeamSize(int playerN) {
+        return (data[sideOffset(data, playerN)] >>> 4) & 0xF;
+    }
+
+    /**
+     * @param playerN 1 or 2
+     */
+    public int getActiveIndex(int playerN) {
+        return data[sideOffset(data, playerN)] & 0x7;
+    }
+
+    /**
+     * @param playerN 1 or 2
+     * @return true if that side's active Pokemon fainted and must be switched out
+     */
+    public boolean needsSwitch(int playerN) {
+        return (data[sideOffset(data, playerN)] & (1 << 3)) != 0;
+    }
+
+    public int getHp(int playerN, int index) {
+        return data[pokemonOffset(data, playerN, index) + HP];
+    }
+
+    public Pokemon.StatusCondition getStatus(int playerN, int index) {
+        return STATUSES[data[pokemonOffset(data, playerN, index) + STATUS]];
+    }
+
+    /**
+     * @return stage (-6 to +6) of the stat
+     */
+    public int getStage(int playerN, int index, Stat stat) {
+        int packed = data[pokemonOffset(data, playerN, index) + STAGES];
+        return ((packed >>> (4 * stat.ordinal())) & 0xF) - 6;
+    }
+
+    /**
+     * @param slot move slot (0-3)
+     */
+    public int getRemainingPP(int playerN, int index, int slot) {
+        if (slot < 0 || slot >= 4) {
+            throw new IndexOutOfBoundsException("Invalid move slot: " + slot);
+        }
+        return (data[pokemonOffset(data, playerN, index) + PP] >>> (8 * slot)) & 0xFF;
+    }
+
+    /**
+     * @param playerN 1 or 2
+     * @return true if every Pokemon on that side has fainted
+     */
+    public boolean isWiped(int playerN) {
+        int side = sideOffset(data, playerN);
+        int size = (data[side] >>> 4) & 0xF;
+        for (int i = 0; i < size; i++) {
+            if (data[side + 1 + FIELDS * i + HP] > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return true if either side has no usable Pokemon.
+     */
+    public boolean isFinished() {
+        return isWiped(1) || isWiped(2);
+    }
+
+    /**
+     * Zobrist-style 64-bit hash for transposition tables: the XOR of one pseudo-random key per
+     * (field, value) pair, so changing a single field changes the hash by two XORs. The engine works
+     * each state's hash out that way from the state it came from, and this returns the stored result.
+     * Unlike {@link #hashCode()}, 64 bits keep accidental collisions rare enough to key a table without
+     * storing the whole state. Like {@link #equals(Object)}, it only tells apart states of the same teams.
+     *
+     * <p>The turn number is left out: nothing a search scores depends on it, so the same position reached
+     * on different turns shares one hash.
+     */
+    public long zobristHash() {
+        return zobrist;
+    }
+
+    /**
+     * Hashes a packed array from scratch, for a state with no earlier state to start from.
+     */
+    static long zobristHash(int[] data) {
+        long h = 0;
+        for (int i = 1; i < data.length; i++) {
+            h ^= zobristKey(i, data[i]);
+        }
+        return h;
+    }
+
+    /**
+     * @return the key of one field holding one value (a SplitMix64 mix of the pair)
+     */
+    static long zobristKey(int index, int value) {
+        long z = (index + 1) * 0x9E3779B97F4A7C15L + (value & 0xFFFFFFFFL) * 0xC2B2AE3D27D4EB4FL;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+
+        if (obj == null || this.getClass() != obj.getClass()) {
+            return false;
+        }
+
+        BattleState other = (BattleState) obj;
+        return Arrays.equals(this.data, other.data);
+    }
+
+    @Override
+    public int hashCode() {
+        int h = hash;
+        if (h == 0) {
+            h = Arrays.hashCode(data);
+            hash = h;
+        }
+        return h;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder output = new StringBuilder("Turn " + getTurnN());
+        for (int playerN = 1; playerN <= 2; playerN++) {
+            output.append(" | P").append(playerN).append(" active ").append(getActiveIndex(playerN));
+            for (int i = 0; i < getTeamSize(playerN); i++) {
+                output.append(" [").append(getHp(playerN, i)).append(" HP");
+                if (getStatus(playerN, i) != Pokemon.StatusCondition.None) {
+                    output.append(' ').append(getStatus(playerN, i));
+                }
+                output.append(']');
+            }
+        }
+        return output.toString();
+    }
+}
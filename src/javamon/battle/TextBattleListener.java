@@ -0,0 +1,78 @@
+package javamon.battle;
+
+import java.io.*;
+import javamon.entities.*;
+import javamon.entities.moves.*;
+import javamon.types.TypeChart;
+
+/**
+ * Renders battle events as the human-readable battle text shown by the console app.
+ */
+public class TextBattleListener implements BattleListener {
+    private final PrintStream output;
+
+    /**
+     * @param output where battle text is written
+     */
+    public TextBattleListener(PrintStream output) {
+        if (output == null) {
+            throw new IllegalArgumentException("Battle text needs an output stream!");
+        }
+        this.output = output;
+    }
+
+    @Override
+    public void onMoveUsed(Pokemon attacker, Move move) {
+        output.print(attacker.getNickname() + " used " + move.getName() + "!\n");
+    }
+
+    @Override
+    public void onMissed(Pokemon attacker, Move move) {
+        output.println("But it missed!");
+    }
+
+    @Override
+    public void onEffectiveness(Pokemon defender, Move move, int effectiveness) {
+        if (effectiveness > TypeChart.NEUTRAL) {
+            output.print("It was super effective!\n");
+        } else if (effectiveness < TypeChart.NEUTRAL && effectiveness > TypeChart.IMMUNE) {
+            output.print("It was not very effective...\n");
+        }
+    }
+
+    @Override
+    public void onDamage(Pokemon target, int damage, DamageSource source) {
+        if (damage <= 0) {
+            output.print("It has no effect on " + target.getNickname() + "!\n");
+        } else {
+            output.print(target.getNickname() + " took " + damage + " damage from " + source.getName() + "!\n");
+        }
+    }
+
+    @Override
+    public void onFainted(int playerN, Pokemon pokemon) {
+        output.println(pokemon.getNickname() + " fainted!");
+    }
+
+    @Override
+    public void onSwitched(int playerN, Pokemon withdrawn, Pokemon sentOut) {
+        output.println("Player " + playerN + " withdrew " + withdrawn.getNickname() + ".\n");
+        output.println("Player " + playerN + " sent out " + sentOut.getNickname() + "!\n");
+    }
+
+    @Override
+    public void onStatusApplied(Pokemon target, Pokemon.StatusCondition status) {
+        output.println(target.getNickname() + " is now affected by " + status + "!");
+    }
+
+    @Override
+    public void onStatChanged(Pokemon target, Stat stat, int stages) {
+        if (stages > 0) {
+            output.println(target.getNickname() + "'s " + stat + " rose!");
+        } else if (stages < 0) {
+            output.println(target.getNickname() + "'s " + stat + " fell!");
+        } else {
+            output.println(target.getNickname() + "'s " + stat + " won't go any further!");
+        }
+    }
+}
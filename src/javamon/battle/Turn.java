@@ -1,21 +1,26 @@
 package javamon.battle;
 
+import javamon.entities.moves.*;
+
 public class Turn {
 
     private final int playerN;
     private final TurnType type;
     private final int newPokemon;
-    private final String moveName;
+    private final int moveId;
 
     public Turn(int playerN, int newPokemon) {
-        this(playerN, TurnType.Switch, newPokemon, null);
+        this(playerN, TurnType.Switch, newPokemon, -1);
     }
 
+    /**
+     * Creates a move turn by name. Unknown names produce a turn that is never valid.
+     */
     public Turn(int playerN, String moveName) {
-        this(playerN, TurnType.Move, -1, moveName);
+        this(playerN, TurnType.Move, -1, MoveRegistry.getId(moveName));
     }
 
-    private Turn(int playerN, TurnType type, int newPokemon, String moveName) {
+    private Turn(int playerN, TurnType type, int newPokemon, int moveId) {
         if (playerN != 1 && playerN != 2) {
             throw new IllegalArgumentException();
         }
@@ -23,7 +28,14 @@ public class Turn {
         this.playerN = playerN;
         this.type = type;
         this.newPokemon = newPokemon;
-        this.moveName = moveName;
+        this.moveId = moveId;
+    }
+
+    /**
+     * Creates a move turn from an interned move ID (see {@link MoveRegistry#getId(String)}).
+     */
+    public static Turn move(int playerN, int moveId) {
+        return new Turn(playerN, TurnType.Move, -1, moveId);
     }
 
     public int getPlayerN() {
@@ -36,12 +48,24 @@ public class Turn {
 
     public String getMoveName() {
         if (this.getType() == TurnType.Move) {
-            return moveName;
+            Move move = MoveRegistry.get(moveId);
+            return (move == null) ? "" : move.getName();
         } else {
             return "";
         }
     }
 
+    /**
+     * @return interned move ID, or -1 for switches and unknown moves
+     */
+    public int getMoveId() {
+        if (this.getType() == TurnType.Move) {
+            return moveId;
+        } else {
+            return -1;
+        }
+    }
+
     public int getNewPokemon() {
         if (this.getType() == TurnType.Switch) {
             return newPokemon;
@@ -0,0 +1,261 @@
+package javamon.data;
+
+import java.io.*;
+import java.net.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.zip.CRC32;
+import javamon.types.Type;
+
+/**
+ * Read-only view over the binary registry file ({@code registry.bin}) produced by {@code src/py/binaryexporter.py}.
+ *
+ * <p>The file is memory-mapped once and every field is decoded on demand from fixed-size records,
+ * so loading the registry costs a single mmap no matter how many species or moves it holds.
+ * See the exporter for the exact layout. Reads use absolute offsets only, so one instance can be
+ * shared by any number of threads.
+ */
+public final class RegistryData {
+    private static final String RESOURCE = "registry.bin";
+    private static final String PATH_PROPERTY = "javamon.data";
+
+    private static final int MAGIC = 0x4A4D4F4E; // "JMON"
+    private static final int VERSION = 1;
+    private static final int RECORD_SIZE = 16;
+    private static final int NO_TYPE = 0xFF;
+    private static final int NEVER_MISSES = 0xFF;
+
+    public static final int KIND_STATUS = 0;
+    public static final int KIND_PHYSICAL = 1;
+    public static final int KIND_SPECIAL = 2;
+
+    private static final Type[] TYPES = Type.values();
+
+    private final ByteBuffer buffer;
+    private final int speciesCount;
+    private final int moveCount;
+    private final int speciesTable;
+    private final int moveTable;
+    private final int stringPool;
+    private final int nameIndex;
+    private final int nameIndexMask;
+
+    private RegistryData(ByteBuffer buffer) {
+        this.buffer = buffer;
+        if (buffer.getInt(0) != MAGIC) {
+            throw new IllegalStateException("Not a registry data file");
+        }
+        if ((buffer.getShort(4) & 0xFFFF) != VERSION) {
+            throw new IllegalStateException("Unsupported registry data version: " + (buffer.getShort(4) & 0xFFFF));
+        }
+
+        this.speciesCount = buffer.getInt(8);
+        this.moveCount = buffer.getInt(12);
+        this.speciesTable = buffer.getInt(16);
+        this.moveTable = buffer.getInt(20);
+        this.stringPool = buffer.getInt(24);
+        this.nameIndex = buffer.getInt(28);
+        this.nameIndexMask = buffer.getInt(32) - 1;
+    }
+
+    /**
+     * @return the shared registry data, mapped on first use
+     */
+    public static RegistryData get() {
+        return Holder.INSTANCE;
+    }
+
+    private static class Holder {
+        private static final RegistryData INSTANCE = new RegistryData(map());
+    }
+
+    /**
+     * Maps the registry file. The {@code javamon.data} system property overrides the location;
+     * otherwise the file next to this class on the classpath is used. Data packed inside a jar
+     * cannot be mapped, so it is read into memory instead.
+     */
+    private static ByteBuffer map() {
+        try {
+            String override = System.getProperty(PATH_PROPERTY);
+            if (override != null) {
+                return map(Paths.get(override));
+            }
+
+            URL url = RegistryData.class.getResource(RESOURCE);
+            if (url == null) {
+                throw new IllegalStateException("Missing registry data: javamon/data/" + RESOURCE);
+            }
+            if ("file".equals(url.getProtocol())) {
+                return map(Paths.get(url.toURI()));
+            }
+
+            try (InputStream in = url.openStream()) {
+                return ByteBuffer.wrap(in.readAllBytes()).asReadOnlyBuffer();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not load registry data", e);
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException("Could not locate registry data", e);
+        }
+    }
+
+    private static ByteBuffer map(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    /**
+     * @return CRC-32 of the whole file, which changes whenever any species or move record does
+     */
+    public int getChecksum() {
+        CRC32 crc = new CRC32();
+        crc.update(buffer.duplicate().clear());
+        return (int) crc.getValue();
+    }
+
+    // --- Species ---
+
+    public int getSpeciesCount() {
+        return speciesCount;
+    }
+
+    public String getSpeciesName(int id) {
+        return readName(speciesRecord(id));
+    }
+
+    /**
+     * Finds a species by name through the file's prebuilt hash index, without decoding any other names.
+     * @return the species ID, or -1 if no species has that name
+     */
+    public int findSpecies(String name) {
+        byte[] key = name.getBytes(StandardCharsets.UTF_8);
+        int slot = hash(key) & nameIndexMask;
+        while (true) {
+            int id = buffer.getInt(nameIndex + slot * 4);
+            if (id < 0) {
+                return -1;
+            }
+            if (nameEquals(speciesRecord(id), key)) {
+                return id;
+            }
+            slot = (slot + 1) & nameIndexMask;
+        }
+    }
+
+    public Type getSpeciesType1(int id) {
+        return TYPES[buffer.get(speciesRecord(id) + 6) & 0xFF];
+    }
+
+    /**
+     * @return second type, or null for single-typed species
+     */
+    public Type getSpeciesType2(int id) {
+        int type = buffer.get(speciesRecord(id) + 7) & 0xFF;
+        return (type == NO_TYPE) ? null : TYPES[type];
+    }
+
+    /**
+     * @param stat 0-5, in the order Hp, Attack, Defense, SpecialAttack, SpecialDefense, Speed
+     * @return base stat value
+     */
+    public int getSpeciesBaseStat(int id, int stat) {
+        if (stat < 0 || stat >= 6) {
+            throw new IndexOutOfBoundsException("Invalid base stat index: " + stat);
+        }
+        return buffer.get(speciesRecord(id) + 8 + stat) & 0xFF;
+    }
+
+    // --- Moves ---
+
+    public int getMoveCount() {
+        return moveCount;
+    }
+
+    public String getMoveName(int index) {
+        return readName(moveRecord(index));
+    }
+
+    public Type getMoveType(int index) {
+        return TYPES[buffer.get(moveRecord(index) + 6) & 0xFF];
+    }
+
+    /**
+     * @return {@link #KIND_STATUS}, {@link #KIND_PHYSICAL} or {@link #KIND_SPECIAL}
+     */
+    public int getMoveKind(int index) {
+        return buffer.get(moveRecord(index) + 7) & 0xFF;
+    }
+
+    public int getMovePower(int index) {
+        return buffer.getShort(moveRecord(index) + 8) & 0xFFFF;
+    }
+
+    /**
+     * @return accuracy percentage, or {@code Integer.MAX_VALUE} for moves that never miss
+     */
+    public int getMoveAccuracy(int index) {
+        int accuracy = buffer.get(moveRecord(index) + 10) & 0xFF;
+        return (accuracy == NEVER_MISSES) ? Integer.MAX_VALUE : accuracy;
+    }
+
+    public int getMovePP(int index) {
+        return buffer.get(moveRecord(index) + 11) & 0xFF;
+    }
+
+    public int getMovePriority(int index) {
+        return buffer.get(moveRecord(index) + 12);
+    }
+
+    // --- Helpers ---
+
+    private int speciesRecord(int id) {
+        if (id < 0 || id >= speciesCount) {
+            throw new IndexOutOfBoundsException("Invalid species index: " + id);
+        }
+        return speciesTable + id * RECORD_SIZE;
+    }
+
+    private int moveRecord(int index) {
+        if (index < 0 || index >= moveCount) {
+            throw new IndexOutOfBoundsException("Invalid move index: " + index);
+        }
+        return moveTable + index * RECORD_SIZE;
+    }
+
+    /**
+     * 32-bit FNV-1a; must match {@code fnv1a} in the exporter.
+     */
+    private static int hash(byte[] key) {
+        int h = 0x811C9DC5;
+        for (byte b : key) {
+            h ^= (b & 0xFF);
+            h *= 0x01000193;
+        }
+        return h;
+    }
+
+    private boolean nameEquals(int record, byte[] key) {
+        int offset = stringPool + buffer.getInt(record);
+        int length = buffer.getShort(record + 4) & 0xFFFF;
+        if (length != key.length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (buffer.get(offset + i) != key[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String readName(int record) {
+        int offset = buffer.getInt(record);
+        int length = buffer.getShort(record + 4) & 0xFFFF;
+        byte[] bytes = new byte[length];
+        buffer.get(stringPool + offset, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
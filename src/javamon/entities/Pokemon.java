@@ -37,15 +37,20 @@ public class Pokemon {
 
     /**
      * Copy constructor to duplicate battle state (hp, moves, status, etc.).
+     * Stats are copied rather than recalculated. Stat stages start over, so a team can be reused for
+     * another battle; {@link javamon.battle.BattleEngine#copy} keeps them when a battle is continued.
      */
     public Pokemon(Pokemon other) {
-        this(other.species, other.level);
-        this.nickname = other.nickname; 
+        this.species = other.species;
+        this.level = other.level;
+        this.nickname = other.nickname;
         this.currentHp = other.currentHp;
-        if (other.stats != null) {
-            this.stats = new Stats(other.stats);
+        this.stats = new Stats(other.stats);
+        this.modifiers = new StatModifiers();
+        this.moveSlots = new ArrayList<>(other.moveSlots.size());
+        for (MoveSlot ms : other.moveSlots) {
+            this.moveSlots.add(new MoveSlot(ms.getMoveData(), ms.getRemainingPP()));
         }
-        this.moveSlots.addAll(other.moveSlots);
         this.statusCondition = other.statusCondition;
     }
 
@@ -90,20 +95,22 @@ public class Pokemon {
     }
 
     /**
-     * Handles taking damage and returns a flavor string.
-     */
-    /**
-     * Applies damage to current HP and returns a flavor message.
+     * Applies damage to current HP, clamping at zero. Non-positive damage has no effect.
      */
-    public String takeDamage(int dmg, DamageSource source) {
+    public void takeDamage(int dmg) {
         if (dmg <= 0) {
-            return "It has no effect on " + this.nickname + "!\n";
+            return;
         }
 
         this.currentHp -= dmg;
         if (this.currentHp < 0) this.currentHp = 0;
+    }
 
-        return this.nickname + " took " + dmg + " damage from " + source.getName() + "!\n";
+    /**
+     * Sets current HP directly, clamped to 0..max HP (used to restore battle snapshots).
+     */
+    public void setCurrentHp(int hp) {
+        this.currentHp = Math.max(0, Math.min(hp, this.stats.get(Stat.Hp)));
     }
 
     /**
@@ -135,15 +142,64 @@ public class Pokemon {
         return effectiveStats;
     }
 
-    private int getEffectiveStat(Stat s) {
+    /**
+     * Reads a single stat with its stage multiplier applied, without copying the whole stat block.
+     * @return effective value of the stat (Hp is never staged)
+     */
+    public int getEffectiveStat(Stat s) {
+        if (s == Stat.Hp) {
+            return stats.get(s);
+        }
         return (int) (stats.get(s) * modifiers.getMultiplier(s));
     }
 
     /**
      * Adjusts a stat stage within bounds (-6 to +6).
+     * @return change actually applied after clamping
+     */
+    public int modifyStat(Stat stat, int stages) {
+        return modifiers.modify(stat, stages);
+    }
+
+    /**
+     * @return current stage (-6 to +6) of the stat.
+     */
+    public int getStatStage(Stat stat) {
+        return modifiers.getStage(stat);
+    }
+
+    /**
+     * @return every stat stage packed into one int (see {@link StatModifiers#pack()}).
+     */
+    public int getPackedStages() {
+        return modifiers.pack();
+    }
+
+    /**
+     * Restores every stat stage from {@link #getPackedStages()}.
+     */
+    public void setPackedStages(int packed) {
+        modifiers.unpack(packed);
+    }
+
+    /**
+     * @return remaining PP of every move slot packed into one int, 8 bits per slot in slot order.
+     */
+    public int getPackedPP() {
+        int packed = 0;
+        for (int i = 0; i < moveSlots.size(); i++) {
+            packed |= moveSlots.get(i).getRemainingPP() << (8 * i);
+        }
+        return packed;
+    }
+
+    /**
+     * Restores the remaining PP of every move slot from {@link #getPackedPP()}.
      */
-    public void modifyStat(Stat stat, int stages) {
-        modifiers.modify(stat, stages);
+    public void setPackedPP(int packed) {
+        for (int i = 0; i < moveSlots.size(); i++) {
+            moveSlots.get(i).setRemainingPP((packed >>> (8 * i)) & 0xFF);
+        }
     }
 
     /**
@@ -192,6 +248,13 @@ public class Pokemon {
         return species.getName();
     }
 
+    /**
+     * @return interned species ID (see {@link PokemonRegistry#getId(String)}).
+     */
+    public int getSpeciesId() {
+        return species.getId();
+    }
+
     /**
      * @return display nickname.
      */
@@ -219,12 +282,33 @@ public class Pokemon {
         return currentHp;
     }
 
+    /**
+     * @return maximum HP, without copying the stat block.
+     */
+    public int getMaxHp() {
+        return stats.get(Stat.Hp);
+    }
+
     /**
      * @return immutable species types list.
      */
     public List<Type> getTypes() {
         return species.getTypes();
     }
+
+    /**
+     * @return true if either of the species' types matches.
+     */
+    public boolean hasType(Type type) {
+        return species.hasType(type);
+    }
+
+    /**
+     * @return effectiveness of the attacking type against this Pokemon, in quarters (see {@code TypeChart.NEUTRAL}).
+     */
+    public int getEffectivenessQuarters(Type attacker) {
+        return species.getEffectivenessQuarters(attacker);
+    }
     
     /**
      * @return current learned moves (shallow copy of move data).
@@ -238,9 +322,13 @@ public class Pokemon {
         return moves;
     }
     /**
-     * Adds a move to this Pokemon with full PP.
+     * Adds a move to this Pokemon with full PP. A Pokemon knows at most 4 moves, which is also all that
+     * {@link #getPackedPP()} has room for.
      */
     public void learnMove(Move move) {
+        if (this.moveSlots.size() == 4) {
+            throw new IllegalArgumentException("Pokemon tried to learn more than 4 moves");
+        }
         this.moveSlots.add(new MoveSlot(move));
     }
     /**
@@ -256,6 +344,68 @@ public class Pokemon {
         return false;
     }
 
+    /**
+     * @return number of move slots in use (0-4).
+     */
+    public int getMoveSlotCount() {
+        return moveSlots.size();
+    }
+
+    /**
+     * @param slot move slot in learn order
+     * @return interned ID of the move in that slot
+     */
+    public int getSlotMoveId(int slot) {
+        return moveSlots.get(slot).getMoveData().getId();
+    }
+
+    /**
+     * @param slot move slot in learn order
+     * @return remaining PP of the move in that slot
+     */
+    public int getSlotPP(int slot) {
+        return moveSlots.get(slot).getRemainingPP();
+    }
+
+    /**
+     * Checks if the Pokemon knows a move by interned ID.
+     */
+    public boolean hasMove(int moveId) {
+        return findSlot(moveId) != null;
+    }
+
+    /**
+     * @return remaining PP for the move with the given interned ID.
+     */
+    public int getRemainingPP(int moveId) {
+        MoveSlot ms = findSlot(moveId);
+        if (ms == null) {
+            throw new IllegalArgumentException("Can't find remaining PP for move that this Pokemon doesn't know!");
+        }
+        return ms.getRemainingPP();
+    }
+
+    /**
+     * Decrements PP for the move with the given interned ID.
+     */
+    public void decrementPP(int moveId) {
+        MoveSlot ms = findSlot(moveId);
+        if (ms == null) {
+            throw new IllegalArgumentException("Can't decrement PP for move that this Pokemon doesn't know!");
+        }
+        ms.decrementPP();
+    }
+
+    private MoveSlot findSlot(int moveId) {
+        for (int i = 0; i < this.moveSlots.size(); i++) {
+            MoveSlot ms = this.moveSlots.get(i);
+            if (ms.getMoveData().getId() == moveId) {
+                return ms;
+            }
+        }
+        return null;
+    }
+
     /**
      * @return remaining PP for the named move.
      */
@@ -320,6 +470,16 @@ public class Pokemon {
             this.pp--;
         }
 
+        /**
+         * Sets remaining PP directly (used to restore battle snapshots).
+         */
+        public void setRemainingPP(int remainingPP) {
+            if (remainingPP < 0 || remainingPP > move.getPP()) {
+                throw new IllegalArgumentException("Invalid remaining PP for move: " + move.getName());
+            }
+            this.pp = remainingPP;
+        }
+
         /**
          * @return current PP remaining.
          */
@@ -343,52 +503,92 @@ public class Pokemon {
     }
 
     public static class Stats {
-        private final Map<Stat, Integer> values = new EnumMap<>(Stat.class);
+        // Indexed by Stat.ordinal(); Evasion and Accuracy have no stored value and read as 0
+        private final int[] values = new int[Stat.values().length];
 
         /**
          * Creates a stats container with concrete values.
          */
         public Stats(int hp, int atk, int def, int spAtk, int spDef, int spd) {
-            values.put(Stat.Hp, hp);
-            values.put(Stat.Attack, atk);
-            values.put(Stat.Defense, def);
-            values.put(Stat.SpecialAttack, spAtk);
-            values.put(Stat.SpecialDefense, spDef);
-            values.put(Stat.Speed, spd);
+            values[Stat.Hp.ordinal()] = hp;
+            values[Stat.Attack.ordinal()] = atk;
+            values[Stat.Defense.ordinal()] = def;
+            values[Stat.SpecialAttack.ordinal()] = spAtk;
+            values[Stat.SpecialDefense.ordinal()] = spDef;
+            values[Stat.Speed.ordinal()] = spd;
         }
 
         // Copy Constructor
         public Stats(Stats other) {
-            this.values.putAll(other.values);
+            System.arraycopy(other.values, 0, this.values, 0, this.values.length);
         }
 
-        public int get(Stat s) { return values.getOrDefault(s, 0); }
-        public void set(Stat s, int val) { values.put(s, val); }
+        public int get(Stat s) { return values[s.ordinal()]; }
+        public void set(Stat s, int val) { values[s.ordinal()] = val; }
     }
 
     public static class StatModifiers {
         private static final int MAX_STAGE = 6;
-        private final Map<Stat, Integer> stages = new EnumMap<>(Stat.class);
+
+        // Stage multipliers for -6..+6, indexed by stage + MAX_STAGE.
+        // Same expressions as the old per-call division, so results are bit-identical.
+        private static final double[] MULTIPLIERS = new double[2 * MAX_STAGE + 1];
+        static {
+            for (int stage = -MAX_STAGE; stage <= MAX_STAGE; stage++) {
+                MULTIPLIERS[stage + MAX_STAGE] = (stage >= 0) ? (2.0 + stage) / 2.0 : 2.0 / (2.0 - stage);
+            }
+        }
+
+        // 4 bits per stat holding stage + MAX_STAGE, indexed by Stat.ordinal(); all zero stages is NEUTRAL
+        private static final int NEUTRAL = 0x66666666;
+        private int stages = NEUTRAL;
+
+        public StatModifiers() {
+        }
+
+        // Copy Constructor
+        public StatModifiers(StatModifiers other) {
+            this.stages = other.stages;
+        }
 
         /**
          * Clamps and applies a stage change to the given stat.
+         * @return change actually applied after clamping
          */
-        public void modify(Stat stat, int amount) {
-            int current = stages.getOrDefault(stat, 0);
+        public int modify(Stat stat, int amount) {
+            int shift = 4 * stat.ordinal();
+            int current = ((stages >>> shift) & 0xF) - MAX_STAGE;
             int next = Math.max(-MAX_STAGE, Math.min(MAX_STAGE, current + amount));
-            stages.put(stat, next);
+            stages = (stages & ~(0xF << shift)) | ((next + MAX_STAGE) << shift);
+            return next - current;
+        }
+
+        /**
+         * @return current stage (-6 to +6) of the stat.
+         */
+        public int getStage(Stat stat) {
+            return ((stages >>> (4 * stat.ordinal())) & 0xF) - MAX_STAGE;
+        }
+
+        /**
+         * Packs every stage into one int: 4 bits per stat (stage + 6), indexed by Stat.ordinal().
+         */
+        public int pack() {
+            return stages;
+        }
+
+        /**
+         * Restores every stage from {@link #pack()}.
+         */
+        public void unpack(int packed) {
+            this.stages = packed;
         }
 
         /**
          * @return stage multiplier for the stat (e.g., +1 => 1.5x, -1 => 0.66x).
          */
         public double getMultiplier(Stat stat) {
-            int stage = stages.getOrDefault(stat, 0);
-            if (stage >= 0) {
-                return (2.0 + stage) / 2.0;
-            } else {
-                return 2.0 / (2.0 - stage);
-            }
+            return MULTIPLIERS[(stages >>> (4 * stat.ordinal())) & 0xF];
         }
     }
     
@@ -1,1254 +1,64 @@
 package javamon.entities;
 
 import java.util.*;
+import javamon.data.RegistryData;
 import javamon.types.*;
 import javamon.entities.moves.MoveRegistry;
-import static javamon.types.Type.*;
 
 public class PokemonRegistry {
-    // Registry holds blueprints (Species)
-    private static final Map<String, PokemonSpecies> registry = new HashMap<>();
+    // Registry holds blueprints (Species), indexed by dense ID in file order.
+    // Records live in the memory-mapped registry file and are decoded the first time they are asked for.
+    private static final RegistryData data = RegistryData.get();
+    private static final PokemonSpecies[] speciesById = new PokemonSpecies[data.getSpeciesCount()];
 
-    static {
-        System.out.print("Loading Pokemon Registry... ");
+    /**
+     * @return the interned ID of the named species, or -1 if no such species is registered
+     */
+    public static int getId(String name) {
+        return data.findSpecies(name);
+    }
 
-        register("Bulbasaur", Grass, Poison, 45, 49, 49, 65, 65, 45);
-        register("Ivysaur", Grass, Poison, 60, 62, 63, 80, 80, 60);
-        register("Venusaur", Grass, Poison, 80, 82, 83, 100, 100, 80);
-        register("Mega Venusaur", Grass, Poison, 80, 100, 123, 122, 120, 80);
-        register("Charmander", Fire, null, 39, 52, 43, 60, 50, 65);
-        register("Charmeleon", Fire, null, 58, 64, 58, 80, 65, 80);
-        register("Charizard", Fire, Flying, 78, 84, 78, 109, 85, 100);
-        register("Mega Charizard X", Fire, Dragon, 78, 130, 111, 130, 85, 100);
-        register("Mega Charizard Y", Fire, Flying, 78, 104, 78, 159, 115, 100);
-        register("Squirtle", Water, null, 44, 48, 65, 50, 64, 43);
-        register("Wartortle", Water, null, 59, 63, 80, 65, 80, 58);
-        register("Blastoise", Water, null, 79, 83, 100, 85, 105, 78);
-        register("Mega Blastoise", Water, null, 79, 103, 120, 135, 115, 78);
-        register("Caterpie", Bug, null, 45, 30, 35, 20, 20, 45);
-        register("Metapod", Bug, null, 50, 20, 55, 25, 25, 30);
-        register("Butterfree", Bug, Flying, 60, 45, 50, 90, 80, 70);
-        register("Weedle", Bug, Poison, 40, 35, 30, 20, 20, 50);
-        register("Kakuna", Bug, Poison, 45, 25, 50, 25, 25, 35);
-        register("Beedrill", Bug, Poison, 65, 90, 40, 45, 80, 75);
-        register("Mega Beedrill", Bug, Poison, 65, 150, 40, 15, 80, 145);
-        register("Pidgey", Normal, Flying, 40, 45, 40, 35, 35, 56);
-        register("Pidgeotto", Normal, Flying, 63, 60, 55, 50, 50, 71);
-        register("Pidgeot", Normal, Flying, 83, 80, 75, 70, 70, 101);
-        register("Mega Pidgeot", Normal, Flying, 83, 80, 80, 135, 80, 121);
-        register("Rattata", Normal, null, 30, 56, 35, 25, 35, 72);
-        register("Alolan Rattata", Dark, Normal, 30, 56, 35, 25, 35, 72);
-        register("Raticate", Normal, null, 55, 81, 60, 50, 70, 97);
-        register("Alolan Raticate", Dark, Normal, 75, 71, 70, 40, 80, 77);
-        register("Spearow", Normal, Flying, 40, 60, 30, 31, 31, 70);
-        register("Fearow", Normal, Flying, 65, 90, 65, 61, 61, 100);
-        register("Ekans", Poison, null, 35, 60, 44, 40, 54, 55);
-        register("Arbok", Poison, null, 60, 95, 69, 65, 79, 80);
-        register("Pikachu", Electric, null, 35, 55, 40, 50, 50, 90);
-        register("Pikachu Partner Pikachu", Electric, null, 45, 80, 50, 75, 60, 120);
-        register("Raichu", Electric, null, 60, 90, 55, 90, 80, 110);
-        register("Alolan Raichu", Electric, Psychic, 60, 85, 50, 95, 85, 110);
-        register("Sandshrew", Ground, null, 50, 75, 85, 20, 30, 40);
-        register("Alolan Sandshrew", Ice, Steel, 50, 75, 90, 10, 35, 40);
-        register("Sandslash", Ground, null, 75, 100, 110, 45, 55, 65);
-        register("Alolan Sandslash", Ice, Steel, 75, 100, 120, 25, 65, 65);
-        register("NidoranF", Poison, null, 55, 47, 52, 40, 40, 41);
-        register("Nidorina", Poison, null, 70, 62, 67, 55, 55, 56);
-        register("Nidoqueen", Poison, Ground, 90, 92, 87, 75, 85, 76);
-        register("NidoranM", Poison, null, 46, 57, 40, 40, 40, 50);
-        register("Nidorino", Poison, null, 61, 72, 57, 55, 55, 65);
-        register("Nidoking", Poison, Ground, 81, 102, 77, 85, 75, 85);
-        register("Clefairy", Fairy, null, 70, 45, 48, 60, 65, 35);
-        register("Clefable", Fairy, null, 95, 70, 73, 95, 90, 60);
-        register("Vulpix", Fire, null, 38, 41, 40, 50, 65, 65);
-        register("Alolan Vulpix", Ice, null, 38, 41, 40, 50, 65, 65);
-        register("Ninetales", Fire, null, 73, 76, 75, 81, 100, 100);
-        register("Alolan Ninetales", Ice, Fairy, 73, 67, 75, 81, 100, 109);
-        register("Jigglypuff", Normal, Fairy, 115, 45, 20, 45, 25, 20);
-        register("Wigglytuff", Normal, Fairy, 140, 70, 45, 85, 50, 45);
-        register("Zubat", Poison, Flying, 40, 45, 35, 30, 40, 55);
-        register("Golbat", Poison, Flying, 75, 80, 70, 65, 75, 90);
-        register("Oddish", Grass, Poison, 45, 50, 55, 75, 65, 30);
-        register("Gloom", Grass, Poison, 60, 65, 70, 85, 75, 40);
-        register("Vileplume", Grass, Poison, 75, 80, 85, 110, 90, 50);
-        register("Paras", Bug, Grass, 35, 70, 55, 45, 55, 25);
-        register("Parasect", Bug, Grass, 60, 95, 80, 60, 80, 30);
-        register("Venonat", Bug, Poison, 60, 55, 50, 40, 55, 45);
-        register("Venomoth", Bug, Poison, 70, 65, 60, 90, 75, 90);
-        register("Diglett", Ground, null, 10, 55, 25, 35, 45, 95);
-        register("Alolan Diglett", Ground, Steel, 10, 55, 30, 35, 45, 90);
-        register("Dugtrio", Ground, null, 35, 100, 50, 50, 70, 120);
-        register("Alolan Dugtrio", Ground, Steel, 35, 100, 60, 50, 70, 110);
-        register("Meowth", Normal, null, 40, 45, 35, 40, 40, 90);
-        register("Alolan Meowth", Dark, null, 40, 35, 35, 50, 40, 90);
-        register("Galarian Meowth", Steel, null, 50, 65, 55, 40, 40, 40);
-        register("Persian", Normal, null, 65, 70, 60, 65, 65, 115);
-        register("Alolan Persian", Dark, null, 65, 60, 60, 75, 65, 115);
-        register("Psyduck", Water, null, 50, 52, 48, 65, 50, 55);
-        register("Golduck", Water, null, 80, 82, 78, 95, 80, 85);
-        register("Mankey", Fighting, null, 40, 80, 35, 35, 45, 70);
-        register("Primeape", Fighting, null, 65, 105, 60, 60, 70, 95);
-        register("Growlithe", Fire, null, 55, 70, 45, 70, 50, 60);
-        register("Growlithe Hisuian Growlithe", Fire, Rock, 60, 75, 45, 65, 50, 55);
-        register("Arcanine", Fire, null, 90, 110, 80, 100, 80, 95);
-        register("Arcanine Hisuian Arcanine", Fire, Rock, 95, 115, 80, 95, 80, 90);
-        register("Poliwag", Water, null, 40, 50, 40, 40, 40, 90);
-        register("Poliwhirl", Water, null, 65, 65, 65, 50, 50, 90);
-        register("Poliwrath", Water, Fighting, 90, 95, 95, 70, 90, 70);
-        register("Abra", Psychic, null, 25, 20, 15, 105, 55, 90);
-        register("Kadabra", Psychic, null, 40, 35, 30, 120, 70, 105);
-        register("Alakazam", Psychic, null, 55, 50, 45, 135, 95, 120);
-        register("Mega Alakazam", Psychic, null, 55, 50, 65, 175, 105, 150);
-        register("Machop", Fighting, null, 70, 80, 50, 35, 35, 35);
-        register("Machoke", Fighting, null, 80, 100, 70, 50, 60, 45);
-        register("Machamp", Fighting, null, 90, 130, 80, 65, 85, 55);
-        register("Bellsprout", Grass, Poison, 50, 75, 35, 70, 30, 40);
-        register("Weepinbell", Grass, Poison, 65, 90, 50, 85, 45, 55);
-        register("Victreebel", Grass, Poison, 80, 105, 65, 100, 70, 70);
-        register("Mega Victreebel", Grass, Poison, 80, 125, 85, 135, 95, 70);
-        register("Tentacool", Water, Poison, 40, 40, 35, 50, 100, 70);
-        register("Tentacruel", Water, Poison, 80, 70, 65, 80, 120, 100);
-        register("Geodude", Rock, Ground, 40, 80, 100, 30, 30, 20);
-        register("Alolan Geodude", Rock, Electric, 40, 80, 100, 30, 30, 20);
-        register("Graveler", Rock, Ground, 55, 95, 115, 45, 45, 35);
-        register("Alolan Graveler", Rock, Electric, 55, 95, 115, 45, 45, 35);
-        register("Golem", Rock, Ground, 80, 120, 130, 55, 65, 45);
-        register("Alolan Golem", Rock, Electric, 80, 120, 130, 55, 65, 45);
-        register("Ponyta", Fire, null, 50, 85, 55, 65, 65, 90);
-        register("Galarian Ponyta", Psychic, null, 50, 85, 55, 65, 65, 90);
-        register("Rapidash", Fire, null, 65, 100, 70, 80, 80, 105);
-        register("Galarian Rapidash", Psychic, Fairy, 65, 100, 70, 80, 80, 105);
-        register("Slowpoke", Water, Psychic, 90, 65, 65, 40, 40, 15);
-        register("Galarian Slowpoke", Psychic, null, 90, 65, 65, 40, 40, 15);
-        register("Slowbro", Water, Psychic, 95, 75, 110, 100, 80, 30);
-        register("Mega Slowbro", Water, Psychic, 95, 75, 180, 130, 80, 30);
-        register("Galarian Slowbro", Poison, Psychic, 95, 100, 95, 100, 70, 30);
-        register("Magnemite", Electric, Steel, 25, 35, 70, 95, 55, 45);
-        register("Magneton", Electric, Steel, 50, 60, 95, 120, 70, 70);
-        register("Farfetch'd", Normal, Flying, 52, 90, 55, 58, 62, 60);
-        register("Galarian Farfetch'd", Fighting, null, 52, 95, 55, 58, 62, 55);
-        register("Doduo", Normal, Flying, 35, 85, 45, 35, 35, 75);
-        register("Dodrio", Normal, Flying, 60, 110, 70, 60, 60, 110);
-        register("Seel", Water, null, 65, 45, 55, 45, 70, 45);
-        register("Dewgong", Water, Ice, 90, 70, 80, 70, 95, 70);
-        register("Grimer", Poison, null, 80, 80, 50, 40, 50, 25);
-        register("Alolan Grimer", Poison, Dark, 80, 80, 50, 40, 50, 25);
-        register("Muk", Poison, null, 105, 105, 75, 65, 100, 50);
-        register("Alolan Muk", Poison, Dark, 105, 105, 75, 65, 100, 50);
-        register("Shellder", Water, null, 30, 65, 100, 45, 25, 40);
-        register("Cloyster", Water, Ice, 50, 95, 180, 85, 45, 70);
-        register("Gastly", Ghost, Poison, 30, 35, 30, 100, 35, 80);
-        register("Haunter", Ghost, Poison, 45, 50, 45, 115, 55, 95);
-        register("Gengar", Ghost, Poison, 60, 65, 60, 130, 75, 110);
-        register("Mega Gengar", Ghost, Poison, 60, 65, 80, 170, 95, 130);
-        register("Onix", Rock, Ground, 35, 45, 160, 30, 45, 70);
-        register("Drowzee", Psychic, null, 60, 48, 45, 43, 90, 42);
-        register("Hypno", Psychic, null, 85, 73, 70, 73, 115, 67);
-        register("Krabby", Water, null, 30, 105, 90, 25, 25, 50);
-        register("Kingler", Water, null, 55, 130, 115, 50, 50, 75);
-        register("Voltorb", Electric, null, 40, 30, 50, 55, 55, 100);
-        register("Hisuian Voltorb", Electric, Grass, 40, 30, 50, 55, 55, 100);
-        register("Electrode", Electric, null, 60, 50, 70, 80, 80, 150);
-        register("Hisuian Electrode", Electric, Grass, 60, 50, 70, 80, 80, 150);
-        register("Exeggcute", Grass, Psychic, 60, 40, 80, 60, 45, 40);
-        register("Exeggutor", Grass, Psychic, 95, 95, 85, 125, 75, 55);
-        register("Alolan Exeggutor", Grass, Dragon, 95, 105, 85, 125, 75, 45);
-        register("Cubone", Ground, null, 50, 50, 95, 40, 50, 35);
-        register("Marowak", Ground, null, 60, 80, 110, 50, 80, 45);
-        register("Alolan Marowak", Fire, Ghost, 60, 80, 110, 50, 80, 45);
-        register("Hitmonlee", Fighting, null, 50, 120, 53, 35, 110, 87);
-        register("Hitmonchan", Fighting, null, 50, 105, 79, 35, 110, 76);
-        register("Lickitung", Normal, null, 90, 55, 75, 60, 75, 30);
-        register("Koffing", Poison, null, 40, 65, 95, 60, 45, 35);
-        register("Weezing", Poison, null, 65, 90, 120, 85, 70, 60);
-        register("Galarian Weezing", Poison, Fairy, 65, 90, 120, 85, 70, 60);
-        register("Rhyhorn", Ground, Rock, 80, 85, 95, 30, 30, 25);
-        register("Rhydon", Ground, Rock, 105, 130, 120, 45, 45, 40);
-        register("Chansey", Normal, null, 250, 5, 5, 35, 105, 50);
-        register("Tangela", Grass, null, 65, 55, 115, 100, 40, 60);
-        register("Kangaskhan", Normal, null, 105, 95, 80, 40, 80, 90);
-        register("Mega Kangaskhan", Normal, null, 105, 125, 100, 60, 100, 100);
-        register("Horsea", Water, null, 30, 40, 70, 70, 25, 60);
-        register("Seadra", Water, null, 55, 65, 95, 95, 45, 85);
-        register("Goldeen", Water, null, 45, 67, 60, 35, 50, 63);
-        register("Seaking", Water, null, 80, 92, 65, 65, 80, 68);
-        register("Staryu", Water, null, 30, 45, 55, 70, 55, 85);
-        register("Starmie", Water, Psychic, 60, 75, 85, 100, 85, 115);
-        register("Mr. Mime", Psychic, Fairy, 40, 45, 65, 100, 120, 90);
-        register("Galarian Mr. Mime", Ice, Psychic, 50, 65, 65, 90, 90, 100);
-        register("Scyther", Bug, Flying, 70, 110, 80, 55, 80, 105);
-        register("Jynx", Ice, Psychic, 65, 50, 35, 115, 95, 95);
-        register("Electabuzz", Electric, null, 65, 83, 57, 95, 85, 105);
-        register("Magmar", Fire, null, 65, 95, 57, 100, 85, 93);
-        register("Pinsir", Bug, null, 65, 125, 100, 55, 70, 85);
-        register("Mega Pinsir", Bug, Flying, 65, 155, 120, 65, 90, 105);
-        register("Tauros", Normal, null, 75, 100, 95, 40, 70, 110);
-        register("Tauros Combat Breed", Fighting, null, 75, 110, 105, 30, 70, 100);
-        register("Tauros Blaze Breed", Fighting, Fire, 75, 110, 105, 30, 70, 100);
-        register("Tauros Aqua Breed", Fighting, Water, 75, 110, 105, 30, 70, 100);
-        register("Magikarp", Water, null, 20, 10, 55, 15, 20, 80);
-        register("Gyarados", Water, Flying, 95, 125, 79, 60, 100, 81);
-        register("Mega Gyarados", Water, Dark, 95, 155, 109, 70, 130, 81);
-        register("Lapras", Water, Ice, 130, 85, 80, 85, 95, 60);
-        register("Ditto", Normal, null, 48, 48, 48, 48, 48, 48);
-        register("Eevee", Normal, null, 55, 55, 50, 45, 65, 55);
-        register("Eevee Partner Eevee", Normal, null, 65, 75, 70, 65, 85, 75);
-        register("Vaporeon", Water, null, 130, 65, 60, 110, 95, 65);
-        register("Jolteon", Electric, null, 65, 65, 60, 110, 95, 130);
-        register("Flareon", Fire, null, 65, 130, 60, 95, 110, 65);
-        register("Porygon", Normal, null, 65, 60, 70, 85, 75, 40);
-        register("Omanyte", Rock, Water, 35, 40, 100, 90, 55, 35);
-        register("Omastar", Rock, Water, 70, 60, 125, 115, 70, 55);
-        register("Kabuto", Rock, Water, 30, 80, 90, 55, 45, 55);
-        register("Kabutops", Rock, Water, 60, 115, 105, 65, 70, 80);
-        register("Aerodactyl", Rock, Flying, 80, 105, 65, 60, 75, 130);
-        register("Mega Aerodactyl", Rock, Flying, 80, 135, 85, 70, 95, 150);
-        register("Snorlax", Normal, null, 160, 110, 65, 65, 110, 30);
-        register("Articuno", Ice, Flying, 90, 85, 100, 95, 125, 85);
-        register("Galarian Articuno", Psychic, Flying, 90, 85, 85, 125, 100, 95);
-        register("Zapdos", Electric, Flying, 90, 90, 85, 125, 90, 100);
-        register("Galarian Zapdos", Fighting, Flying, 90, 125, 90, 85, 90, 100);
-        register("Moltres", Fire, Flying, 90, 100, 90, 125, 85, 90);
-        register("Galarian Moltres", Dark, Flying, 90, 85, 90, 100, 125, 90);
-        register("Dratini", Dragon, null, 41, 64, 45, 50, 50, 50);
-        register("Dragonair", Dragon, null, 61, 84, 65, 70, 70, 70);
-        register("Dragonite", Dragon, Flying, 91, 134, 95, 100, 100, 80);
-        register("Mega Dragonite", Dragon, Flying, 91, 124, 115, 145, 125, 100);
-        register("Mewtwo", Psychic, null, 106, 110, 90, 154, 90, 130);
-        register("Mega Mewtwo X", Psychic, Fighting, 106, 190, 100, 154, 100, 130);
-        register("Mega Mewtwo Y", Psychic, null, 106, 150, 70, 194, 120, 140);
-        register("Mew", Psychic, null, 100, 100, 100, 100, 100, 100);
-        register("Chikorita", Grass, null, 45, 49, 65, 49, 65, 45);
-        register("Bayleef", Grass, null, 60, 62, 80, 63, 80, 60);
-        register("", Grass, null, 80, 82, 100, 83, 100, 80);
-        register("Cyndaquil", Fire, null, 39, 52, 43, 60, 50, 65);
-        register("Quilava", Fire, null, 58, 64, 58, 80, 65, 80);
-        register("Typhlosion", Fire, null, 78, 84, 78, 109, 85, 100);
-        register("Hisuian Typhlosion", Fire, Ghost, 73, 84, 78, 119, 85, 95);
-        register("Totodile", Water, null, 50, 65, 64, 44, 48, 43);
-        register("Croconaw", Water, null, 65, 80, 80, 59, 63, 58);
-        register("Feraligatr", Water, null, 85, 105, 100, 79, 83, 78);
-        register("Sentret", Normal, null, 35, 46, 34, 35, 45, 20);
-        register("Furret", Normal, null, 85, 76, 64, 45, 55, 90);
-        register("Hoothoot", Normal, Flying, 60, 30, 30, 36, 56, 50);
-        register("Noctowl", Normal, Flying, 100, 50, 50, 86, 96, 70);
-        register("Ledyba", Bug, Flying, 40, 20, 30, 40, 80, 55);
-        register("Ledian", Bug, Flying, 55, 35, 50, 55, 110, 85);
-        register("Spinarak", Bug, Poison, 40, 60, 40, 40, 40, 30);
-        register("Ariados", Bug, Poison, 70, 90, 70, 60, 70, 40);
-        register("Crobat", Poison, Flying, 85, 90, 80, 70, 80, 130);
-        register("Chinchou", Water, Electric, 75, 38, 38, 56, 56, 67);
-        register("Lanturn", Water, Electric, 125, 58, 58, 76, 76, 67);
-        register("Pichu", Electric, null, 20, 40, 15, 35, 35, 60);
-        register("Cleffa", Fairy, null, 50, 25, 28, 45, 55, 15);
-        register("Igglybuff", Normal, Fairy, 90, 30, 15, 40, 20, 15);
-        register("Togepi", Fairy, null, 35, 20, 65, 40, 65, 20);
-        register("Togetic", Fairy, Flying, 55, 40, 85, 80, 105, 40);
-        register("Natu", Psychic, Flying, 40, 50, 45, 70, 45, 70);
-        register("Xatu", Psychic, Flying, 65, 75, 70, 95, 70, 95);
-        register("Mareep", Electric, null, 55, 40, 40, 65, 45, 35);
-        register("Flaaffy", Electric, null, 70, 55, 55, 80, 60, 45);
-        register("Ampharos", Electric, null, 90, 75, 85, 115, 90, 55);
-        register("Mega Ampharos", Electric, Dragon, 90, 95, 105, 165, 110, 45);
-        register("Bellossom", Grass, null, 75, 80, 95, 90, 100, 50);
-        register("Marill", Water, Fairy, 70, 20, 50, 20, 50, 40);
-        register("Azumarill", Water, Fairy, 100, 50, 80, 60, 80, 50);
-        register("Sudowoodo", Rock, null, 70, 100, 115, 30, 65, 30);
-        register("Politoed", Water, null, 90, 75, 75, 90, 100, 70);
-        register("Hoppip", Grass, Flying, 35, 35, 40, 35, 55, 50);
-        register("Skiploom", Grass, Flying, 55, 45, 50, 45, 65, 80);
-        register("Jumpluff", Grass, Flying, 75, 55, 70, 55, 95, 110);
-        register("Aipom", Normal, null, 55, 70, 55, 40, 55, 85);
-        register("Sunkern", Grass, null, 30, 30, 30, 30, 30, 30);
-        register("Sunflora", Grass, null, 75, 75, 55, 105, 85, 30);
-        register("Yanma", Bug, Flying, 65, 65, 45, 75, 45, 95);
-        register("Wooper", Water, Ground, 55, 45, 45, 25, 25, 15);
-        register("Paldean Wooper", Poison, Ground, 55, 45, 45, 25, 25, 15);
-        register("Quagsire", Water, Ground, 95, 85, 85, 65, 65, 35);
-        register("Espeon", Psychic, null, 65, 65, 60, 130, 95, 110);
-        register("Umbreon", Dark, null, 95, 65, 110, 60, 130, 65);
-        register("Murkrow", Dark, Flying, 60, 85, 42, 85, 42, 91);
-        register("Slowking", Water, Psychic, 95, 75, 80, 100, 110, 30);
-        register("Galarian Slowking", Poison, Psychic, 95, 65, 80, 110, 110, 30);
-        register("Misdreavus", Ghost, null, 60, 60, 60, 85, 85, 85);
-        register("Unown", Psychic, null, 48, 72, 48, 72, 48, 48);
-        register("Wobbuffet", Psychic, null, 190, 33, 58, 33, 58, 33);
-        register("Girafarig", Normal, Psychic, 70, 80, 65, 90, 65, 85);
-        register("Pineco", Bug, null, 50, 65, 90, 35, 35, 15);
-        register("Forretress", Bug, Steel, 75, 90, 140, 60, 60, 40);
-        register("Dunsparce", Normal, null, 100, 70, 70, 65, 65, 45);
-        register("Gligar", Ground, Flying, 65, 75, 105, 35, 65, 85);
-        register("Steelix", Steel, Ground, 75, 85, 200, 55, 65, 30);
-        register("Mega Steelix", Steel, Ground, 75, 125, 230, 55, 95, 30);
-        register("Snubbull", Fairy, null, 60, 80, 50, 40, 40, 30);
-        register("Granbull", Fairy, null, 90, 120, 75, 60, 60, 45);
-        register("Qwilfish", Water, Poison, 65, 95, 85, 55, 55, 85);
-        register("Hisuian Qwilfish", Dark, Poison, 65, 95, 85, 55, 55, 85);
-        register("Scizor", Bug, Steel, 70, 130, 100, 55, 80, 65);
-        register("Mega Scizor", Bug, Steel, 70, 150, 140, 65, 100, 75);
-        register("Shuckle", Bug, Rock, 20, 10, 230, 10, 230, 5);
-        register("Heracross", Bug, Fighting, 80, 125, 75, 40, 95, 85);
-        register("Mega Heracross", Bug, Fighting, 80, 185, 115, 40, 105, 75);
-        register("Sneasel", Dark, Ice, 55, 95, 55, 35, 75, 115);
-        register("Hisuian Sneasel", Fighting, Poison, 55, 95, 55, 35, 75, 115);
-        register("Teddiursa", Normal, null, 60, 80, 50, 50, 50, 40);
-        register("Ursaring", Normal, null, 90, 130, 75, 75, 75, 55);
-        register("Slugma", Fire, null, 40, 40, 40, 70, 40, 20);
-        register("Magcargo", Fire, Rock, 60, 50, 120, 90, 80, 30);
-        register("Swinub", Ice, Ground, 50, 50, 40, 30, 30, 50);
-        register("Piloswine", Ice, Ground, 100, 100, 80, 60, 60, 50);
-        register("Corsola", Water, Rock, 65, 55, 95, 65, 95, 35);
-        register("Galarian Corsola", Ghost, null, 60, 55, 100, 65, 100, 30);
-        register("Remoraid", Water, null, 35, 65, 35, 65, 35, 65);
-        register("Octillery", Water, null, 75, 105, 75, 105, 75, 45);
-        register("Delibird", Ice, Flying, 45, 55, 45, 65, 45, 75);
-        register("Mantine", Water, Flying, 85, 40, 70, 80, 140, 70);
-        register("Skarmory", Steel, Flying, 65, 80, 140, 40, 70, 70);
-        register("Houndour", Dark, Fire, 45, 60, 30, 80, 50, 65);
-        register("Houndoom", Dark, Fire, 75, 90, 50, 110, 80, 95);
-        register("Mega Houndoom", Dark, Fire, 75, 90, 90, 140, 90, 115);
-        register("Kingdra", Water, Dragon, 75, 95, 95, 95, 95, 85);
-        register("Phanpy", Ground, null, 90, 60, 60, 40, 40, 40);
-        register("Donphan", Ground, null, 90, 120, 120, 60, 60, 50);
-        register("Porygon2", Normal, null, 85, 80, 90, 105, 95, 60);
-        register("Stantler", Normal, null, 73, 95, 62, 85, 65, 85);
-        register("Smeargle", Normal, null, 55, 20, 35, 20, 45, 75);
-        register("Tyrogue", Fighting, null, 35, 35, 35, 35, 35, 35);
-        register("Hitmontop", Fighting, null, 50, 95, 95, 35, 110, 70);
-        register("Smoochum", Ice, Psychic, 45, 30, 15, 85, 65, 65);
-        register("Elekid", Electric, null, 45, 63, 37, 65, 55, 95);
-        register("Magby", Fire, null, 45, 75, 37, 70, 55, 83);
-        register("Miltank", Normal, null, 95, 80, 105, 40, 70, 100);
-        register("Blissey", Normal, null, 255, 10, 10, 75, 135, 55);
-        register("Raikou", Electric, null, 90, 85, 75, 115, 100, 115);
-        register("Entei", Fire, null, 115, 115, 85, 90, 75, 100);
-        register("Suicune", Water, null, 100, 75, 115, 90, 115, 85);
-        register("Larvitar", Rock, Ground, 50, 64, 50, 45, 50, 41);
-        register("Pupitar", Rock, Ground, 70, 84, 70, 65, 70, 51);
-        register("Tyranitar", Rock, Dark, 100, 134, 110, 95, 100, 61);
-        register("Mega Tyranitar", Rock, Dark, 100, 164, 150, 95, 120, 71);
-        register("Lugia", Psychic, Flying, 106, 90, 130, 90, 154, 110);
-        register("Ho-oh", Fire, Flying, 106, 130, 90, 110, 154, 90);
-        register("Celebi", Psychic, Grass, 100, 100, 100, 100, 100, 100);
-        register("Treecko", Grass, null, 40, 45, 35, 65, 55, 70);
-        register("Grovyle", Grass, null, 50, 65, 45, 85, 65, 95);
-        register("Sceptile", Grass, null, 70, 85, 65, 105, 85, 120);
-        register("Mega Sceptile", Grass, Dragon, 70, 110, 75, 145, 85, 145);
-        register("Torchic", Fire, null, 45, 60, 40, 70, 50, 45);
-        register("Combusken", Fire, Fighting, 60, 85, 60, 85, 60, 55);
-        register("Blaziken", Fire, Fighting, 80, 120, 70, 110, 70, 80);
-        register("Mega Blaziken", Fire, Fighting, 80, 160, 80, 130, 80, 100);
-        register("Mudkip", Water, null, 50, 70, 50, 50, 50, 40);
-        register("Marshtomp", Water, Ground, 70, 85, 70, 60, 70, 50);
-        register("Swampert", Water, Ground, 100, 110, 90, 85, 90, 60);
-        register("Mega Swampert", Water, Ground, 100, 150, 110, 95, 110, 70);
-        register("Poochyena", Dark, null, 35, 55, 35, 30, 30, 35);
-        register("Mightyena", Dark, null, 70, 90, 70, 60, 60, 70);
-        register("Zigzagoon", Normal, null, 38, 30, 41, 30, 41, 60);
-        register("Galarian Zigzagoon", Dark, Normal, 38, 30, 41, 30, 41, 60);
-        register("Linoone", Normal, null, 78, 70, 61, 50, 61, 100);
-        register("Galarian Linoone", Dark, Normal, 78, 70, 61, 50, 61, 100);
-        register("Wurmple", Bug, null, 45, 45, 35, 20, 30, 20);
-        register("Silcoon", Bug, null, 50, 35, 55, 25, 25, 15);
-        register("Beautifly", Bug, Flying, 60, 70, 50, 100, 50, 65);
-        register("Cascoon", Bug, null, 50, 35, 55, 25, 25, 15);
-        register("Dustox", Bug, Poison, 60, 50, 70, 50, 90, 65);
-        register("Lotad", Water, Grass, 40, 30, 30, 40, 50, 30);
-        register("Lombre", Water, Grass, 60, 50, 50, 60, 70, 50);
-        register("Ludicolo", Water, Grass, 80, 70, 70, 90, 100, 70);
-        register("Seedot", Grass, null, 40, 40, 50, 30, 30, 30);
-        register("Nuzleaf", Grass, Dark, 70, 70, 40, 60, 40, 60);
-        register("Shiftry", Grass, Dark, 90, 100, 60, 90, 60, 80);
-        register("Taillow", Normal, Flying, 40, 55, 30, 30, 30, 85);
-        register("Swellow", Normal, Flying, 60, 85, 60, 75, 50, 125);
-        register("Wingull", Water, Flying, 40, 30, 30, 55, 30, 85);
-        register("Pelipper", Water, Flying, 60, 50, 100, 95, 70, 65);
-        register("Ralts", Psychic, Fairy, 28, 25, 25, 45, 35, 40);
-        register("Kirlia", Psychic, Fairy, 38, 35, 35, 65, 55, 50);
-        register("Gardevoir", Psychic, Fairy, 68, 65, 65, 125, 115, 80);
-        register("Mega Gardevoir", Psychic, Fairy, 68, 85, 65, 165, 135, 100);
-        register("Surskit", Bug, Water, 40, 30, 32, 50, 52, 65);
-        register("Masquerain", Bug, Flying, 70, 60, 62, 100, 82, 80);
-        register("Shroomish", Grass, null, 60, 40, 60, 40, 60, 35);
-        register("Breloom", Grass, Fighting, 60, 130, 80, 60, 60, 70);
-        register("Slakoth", Normal, null, 60, 60, 60, 35, 35, 30);
-        register("Vigoroth", Normal, null, 80, 80, 80, 55, 55, 90);
-        register("Slaking", Normal, null, 150, 160, 100, 95, 65, 100);
-        register("Nincada", Bug, Ground, 31, 45, 90, 30, 30, 40);
-        register("Ninjask", Bug, Flying, 61, 90, 45, 50, 50, 160);
-        register("Shedinja", Bug, Ghost, 1, 90, 45, 30, 30, 40);
-        register("Whismur", Normal, null, 64, 51, 23, 51, 23, 28);
-        register("Loudred", Normal, null, 84, 71, 43, 71, 43, 48);
-        register("Exploud", Normal, null, 104, 91, 63, 91, 73, 68);
-        register("Makuhita", Fighting, null, 72, 60, 30, 20, 30, 25);
-        register("Hariyama", Fighting, null, 144, 120, 60, 40, 60, 50);
-        register("Azurill", Normal, Fairy, 50, 20, 40, 20, 40, 20);
-        register("Nosepass", Rock, null, 30, 45, 135, 45, 90, 30);
-        register("Skitty", Normal, null, 50, 45, 45, 35, 35, 50);
-        register("Delcatty", Normal, null, 70, 65, 65, 55, 55, 90);
-        register("Sableye", Dark, Ghost, 50, 75, 75, 65, 65, 50);
-        register("Mega Sableye", Dark, Ghost, 50, 85, 125, 85, 115, 20);
-        register("Mawile", Steel, Fairy, 50, 85, 85, 55, 55, 50);
-        register("Mega Mawile", Steel, Fairy, 50, 105, 125, 55, 95, 50);
-        register("Aron", Steel, Rock, 50, 70, 100, 40, 40, 30);
-        register("Lairon", Steel, Rock, 60, 90, 140, 50, 50, 40);
-        register("Aggron", Steel, Rock, 70, 110, 180, 60, 60, 50);
-        register("Mega Aggron", Steel, null, 70, 140, 230, 60, 80, 50);
-        register("Meditite", Fighting, Psychic, 30, 40, 55, 40, 55, 60);
-        register("Medicham", Fighting, Psychic, 60, 60, 75, 60, 75, 80);
-        register("Mega Medicham", Fighting, Psychic, 60, 100, 85, 80, 85, 100);
-        register("Electrike", Electric, null, 40, 45, 40, 65, 40, 65);
-        register("Manectric", Electric, null, 70, 75, 60, 105, 60, 105);
-        register("Mega Manectric", Electric, null, 70, 75, 80, 135, 80, 135);
-        register("Plusle", Electric, null, 60, 50, 40, 85, 75, 95);
-        register("Minun", Electric, null, 60, 40, 50, 75, 85, 95);
-        register("Volbeat", Bug, null, 65, 73, 75, 47, 85, 85);
-        register("Illumise", Bug, null, 65, 47, 75, 73, 85, 85);
-        register("Roselia", Grass, Poison, 50, 60, 45, 100, 80, 65);
-        register("Gulpin", Poison, null, 70, 43, 53, 43, 53, 40);
-        register("Swalot", Poison, null, 100, 73, 83, 73, 83, 55);
-        register("Carvanha", Water, Dark, 45, 90, 20, 65, 20, 65);
-        register("Sharpedo", Water, Dark, 70, 120, 40, 95, 40, 95);
-        register("Mega Sharpedo", Water, Dark, 70, 140, 70, 110, 65, 105);
-        register("Wailmer", Water, null, 130, 70, 35, 70, 35, 60);
-        register("Wailord", Water, null, 170, 90, 45, 90, 45, 60);
-        register("Numel", Fire, Ground, 60, 60, 40, 65, 45, 35);
-        register("Camerupt", Fire, Ground, 70, 100, 70, 105, 75, 40);
-        register("Mega Camerupt", Fire, Ground, 70, 120, 100, 145, 105, 20);
-        register("Torkoal", Fire, null, 70, 85, 140, 85, 70, 20);
-        register("Spoink", Psychic, null, 60, 25, 35, 70, 80, 60);
-        register("Grumpig", Psychic, null, 80, 45, 65, 90, 110, 80);
-        register("Spinda", Normal, null, 60, 60, 60, 60, 60, 60);
-        register("Trapinch", Ground, null, 45, 100, 45, 45, 45, 10);
-        register("Vibrava", Ground, Dragon, 50, 70, 50, 50, 50, 70);
-        register("Flygon", Ground, Dragon, 80, 100, 80, 80, 80, 100);
-        register("Cacnea", Grass, null, 50, 85, 40, 85, 40, 35);
-        register("Cacturne", Grass, Dark, 70, 115, 60, 115, 60, 55);
-        register("Swablu", Normal, Flying, 45, 40, 60, 40, 75, 50);
-        register("Altaria", Dragon, Flying, 75, 70, 90, 70, 105, 80);
-        register("Mega Altaria", Dragon, Fairy, 75, 110, 110, 110, 105, 80);
-        register("Zangoose", Normal, null, 73, 115, 60, 60, 60, 90);
-        register("Seviper", Poison, null, 73, 100, 60, 100, 60, 65);
-        register("Lunatone", Rock, Psychic, 90, 55, 65, 95, 85, 70);
-        register("Solrock", Rock, Psychic, 90, 95, 85, 55, 65, 70);
-        register("Barboach", Water, Ground, 50, 48, 43, 46, 41, 60);
-        register("Whiscash", Water, Ground, 110, 78, 73, 76, 71, 60);
-        register("Corphish", Water, null, 43, 80, 65, 50, 35, 35);
-        register("Crawdaunt", Water, Dark, 63, 120, 85, 90, 55, 55);
-        register("Baltoy", Ground, Psychic, 40, 40, 55, 40, 70, 55);
-        register("Claydol", Ground, Psychic, 60, 70, 105, 70, 120, 75);
-        register("Lileep", Rock, Grass, 66, 41, 77, 61, 87, 23);
-        register("Cradily", Rock, Grass, 86, 81, 97, 81, 107, 43);
-        register("Anorith", Rock, Bug, 45, 95, 50, 40, 50, 75);
-        register("Armaldo", Rock, Bug, 75, 125, 100, 70, 80, 45);
-        register("Feebas", Water, null, 20, 15, 20, 10, 55, 80);
-        register("Milotic", Water, null, 95, 60, 79, 100, 125, 81);
-        register("Castform", Normal, null, 70, 70, 70, 70, 70, 70);
-        register("Castform Sunny Form", Fire, null, 70, 70, 70, 70, 70, 70);
-        register("Castform Rainy Form", Water, null, 70, 70, 70, 70, 70, 70);
-        register("Castform Snowy Form", Ice, null, 70, 70, 70, 70, 70, 70);
-        register("Kecleon", Normal, null, 60, 90, 70, 60, 120, 40);
-        register("Shuppet", Ghost, null, 44, 75, 35, 63, 33, 45);
-        register("Banette", Ghost, null, 64, 115, 65, 83, 63, 65);
-        register("Mega Banette", Ghost, null, 64, 165, 75, 93, 83, 75);
-        register("Duskull", Ghost, null, 20, 40, 90, 30, 90, 25);
-        register("Dusclops", Ghost, null, 40, 70, 130, 60, 130, 25);
-        register("Tropius", Grass, Flying, 99, 68, 83, 72, 87, 51);
-        register("Chimecho", Psychic, null, 75, 50, 80, 95, 90, 65);
-        register("Absol", Dark, null, 65, 130, 60, 75, 60, 75);
-        register("Mega Absol", Dark, null, 65, 150, 60, 115, 60, 115);
-        register("Wynaut", Psychic, null, 95, 23, 48, 23, 48, 23);
-        register("Snorunt", Ice, null, 50, 50, 50, 50, 50, 50);
-        register("Glalie", Ice, null, 80, 80, 80, 80, 80, 80);
-        register("Mega Glalie", Ice, null, 80, 120, 80, 120, 80, 100);
-        register("Spheal", Ice, Water, 70, 40, 50, 55, 50, 25);
-        register("Sealeo", Ice, Water, 90, 60, 70, 75, 70, 45);
-        register("Walrein", Ice, Water, 110, 80, 90, 95, 90, 65);
-        register("Clamperl", Water, null, 35, 64, 85, 74, 55, 32);
-        register("Huntail", Water, null, 55, 104, 105, 94, 75, 52);
-        register("Gorebyss", Water, null, 55, 84, 105, 114, 75, 52);
-        register("Relicanth", Water, Rock, 100, 90, 130, 45, 65, 55);
-        register("Luvdisc", Water, null, 43, 30, 55, 40, 65, 97);
-        register("Bagon", Dragon, null, 45, 75, 60, 40, 30, 50);
-        register("Shelgon", Dragon, null, 65, 95, 100, 60, 50, 50);
-        register("Salamence", Dragon, Flying, 95, 135, 80, 110, 80, 100);
-        register("Mega Salamence", Dragon, Flying, 95, 145, 130, 120, 90, 120);
-        register("Beldum", Steel, Psychic, 40, 55, 80, 35, 60, 30);
-        register("Metang", Steel, Psychic, 60, 75, 100, 55, 80, 50);
-        register("Metagross", Steel, Psychic, 80, 135, 130, 95, 90, 70);
-        register("Mega Metagross", Steel, Psychic, 80, 145, 150, 105, 110, 110);
-        register("Regirock", Rock, null, 80, 100, 200, 50, 100, 50);
-        register("Regice", Ice, null, 80, 50, 100, 100, 200, 50);
-        register("Registeel", Steel, null, 80, 75, 150, 75, 150, 50);
-        register("Latias", Dragon, Psychic, 80, 80, 90, 110, 130, 110);
-        register("Mega Latias", Dragon, Psychic, 80, 100, 120, 140, 150, 110);
-        register("Latios", Dragon, Psychic, 80, 90, 80, 130, 110, 110);
-        register("Mega Latios", Dragon, Psychic, 80, 130, 100, 160, 120, 110);
-        register("Kyogre", Water, null, 100, 100, 90, 150, 140, 90);
-        register("Primal Kyogre", Water, null, 100, 150, 90, 180, 160, 90);
-        register("Groudon", Ground, null, 100, 150, 140, 100, 90, 90);
-        register("Primal Groudon", Ground, Fire, 100, 180, 160, 150, 90, 90);
-        register("Rayquaza", Dragon, Flying, 105, 150, 90, 150, 90, 95);
-        register("Mega Rayquaza", Dragon, Flying, 105, 180, 100, 180, 100, 115);
-        register("Jirachi", Steel, Psychic, 100, 100, 100, 100, 100, 100);
-        register("Deoxys Normal Forme", Psychic, null, 50, 150, 50, 150, 50, 150);
-        register("Deoxys Attack Forme", Psychic, null, 50, 180, 20, 180, 20, 150);
-        register("Deoxys Defense Forme", Psychic, null, 50, 70, 160, 70, 160, 90);
-        register("Deoxys Speed Forme", Psychic, null, 50, 95, 90, 95, 90, 180);
-        register("Turtwig", Grass, null, 55, 68, 64, 45, 55, 31);
-        register("Grotle", Grass, null, 75, 89, 85, 55, 65, 36);
-        register("Torterra", Grass, Ground, 95, 109, 105, 75, 85, 56);
-        register("Chimchar", Fire, null, 44, 58, 44, 58, 44, 61);
-        register("Monferno", Fire, Fighting, 64, 78, 52, 78, 52, 81);
-        register("Infernape", Fire, Fighting, 76, 104, 71, 104, 71, 108);
-        register("Piplup", Water, null, 53, 51, 53, 61, 56, 40);
-        register("Prinplup", Water, null, 64, 66, 68, 81, 76, 50);
-        register("Empoleon", Water, Steel, 84, 86, 88, 111, 101, 60);
-        register("Starly", Normal, Flying, 40, 55, 30, 30, 30, 60);
-        register("Staravia", Normal, Flying, 55, 75, 50, 40, 40, 80);
-        register("Staraptor", Normal, Flying, 85, 120, 70, 50, 60, 100);
-        register("Bidoof", Normal, null, 59, 45, 40, 35, 40, 31);
-        register("Bibarel", Normal, Water, 79, 85, 60, 55, 60, 71);
-        register("Kricketot", Bug, null, 37, 25, 41, 25, 41, 25);
-        register("Kricketune", Bug, null, 77, 85, 51, 55, 51, 65);
-        register("Shinx", Electric, null, 45, 65, 34, 40, 34, 45);
-        register("Luxio", Electric, null, 60, 85, 49, 60, 49, 60);
-        register("Luxray", Electric, null, 80, 120, 79, 95, 79, 70);
-        register("Budew", Grass, Poison, 40, 30, 35, 50, 70, 55);
-        register("Roserade", Grass, Poison, 60, 70, 65, 125, 105, 90);
-        register("Cranidos", Rock, null, 67, 125, 40, 30, 30, 58);
-        register("Rampardos", Rock, null, 97, 165, 60, 65, 50, 58);
-        register("Shieldon", Rock, Steel, 30, 42, 118, 42, 88, 30);
-        register("Bastiodon", Rock, Steel, 60, 52, 168, 47, 138, 30);
-        register("Burmy Plant Cloak", Bug, null, 40, 29, 45, 29, 45, 36);
-        register("Burmy Sandy Cloak", Bug, null, 40, 29, 45, 29, 45, 36);
-        register("Burmy Trash Cloak", Bug, null, 40, 29, 45, 29, 45, 36);
-        register("Wormadam Plant Cloak", Bug, Grass, 60, 59, 85, 79, 105, 36);
-        register("Wormadam Sandy Cloak", Bug, Ground, 60, 79, 105, 59, 85, 36);
-        register("Wormadam Trash Cloak", Bug, Steel, 60, 69, 95, 69, 95, 36);
-        register("Mothim", Bug, Flying, 70, 94, 50, 94, 50, 66);
-        register("Combee", Bug, Flying, 30, 30, 42, 30, 42, 70);
-        register("Vespiquen", Bug, Flying, 70, 80, 102, 80, 102, 40);
-        register("Pachirisu", Electric, null, 60, 45, 70, 45, 90, 95);
-        register("Buizel", Water, null, 55, 65, 35, 60, 30, 85);
-        register("Floatzel", Water, null, 85, 105, 55, 85, 50, 115);
-        register("Cherubi", Grass, null, 45, 35, 45, 62, 53, 35);
-        register("Cherrim", Grass, null, 70, 60, 70, 87, 78, 85);
-        register("Shellos", Water, null, 76, 48, 48, 57, 62, 34);
-        register("Gastrodon", Water, Ground, 111, 83, 68, 92, 82, 39);
-        register("Ambipom", Normal, null, 75, 100, 66, 60, 66, 115);
-        register("Drifloon", Ghost, Flying, 90, 50, 34, 60, 44, 70);
-        register("Drifblim", Ghost, Flying, 150, 80, 44, 90, 54, 80);
-        register("Buneary", Normal, null, 55, 66, 44, 44, 56, 85);
-        register("Lopunny", Normal, null, 65, 76, 84, 54, 96, 105);
-        register("Mega Lopunny", Normal, Fighting, 65, 136, 94, 54, 96, 135);
-        register("Mismagius", Ghost, null, 60, 60, 60, 105, 105, 105);
-        register("Honchkrow", Dark, Flying, 100, 125, 52, 105, 52, 71);
-        register("Glameow", Normal, null, 49, 55, 42, 42, 37, 85);
-        register("Purugly", Normal, null, 71, 82, 64, 64, 59, 112);
-        register("Chingling", Psychic, null, 45, 30, 50, 65, 50, 45);
-        register("Stunky", Poison, Dark, 63, 63, 47, 41, 41, 74);
-        register("Skuntank", Poison, Dark, 103, 93, 67, 71, 61, 84);
-        register("Bronzor", Steel, Psychic, 57, 24, 86, 24, 86, 23);
-        register("Bronzong", Steel, Psychic, 67, 89, 116, 79, 116, 33);
-        register("Bonsly", Rock, null, 50, 80, 95, 10, 45, 10);
-        register("Mime Jr.", Psychic, Fairy, 20, 25, 45, 70, 90, 60);
-        register("Happiny", Normal, null, 100, 5, 5, 15, 65, 30);
-        register("Chatot", Normal, Flying, 76, 65, 45, 92, 42, 91);
-        register("Spiritomb", Ghost, Dark, 50, 92, 108, 92, 108, 35);
-        register("Gible", Dragon, Ground, 58, 70, 45, 40, 45, 42);
-        register("Gabite", Dragon, Ground, 68, 90, 65, 50, 55, 82);
-        register("Garchomp", Dragon, Ground, 108, 130, 95, 80, 85, 102);
-        register("Mega Garchomp", Dragon, Ground, 108, 170, 115, 120, 95, 92);
-        register("Munchlax", Normal, null, 135, 85, 40, 40, 85, 5);
-        register("Riolu", Fighting, null, 40, 70, 40, 35, 40, 60);
-        register("Lucario", Fighting, Steel, 70, 110, 70, 115, 70, 90);
-        register("Mega Lucario", Fighting, Steel, 70, 145, 88, 140, 70, 112);
-        register("Hippopotas", Ground, null, 68, 72, 78, 38, 42, 32);
-        register("Hippowdon", Ground, null, 108, 112, 118, 68, 72, 47);
-        register("Skorupi", Poison, Bug, 40, 50, 90, 30, 55, 65);
-        register("Drapion", Poison, Dark, 70, 90, 110, 60, 75, 95);
-        register("Croagunk", Poison, Fighting, 48, 61, 40, 61, 40, 50);
-        register("Toxicroak", Poison, Fighting, 83, 106, 65, 86, 65, 85);
-        register("Carnivine", Grass, null, 74, 100, 72, 90, 72, 46);
-        register("Finneon", Water, null, 49, 49, 56, 49, 61, 66);
-        register("Lumineon", Water, null, 69, 69, 76, 69, 86, 91);
-        register("Mantyke", Water, Flying, 45, 20, 50, 60, 120, 50);
-        register("Snover", Grass, Ice, 60, 62, 50, 62, 60, 40);
-        register("Abomasnow", Grass, Ice, 90, 92, 75, 92, 85, 60);
-        register("Mega Abomasnow", Grass, Ice, 90, 132, 105, 132, 105, 30);
-        register("Weavile", Dark, Ice, 70, 120, 65, 45, 85, 125);
-        register("Magnezone", Electric, Steel, 70, 70, 115, 130, 90, 60);
-        register("Lickilicky", Normal, null, 110, 85, 95, 80, 95, 50);
-        register("Rhyperior", Ground, Rock, 115, 140, 130, 55, 55, 40);
-        register("Tangrowth", Grass, null, 100, 100, 125, 110, 50, 50);
-        register("Electivire", Electric, null, 75, 123, 67, 95, 85, 95);
-        register("Magmortar", Fire, null, 75, 95, 67, 125, 95, 83);
-        register("Togekiss", Fairy, Flying, 85, 50, 95, 120, 115, 80);
-        register("Yanmega", Bug, Flying, 86, 76, 86, 116, 56, 95);
-        register("Leafeon", Grass, null, 65, 110, 130, 60, 65, 95);
-        register("Glaceon", Ice, null, 65, 60, 110, 130, 95, 65);
-        register("Gliscor", Ground, Flying, 75, 95, 125, 45, 75, 95);
-        register("Mamoswine", Ice, Ground, 110, 130, 80, 70, 60, 80);
-        register("Porygon-Z", Normal, null, 85, 80, 70, 135, 75, 90);
-        register("Gallade", Psychic, Fighting, 68, 125, 65, 65, 115, 80);
-        register("Mega Gallade", Psychic, Fighting, 68, 165, 95, 65, 115, 110);
-        register("Probopass", Rock, Steel, 60, 55, 145, 75, 150, 40);
-        register("Dusknoir", Ghost, null, 45, 100, 135, 65, 135, 45);
-        register("Froslass", Ice, Ghost, 70, 80, 70, 80, 70, 110);
-        register("Rotom", Electric, Ghost, 50, 50, 77, 95, 77, 91);
-        register("Rotom Heat Rotom", Electric, Fire, 50, 65, 107, 105, 107, 86);
-        register("Rotom Wash Rotom", Electric, Water, 50, 65, 107, 105, 107, 86);
-        register("Rotom Frost Rotom", Electric, Ice, 50, 65, 107, 105, 107, 86);
-        register("Rotom Fan Rotom", Electric, Flying, 50, 65, 107, 105, 107, 86);
-        register("Rotom Mow Rotom", Electric, Grass, 50, 65, 107, 105, 107, 86);
-        register("Uxie", Psychic, null, 75, 75, 130, 75, 130, 95);
-        register("Mesprit", Psychic, null, 80, 105, 105, 105, 105, 80);
-        register("Azelf", Psychic, null, 75, 125, 70, 125, 70, 115);
-        register("Dialga", Steel, Dragon, 100, 120, 120, 150, 100, 90);
-        register("Dialga Origin Forme", Steel, Dragon, 100, 100, 120, 150, 120, 90);
-        register("Palkia", Water, Dragon, 90, 120, 100, 150, 120, 100);
-        register("Palkia Origin Forme", Water, Dragon, 90, 100, 100, 150, 120, 120);
-        register("Heatran", Fire, Steel, 91, 90, 106, 130, 106, 77);
-        register("Regigigas", Normal, null, 110, 160, 110, 80, 110, 100);
-        register("Giratina Altered Forme", Ghost, Dragon, 150, 100, 120, 100, 120, 90);
-        register("Giratina Origin Forme", Ghost, Dragon, 150, 120, 100, 120, 100, 90);
-        register("Cresselia", Psychic, null, 120, 70, 110, 75, 120, 85);
-        register("Phione", Water, null, 80, 80, 80, 80, 80, 80);
-        register("Manaphy", Water, null, 100, 100, 100, 100, 100, 100);
-        register("Darkrai", Dark, null, 70, 90, 90, 135, 90, 125);
-        register("Shaymin Land Forme", Grass, null, 100, 100, 100, 100, 100, 100);
-        register("Shaymin Sky Forme", Grass, Flying, 100, 103, 75, 120, 75, 127);
-        register("Arceus", Normal, null, 120, 120, 120, 120, 120, 120);
-        register("Victini", Psychic, Fire, 100, 100, 100, 100, 100, 100);
-        register("Snivy", Grass, null, 45, 45, 55, 45, 55, 63);
-        register("Servine", Grass, null, 60, 60, 75, 60, 75, 83);
-        register("Serperior", Grass, null, 75, 75, 95, 75, 95, 113);
-        register("Tepig", Fire, null, 65, 63, 45, 45, 45, 45);
-        register("Pignite", Fire, Fighting, 90, 93, 55, 70, 55, 55);
-        register("Emboar", Fire, Fighting, 110, 123, 65, 100, 65, 65);
-        register("Oshawott", Water, null, 55, 55, 45, 63, 45, 45);
-        register("Dewott", Water, null, 75, 75, 60, 83, 60, 60);
-        register("Samurott", Water, null, 95, 100, 85, 108, 70, 70);
-        register("Hisuian Samurott", Water, Dark, 90, 108, 80, 100, 65, 85);
-        register("Patrat", Normal, null, 45, 55, 39, 35, 39, 42);
-        register("Watchog", Normal, null, 60, 85, 69, 60, 69, 77);
-        register("Lillipup", Normal, null, 45, 60, 45, 25, 45, 55);
-        register("Herdier", Normal, null, 65, 80, 65, 35, 65, 60);
-        register("Stoutland", Normal, null, 85, 110, 90, 45, 90, 80);
-        register("Purrloin", Dark, null, 41, 50, 37, 50, 37, 66);
-        register("Liepard", Dark, null, 64, 88, 50, 88, 50, 106);
-        register("Pansage", Grass, null, 50, 53, 48, 53, 48, 64);
-        register("Simisage", Grass, null, 75, 98, 63, 98, 63, 101);
-        register("Pansear", Fire, null, 50, 53, 48, 53, 48, 64);
-        register("Simisear", Fire, null, 75, 98, 63, 98, 63, 101);
-        register("Panpour", Water, null, 50, 53, 48, 53, 48, 64);
-        register("Simipour", Water, null, 75, 98, 63, 98, 63, 101);
-        register("Munna", Psychic, null, 76, 25, 45, 67, 55, 24);
-        register("Musharna", Psychic, null, 116, 55, 85, 107, 95, 29);
-        register("Pidove", Normal, Flying, 50, 55, 50, 36, 30, 43);
-        register("Tranquill", Normal, Flying, 62, 77, 62, 50, 42, 65);
-        register("Unfezant", Normal, Flying, 80, 115, 80, 65, 55, 93);
-        register("Blitzle", Electric, null, 45, 60, 32, 50, 32, 76);
-        register("Zebstrika", Electric, null, 75, 100, 63, 80, 63, 116);
-        register("Roggenrola", Rock, null, 55, 75, 85, 25, 25, 15);
-        register("Boldore", Rock, null, 70, 105, 105, 50, 40, 20);
-        register("Gigalith", Rock, null, 85, 135, 130, 60, 80, 25);
-        register("Woobat", Psychic, Flying, 65, 45, 43, 55, 43, 72);
-        register("Swoobat", Psychic, Flying, 67, 57, 55, 77, 55, 114);
-        register("Drilbur", Ground, null, 60, 85, 40, 30, 45, 68);
-        register("Excadrill", Ground, Steel, 110, 135, 60, 50, 65, 88);
-        register("Audino", Normal, null, 103, 60, 86, 60, 86, 50);
-        register("Mega Audino", Normal, Fairy, 103, 60, 126, 80, 126, 50);
-        register("Timburr", Fighting, null, 75, 80, 55, 25, 35, 35);
-        register("Gurdurr", Fighting, null, 85, 105, 85, 40, 50, 40);
-        register("Conkeldurr", Fighting, null, 105, 140, 95, 55, 65, 45);
-        register("Tympole", Water, null, 50, 50, 40, 50, 40, 64);
-        register("Palpitoad", Water, Ground, 75, 65, 55, 65, 55, 69);
-        register("Seismitoad", Water, Ground, 105, 95, 75, 85, 75, 74);
-        register("Throh", Fighting, null, 120, 100, 85, 30, 85, 45);
-        register("Sawk", Fighting, null, 75, 125, 75, 30, 75, 85);
-        register("Sewaddle", Bug, Grass, 45, 53, 70, 40, 60, 42);
-        register("Swadloon", Bug, Grass, 55, 63, 90, 50, 80, 42);
-        register("Leavanny", Bug, Grass, 75, 103, 80, 70, 80, 92);
-        register("Venipede", Bug, Poison, 30, 45, 59, 30, 39, 57);
-        register("Whirlipede", Bug, Poison, 40, 55, 99, 40, 79, 47);
-        register("Scolipede", Bug, Poison, 60, 100, 89, 55, 69, 112);
-        register("Cottonee", Grass, Fairy, 40, 27, 60, 37, 50, 66);
-        register("Whimsicott", Grass, Fairy, 60, 67, 85, 77, 75, 116);
-        register("Petilil", Grass, null, 45, 35, 50, 70, 50, 30);
-        register("Lilligant", Grass, null, 70, 60, 75, 110, 75, 90);
-        register("Lilligant Hisuian Lilligant", Grass, Fighting, 70, 105, 75, 50, 75, 105);
-        register("Basculin Red-Striped Form", Water, null, 70, 92, 65, 80, 55, 98);
-        register("Basculin Blue-Striped Form", Water, null, 70, 92, 65, 80, 55, 98);
-        register("Basculin White-Striped Form", Water, null, 70, 92, 65, 80, 55, 98);
-        register("Sandile", Ground, Dark, 50, 72, 35, 35, 35, 65);
-        register("Krokorok", Ground, Dark, 60, 82, 45, 45, 45, 74);
-        register("Krookodile", Ground, Dark, 95, 117, 80, 65, 70, 92);
-        register("Darumaka", Fire, null, 70, 90, 45, 15, 45, 50);
-        register("Galarian Darumaka", Ice, null, 70, 90, 45, 15, 45, 50);
-        register("Darmanitan Standard Mode", Fire, null, 105, 140, 55, 30, 55, 95);
-        register("Darmanitan Zen Mode", Fire, Psychic, 105, 30, 105, 140, 105, 55);
-        register("Galarian Standard Mode", Ice, null, 105, 140, 55, 30, 55, 95);
-        register("Galarian Zen Mode", Ice, Fire, 105, 160, 55, 30, 55, 135);
-        register("Maractus", Grass, null, 75, 86, 67, 106, 67, 60);
-        register("Dwebble", Bug, Rock, 50, 65, 85, 35, 35, 55);
-        register("Crustle", Bug, Rock, 70, 105, 125, 65, 75, 45);
-        register("Scraggy", Dark, Fighting, 50, 75, 70, 35, 70, 48);
-        register("Scrafty", Dark, Fighting, 65, 90, 115, 45, 115, 58);
-        register("Sigilyph", Psychic, Flying, 72, 58, 80, 103, 80, 97);
-        register("Yamask", Ghost, null, 38, 30, 85, 55, 65, 30);
-        register("Galarian Yamask", Ground, Ghost, 38, 55, 85, 30, 65, 30);
-        register("Cofagrigus", Ghost, null, 58, 50, 145, 95, 105, 30);
-        register("Tirtouga", Water, Rock, 54, 78, 103, 53, 45, 22);
-        register("Carracosta", Water, Rock, 74, 108, 133, 83, 65, 32);
-        register("Archen", Rock, Flying, 55, 112, 45, 74, 45, 70);
-        register("Archeops", Rock, Flying, 75, 140, 65, 112, 65, 110);
-        register("Trubbish", Poison, null, 50, 50, 62, 40, 62, 65);
-        register("Garbodor", Poison, null, 80, 95, 82, 60, 82, 75);
-        register("Zorua", Dark, null, 40, 65, 40, 80, 40, 65);
-        register("Zorua Hisuian Zorua", Normal, Ghost, 35, 60, 40, 85, 40, 70);
-        register("Zoroark", Dark, null, 60, 105, 60, 120, 60, 105);
-        register("Zoroark Hisuian Zoroark", Normal, Ghost, 55, 100, 60, 125, 60, 110);
-        register("Minccino", Normal, null, 55, 50, 40, 40, 40, 75);
-        register("Cinccino", Normal, null, 75, 95, 60, 65, 60, 115);
-        register("Gothita", Psychic, null, 45, 30, 50, 55, 65, 45);
-        register("Gothorita", Psychic, null, 60, 45, 70, 75, 85, 55);
-        register("Gothitelle", Psychic, null, 70, 55, 95, 95, 110, 65);
-        register("Solosis", Psychic, null, 45, 30, 40, 105, 50, 20);
-        register("Duosion", Psychic, null, 65, 40, 50, 125, 60, 30);
-        register("Reuniclus", Psychic, null, 110, 65, 75, 125, 85, 30);
-        register("Ducklett", Water, Flying, 62, 44, 50, 44, 50, 55);
-        register("Swanna", Water, Flying, 75, 87, 63, 87, 63, 98);
-        register("Vanillite", Ice, null, 36, 50, 50, 65, 60, 44);
-        register("Vanillish", Ice, null, 51, 65, 65, 80, 75, 59);
-        register("Vanilluxe", Ice, null, 71, 95, 85, 110, 95, 79);
-        register("Deerling", Normal, Grass, 60, 60, 50, 40, 50, 75);
-        register("Sawsbuck", Normal, Grass, 80, 100, 70, 60, 70, 95);
-        register("Emolga", Electric, Flying, 55, 75, 60, 75, 60, 103);
-        register("Karrablast", Bug, null, 50, 75, 45, 40, 45, 60);
-        register("Escavalier", Bug, Steel, 70, 135, 105, 60, 105, 20);
-        register("Foongus", Grass, Poison, 69, 55, 45, 55, 55, 15);
-        register("Amoonguss", Grass, Poison, 114, 85, 70, 85, 80, 30);
-        register("Frillish", Water, Ghost, 55, 40, 50, 65, 85, 40);
-        register("Jellicent", Water, Ghost, 100, 60, 70, 85, 105, 60);
-        register("Alomomola", Water, null, 165, 75, 80, 40, 45, 65);
-        register("Joltik", Bug, Electric, 50, 47, 50, 57, 50, 65);
-        register("Galvantula", Bug, Electric, 70, 77, 60, 97, 60, 108);
-        register("Ferroseed", Grass, Steel, 44, 50, 91, 24, 86, 10);
-        register("Ferrothorn", Grass, Steel, 74, 94, 131, 54, 116, 20);
-        register("Klink", Steel, null, 40, 55, 70, 45, 60, 30);
-        register("Klang", Steel, null, 60, 80, 95, 70, 85, 50);
-        register("Klinklang", Steel, null, 60, 100, 115, 70, 85, 90);
-        register("Tynamo", Electric, null, 35, 55, 40, 45, 40, 60);
-        register("Eelektrik", Electric, null, 65, 85, 70, 75, 70, 40);
-        register("Eelektross", Electric, null, 85, 115, 80, 105, 80, 50);
-        register("Elgyem", Psychic, null, 55, 55, 55, 85, 55, 30);
-        register("Beheeyem", Psychic, null, 75, 75, 75, 125, 95, 40);
-        register("Litwick", Ghost, Fire, 50, 30, 55, 65, 55, 20);
-        register("Lampent", Ghost, Fire, 60, 40, 60, 95, 60, 55);
-        register("Chandelure", Ghost, Fire, 60, 55, 90, 145, 90, 80);
-        register("Axew", Dragon, null, 46, 87, 60, 30, 40, 57);
-        register("Fraxure", Dragon, null, 66, 117, 70, 40, 50, 67);
-        register("Haxorus", Dragon, null, 76, 147, 90, 60, 70, 97);
-        register("Cubchoo", Ice, null, 55, 70, 40, 60, 40, 40);
-        register("Beartic", Ice, null, 95, 130, 80, 70, 80, 50);
-        register("Cryogonal", Ice, null, 80, 50, 50, 95, 135, 105);
-        register("Shelmet", Bug, null, 50, 40, 85, 40, 65, 25);
-        register("Accelgor", Bug, null, 80, 70, 40, 100, 60, 145);
-        register("Stunfisk", Ground, Electric, 109, 66, 84, 81, 99, 32);
-        register("Galarian Stunfisk", Ground, Steel, 109, 81, 99, 66, 84, 32);
-        register("Mienfoo", Fighting, null, 45, 85, 50, 55, 50, 65);
-        register("Mienshao", Fighting, null, 65, 125, 60, 95, 60, 105);
-        register("Druddigon", Dragon, null, 77, 120, 90, 60, 90, 48);
-        register("Golett", Ground, Ghost, 59, 74, 50, 35, 50, 35);
-        register("Golurk", Ground, Ghost, 89, 124, 80, 55, 80, 55);
-        register("Pawniard", Dark, Steel, 45, 85, 70, 40, 40, 60);
-        register("Bisharp", Dark, Steel, 65, 125, 100, 60, 70, 70);
-        register("Bouffalant", Normal, null, 95, 110, 95, 40, 95, 55);
-        register("Rufflet", Normal, Flying, 70, 83, 50, 37, 50, 60);
-        register("Braviary", Normal, Flying, 100, 123, 75, 57, 75, 80);
-        register("Braviary Hisuian Braviary", Psychic, Flying, 110, 83, 70, 112, 70, 65);
-        register("Vullaby", Dark, Flying, 70, 55, 75, 45, 65, 60);
-        register("Mandibuzz", Dark, Flying, 110, 65, 105, 55, 95, 80);
-        register("Heatmor", Fire, null, 85, 97, 66, 105, 66, 65);
-        register("Durant", Bug, Steel, 58, 109, 112, 48, 48, 109);
-        register("Deino", Dark, Dragon, 52, 65, 50, 45, 50, 38);
-        register("Zweilous", Dark, Dragon, 72, 85, 70, 65, 70, 58);
-        register("Hydreigon", Dark, Dragon, 92, 105, 90, 125, 90, 98);
-        register("Larvesta", Bug, Fire, 55, 85, 55, 50, 55, 60);
-        register("Volcarona", Bug, Fire, 85, 60, 65, 135, 105, 100);
-        register("Cobalion", Steel, Fighting, 91, 90, 129, 90, 72, 108);
-        register("Terrakion", Rock, Fighting, 91, 129, 90, 72, 90, 108);
-        register("Virizion", Grass, Fighting, 91, 90, 72, 90, 129, 108);
-        register("Tornadus Incarnate Forme", Flying, null, 79, 115, 70, 125, 80, 111);
-        register("Tornadus Therian Forme", Flying, null, 79, 100, 80, 110, 90, 121);
-        register("Thundurus Incarnate Forme", Electric, Flying, 79, 115, 70, 125, 80, 111);
-        register("Thundurus Therian Forme", Electric, Flying, 79, 105, 70, 145, 80, 101);
-        register("Reshiram", Dragon, Fire, 100, 120, 100, 150, 120, 90);
-        register("Zekrom", Dragon, Electric, 100, 150, 120, 120, 100, 90);
-        register("Landorus Incarnate Forme", Ground, Flying, 89, 125, 90, 115, 80, 101);
-        register("Landorus Therian Forme", Ground, Flying, 89, 145, 90, 105, 80, 91);
-        register("Kyurem", Dragon, Ice, 125, 130, 90, 130, 90, 95);
-        register("Kyurem White Kyurem", Dragon, Ice, 125, 120, 90, 170, 100, 95);
-        register("Kyurem Black Kyurem", Dragon, Ice, 125, 170, 100, 120, 90, 95);
-        register("Keldeo Ordinary Form", Water, Fighting, 91, 72, 90, 129, 90, 108);
-        register("Keldeo Resolute Form", Water, Fighting, 91, 72, 90, 129, 90, 108);
-        register("Meloetta Aria Forme", Normal, Psychic, 100, 77, 77, 128, 128, 90);
-        register("Meloetta Pirouette Forme", Normal, Fighting, 100, 128, 90, 77, 77, 128);
-        register("Genesect", Bug, Steel, 71, 120, 95, 120, 95, 99);
-        register("Chespin", Grass, null, 56, 61, 65, 48, 45, 38);
-        register("Quilladin", Grass, null, 61, 78, 95, 56, 58, 57);
-        register("Chesnaught", Grass, Fighting, 88, 107, 122, 74, 75, 64);
-        register("Fennekin", Fire, null, 40, 45, 40, 62, 60, 60);
-        register("Braixen", Fire, null, 59, 59, 58, 90, 70, 73);
-        register("Delphox", Fire, Psychic, 75, 69, 72, 114, 100, 104);
-        register("Froakie", Water, null, 41, 56, 40, 62, 44, 71);
-        register("Frogadier", Water, null, 54, 63, 52, 83, 56, 97);
-        register("Greninja", Water, Dark, 72, 95, 67, 103, 71, 122);
-        register("Greninja Ash-Greninja", Water, Dark, 72, 145, 67, 153, 71, 132);
-        register("Bunnelby", Normal, null, 38, 36, 38, 32, 36, 57);
-        register("Diggersby", Normal, Ground, 85, 56, 77, 50, 77, 78);
-        register("Fletchling", Normal, Flying, 45, 50, 43, 40, 38, 62);
-        register("Fletchinder", Fire, Flying, 62, 73, 55, 56, 52, 84);
-        register("Talonflame", Fire, Flying, 78, 81, 71, 74, 69, 126);
-        register("Scatterbug", Bug, null, 38, 35, 40, 27, 25, 35);
-        register("Spewpa", Bug, null, 45, 22, 60, 27, 30, 29);
-        register("Vivillon", Bug, Flying, 80, 52, 50, 90, 50, 89);
-        register("Litleo", Fire, Normal, 62, 50, 58, 73, 54, 72);
-        register("Pyroar", Fire, Normal, 86, 68, 72, 109, 66, 106);
-        register("FlabΘbΘ", Fairy, null, 44, 38, 39, 61, 79, 42);
-        register("Floette", Fairy, null, 54, 45, 47, 75, 98, 52);
-        register("Florges", Fairy, null, 78, 65, 68, 112, 154, 75);
-        register("Skiddo", Grass, null, 66, 65, 48, 62, 57, 52);
-        register("Gogoat", Grass, null, 123, 100, 62, 97, 81, 68);
-        register("Pancham", Fighting, null, 67, 82, 62, 46, 48, 43);
-        register("Pangoro", Fighting, Dark, 95, 124, 78, 69, 71, 58);
-        register("Furfrou", Normal, null, 75, 80, 60, 65, 90, 102);
-        register("Espurr", Psychic, null, 62, 48, 54, 63, 60, 68);
-        register("Meowstic Male", Psychic, null, 74, 48, 76, 83, 81, 104);
-        register("Meowstic Female", Psychic, null, 74, 48, 76, 83, 81, 104);
-        register("Honedge", Steel, Ghost, 45, 80, 100, 35, 37, 28);
-        register("Doublade", Steel, Ghost, 59, 110, 150, 45, 49, 35);
-        register("Aegislash Shield Forme", Steel, Ghost, 60, 50, 140, 50, 140, 60);
-        register("Aegislash Blade Forme", Steel, Ghost, 60, 140, 50, 140, 50, 60);
-        register("Spritzee", Fairy, null, 78, 52, 60, 63, 65, 23);
-        register("Aromatisse", Fairy, null, 101, 72, 72, 99, 89, 29);
-        register("Swirlix", Fairy, null, 62, 48, 66, 59, 57, 49);
-        register("Slurpuff", Fairy, null, 82, 80, 86, 85, 75, 72);
-        register("Inkay", Dark, Psychic, 53, 54, 53, 37, 46, 45);
-        register("Malamar", Dark, Psychic, 86, 92, 88, 68, 75, 73);
-        register("Mega Malamar", Dark, Psychic, 86, 102, 88, 98, 120, 88);
-        register("Binacle", Rock, Water, 42, 52, 67, 39, 56, 50);
-        register("Barbaracle", Rock, Water, 72, 105, 115, 54, 86, 68);
-        register("Skrelp", Poison, Water, 50, 60, 60, 60, 60, 30);
-        register("Dragalge", Poison, Dragon, 65, 75, 90, 97, 123, 44);
-        register("Clauncher", Water, null, 50, 53, 62, 58, 63, 44);
-        register("Clawitzer", Water, null, 71, 73, 88, 120, 89, 59);
-        register("Helioptile", Electric, Normal, 44, 38, 33, 61, 43, 70);
-        register("Heliolisk", Electric, Normal, 62, 55, 52, 109, 94, 109);
-        register("Tyrunt", Rock, Dragon, 58, 89, 77, 45, 45, 48);
-        register("Tyrantrum", Rock, Dragon, 82, 121, 119, 69, 59, 71);
-        register("Amaura", Rock, Ice, 77, 59, 50, 67, 63, 46);
-        register("Aurorus", Rock, Ice, 123, 77, 72, 99, 92, 58);
-        register("Sylveon", Fairy, null, 95, 65, 65, 110, 130, 60);
-        register("Hawlucha", Fighting, Flying, 78, 92, 75, 74, 63, 118);
-        register("Mega Hawlucha", Fighting, Flying, 78, 137, 100, 74, 93, 118);
-        register("Dedenne", Electric, Fairy, 67, 58, 57, 81, 67, 101);
-        register("Carbink", Rock, Fairy, 50, 50, 150, 50, 150, 50);
-        register("Goomy", Dragon, null, 45, 50, 35, 55, 75, 40);
-        register("Sliggoo", Dragon, null, 68, 75, 53, 83, 113, 60);
-        register("Sliggoo Hisuian Sliggoo", Steel, Dragon, 58, 75, 83, 83, 113, 40);
-        register("Goodra", Dragon, null, 90, 100, 70, 110, 150, 80);
-        register("Goodra Hisuian Goodra", Steel, Dragon, 80, 100, 100, 110, 150, 60);
-        register("Klefki", Steel, Fairy, 57, 80, 91, 80, 87, 75);
-        register("Phantump", Ghost, Grass, 43, 70, 48, 50, 60, 38);
-        register("Trevenant", Ghost, Grass, 85, 110, 76, 65, 82, 56);
-        register("Pumpkaboo Average Size", Ghost, Grass, 49, 66, 70, 44, 55, 51);
-        register("Pumpkaboo Small Size", Ghost, Grass, 44, 66, 70, 44, 55, 56);
-        register("Pumpkaboo Large Size", Ghost, Grass, 54, 66, 70, 44, 55, 46);
-        register("Pumpkaboo Super Size", Ghost, Grass, 59, 66, 70, 44, 55, 41);
-        register("Gourgeist Average Size", Ghost, Grass, 65, 90, 122, 58, 75, 84);
-        register("Gourgeist Small Size", Ghost, Grass, 55, 85, 122, 58, 75, 99);
-        register("Gourgeist Large Size", Ghost, Grass, 75, 95, 122, 58, 75, 69);
-        register("Gourgeist Super Size", Ghost, Grass, 85, 100, 122, 58, 75, 54);
-        register("Bergmite", Ice, null, 55, 69, 85, 32, 35, 28);
-        register("Avalugg", Ice, null, 95, 117, 184, 44, 46, 28);
-        register("Avalugg Hisuian Avalugg", Ice, Rock, 95, 127, 184, 34, 36, 38);
-        register("Noibat", Flying, Dragon, 40, 30, 35, 45, 40, 55);
-        register("Noivern", Flying, Dragon, 85, 70, 80, 97, 80, 123);
-        register("Xerneas", Fairy, null, 126, 131, 95, 131, 98, 99);
-        register("Yveltal", Dark, Flying, 126, 131, 95, 131, 98, 99);
-        register("Zygarde 50% Forme", Dragon, Ground, 108, 100, 121, 81, 95, 95);
-        register("Zygarde 10% Forme", Dragon, Ground, 54, 100, 71, 61, 85, 115);
-        register("Zygarde Complete Forme", Dragon, Ground, 216, 100, 121, 91, 95, 85);
-        register("Diancie", Rock, Fairy, 50, 100, 150, 100, 150, 50);
-        register("Mega Diancie", Rock, Fairy, 50, 160, 110, 160, 110, 110);
-        register("Hoopa Hoopa Confined", Psychic, Ghost, 80, 110, 60, 150, 130, 70);
-        register("Hoopa Hoopa Unbound", Psychic, Dark, 80, 160, 60, 170, 130, 80);
-        register("Volcanion", Fire, Water, 80, 110, 120, 130, 90, 70);
-        register("Rowlet", Grass, Flying, 68, 55, 55, 50, 50, 42);
-        register("Dartrix", Grass, Flying, 78, 75, 75, 70, 70, 52);
-        register("Decidueye", Grass, Ghost, 78, 107, 75, 100, 100, 70);
-        register("Decidueye Hisuian Decidueye", Grass, Fighting, 88, 112, 80, 95, 95, 60);
-        register("Litten", Fire, null, 45, 65, 40, 60, 40, 70);
-        register("Torracat", Fire, null, 65, 85, 50, 80, 50, 90);
-        register("Incineroar", Fire, Dark, 95, 115, 90, 80, 90, 60);
-        register("Popplio", Water, null, 50, 54, 54, 66, 56, 40);
-        register("Brionne", Water, null, 60, 69, 69, 91, 81, 50);
-        register("Primarina", Water, Fairy, 80, 74, 74, 126, 116, 60);
-        register("Pikipek", Normal, Flying, 35, 75, 30, 30, 30, 65);
-        register("Trumbeak", Normal, Flying, 55, 85, 50, 40, 50, 75);
-        register("Toucannon", Normal, Flying, 80, 120, 75, 75, 75, 60);
-        register("Yungoos", Normal, null, 48, 70, 30, 30, 30, 45);
-        register("Gumshoos", Normal, null, 88, 110, 60, 55, 60, 45);
-        register("Grubbin", Bug, null, 47, 62, 45, 55, 45, 46);
-        register("Charjabug", Bug, Electric, 57, 82, 95, 55, 75, 36);
-        register("Vikavolt", Bug, Electric, 77, 70, 90, 145, 75, 43);
-        register("Crabrawler", Fighting, null, 47, 82, 57, 42, 47, 63);
-        register("Crabominable", Fighting, Ice, 97, 132, 77, 62, 67, 43);
-        register("Oricorio Baile Style", Fire, Flying, 75, 70, 70, 98, 70, 93);
-        register("Oricorio Pom-Pom Style", Electric, Flying, 75, 70, 70, 98, 70, 93);
-        register("Oricorio Pa'u Style", Psychic, Flying, 75, 70, 70, 98, 70, 93);
-        register("Oricorio Sensu Style", Ghost, Flying, 75, 70, 70, 98, 70, 93);
-        register("Cutiefly", Bug, Fairy, 40, 45, 40, 55, 40, 84);
-        register("Ribombee", Bug, Fairy, 60, 55, 60, 95, 70, 124);
-        register("Rockruff", Rock, null, 45, 65, 40, 30, 40, 60);
-        register("Rockruff Own Tempo Rockruff", Rock, null, 45, 65, 40, 30, 40, 60);
-        register("Lycanroc Midday Form", Rock, null, 75, 115, 65, 55, 65, 112);
-        register("Lycanroc Midnight Form", Rock, null, 85, 115, 75, 55, 75, 82);
-        register("Lycanroc Dusk Form", Rock, null, 75, 117, 65, 55, 65, 110);
-        register("Wishiwashi Solo Form", Water, null, 45, 20, 20, 25, 25, 40);
-        register("Wishiwashi School Form", Water, null, 45, 140, 130, 140, 135, 30);
-        register("Mareanie", Poison, Water, 50, 53, 62, 43, 52, 45);
-        register("Toxapex", Poison, Water, 50, 63, 152, 53, 142, 35);
-        register("Mudbray", Ground, null, 70, 100, 70, 45, 55, 45);
-        register("Mudsdale", Ground, null, 100, 125, 100, 55, 85, 35);
-        register("Dewpider", Water, Bug, 38, 40, 52, 40, 72, 27);
-        register("Araquanid", Water, Bug, 68, 70, 92, 50, 132, 42);
-        register("Fomantis", Grass, null, 40, 55, 35, 50, 35, 35);
-        register("Lurantis", Grass, null, 70, 105, 90, 80, 90, 45);
-        register("Morelull", Grass, Fairy, 40, 35, 55, 65, 75, 15);
-        register("Shiinotic", Grass, Fairy, 60, 45, 80, 90, 100, 30);
-        register("Salandit", Poison, Fire, 48, 44, 40, 71, 40, 77);
-        register("Salazzle", Poison, Fire, 68, 64, 60, 111, 60, 117);
-        register("Stufful", Normal, Fighting, 70, 75, 50, 45, 50, 50);
-        register("Bewear", Normal, Fighting, 120, 125, 80, 55, 60, 60);
-        register("Bounsweet", Grass, null, 42, 30, 38, 30, 38, 32);
-        register("Steenee", Grass, null, 52, 40, 48, 40, 48, 62);
-        register("Tsareena", Grass, null, 72, 120, 98, 50, 98, 72);
-        register("Comfey", Fairy, null, 51, 52, 90, 82, 110, 100);
-        register("Oranguru", Normal, Psychic, 90, 60, 80, 90, 110, 60);
-        register("Passimian", Fighting, null, 100, 120, 90, 40, 60, 80);
-        register("Wimpod", Bug, Water, 25, 35, 40, 20, 30, 80);
-        register("Golisopod", Bug, Water, 75, 125, 140, 60, 90, 40);
-        register("Sandygast", Ghost, Ground, 55, 55, 80, 70, 45, 15);
-        register("Palossand", Ghost, Ground, 85, 75, 110, 100, 75, 35);
-        register("Pyukumuku", Water, null, 55, 60, 130, 30, 130, 5);
-        register("Type: Null", Normal, null, 95, 95, 95, 95, 95, 59);
-        register("Silvally", Normal, null, 95, 95, 95, 95, 95, 95);
-        register("Minior Meteor Form", Rock, Flying, 60, 60, 100, 60, 100, 60);
-        register("Minior Core Form", Rock, Flying, 60, 100, 60, 100, 60, 120);
-        register("Komala", Normal, null, 65, 115, 65, 75, 95, 65);
-        register("Turtonator", Fire, Dragon, 60, 78, 135, 91, 85, 36);
-        register("Togedemaru", Electric, Steel, 65, 98, 63, 40, 73, 96);
-        register("Mimikyu", Ghost, Fairy, 55, 90, 80, 50, 105, 96);
-        register("Bruxish", Water, Psychic, 68, 105, 70, 70, 70, 92);
-        register("Drampa", Normal, Dragon, 78, 60, 85, 135, 91, 36);
-        register("Dhelmise", Ghost, Grass, 70, 131, 100, 86, 90, 40);
-        register("Jangmo-o", Dragon, null, 45, 55, 65, 45, 45, 45);
-        register("Hakamo-o", Dragon, Fighting, 55, 75, 90, 65, 70, 65);
-        register("Kommo-o", Dragon, Fighting, 75, 110, 125, 100, 105, 85);
-        register("Tapu Koko", Electric, Fairy, 70, 115, 85, 95, 75, 130);
-        register("Tapu Lele", Psychic, Fairy, 70, 85, 75, 130, 115, 95);
-        register("Tapu Bulu", Grass, Fairy, 70, 130, 115, 85, 95, 75);
-        register("Tapu Fini", Water, Fairy, 70, 75, 115, 95, 130, 85);
-        register("Cosmog", Psychic, null, 43, 29, 31, 29, 31, 37);
-        register("Cosmoem", Psychic, null, 43, 29, 131, 29, 131, 37);
-        register("Solgaleo", Psychic, Steel, 137, 137, 107, 113, 89, 97);
-        register("Lunala", Psychic, Ghost, 137, 113, 89, 137, 107, 97);
-        register("Nihilego", Rock, Poison, 109, 53, 47, 127, 131, 103);
-        register("Buzzwole", Bug, Fighting, 107, 139, 139, 53, 53, 79);
-        register("Pheromosa", Bug, Fighting, 71, 137, 37, 137, 37, 151);
-        register("Xurkitree", Electric, null, 83, 89, 71, 173, 71, 83);
-        register("Celesteela", Steel, Flying, 97, 101, 103, 107, 101, 61);
-        register("Kartana", Grass, Steel, 59, 181, 131, 59, 31, 109);
-        register("Guzzlord", Dark, Dragon, 223, 101, 53, 97, 53, 43);
-        register("Necrozma", Psychic, null, 97, 107, 101, 127, 89, 79);
-        register("Necrozma Dusk Mane Necrozma", Psychic, Steel, 97, 157, 127, 113, 109, 77);
-        register("Necrozma Dawn Wings Necrozma", Psychic, Ghost, 97, 113, 109, 157, 127, 77);
-        register("Necrozma Ultra Necrozma", Psychic, Dragon, 97, 167, 97, 167, 97, 129);
-        register("Magearna", Steel, Fairy, 80, 95, 115, 130, 115, 65);
-        register("Marshadow", Fighting, Ghost, 90, 125, 80, 90, 90, 125);
-        register("Poipole", Poison, null, 67, 73, 67, 73, 67, 73);
-        register("Naganadel", Poison, Dragon, 73, 73, 73, 127, 73, 121);
-        register("Stakataka", Rock, Steel, 61, 131, 211, 53, 101, 13);
-        register("Blacephalon", Fire, Ghost, 53, 127, 53, 151, 79, 107);
-        register("Zeraora", Electric, null, 88, 112, 75, 102, 80, 143);
-        register("Meltan", Steel, null, 46, 65, 65, 55, 35, 34);
-        register("Melmetal", Steel, null, 135, 143, 143, 80, 65, 34);
-        register("Grookey", Grass, null, 50, 65, 50, 40, 40, 65);
-        register("Thwackey", Grass, null, 70, 85, 70, 55, 60, 80);
-        register("Rillaboom", Grass, null, 100, 125, 90, 60, 70, 85);
-        register("Scorbunny", Fire, null, 50, 71, 40, 40, 40, 69);
-        register("Raboot", Fire, null, 65, 86, 60, 55, 60, 94);
-        register("Cinderace", Fire, null, 80, 116, 75, 65, 75, 119);
-        register("Sobble", Water, null, 50, 40, 40, 70, 40, 70);
-        register("Drizzile", Water, null, 65, 60, 55, 95, 55, 90);
-        register("Inteleon", Water, null, 70, 85, 65, 125, 65, 120);
-        register("Skwovet", Normal, null, 70, 55, 55, 35, 35, 25);
-        register("Greedent", Normal, null, 120, 95, 95, 55, 75, 20);
-        register("Rookidee", Flying, null, 38, 47, 35, 33, 35, 57);
-        register("Corvisquire", Flying, null, 68, 67, 55, 43, 55, 77);
-        register("Corviknight", Flying, Steel, 98, 87, 105, 53, 85, 67);
-        register("Blipbug", Bug, null, 25, 20, 20, 25, 45, 45);
-        register("Dottler", Bug, Psychic, 50, 35, 80, 50, 90, 30);
-        register("Orbeetle", Bug, Psychic, 60, 45, 110, 80, 120, 90);
-        register("Nickit", Dark, null, 40, 28, 28, 47, 52, 50);
-        register("Thievul", Dark, null, 70, 58, 58, 87, 92, 90);
-        register("Gossifleur", Grass, null, 40, 40, 60, 40, 60, 10);
-        register("Eldegoss", Grass, null, 60, 50, 90, 80, 120, 60);
-        register("Wooloo", Normal, null, 42, 40, 55, 40, 45, 48);
-        register("Dubwool", Normal, null, 72, 80, 100, 60, 90, 88);
-        register("Chewtle", Water, null, 50, 64, 50, 38, 38, 44);
-        register("Drednaw", Water, Rock, 90, 115, 90, 48, 68, 74);
-        register("Yamper", Electric, null, 59, 45, 50, 40, 50, 26);
-        register("Boltund", Electric, null, 69, 90, 60, 90, 60, 121);
-        register("Rolycoly", Rock, null, 30, 40, 50, 40, 50, 30);
-        register("Carkol", Rock, Fire, 80, 60, 90, 60, 70, 50);
-        register("Coalossal", Rock, Fire, 110, 80, 120, 80, 90, 30);
-        register("Applin", Grass, Dragon, 40, 40, 80, 40, 40, 20);
-        register("Flapple", Grass, Dragon, 70, 110, 80, 95, 60, 70);
-        register("Appletun", Grass, Dragon, 110, 85, 80, 100, 80, 30);
-        register("Silicobra", Ground, null, 52, 57, 75, 35, 50, 46);
-        register("Sandaconda", Ground, null, 72, 107, 125, 65, 70, 71);
-        register("Cramorant", Flying, Water, 70, 85, 55, 85, 95, 85);
-        register("Arrokuda", Water, null, 41, 63, 40, 40, 30, 66);
-        register("Barraskewda", Water, null, 61, 123, 60, 60, 50, 136);
-        register("Toxel", Electric, Poison, 40, 38, 35, 54, 35, 40);
-        register("Toxtricity Amped Form", Electric, Poison, 75, 98, 70, 114, 70, 75);
-        register("Toxtricity Low Key Form", Electric, Poison, 75, 98, 70, 114, 70, 75);
-        register("Sizzlipede", Fire, Bug, 50, 65, 45, 50, 50, 45);
-        register("Centiskorch", Fire, Bug, 100, 115, 65, 90, 90, 65);
-        register("Clobbopus", Fighting, null, 50, 68, 60, 50, 50, 32);
-        register("Grapploct", Fighting, null, 80, 118, 90, 70, 80, 42);
-        register("Sinistea", Ghost, null, 40, 45, 45, 74, 54, 50);
-        register("Polteageist", Ghost, null, 60, 65, 65, 134, 114, 70);
-        register("Hatenna", Psychic, null, 42, 30, 45, 56, 53, 39);
-        register("Hattrem", Psychic, null, 57, 40, 65, 86, 73, 49);
-        register("Hatterene", Psychic, Fairy, 57, 90, 95, 136, 103, 29);
-        register("Impidimp", Dark, Fairy, 45, 45, 30, 55, 40, 50);
-        register("Morgrem", Dark, Fairy, 65, 60, 45, 75, 55, 70);
-        register("Grimmsnarl", Dark, Fairy, 95, 120, 65, 95, 75, 60);
-        register("Obstagoon", Dark, Normal, 93, 90, 101, 60, 81, 95);
-        register("Perrserker", Steel, null, 70, 110, 100, 50, 60, 50);
-        register("Cursola", Ghost, null, 60, 95, 50, 145, 130, 30);
-        register("Sirfetch'd", Fighting, null, 62, 135, 95, 68, 82, 65);
-        register("Mr. Rime", Ice, Psychic, 80, 85, 75, 110, 100, 70);
-        register("Runerigus", Ground, Ghost, 58, 95, 145, 50, 105, 30);
-        register("Milcery", Fairy, null, 45, 40, 40, 50, 61, 34);
-        register("Alcremie", Fairy, null, 65, 60, 75, 110, 121, 64);
-        register("Falinks", Fighting, null, 65, 100, 100, 70, 60, 75);
-        register("Pincurchin", Electric, null, 48, 101, 95, 91, 85, 15);
-        register("Snom", Ice, Bug, 30, 25, 35, 45, 30, 20);
-        register("Frosmoth", Ice, Bug, 70, 65, 60, 125, 90, 65);
-        register("Stonjourner", Rock, null, 100, 125, 135, 20, 20, 70);
-        register("Eiscue Ice Face", Ice, null, 75, 80, 110, 65, 90, 50);
-        register("Eiscue Noice Face", Ice, null, 75, 80, 70, 65, 50, 130);
-        register("Indeedee Male", Psychic, Normal, 60, 65, 55, 105, 95, 95);
-        register("Indeedee Female", Psychic, Normal, 70, 55, 65, 95, 105, 85);
-        register("Morpeko Full Belly Mode", Electric, Dark, 58, 95, 58, 70, 58, 97);
-        register("Morpeko Hangry Mode", Electric, Dark, 58, 95, 58, 70, 58, 97);
-        register("Cufant", Steel, null, 72, 80, 49, 40, 49, 40);
-        register("Copperajah", Steel, null, 122, 130, 69, 80, 69, 30);
-        register("Dracozolt", Electric, Dragon, 90, 100, 90, 80, 70, 75);
-        register("Arctozolt", Electric, Ice, 90, 100, 90, 90, 80, 55);
-        register("Dracovish", Water, Dragon, 90, 90, 100, 70, 80, 75);
-        register("Arctovish", Water, Ice, 90, 90, 100, 80, 90, 55);
-        register("Duraludon", Steel, Dragon, 70, 95, 115, 120, 50, 85);
-        register("Dreepy", Dragon, Ghost, 28, 60, 30, 40, 30, 82);
-        register("Drakloak", Dragon, Ghost, 68, 80, 50, 60, 50, 102);
-        register("Dragapult", Dragon, Ghost, 88, 120, 75, 100, 75, 142);
-        register("Zacian Hero of Many Battles", Fairy, null, 92, 120, 115, 80, 115, 138);
-        register("Zacian Crowned Sword", Fairy, Steel, 92, 150, 115, 80, 115, 148);
-        register("Zamazenta Hero of Many Battles", Fighting, null, 92, 120, 115, 80, 115, 138);
-        register("Zamazenta Crowned Shield", Fighting, Steel, 92, 120, 140, 80, 140, 128);
-        register("Eternatus", Poison, Dragon, 140, 85, 95, 145, 95, 130);
-        register("Eternatus Eternamax", Poison, Dragon, 255, 115, 250, 125, 250, 130);
-        register("Kubfu", Fighting, null, 60, 90, 60, 53, 50, 72);
-        register("Urshifu Single Strike Style", Fighting, Dark, 100, 130, 100, 63, 60, 97);
-        register("Urshifu Rapid Strike Style", Fighting, Water, 100, 130, 100, 63, 60, 97);
-        register("Zarude", Dark, Grass, 105, 120, 105, 70, 95, 105);
-        register("Regieleki", Electric, null, 80, 100, 50, 100, 50, 200);
-        register("Regidrago", Dragon, null, 200, 100, 50, 100, 50, 80);
-        register("Glastrier", Ice, null, 100, 145, 130, 65, 110, 30);
-        register("Spectrier", Ghost, null, 100, 65, 60, 145, 80, 130);
-        register("Calyrex", Psychic, Grass, 100, 80, 80, 80, 80, 80);
-        register("Calyrex Ice Rider", Psychic, Ice, 100, 165, 150, 85, 130, 50);
-        register("Calyrex Shadow Rider", Psychic, Ghost, 100, 85, 80, 165, 100, 150);
-        register("Wyrdeer", Normal, Psychic, 103, 105, 72, 105, 75, 65);
-        register("Kleavor", Bug, Rock, 70, 135, 95, 45, 70, 85);
-        register("Ursaluna", Ground, Normal, 130, 140, 105, 45, 80, 50);
-        register("Ursaluna Bloodmoon", Ground, Normal, 113, 70, 120, 135, 65, 52);
-        register("Basculegion Male", Water, Ghost, 120, 112, 65, 80, 75, 78);
-        register("Basculegion Female", Water, Ghost, 120, 92, 65, 100, 75, 78);
-        register("Sneasler", Fighting, Poison, 80, 130, 60, 40, 80, 120);
-        register("Overqwil", Dark, Poison, 85, 115, 95, 65, 65, 85);
-        register("Enamorus Incarnate Forme", Fairy, Flying, 74, 115, 70, 135, 80, 106);
-        register("Enamorus Therian Forme", Fairy, Flying, 74, 115, 110, 135, 100, 46);
-        register("Sprigatito", Grass, null, 40, 61, 54, 45, 45, 65);
-        register("Floragato", Grass, null, 61, 80, 63, 60, 63, 83);
-        register("Meowscarada", Grass, Dark, 76, 110, 70, 81, 70, 123);
-        register("Fuecoco", Fire, null, 67, 45, 59, 63, 40, 36);
-        register("Crocalor", Fire, null, 81, 55, 78, 90, 58, 49);
-        register("Skeledirge", Fire, Ghost, 104, 75, 100, 110, 75, 66);
-        register("Quaxly", Water, null, 55, 65, 45, 50, 45, 50);
-        register("Quaxwell", Water, null, 70, 85, 65, 65, 60, 65);
-        register("Quaquaval", Water, Fighting, 85, 120, 80, 85, 75, 85);
-        register("Lechonk", Normal, null, 54, 45, 40, 35, 45, 35);
-        register("Oinkologne Male", Normal, null, 110, 100, 75, 59, 80, 65);
-        register("Oinkologne Female", Normal, null, 115, 90, 70, 59, 90, 65);
-        register("Tarountula", Bug, null, 35, 41, 45, 29, 40, 20);
-        register("Spidops", Bug, null, 60, 79, 92, 52, 86, 35);
-        register("Nymble", Bug, null, 33, 46, 40, 21, 25, 45);
-        register("Lokix", Bug, Dark, 71, 102, 78, 52, 55, 92);
-        register("Pawmi", Electric, null, 45, 50, 20, 40, 25, 60);
-        register("Pawmo", Electric, Fighting, 60, 75, 40, 50, 40, 85);
-        register("Pawmot", Electric, Fighting, 70, 115, 70, 70, 60, 105);
-        register("Tandemaus", Normal, null, 50, 50, 45, 40, 45, 75);
-        register("Maushold Family of Four", Normal, null, 74, 75, 70, 65, 75, 111);
-        register("Maushold Family of Three", Normal, null, 74, 75, 70, 65, 75, 111);
-        register("Fidough", Fairy, null, 37, 55, 70, 30, 55, 65);
-        register("Dachsbun", Fairy, null, 57, 80, 115, 50, 80, 95);
-        register("Smoliv", Grass, Normal, 41, 35, 45, 58, 51, 30);
-        register("Dolliv", Grass, Normal, 52, 53, 60, 78, 78, 33);
-        register("Arboliva", Grass, Normal, 78, 69, 90, 125, 109, 39);
-        register("Squawkabilly Green Plumage", Normal, Flying, 82, 96, 51, 45, 51, 92);
-        register("Squawkabilly Blue Plumage", Normal, Flying, 82, 96, 51, 45, 51, 92);
-        register("Squawkabilly Yellow Plumage", Normal, Flying, 82, 96, 51, 45, 51, 92);
-        register("Squawkabilly White Plumage", Normal, Flying, 82, 96, 51, 45, 51, 92);
-        register("Nacli", Rock, null, 55, 55, 75, 35, 35, 25);
-        register("Naclstack", Rock, null, 60, 60, 100, 35, 65, 35);
-        register("Garganacl", Rock, null, 100, 100, 130, 45, 90, 35);
-        register("Charcadet", Fire, null, 40, 50, 40, 50, 40, 35);
-        register("Armarouge", Fire, Psychic, 85, 60, 100, 125, 80, 75);
-        register("Ceruledge", Fire, Ghost, 75, 125, 80, 60, 100, 85);
-        register("Tadbulb", Electric, null, 61, 31, 41, 59, 35, 45);
-        register("Bellibolt", Electric, null, 109, 64, 91, 103, 83, 45);
-        register("Wattrel", Electric, Flying, 40, 40, 35, 55, 40, 70);
-        register("Kilowattrel", Electric, Flying, 70, 70, 60, 105, 60, 125);
-        register("Maschiff", Dark, null, 60, 78, 60, 40, 51, 51);
-        register("Mabosstiff", Dark, null, 80, 120, 90, 60, 70, 85);
-        register("Shroodle", Poison, Normal, 40, 65, 35, 40, 35, 75);
-        register("Grafaiai", Poison, Normal, 63, 95, 65, 80, 72, 110);
-        register("Bramblin", Grass, Ghost, 40, 65, 30, 45, 35, 60);
-        register("Brambleghast", Grass, Ghost, 55, 115, 70, 80, 70, 90);
-        register("Toedscool", Ground, Grass, 40, 40, 35, 50, 100, 70);
-        register("Toedscruel", Ground, Grass, 80, 70, 65, 80, 120, 100);
-        register("Klawf", Rock, null, 70, 100, 115, 35, 55, 75);
-        register("Capsakid", Grass, null, 50, 62, 40, 62, 40, 50);
-        register("Scovillain", Grass, Fire, 65, 108, 65, 108, 65, 75);
-        register("Rellor", Bug, null, 41, 50, 60, 31, 58, 30);
-        register("Rabsca", Bug, Psychic, 75, 50, 85, 115, 100, 45);
-        register("Flittle", Psychic, null, 30, 35, 30, 55, 30, 75);
-        register("Espathra", Psychic, null, 95, 60, 60, 101, 60, 105);
-        register("Tinkatink", Fairy, Steel, 50, 45, 45, 35, 64, 58);
-        register("Tinkatuff", Fairy, Steel, 65, 55, 55, 45, 82, 78);
-        register("Tinkaton", Fairy, Steel, 85, 75, 77, 70, 105, 94);
-        register("Wiglett", Water, null, 10, 55, 25, 35, 25, 95);
-        register("Wugtrio", Water, null, 35, 100, 50, 50, 70, 120);
-        register("Bombirdier", Flying, Dark, 70, 103, 85, 60, 85, 82);
-        register("Finizen", Water, null, 70, 45, 40, 45, 40, 75);
-        register("Palafin Zero Form", Water, null, 100, 70, 72, 53, 62, 100);
-        register("Palafin Hero Form", Water, null, 100, 160, 97, 106, 87, 100);
-        register("Varoom", Steel, Poison, 45, 70, 63, 30, 45, 47);
-        register("Revavroom", Steel, Poison, 80, 119, 90, 54, 67, 90);
-        register("Cyclizar", Dragon, Normal, 70, 95, 65, 85, 65, 121);
-        register("Orthworm", Steel, null, 70, 85, 145, 60, 55, 65);
-        register("Glimmet", Rock, Poison, 48, 35, 42, 105, 60, 60);
-        register("Glimmora", Rock, Poison, 83, 55, 90, 130, 81, 86);
-        register("Greavard", Ghost, null, 50, 61, 60, 30, 55, 34);
-        register("Houndstone", Ghost, null, 72, 101, 100, 50, 97, 68);
-        register("Flamigo", Flying, Fighting, 82, 115, 74, 75, 64, 90);
-        register("Cetoddle", Ice, null, 108, 68, 45, 30, 40, 43);
-        register("Cetitan", Ice, null, 170, 113, 65, 45, 55, 73);
-        register("Veluza", Water, Psychic, 90, 102, 73, 78, 65, 70);
-        register("Dondozo", Water, null, 150, 100, 115, 65, 65, 35);
-        register("Tatsugiri Curly Form", Dragon, Water, 68, 50, 60, 120, 95, 82);
-        register("Tatsugiri Droopy Form", Dragon, Water, 68, 50, 60, 120, 95, 82);
-        register("Tatsugiri Stretchy Form", Dragon, Water, 68, 50, 60, 120, 95, 82);
-        register("Annihilape", Fighting, Ghost, 110, 115, 80, 50, 90, 90);
-        register("Clodsire", Poison, Ground, 130, 75, 60, 45, 100, 20);
-        register("Farigiraf", Normal, Psychic, 120, 90, 70, 110, 70, 60);
-        register("Dudunsparce Two-Segment Form", Normal, null, 125, 100, 80, 85, 75, 55);
-        register("Dudunsparce Three-Segment Form", Normal, null, 125, 100, 80, 85, 75, 55);
-        register("Kingambit", Dark, Steel, 100, 135, 120, 60, 85, 50);
-        register("Great Tusk", Ground, Fighting, 115, 131, 131, 53, 53, 87);
-        register("Scream Tail", Fairy, Psychic, 115, 65, 99, 65, 115, 111);
-        register("Brute Bonnet", Grass, Dark, 111, 127, 99, 79, 99, 55);
-        register("Flutter Mane", Ghost, Fairy, 55, 55, 55, 135, 135, 135);
-        register("Slither Wing", Bug, Fighting, 85, 135, 79, 85, 105, 81);
-        register("Sandy Shocks", Electric, Ground, 85, 81, 97, 121, 85, 101);
-        register("Iron Treads", Ground, Steel, 90, 112, 120, 72, 70, 106);
-        register("Iron Bundle", Ice, Water, 56, 80, 114, 124, 60, 136);
-        register("Iron Hands", Fighting, Electric, 154, 140, 108, 50, 68, 50);
-        register("Iron Jugulis", Dark, Flying, 94, 80, 86, 122, 80, 108);
-        register("Iron Moth", Fire, Poison, 80, 70, 60, 140, 110, 110);
-        register("Iron Thorns", Rock, Electric, 100, 134, 110, 70, 84, 72);
-        register("Frigibax", Dragon, Ice, 65, 75, 45, 35, 45, 55);
-        register("Arctibax", Dragon, Ice, 90, 95, 66, 45, 65, 62);
-        register("Baxcalibur", Dragon, Ice, 115, 145, 92, 75, 86, 87);
-        register("Gimmighoul Chest Form", Ghost, null, 45, 30, 70, 75, 70, 10);
-        register("Gimmighoul Roaming Form", Ghost, null, 45, 30, 25, 75, 45, 80);
-        register("Gholdengo", Steel, Ghost, 87, 60, 95, 133, 91, 84);
-        register("Wo-Chien", Dark, Grass, 85, 85, 100, 95, 135, 70);
-        register("Chien-Pao", Dark, Ice, 80, 120, 80, 90, 65, 135);
-        register("Ting-Lu", Dark, Ground, 155, 110, 125, 55, 80, 45);
-        register("Chi-Yu", Dark, Fire, 55, 80, 80, 135, 120, 100);
-        register("Roaring Moon", Dragon, Dark, 105, 139, 71, 55, 101, 119);
-        register("Iron Valiant", Fairy, Fighting, 74, 130, 90, 120, 60, 116);
-        register("Koraidon", Fighting, Dragon, 100, 135, 115, 85, 100, 135);
-        register("Miraidon", Electric, Dragon, 100, 85, 100, 135, 115, 135);
-        register("Walking Wake", Water, Dragon, 99, 83, 91, 125, 83, 109);
-        register("Iron Leaves", Grass, Psychic, 90, 130, 88, 70, 108, 104);
-        register("Dipplin", Grass, Dragon, 80, 80, 110, 95, 80, 40);
-        register("Poltchageist", Grass, Ghost, 40, 45, 45, 74, 54, 50);
-        register("Sinistcha", Grass, Ghost, 71, 60, 106, 121, 80, 70);
-        register("Okidogi", Poison, Fighting, 88, 128, 115, 58, 86, 80);
-        register("Munkidori", Poison, Psychic, 88, 75, 66, 130, 90, 106);
-        register("Fezandipiti", Poison, Fairy, 88, 91, 82, 70, 125, 99);
-        register("Ogerpon Teal Mask", Grass, null, 80, 120, 84, 60, 96, 110);
-        register("Ogerpon Wellspring Mask", Grass, Water, 80, 120, 84, 60, 96, 110);
-        register("Ogerpon Hearthflame Mask", Grass, Fire, 80, 120, 84, 60, 96, 110);
-        register("Ogerpon Cornerstone Mask", Grass, Rock, 80, 120, 84, 60, 96, 110);
-        register("Archaludon", Steel, Dragon, 90, 105, 130, 125, 65, 85);
-        register("Hydrapple", Grass, Dragon, 106, 80, 110, 120, 80, 44);
-        register("Gouging Fire", Fire, Dragon, 105, 115, 121, 65, 93, 91);
-        register("Raging Bolt", Electric, Dragon, 125, 73, 91, 137, 89, 75);
-        register("Iron Boulder", Rock, Psychic, 90, 120, 80, 68, 108, 124);
-        register("Iron Crown", Steel, Psychic, 90, 72, 100, 122, 108, 98);
-        register("Terapagos Normal Form", Normal, null, 90, 65, 85, 65, 85, 60);
-        register("Terapagos Terastal Form", Normal, null, 95, 95, 110, 105, 110, 85);
-        register("Terapagos Stellar Form", Normal, null, 160, 105, 110, 130, 110, 85);
-        register("Pecharunt", Poison, Ghost, 88, 88, 160, 88, 88, 88);
+    /**
+     * Looks up a species by its interned ID (a plain array load once decoded).
+     * @return the species, or null if the ID is out of range
+     */
+    public static PokemonSpecies getSpecies(int id) {
+        if (id < 0 || id >= speciesById.length) {
+            return null;
+        }
+
+        PokemonSpecies species = speciesById[id];
+        if (species == null) {
+            // Racy but harmless: species are immutable, so two threads at worst decode the same record twice
+            species = decode(id);
+            speciesById[id] = species;
+        }
+        return species;
+    }
 
-        System.out.println("Done!");
+    /**
+     * @return number of registered species (IDs run from 0 to size() - 1)
+     */
+    public static int size() {
+        return speciesById.length;
     }
 
-    // Helper to make registration cleaner
-    private static void register(String name, Type t1, Type t2, int hp, int atk, int def, int spa, int spd, int spe) {
+    private static PokemonSpecies decode(int id) {
         List<Type> types = new ArrayList<>();
-        types.add(t1);
+        types.add(data.getSpeciesType1(id));
+        Type t2 = data.getSpeciesType2(id);
         if (t2 != null) types.add(t2);
 
-        registry.put(name, new PokemonSpecies(name, types, hp, atk, def, spa, spd, spe));
+        return new PokemonSpecies(id, data.getSpeciesName(id), types,
+            data.getSpeciesBaseStat(id, 0), data.getSpeciesBaseStat(id, 1), data.getSpeciesBaseStat(id, 2),
+            data.getSpeciesBaseStat(id, 3), data.getSpeciesBaseStat(id, 4), data.getSpeciesBaseStat(id, 5));
     }
 
     /**
      * This creates a NEW unique Pokemon every time you call it.
      */
     public static Pokemon create(String name, int level) {
-        PokemonSpecies species = registry.get(name);
+        PokemonSpecies species = getSpecies(getId(name));
         if (species == null) {
             throw new IllegalArgumentException("Unknown Pokemon species: " + name);
         }
@@ -1267,4 +77,65 @@ public class PokemonRegistry {
 
         return newPoke;
     }
-}
\ No newline at end of file
+
+    /**
+     * Creates a Pokemon from interned species and move IDs.
+     * @param speciesId ID from {@link #getId(String)}
+     * @param moveIds up to 4 IDs from {@link MoveRegistry#getId(String)}
+     */
+    public static Pokemon create(int speciesId, int level, int[] moveIds) {
+        PokemonSpecies species = getSpecies(speciesId);
+        if (species == null) {
+            throw new IllegalArgumentException("Unknown Pokemon species ID: " + speciesId);
+        }
+        checkMoveIds(moveIds);
+        return build(species, level, moveIds);
+    }
+
+    /**
+     * Creates a whole team from interned IDs. All IDs are validated once up front,
+     * so sampling large numbers of random teams costs no string hashing.
+     * @param speciesIds one species ID per team member
+     * @param level level for every member
+     * @param moveIds per-member move IDs (up to 4 each), parallel to speciesIds
+     * @return the new team
+     */
+    public static List<Pokemon> createTeam(int[] speciesIds, int level, int[][] moveIds) {
+        if (speciesIds.length != moveIds.length) {
+            throw new IllegalArgumentException("Every team member needs a move list");
+        }
+        PokemonSpecies[] species = new PokemonSpecies[speciesIds.length];
+        for (int i = 0; i < speciesIds.length; i++) {
+            species[i] = getSpecies(speciesIds[i]);
+            if (species[i] == null) {
+                throw new IllegalArgumentException("Unknown Pokemon species ID: " + speciesIds[i]);
+            }
+            checkMoveIds(moveIds[i]);
+        }
+
+        List<Pokemon> team = new ArrayList<>(speciesIds.length);
+        for (int i = 0; i < speciesIds.length; i++) {
+            team.add(build(species[i], level, moveIds[i]));
+        }
+        return team;
+    }
+
+    private static void checkMoveIds(int[] moveIds) {
+        if (moveIds.length > 4) {
+            throw new IllegalArgumentException("Pokemon tried to learn more than 4 moves");
+        }
+        for (int moveId : moveIds) {
+            if (MoveRegistry.get(moveId) == null) {
+                throw new IllegalArgumentException("Unknown move ID: " + moveId);
+            }
+        }
+    }
+
+    private static Pokemon build(PokemonSpecies species, int level, int[] moveIds) {
+        Pokemon newPoke = species.create(level);
+        for (int moveId : moveIds) {
+            newPoke.learnMove(MoveRegistry.get(moveId));
+        }
+        return newPoke;
+    }
+}
@@ -2,16 +2,37 @@ package javamon.entities;
 
 import java.util.*;
 import javamon.types.Type;
+import javamon.types.TypeChart;
 import javamon.entities.Pokemon.Stats; // Re-use your existing Stats class
 
 public class PokemonSpecies {
     private final String name;
     private final List<Type> types;
+    private final Type primaryType;
+    private final Type secondaryType; // null for single-typed species
+    private final byte[] defensiveProfile; // Quarters of damage taken, indexed by attacking Type ordinal
     private final Stats baseStats;
+    private final int id; // Dense registry ID, or -1 for species built outside the registry
 
     public PokemonSpecies(String name, List<Type> types, int hp, int atk, int def, int spAtk, int spDef, int spd) {
+        this(-1, name, types, hp, atk, def, spAtk, spDef, spd);
+    }
+
+    /**
+     * Used by {@link PokemonRegistry} to build a registered species with its dense ID.
+     */
+    PokemonSpecies(int id, String name, List<Type> types, int hp, int atk, int def, int spAtk, int spDef, int spd) {
+        this.id = id;
         this.name = name;
         this.types = List.copyOf(types); // Immutable copy
+        this.primaryType = this.types.get(0);
+        this.secondaryType = (this.types.size() > 1) ? this.types.get(1) : null;
+
+        Type[] attackers = Type.values();
+        this.defensiveProfile = new byte[attackers.length];
+        for (Type attacker : attackers) {
+            defensiveProfile[attacker.ordinal()] = (byte) TypeChart.getEffectivenessQuarters(attacker, primaryType, secondaryType);
+        }
         this.baseStats = new Stats(hp, atk, def, spAtk, spDef, spd);
     }
 
@@ -23,12 +44,55 @@ public class PokemonSpecies {
         return new Pokemon(this, level); 
     }
 
+    /**
+     * @return dense registry ID, or -1 if this species was never registered.
+     */
+    public int getId() {
+        return id;
+    }
+
     public String getName() {
         return name;
     }
 
+    /**
+     * @return immutable list of this species' types (no copy is made).
+     */
     public List<Type> getTypes() {
-        return new ArrayList<>(types);
+        return types;
+    }
+
+    /**
+     * @return true if this species has the given type.
+     */
+    public boolean hasType(Type type) {
+        return type == primaryType || type == secondaryType;
+    }
+
+    public Type getPrimaryType() {
+        return primaryType;
+    }
+
+    /**
+     * @return second type, or null if this species has only one.
+     */
+    public Type getSecondaryType() {
+        return secondaryType;
+    }
+
+    /**
+     * Reads this species' precomputed defensive profile.
+     * @return effectiveness of the attacking type against this species, in quarters (see {@link TypeChart#NEUTRAL})
+     */
+    public int getEffectivenessQuarters(Type attacker) {
+        return defensiveProfile[attacker.ordinal()];
+    }
+
+    /**
+     * @return effectiveness multiplier of the attacking type against this species (0 to 4).
+     */
+    public double getEffectiveness(Type attacker) {
+        return defensiveProfile[attacker.ordinal()] / (double) TypeChart.NEUTRAL;
     }
 
     public Stats getBaseStats() {
@@ -0,0 +1,357 @@
+package javamon.entities.moves;
+
+import java.util.*;
+import javamon.entities.*;
+import javamon.types.TypeChart;
+
+/**
+ * Answers "how much would this move do to that Pokemon right now?" without rolling dice.
+ *
+ * <p>A query runs the same formula as {@link DamagingMove#apply} and returns a {@link Range}: the exact
+ * smallest and largest damage any roll can deal, and the damage of {@value #ROLLS} equally likely rolls.
+ * The engine draws the roll continuously from 0.85 to 1.0, so the {@value #ROLLS} rolls are the midpoints
+ * of equal slices of that interval.
+ *
+ * <p>Ranges are cached in a bounded least-recently-used table. The key is everything the formula reads:
+ * the attacker's level and staged attacking stat, the defender's staged defending stat, the move, STAB
+ * and type effectiveness. Stat stages enter through the staged stats, so a Pokemon whose stages cancel
+ * out shares entries with an unboosted one. The key is packed into a long, so repeated queries during a
+ * search cost one probe of a primitive hash table and nothing is boxed.
+ *
+ * <p>KO chances are computed analytically from the same formula. Damage is the floor of a quantity that
+ * grows linearly with the roll, so the chance that one hit deals at least some amount is the length of
+ * the roll interval that reaches it. Several hits are combined by convolving the exact per-hit damage
+ * distribution, with accuracy from {@link Move#getAccuracy()} deciding whether each hit lands.
+ *
+ * <p>Not thread-safe; give each thread its own oracle.
+ */
+public class DamageOracle {
+    /** Number of equally likely damage rolls in a {@link Range} */
+    public static final int ROLLS = 16;
+
+    private static final int DEFAULT_CAPACITY = 4096;
+
+    private final int capacity;
+    private final RangeCache cache;
+    private long hits;
+    private long misses;
+
+    // Scratch distributions over the defender's remaining HP for multi-hit KO chances
+    private double[] remaining = new double[0];
+    private double[] next = new double[0];
+
+    /**
+     * Creates an oracle caching up to {@value #DEFAULT_CAPACITY} ranges.
+     */
+    public DamageOracle() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity most ranges kept before the least recently used is dropped
+     */
+    public DamageOracle(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Cache capacity must be positive");
+        }
+
+        this.capacity = capacity;
+        this.cache = new RangeCache(capacity);
+    }
+
+    /**
+     * Damage of one move from an attacker to a defender, with both at their current stat stages.
+     * @return all zeros for moves that deal no direct damage
+     */
+    public Range getRange(Pokemon attacker, Pokemon defender, int moveId) {
+        Move move = MoveRegistry.get(moveId);
+        if (move == null) {
+            throw new IllegalArgumentException("Unknown move ID: " + moveId);
+        }
+        return getRange(attacker, defender, move);
+    }
+
+    /**
+     * Damage of one move from an attacker to a defender, with both at their current stat stages.
+     * @return all zeros for moves that deal no direct damage
+     */
+    public Range getRange(Pokemon attacker, Pokemon defender, Move move) {
+        if (!(move instanceof DamagingMove)) {
+            return Range.NONE;
+        }
+        DamagingMove damaging = (DamagingMove) move;
+
+        int attackStat;
+        int defenseStat;
+        if (damaging.getDamageType() == DamagingMove.DamageType.Physical) {
+            attackStat = attacker.getEffectiveStat(Stat.Attack);
+            defenseStat = defender.getEffectiveStat(Stat.Defense);
+        } else {
+            attackStat = attacker.getEffectiveStat(Stat.SpecialAttack);
+            defenseStat = defender.getEffectiveStat(Stat.SpecialDefense);
+        }
+        int level = attacker.getLevel();
+        boolean stab = attacker.hasType(move.getType());
+        int effectiveness = defender.getEffectivenessQuarters(move.getType());
+
+        // Layout: attack (bits 0-15), defense (16-31), move (32-47), level (48-55), effectiveness (56-60), STAB (61)
+        if (attackStat > 0xFFFF || defenseStat > 0xFFFF || move.getId() > 0xFFFF || level > 0xFF) {
+            // Beyond what the key can hold; never happens with registry data, but stay correct anyway
+            misses++;
+            return compute(damaging, level, attackStat, defenseStat, stab, effectiveness);
+        }
+        long key = attackStat
+                | (long) defenseStat << 16
+                | (long) move.getId() << 32
+                | (long) level << 48
+                | (long) effectiveness << 56
+                | (stab ? 1L << 61 : 0L);
+
+        Range range = cache.get(key);
+        if (range != null) {
+            hits++;
+            return range;
+        }
+        misses++;
+        range = compute(damaging, level, attackStat, defenseStat, stab, effectiveness);
+        cache.put(key, range);
+        return range;
+    }
+
+    /**
+     * Chance that one use of the move knocks the defender out from its current HP this turn, counting
+     * the accuracy check and the damage roll.
+     */
+    public double getKoChance(Pokemon attacker, Pokemon defender, Move move) {
+        if (defender.isKnockedOut()) {
+            return 1.0;
+        }
+        return getHitChance(move) * getRange(attacker, defender, move).getChanceAtLeast(defender.getCurrentHp());
+    }
+
+    /**
+     * Chance that the defender is knocked out within the given number of uses of the move, each of which
+     * may miss. Assumes stat stages stay as they are between uses and nothing else changes the
+     * defender's HP.
+     * @param uses number of times the move is used (1 is the same as {@link #getKoChance(Pokemon, Pokemon, Move)})
+     */
+    public double getKoChance(Pokemon attacker, Pokemon defender, Move move, int uses) {
+        if (uses <= 0) {
+            throw new IllegalArgumentException("Number of uses must be positive");
+        }
+        int hp = defender.getCurrentHp();
+        if (defender.isKnockedOut()) {
+            return 1.0;
+        }
+
+        Range range = getRange(attacker, defender, move);
+        double hitChance = getHitChance(move);
+        if (uses == 1 || range.getMax() == 0 || hitChance == 0.0) {
+            return hitChance * range.getChanceAtLeast(hp);
+        }
+        // Even every hit at the top roll falls short
+        if ((long) range.getMax() * uses < hp) {
+            return 0.0;
+        }
+
+        // Distribution over remaining HP; index 0 is knocked out, which absorbs
+        if (remaining.length <= hp) {
+            remaining = new double[hp + 1];
+            next = new double[hp + 1];
+        }
+        double[] current = remaining;
+        double[] following = next;
+        Arrays.fill(current, 0, hp + 1, 0.0);
+        current[hp] = 1.0;
+
+        int min = range.getMin();
+        int max = range.getMax();
+        double missChance = 1.0 - hitChance;
+        for (int use = 0; use < uses; use++) {
+            Arrays.fill(following, 0, hp + 1, 0.0);
+            following[0] = current[0];
+            for (int left = 1; left <= hp; left++) {
+                double p = current[left];
+                if (p == 0.0) {
+                    continue;
+                }
+                following[left] += p * missChance;
+                // Once a damage reaches what is left, it and every larger damage KO; take them together
+                double hit = p * hitChance;
+                for (int damage = min; damage <= max; damage++) {
+                    if (damage >= left) {
+                        following[0] += hit * range.getChanceAtLeast(damage);
+                        break;
+                    }
+                    following[left - damage] += hit * range.getChance(damage);
+                }
+            }
+            double[] swap = current;
+            current = following;
+            following = swap;
+        }
+        return current[0];
+    }
+
+    /**
+     * @return chance that the move passes its accuracy check
+     */
+    public static double getHitChance(Move move) {
+        int accuracy = move.getAccuracy();
+        // Same rule as the engine: 100 and above never roll
+        if (accuracy >= 100) {
+            return 1.0;
+        }
+        return Math.max(0, accuracy) / 100.0;
+    }
+
+    /**
+     * Empties the cache and resets its statistics.
+     */
+    public void clear() {
+        cache.clear();
+        hits = 0;
+        misses = 0;
+    }
+
+    /**
+     * @return most ranges the cache holds
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * @return ranges currently cached
+     */
+    public int getSize() {
+        return cache.size();
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * @return fraction of queries answered from the cache
+     */
+    public double getHitRate() {
+        long total = hits + misses;
+        return (total == 0) ? 0.0 : (double) hits / total;
+    }
+
+    private static Range compute(DamagingMove move, int level, int attackStat, int defenseStat, boolean stab, int effectiveness) {
+        double typeEffectiveness = effectiveness / (double) TypeChart.NEUTRAL;
+        int[] rolls = new int[ROLLS];
+        for (int i = 0; i < ROLLS; i++) {
+            rolls[i] = move.calculateDamage(level, attackStat, defenseStat, stab, typeEffectiveness, (i + 0.5) / ROLLS);
+        }
+        // Damage never falls as the roll rises, so the extreme rolls give the extreme damage
+        int min = move.calculateDamage(level, attackStat, defenseStat, stab, typeEffectiveness, 0.0);
+        int max = move.calculateDamage(level, attackStat, defenseStat, stab, typeEffectiveness, DamagingMove.HIGHEST_ROLL);
+        double baseDamage = move.calculateBaseDamage(level, attackStat, defenseStat);
+        return new Range(min, max, rolls, baseDamage, stab, typeEffectiveness);
+    }
+
+    /**
+     * Damage a move can deal in its current matchup. Immutable, so it can be kept and shared.
+     */
+    public static final class Range {
+        private static final Range NONE = new Range(0, 0, new int[ROLLS], 0.0, false, 0.0);
+
+        private final int min;
+        private final int max;
+        private final int[] rolls;
+        private final double average;
+        // What the damage formula needs besides the roll, for exact chances over the continuous roll
+        private final double baseDamage;
+        private final boolean stab;
+        private final double typeEffectiveness;
+
+        private Range(int min, int max, int[] rolls, double baseDamage, boolean stab, double typeEffectiveness) {
+            this.min = min;
+            this.max = max;
+            this.rolls = rolls;
+            this.baseDamage = baseDamage;
+            this.stab = stab;
+            this.typeEffectiveness = typeEffectiveness;
+
+            int sum = 0;
+            for (int damage : rolls) {
+                sum += damage;
+            }
+            this.average = (double) sum / ROLLS;
+        }
+
+        /**
+         * @return smallest damage any roll deals
+         */
+        public int getMin() {
+            return min;
+        }
+
+        /**
+         * @return largest damage any roll deals
+         */
+        public int getMax() {
+            return max;
+        }
+
+        /**
+         * @param i roll index, 0 (lowest) to {@value DamageOracle#ROLLS} - 1 (highest)
+         * @return damage of that roll; each roll has probability 1/{@value DamageOracle#ROLLS}
+         */
+        public int getRoll(int i) {
+            return rolls[i];
+        }
+
+        /**
+         * @return mean damage over the {@value DamageOracle#ROLLS} rolls
+         */
+        public double getAverage() {
+            return average;
+        }
+
+        /**
+         * @return how many of the {@value DamageOracle#ROLLS} rolls deal at least the given damage
+         */
+        public int countRollsAtLeast(int damage) {
+            // Rolls are in ascending order
+            int count = 0;
+            for (int i = ROLLS - 1; i >= 0 && rolls[i] >= damage; i--) {
+                count++;
+            }
+            return count;
+        }
+
+        /**
+         * Exact chance over the continuous roll that one hit deals at least the given damage. Accuracy is
+         * not included.
+         */
+        public double getChanceAtLeast(int damage) {
+            if (damage <= min) {
+                return 1.0;
+            }
+            if (damage > max) {
+                return 0.0;
+            }
+            return 1.0 - DamagingMove.rollThreshold(baseDamage, stab, typeEffectiveness, damage);
+        }
+
+        /**
+         * @return exact chance that one hit deals exactly the given damage
+         */
+        public double getChance(int damage) {
+            return getChanceAtLeast(damage) - getChanceAtLeast(damage + 1);
+        }
+
+        @Override
+        public String toString() {
+            return min + "-" + max;
+        }
+    }
+}
@@ -1,10 +1,14 @@
 package javamon.entities.moves;
 
 import java.util.*;
+import javamon.battle.BattleListener;
 import javamon.entities.*;
 import javamon.types.*;
+import javamon.util.BattleRandom;
 
 public final class DamagingMove extends Move {
+    // Largest roll the engine can draw, since BattleRandom.nextDouble() is below 1.0
+    static final double HIGHEST_ROLL = Math.nextDown(1.0);
 
     private final DamageType damageType;
     private final int power;
@@ -27,70 +31,126 @@ public final class DamagingMove extends Move {
     }
 
     /**
-     * Calculates damage, applies it, handles effectiveness text, and fires effect.
+     * Calculates damage, applies it, reports effectiveness and damage, and fires effect.
      */
     @Override
-    public String apply(Pokemon attacker, Pokemon defender) {
-        int dmg = calculateDamage(attacker, defender);
-        String damagedOutput = defender.takeDamage(dmg, this);
-        String moveOutput = attacker.getNickname() + " used " + this.getName() + "!\n";
-        
-        // Check type effectiveness and add appropriate message
-        double typeEffectiveness = TypeChart.getEffectiveness(this.getType(), defender.getTypes());
-        String effectivenessMessage = "";
-        if (typeEffectiveness > 1.0) {
-            effectivenessMessage = "It was super effective!\n";
-        } else if (typeEffectiveness < 1.0 && typeEffectiveness > 0.0) {
-            effectivenessMessage = "It was not very effective...\n";
-        }
+    public void apply(Pokemon attacker, Pokemon defender, BattleRandom random, BattleListener listener) {
+        // Type effectiveness is looked up once (from the defender's precomputed profile)
+        // and shared by the damage roll and the event
+        int effectiveness = defender.getEffectivenessQuarters(this.getType());
+        double typeEffectiveness = effectiveness / (double) TypeChart.NEUTRAL;
+        int dmg = calculateDamage(attacker, defender, typeEffectiveness, random);
+        defender.takeDamage(dmg);
+        listener.onEffectiveness(defender, this, effectiveness);
+        listener.onDamage(defender, dmg, this);
         
         // Apply effect with actual damage dealt
         if (this.getEffect() != null) {
-            this.getEffect().onHit(attacker, defender, dmg);
+            this.getEffect().onHit(attacker, defender, dmg, random, listener);
         }
-        
-        return moveOutput + effectivenessMessage + damagedOutput;
     }
 
     /**
-     * Computes raw damage before applying faint checks.
+     * Computes raw damage before applying faint checks. Allocates nothing.
      */
-    private int calculateDamage(Pokemon attacker, Pokemon defender) {
+    private int calculateDamage(Pokemon attacker, Pokemon defender, double typeEffectiveness, BattleRandom random) {
         // 1. Determine which stats to use based on DamageType
         int attackStat;
         int defenseStat;
 
         if (this.damageType == DamageType.Physical) {
-            attackStat = attacker.getEffectiveStats().get(Stat.Attack);
-            defenseStat = defender.getEffectiveStats().get(Stat.Defense);
+            attackStat = attacker.getEffectiveStat(Stat.Attack);
+            defenseStat = defender.getEffectiveStat(Stat.Defense);
         } else {
-            attackStat = attacker.getEffectiveStats().get(Stat.SpecialAttack);
-            defenseStat = defender.getEffectiveStats().get(Stat.SpecialDefense);
+            attackStat = attacker.getEffectiveStat(Stat.SpecialAttack);
+            defenseStat = defender.getEffectiveStat(Stat.SpecialDefense);
         }
 
-        // 2. Base Damage Calculation
-        int level = attacker.getLevel();
-        double baseDamage = ((((2.0 * level) / 5.0) + 2.0) * this.power * ((double) attackStat / defenseStat) / 50.0) + 2.0;
+        // 2. STAB, type, and random modifiers applied to the base damage. The roll is told what the hit
+        // needs to knock the defender out, so searches can branch on the knockout exactly
+        double baseDamage = calculateBaseDamage(attacker.getLevel(), attackStat, defenseStat);
+        boolean stab = attacker.hasType(this.getType());
+        double roll = random.nextDamageRoll(baseDamage, stab, typeEffectiveness, defender.getCurrentHp());
+        return calculateDamage(baseDamage, stab, typeEffectiveness, roll);
+    }
 
-        // 3. Modifiers
-        double modifiers = calculateModifiers(attacker, defender);
+    /**
+     * Damage formula from already staged stats, shared with {@link DamageOracle} so that predicted
+     * damage matches dealt damage exactly.
+     * @param roll random draw in [0.0, 1.0), mapped onto the 0.85-1.0 damage roll
+     */
+    int calculateDamage(int level, int attackStat, int defenseStat, boolean stab, double typeEffectiveness, double roll) {
+        return calculateDamage(calculateBaseDamage(level, attackStat, defenseStat), stab, typeEffectiveness, roll);
+    }
+
+    private static int calculateDamage(double baseDamage, boolean stab, double typeEffectiveness, double roll) {
+        double modifiers = (stab ? 1.5 : 1.0) * typeEffectiveness * (0.85 + (roll * (1.0 - 0.85)));
 
         return (int) (baseDamage * modifiers);
     }
 
     /**
-     * Computes STAB, type, and random modifiers.
+     * Where on the random roll a hit starts dealing at least the given damage: a roll in [0.0, 1.0)
+     * reaches it exactly when it is at least the returned value. Found by searching the rolls with the
+     * damage formula itself, which never falls as the roll rises, so no rounding can put a roll on the
+     * other side of the threshold from the damage it deals.
+     * @param baseDamage damage before STAB, type effectiveness and the roll
+     * @return the threshold roll; 0.0 if every roll reaches the damage, 1.0 if none does
      */
-    private double calculateModifiers(Pokemon attacker, Pokemon defender) {
-        double stab = 1.0;
-        if (attacker.getTypes().contains(this.getType())) {
-            stab = 1.5;
+    public static double rollThreshold(double baseDamage, boolean stab, double typeEffectiveness, int damage) {
+        if (calculateDamage(baseDamage, stab, typeEffectiveness, 0.0) >= damage) {
+            return 0.0;
+        }
+        if (calculateDamage(baseDamage, stab, typeEffectiveness, HIGHEST_ROLL) < damage) {
+            return 1.0;
         }
 
-        double typeEffectiveness = TypeChart.getEffectiveness(this.getType(), defender.getTypes());
-        double random = 0.85 + (Math.random() * (1.0 - 0.85));
+        // Non-negative doubles order like their bit patterns, so search those: low falls short, high reaches.
+        // The formula solved for the roll lands within a few bits of the threshold, so gallop out from there
+        // until the formula itself confirms both ends, then bisect between them
+        double solved = (damage / ((stab ? 1.5 : 1.0) * typeEffectiveness * baseDamage) - 0.85) / (1.0 - 0.85);
+        long guess = Double.doubleToRawLongBits(Math.min(Math.max(solved, 0.0), HIGHEST_ROLL));
+        long low;
+        long high;
+        if (reaches(baseDamage, stab, typeEffectiveness, guess, damage)) {
+            high = guess;
+            for (long step = 1; ; step <<= 1) {
+                low = Math.max(guess - step, Double.doubleToRawLongBits(0.0));
+                if (!reaches(baseDamage, stab, typeEffectiveness, low, damage)) {
+                    break;
+                }
+                high = low;
+            }
+        } else {
+            low = guess;
+            for (long step = 1; ; step <<= 1) {
+                high = Math.min(guess + step, Double.doubleToRawLongBits(HIGHEST_ROLL));
+                if (reaches(baseDamage, stab, typeEffectiveness, high, damage)) {
+                    break;
+                }
+                low = high;
+            }
+        }
+        while (high - low > 1) {
+            long mid = (low + high) >>> 1;
+            if (reaches(baseDamage, stab, typeEffectiveness, mid, damage)) {
+                high = mid;
+            } else {
+                low = mid;
+            }
+        }
+        return Double.longBitsToDouble(high);
+    }
 
-        return stab * typeEffectiveness * random;
+    private static boolean reaches(double baseDamage, boolean stab, double typeEffectiveness, long rollBits, int damage) {
+        return calculateDamage(baseDamage, stab, typeEffectiveness, Double.longBitsToDouble(rollBits)) >= damage;
+    }
+
+    /**
+     * @return damage before STAB, type effectiveness and the random roll
+     */
+    double calculateBaseDamage(int level, int attackStat, int defenseStat) {
+        return ((((2.0 * level) / 5.0) + 2.0) * this.power * ((double) attackStat / defenseStat) / 50.0) + 2.0;
     }
 
     /** @return physical or special classification. */
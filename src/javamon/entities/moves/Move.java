@@ -1,8 +1,10 @@
 package javamon.entities.moves;
 
 import java.util.*;
+import javamon.battle.BattleListener;
 import javamon.entities.Pokemon;
 import javamon.types.Type;
+import javamon.util.BattleRandom;
 
 public class Move implements DamageSource {
     
@@ -13,6 +15,7 @@ public class Move implements DamageSource {
     private final List<DamageSourceType> attributes;
     private final int priority;
     private final MoveEffect effect;
+    private int id = -1; // Dense registry ID, assigned once by MoveRegistry
 
     /**
      * Basic move with no special effect and default priority 0.
@@ -42,13 +45,14 @@ public class Move implements DamageSource {
     }
 
     /**
-     * Applies the move's effect and returns a battle message.
+     * Applies the move's effect. The engine has already announced the move and rolled accuracy.
+     * @param random source of randomness owned by the battle
+     * @param listener receives the events the move produces
      */
-    public String apply(Pokemon attacker, Pokemon defender) {
+    public void apply(Pokemon attacker, Pokemon defender, BattleRandom random, BattleListener listener) {
         if (this.effect != null) {
-            this.effect.onHit(attacker, defender, 0);
+            this.effect.onHit(attacker, defender, 0, random, listener);
         }
-        return attacker.getNickname() + " used " + this.name + "!\n";
     }
 
     @Override
@@ -65,6 +69,18 @@ public class Move implements DamageSource {
         return this.name.equals(other.name);
     }
 
+    /** @return dense registry ID, or -1 if this move was never registered. */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Called once by {@link MoveRegistry} while interning moves.
+     */
+    void setId(int id) {
+        this.id = id;
+    }
+
     /** @return display name of the move. */
     public String getName() {
         return name;
@@ -102,6 +118,6 @@ public class Move implements DamageSource {
 
     @FunctionalInterface
     public static interface MoveEffect {
-        void onHit(Pokemon attacker, Pokemon defender, int damageDealt);
+        void onHit(Pokemon attacker, Pokemon defender, int damageDealt, BattleRandom random, BattleListener listener);
     }
 }
@@ -2,12 +2,16 @@ package javamon.entities.moves;
 
 import java.util.*;
 import javamon.entities.*;
+import javamon.data.RegistryData;
 import static javamon.types.Type.*;
 import static javamon.entities.Stat.*;
 import static javamon.entities.moves.DamagingMove.DamageType.*;
 
 public class MoveRegistry {
     private static final Map<String, Move> moves = new TreeMap<>();
+    // Moves interned by dense ID (alphabetical order), filled once every move is registered
+    private static final Move[] movesById;
+    public static final int STRUGGLE_ID;
     
     // Helper methods for creating common move effects
     
@@ -18,10 +22,11 @@ public class MoveRegistry {
      * @return A MoveEffect that applies the status condition
      */
     private static Move.MoveEffect statusEffect(Pokemon.StatusCondition status, double probability) {
-        return (attacker, defender, damageDealt) -> {
-            if (Math.random() < probability) {
+        return (attacker, defender, damageDealt, random, listener) -> {
+            if (random.chance(probability)) {
                 if (!defender.hasStatusCondition()) {
                     defender.setStatusCondition(status);
+                    listener.onStatusApplied(defender, status);
                 }
             }
         };
@@ -36,526 +41,71 @@ public class MoveRegistry {
      * @return A MoveEffect that modifies the stat
      */
     private static Move.MoveEffect statChange(Stat stat, int stages, boolean targetOpponent, double probability) {
-        return (attacker, defender, damageDealt) -> {
-            if (Math.random() < probability) {
+        return (attacker, defender, damageDealt, random, listener) -> {
+            if (random.chance(probability)) {
                 Pokemon target = targetOpponent ? defender : attacker;
-                target.modifyStat(stat, stages);
+                int applied = target.modifyStat(stat, stages);
+                listener.onStatChanged(target, stat, applied);
             }
         };
     }
 
+    /**
+     * Creates a recoil effect that damages the user by a fraction of its max HP.
+     * @param fraction The fraction (0.0 to 1.0) of the user's max HP to lose
+     * @return A MoveEffect that damages the attacker
+     */
+    private static Move.MoveEffect recoil(double fraction) {
+        return (attacker, defender, damageDealt, random, listener) -> {
+            int maxHp = attacker.getStats().get(Hp);
+            int dmg = Math.max(1, (int) (maxHp * fraction));
+            attacker.takeDamage(dmg);
+            listener.onDamage(attacker, dmg, MoveRegistry.get(STRUGGLE_ID));
+        };
+    }
+
     private static Move.MoveEffect chainEffect(Move.MoveEffect... effects) {
-        return (attacker, defender, damageDealt) -> {
+        return (attacker, defender, damageDealt, random, listener) -> {
             for (Move.MoveEffect effect : effects) {
-                effect.onHit(attacker, defender, damageDealt);
+                effect.onHit(attacker, defender, damageDealt, random, listener);
             }
         };
     }
     
 
-    // Boring moves with no effects
-    static {
-        System.out.print("Loading Move Registry... ");
-
-        moves.put("Alluring Voice", new DamagingMove(
-            "Alluring Voice",
-            Fairy,
-            Special,
-            80,  // power
-            100, // accuracy
-            10,  // pp
-            Collections.emptyList()
-        ));
-        
-        moves.put("Aqua Tail", new DamagingMove(
-            "Aqua Tail",
-            Water,
-            Physical,
-            90,  // power
-            90, // accuracy
-            10,  // pp
-            Collections.emptyList()
-        ));
-        
-        moves.put("Branch Poke", new DamagingMove(
-            "Branch Poke",
-            Grass,
-            Physical,
-            40,  // power
-            100, // accuracy
-            40,  // pp
-            Collections.emptyList()
-        ));
-        
-        moves.put("Burning Bulwark", new Move(
-            "Burning Bulwark",
-            Fire,
-            Integer.MAX_VALUE, // accuracy
-            10,  // pp
-            Collections.emptyList()
-        ));
-        
-        moves.put("Cut", new DamagingMove(
-            "Cut",
-            Normal,
-            Physical,
-            50,  // power
-            95, // accuracy
-            30,  // pp
-            Collections.emptyList()
-        ));
-        
-        moves.put("Dragon Cheer", new Move(
-            "Dragon Cheer",
-            Dragon,
-            Integer.MAX_VALUE, // accuracy
-            15,  // pp
-            Collections.emptyList()
-        ));
-        
-        moves.put("Dragon Claw", new DamagingMove(
-            "Dragon Claw",
-            Dragon,
-            Physical,
-            80,  // power
-            100, // accuracy
-            15,  // pp
-            Collections.emptyList()
-        ));
-        
-        moves.put("Dragon Pulse", new DamagingMove(
-            "Dragon Pulse",
-            Dragon,
-            Special,
-            85,  // power
-            100, // accuracy
-            10,  // pp
-            Collections.emptyList()
-        ));
-        
-        moves.put("Drill Peck", new DamagingMove(
-            "Drill Peck",
-            Flying,
-            Physical,
-            80,  // power
-            100, // accuracy
-            20,  // pp
-            Collections.emptyList()
-        ));
-        
-        moves.put("Egg Bomb", new DamagingMove(
-            "Egg Bomb",
-            Normal,
-            Physical,
-            100,  // power
-            75, // accuracy
-            10,  // pp
-            Collections.emptyList()
-        ));
-        
-        moves.put("Fairy Wind", new DamagingMove(
-            "Fairy Wind",
-            Fairy,
-            Special,
-            40,  // power
-            100, // accuracy
-            30,  // pp
-            Collections.emptyList()
-        ));
-        
-        moves.put("Hard Press", new Move(
-            "Hard Press",
-            Steel,
-            100, // accuracy
-            10,  // pp
-            Collections.emptyList()
-        ));
-        
-        moves.put("Horn Attack", new DamagingMove(
-            "Horn Attack",
-            Normal,
-            Physical,
-            65,  // power
-            100, // accuracy
-            25,  // pp
-            Collections.emptyList()
-        ));
-        
-        moves.put("Hydro Pump", new DamagingMove(
-            "Hydro Pump",
-            Water,
-            Special,
-            110,  // power
-            80, // accuracy
-            5,  // pp
-            Collections.emptyList()
-        ));
-        
-        moves.put("Hyper Voice", new DamagingMove(
-            "Hyper Voice",
-            Normal,
-            Special,
-            90,  // power
-            100, // accuracy
-            10,  // pp
-            Collections.emptyList()
-        ));
-        
-        moves.put("Land's Wrath", new DamagingMove(
-            "Land's Wrath",
-            Ground,
-            Physical,
-            90,  // power
-            100, // accuracy
-            10,  // pp
-            Collections.emptyList()
-        ));
-        
-        moves.put("Mega Kick", new DamagingMove(
-            "Mega Kick",
-            Normal,
-            Physical,
-            120,  // power
-            75, // accuracy
-            5,  // pp
-            Collections.emptyList()
-        ));
-        
-        moves.put("Mega Punch", new DamagingMove(
-            "Mega Punch",
-            Normal,
-            Physical,
-            80,  // power
-            85, // accuracy
-            20,  // pp
-            Collections.emptyList()
-        ));
-        
-        moves.put("Megahorn", new DamagingMove(
-            "Megahorn",
-            Bug,
-            Physical,
-            120,  // power
-            85, // accuracy
-            10,  // pp
-            Collections.emptyList()
-        ));
-        
-        moves.put("Mighty Cleave", new DamagingMove(
-            "Mighty Cleave",
-            Rock,
-            Physical,
-            95,  // power
-            100, // accuracy
-            5,  // pp
-            Collections.emptyList()
-        ));
-        
-        moves.put("Peck", new DamagingMove(
-            "Peck",
-            Flying,
-            Physical,
-            35,  // power
-            100, // accuracy
-            35,  // pp
-            Collections.emptyList()
-        ));
-        
-        moves.put("Pound", new DamagingMove(
-            "Pound",
-            Normal,
-            Physical,
-            40,  // power
-            100, // accuracy
-            35,  // pp
-            Collections.emptyList()
-        ));
-        
-        moves.put("Power Gem", new DamagingMove(
-            "Power Gem",
-            Rock,
-            Special,
-            80,  // power
-            100, // accuracy
-            20,  // pp
-            Collections.emptyList()
-        ));
-        
-        moves.put("Power Whip", new DamagingMove(
-            "Power Whip",
-            Grass,
-            Physical,
-            120,  // power
-            85, // accuracy
-            10,  // pp
-            Collections.emptyList()
-        ));
-        
-        moves.put("Rock Throw", new DamagingMove(
-            "Rock Throw",
-            Rock,
-            Physical,
-            50,  // power
-            90, // accuracy
-            15,  // pp
-            Collections.emptyList()
-        ));
-        
-        moves.put("Scratch", new DamagingMove(
-            "Scratch",
-            Normal,
-            Physical,
-            40,  // power
-            100, // accuracy
-            35,  // pp
-            Collections.emptyList()
-        ));
-        
-        moves.put("Seed Bomb", new DamagingMove(
-            "Seed Bomb",
-            Grass,
-            Physical,
-            80,  // power
-            100, // accuracy
-            15,  // pp
-            Collections.emptyList()
-        ));
-        
-        moves.put("Slam", new DamagingMove(
-            "Slam",
-            Normal,
-            Physical,
-            80,  // power
-            75, // accuracy
-            20,  // pp
-            Collections.emptyList()
-        ));
-        
-        moves.put("Strength", new DamagingMove(
-            "Strength",
-            Normal,
-            Physical,
-            80,  // power
-            100, // accuracy
-            15,  // pp
-            Collections.emptyList()
-        ));
-        
-        moves.put("Supercell Slam", new DamagingMove(
-            "Supercell Slam",
-            Electric,
-            Physical,
-            100,  // power
-            95, // accuracy
-            15,  // pp
-            Collections.emptyList()
-        ));
-        
-        moves.put("Tackle", new DamagingMove(
-            "Tackle",
-            Normal,
-            Physical,
-            40,  // power
-            100, // accuracy
-            35,  // pp
-            Collections.emptyList()
-        ));
-        
-        moves.put("Temper Flare", new DamagingMove(
-            "Temper Flare",
-            Fire,
-            Physical,
-            75,  // power
-            100, // accuracy
-            10,  // pp
-            Collections.emptyList()
-        ));
-        
-        moves.put("Tera Starstorm", new DamagingMove(
-            "Tera Starstorm",
-            Normal,
-            Special,
-            120,  // power
-            100, // accuracy
-            5,  // pp
-            Collections.emptyList()
-        ));
-        
-        moves.put("Vine Whip", new DamagingMove(
-            "Vine Whip",
-            Grass,
-            Physical,
-            45,  // power
-            100, // accuracy
-            25,  // pp
-            Collections.emptyList()
-        ));
-        
-        moves.put("Vise Grip", new DamagingMove(
-            "Vise Grip",
-            Normal,
-            Physical,
-            55,  // power
-            100, // accuracy
-            30,  // pp
-            Collections.emptyList()
-        ));
-        
-        moves.put("Water Gun", new DamagingMove(
-            "Water Gun",
-            Water,
-            Special,
-            40,  // power
-            100, // accuracy
-            25,  // pp
-            Collections.emptyList()
-        ));
-        
-        moves.put("Wing Attack", new DamagingMove(
-            "Wing Attack",
-            Flying,
-            Physical,
-            60,  // power
-            100, // accuracy
-            35,  // pp
-            Collections.emptyList()
-        ));
-        
-        moves.put("X-Scissor", new DamagingMove(
-            "X-Scissor",
-            Bug,
-            Physical,
-            80,  // power
-            100, // accuracy
-            15,  // pp
-            Collections.emptyList()
-        ));
-    }
-
-    // Priority-only moves
+    // Moves without custom effects (plain damage, or priority only) come from the registry data file
     static {
-        moves.put("Accelerock", new DamagingMove(
-            "Accelerock",
-            Rock,
-            Physical,
-            40,  // power
-            100, // accuracy
-            20,  // pp
-            Collections.emptyList(),
-            null,  // effect
-            1 // priority
-        ));
-        
-        moves.put("Aqua Jet", new DamagingMove(
-            "Aqua Jet",
-            Water,
-            Physical,
-            40,  // power
-            100, // accuracy
-            20,  // pp
-            Collections.emptyList(),
-            null,  // effect
-            1 // priority
-        ));
-        
-        moves.put("Bullet Punch", new DamagingMove(
-            "Bullet Punch",
-            Steel,
-            Physical,
-            40,  // power
-            100, // accuracy
-            30,  // pp
-            Collections.emptyList(),
-            null,  // effect
-            1 // priority
-        ));
-        
-        moves.put("Extreme Speed", new DamagingMove(
-            "Extreme Speed",
-            Normal,
-            Physical,
-            80,  // power
-            100, // accuracy
-            5,  // pp
-            Collections.emptyList(),
-            null,  // effect
-            2 // priority
-        ));
-        
-        moves.put("Ice Shard", new DamagingMove(
-            "Ice Shard",
-            Ice,
-            Physical,
-            40,  // power
-            100, // accuracy
-            30,  // pp
-            Collections.emptyList(),
-            null,  // effect
-            1 // priority
-        ));
-        
-        moves.put("Jet Punch", new DamagingMove(
-            "Jet Punch",
-            Water,
-            Physical,
-            60,  // power
-            100, // accuracy
-            15,  // pp
-            Collections.emptyList(),
-            null,  // effect
-            1 // priority
-        ));
-        
-        moves.put("Mach Punch", new DamagingMove(
-            "Mach Punch",
-            Fighting,
-            Physical,
-            40,  // power
-            100, // accuracy
-            30,  // pp
-            Collections.emptyList(),
-            null,  // effect
-            1 // priority
-        ));
-        
-        moves.put("Quick Attack", new DamagingMove(
-            "Quick Attack",
-            Normal,
-            Physical,
-            40,  // power
-            100, // accuracy
-            30,  // pp
-            Collections.emptyList(),
-            null,  // effect
-            1 // priority
-        ));
-        
-        moves.put("Shadow Sneak", new DamagingMove(
-            "Shadow Sneak",
-            Ghost,
-            Physical,
-            40,  // power
-            100, // accuracy
-            30,  // pp
-            Collections.emptyList(),
-            null,  // effect
-            1 // priority
-        ));
-        
-        moves.put("Vacuum Wave", new DamagingMove(
-            "Vacuum Wave",
-            Fighting,
-            Special,
-            40,  // power
-            100, // accuracy
-            30,  // pp
-            Collections.emptyList(),
-            null,  // effect
-            1 // priority
-        ));
+        RegistryData data = RegistryData.get();
+        for (int i = 0; i < data.getMoveCount(); i++) {
+            String name = data.getMoveName(i);
+            int kind = data.getMoveKind(i);
+            if (kind == RegistryData.KIND_STATUS) {
+                moves.put(name, new Move(
+                    name,
+                    data.getMoveType(i),
+                    data.getMoveAccuracy(i),
+                    data.getMovePP(i),
+                    Collections.emptyList(),
+                    null,
+                    data.getMovePriority(i)
+                ));
+            } else {
+                moves.put(name, new DamagingMove(
+                    name,
+                    data.getMoveType(i),
+                    (kind == RegistryData.KIND_PHYSICAL) ? Physical : Special,
+                    data.getMovePower(i),
+                    data.getMoveAccuracy(i),
+                    data.getMovePP(i),
+                    Collections.emptyList(),
+                    null,
+                    data.getMovePriority(i)
+                ));
+            }
+        }
     }
 
-    // Misc
+    // Moves with effects, which need code
     static {
         // Ember - 10% chance to burn
         moves.put("Ember", new DamagingMove(
@@ -578,13 +128,57 @@ public class MoveRegistry {
             Collections.emptyList(),
             statChange(Attack, -1, true, 1.0)
         ));
+
+        // Struggle - fallback when every move is out of PP, costs 1/4 of max HP
+        moves.put("Struggle", new DamagingMove(
+            "Struggle",
+            Normal,
+            Physical,
+            50,
+            Integer.MAX_VALUE,
+            1,
+            Collections.emptyList(),
+            recoil(0.25),
+            0 // priority
+        ));
     }
+    // Intern every move to a dense ID
     static {
-        System.out.println("Done!");
+        movesById = moves.values().toArray(new Move[0]);
+        for (int i = 0; i < movesById.length; i++) {
+            movesById[i].setId(i);
+        }
+        STRUGGLE_ID = moves.get("Struggle").getId();
     }
 
 
     public static Move get(String name) {
         return moves.get(name);
     }
+
+    /**
+     * Looks up a move by its interned ID (a plain array load).
+     * @return the move, or null if the ID is out of range
+     */
+    public static Move get(int id) {
+        if (id < 0 || id >= movesById.length) {
+            return null;
+        }
+        return movesById[id];
+    }
+
+    /**
+     * @return the interned ID of the named move, or -1 if no such move is registered
+     */
+    public static int getId(String name) {
+        Move move = moves.get(name);
+        return (move == null) ? -1 : move.getId();
+    }
+
+    /**
+     * @return number of registered moves (IDs run from 0 to size() - 1)
+     */
+    public static int size() {
+        return movesById.length;
+    }
 }
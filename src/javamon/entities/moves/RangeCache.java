@@ -0,0 +1,178 @@
+package javamon.entities.moves;
+
+import java.util.*;
+
+/**
+ * Bounded least-recently-used cache of {@link DamageOracle.Range}s by their packed 64-bit key.
+ *
+ * <p>Keys stay primitive: an open-addressing table with linear probing holds entry indices, and the
+ * entries live in parallel arrays, threaded on a doubly linked list from the least to the most recently
+ * used. A hit costs one probe run and relinks two entries, without boxing the key. Removing a key shifts
+ * the rest of its probe run back instead of leaving a tombstone; only indices move, so the recency list
+ * is left as it was. The arrays start small and double up to the capacity.
+ *
+ * <p>Not thread-safe.
+ */
+final class RangeCache {
+    private static final int INITIAL_ENTRIES = 16;
+    private static final int NONE = -1;
+
+    private final int capacity;
+    // Entry index + 1 per slot, 0 for an empty one; the table is kept at most half full
+    private int[] table;
+    private int shift;
+    private long[] keys;
+    private DamageOracle.Range[] ranges;
+    private int[] older;
+    private int[] newer;
+    private int size;
+    private int oldest = NONE;
+    private int newest = NONE;
+
+    /**
+     * @param capacity most ranges kept before the least recently used is dropped
+     */
+    RangeCache(int capacity) {
+        this.capacity = capacity;
+        allocate(Math.min(capacity, INITIAL_ENTRIES));
+    }
+
+    /**
+     * @return the range cached under the key, which is now the most recently used, or null
+     */
+    DamageOracle.Range get(long key) {
+        int mask = table.length - 1;
+        for (int slot = home(key); ; slot = (slot + 1) & mask) {
+            int entry = table[slot] - 1;
+            if (entry < 0) {
+                return null;
+            }
+            if (keys[entry] == key) {
+                if (entry != newest) {
+                    unlink(entry);
+                    linkNewest(entry);
+                }
+                return ranges[entry];
+            }
+        }
+    }
+
+    /**
+     * Caches a range under a key that is not cached yet. At capacity, the least recently used range is
+     * dropped to make room.
+     */
+    void put(long key, DamageOracle.Range range) {
+        int entry;
+        if (size == capacity) {
+            entry = oldest;
+            removeSlot(keys[entry]);
+            unlink(entry);
+        } else {
+            if (size == keys.length) {
+                grow();
+            }
+            entry = size++;
+        }
+        keys[entry] = key;
+        ranges[entry] = range;
+        insertSlot(key, entry);
+        linkNewest(entry);
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Drops every range and shrinks back to the initial arrays.
+     */
+    void clear() {
+        allocate(Math.min(capacity, INITIAL_ENTRIES));
+        size = 0;
+        oldest = NONE;
+        newest = NONE;
+    }
+
+    private void allocate(int entries) {
+        keys = new long[entries];
+        ranges = new DamageOracle.Range[entries];
+        older = new int[entries];
+        newer = new int[entries];
+        // Smallest power of two with room for twice the entries
+        int slots = Math.max(2, Integer.highestOneBit(2 * entries - 1) << 1);
+        table = new int[slots];
+        shift = 64 - Integer.numberOfTrailingZeros(slots);
+    }
+
+    private void grow() {
+        int entries = (int) Math.min(capacity, 2L * keys.length);
+        long[] oldKeys = keys;
+        DamageOracle.Range[] oldRanges = ranges;
+        int[] oldOlder = older;
+        int[] oldNewer = newer;
+        allocate(entries);
+        System.arraycopy(oldKeys, 0, keys, 0, size);
+        System.arraycopy(oldRanges, 0, ranges, 0, size);
+        System.arraycopy(oldOlder, 0, older, 0, size);
+        System.arraycopy(oldNewer, 0, newer, 0, size);
+        for (int entry = 0; entry < size; entry++) {
+            insertSlot(keys[entry], entry);
+        }
+    }
+
+    private int home(long key) {
+        // Fibonacci hashing: the top bits of the product depend on every bit of the key
+        return (int) ((key * 0x9E3779B97F4A7C15L) >>> shift);
+    }
+
+    private void insertSlot(long key, int entry) {
+        int mask = table.length - 1;
+        int slot = home(key);
+        while (table[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = entry + 1;
+    }
+
+    private void removeSlot(long key) {
+        int mask = table.length - 1;
+        int gap = home(key);
+        while (keys[table[gap] - 1] != key) {
+            gap = (gap + 1) & mask;
+        }
+        for (int slot = (gap + 1) & mask; table[slot] != 0; slot = (slot + 1) & mask) {
+            // An entry can fill the gap unless its home lies after the gap, up to where it sits now
+            int home = home(keys[table[slot] - 1]);
+            boolean stays = (gap <= slot) ? (gap < home && home <= slot) : (gap < home || home <= slot);
+            if (!stays) {
+                table[gap] = table[slot];
+                gap = slot;
+            }
+        }
+        table[gap] = 0;
+    }
+
+    private void unlink(int entry) {
+        if (older[entry] == NONE) {
+            oldest = newer[entry];
+        } else {
+            newer[older[entry]] = newer[entry];
+        }
+        if (newer[entry] == NONE) {
+            newest = older[entry];
+        } else {
+            older[newer[entry]] = older[entry];
+        }
+    }
+
+    private void linkNewest(int entry) {
+        older[entry] = newest;
+        newer[entry] = NONE;
+        if (newest == NONE) {
+            oldest = entry;
+        } else {
+            newer[newest] = entry;
+        }
+        newest = entry;
+    }
+}
@@ -0,0 +1,128 @@
+package javamon.replay;
+
+import java.util.*;
+import javamon.battle.*;
+import javamon.entities.*;
+import javamon.entities.moves.Move;
+
+/**
+ * One recorded battle: the engine seed, both teams and every round's pair of turns.
+ * Because the engine draws all of its randomness from the seed, playing the turns back on
+ * a fresh engine reproduces the battle exactly.
+ */
+public final class Replay {
+    private final long seed;
+    // Per member: species ID, level, then move IDs
+    private final int[][] team1;
+    private final int[][] team2;
+    // Turn codes (see ReplayFormat), player 1 then player 2 for every round
+    private final int[] turns;
+
+    Replay(long seed, int[][] team1, int[][] team2, int[] turns) {
+        this.seed = seed;
+        this.team1 = team1;
+        this.team2 = team2;
+        this.turns = turns;
+    }
+
+    /**
+     * @return seed the battle's engine was created with
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * @return number of rounds played
+     */
+    public int getRoundCount() {
+        return turns.length / 2;
+    }
+
+    /**
+     * @param round 0-indexed round (round 0 is turn 1)
+     * @param playerN 1 or 2
+     * @return the turn that player chose in that round
+     */
+    public Turn getTurn(int round, int playerN) {
+        if (round < 0 || round >= getRoundCount()) {
+            throw new IndexOutOfBoundsException("Invalid round: " + round);
+        }
+        if (playerN != 1 && playerN != 2) {
+            throw new IllegalArgumentException();
+        }
+        return ReplayFormat.decodeTurn(playerN, turns[2 * round + playerN - 1]);
+    }
+
+    /**
+     * Builds fresh copies of a player's team as it was at the start of the battle.
+     * @param playerN 1 or 2
+     */
+    public List<Pokemon> createTeam(int playerN) {
+        if (playerN != 1 && playerN != 2) {
+            throw new IllegalArgumentException();
+        }
+
+        int[][] members = (playerN == 1) ? team1 : team2;
+        List<Pokemon> team = new ArrayList<>(members.length);
+        for (int[] member : members) {
+            team.add(PokemonRegistry.create(member[0], member[1], Arrays.copyOfRange(member, 2, member.length)));
+        }
+        return team;
+    }
+
+    /**
+     * Replays the battle on a new engine.
+     * @param listener receives the replayed battle's events ({@link BattleListener#NONE} to ignore them)
+     * @return the engine in its final state
+     */
+    public BattleEngine play(BattleListener listener) {
+        BattleEngine engine = new BattleEngine(createTeam(1), createTeam(2), seed);
+        for (int round = 0; round < getRoundCount(); round++) {
+            queue(engine, getTurn(round, 1));
+            queue(engine, getTurn(round, 2));
+            engine.playOutTurns(listener);
+        }
+        return engine;
+    }
+
+    private static void queue(BattleEngine engine, Turn turn) {
+        if (turn.getType() == Turn.TurnType.Switch) {
+            engine.queueTurn(turn.getPlayerN(), turn.getNewPokemon());
+        } else {
+            engine.queueMove(turn.getPlayerN(), turn.getMoveId());
+        }
+    }
+
+    /**
+     * Encodes a team as species ID, level and move IDs per member.
+     * Only the composition is stored, so the team must be registry species at full health with full PP.
+     * Stat stages need not be checked: the engine starts every battle with neutral stages.
+     */
+    static int[][] encodeTeam(List<Pokemon> team) {
+        int[][] members = new int[team.size()][];
+        for (int i = 0; i < team.size(); i++) {
+            Pokemon poke = team.get(i);
+            if (poke.getCurrentHp() != poke.getStats().get(Stat.Hp) || poke.hasStatusCondition()) {
+                throw new IllegalArgumentException("Only fresh teams can be recorded: " + poke.getNickname() + " is not at full health");
+            }
+            if (poke.getSpeciesId() < 0) {
+                throw new IllegalArgumentException("Only registry species can be recorded: " + poke.getNickname() + " has no species ID");
+            }
+
+            List<Move> moves = poke.getMoves();
+            int[] member = new int[2 + moves.size()];
+            member[0] = poke.getSpeciesId();
+            member[1] = poke.getLevel();
+            for (int m = 0; m < moves.size(); m++) {
+                int moveId = moves.get(m).getId();
+                if (poke.getRemainingPP(moveId) != moves.get(m).getPP()) {
+                    throw new IllegalArgumentException("Only fresh teams can be recorded: " + poke.getNickname() + " has used PP");
+                }
+                member[2 + m] = moveId;
+            }
+            members[i] = member;
+        }
+        return members;
+    }
+}
@@ -0,0 +1,259 @@
+package javamon.replay;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.file.*;
+import java.util.*;
+import javamon.battle.Turn;
+import javamon.entities.*;
+
+/**
+ * Read-only, memory-mapped view of a replay archive written by {@link ReplayArchiveWriter}.
+ *
+ * <p>Opening an archive maps the file and reads only the trailer. If the last writing session was cut
+ * off before its footer, the index is rebuilt in memory by scanning the battles instead, up to the last
+ * complete one. Any battle can then be reached through
+ * the footer index without touching the others, and {@link #iterator()} scans battles in ID order,
+ * decoding a battle's teams and turns only when they are asked for. Reads never move shared buffer
+ * state, so one archive can be read by many threads as long as each uses its own cursors.
+ * Archives are limited to 2 GiB, the largest region a single mapping can cover. The mapping is
+ * released once the archive becomes unreachable.
+ */
+public class ReplayArchive implements Iterable<ReplayArchive.Cursor> {
+    private final ByteBuffer data;
+    private final long battleCount;
+    private final LongBuffer index;
+
+    private ReplayArchive(ByteBuffer data) throws IOException {
+        if (data.capacity() < ReplayFormat.HEADER_SIZE
+                || data.getInt(0) != ReplayFormat.MAGIC || data.get(4) != ReplayFormat.VERSION) {
+            throw new IOException("Not a replay archive");
+        }
+        ReplayFormat.checkRegistry(data.getInt(5));
+
+        int trailer = data.capacity() - ReplayFormat.TRAILER_SIZE;
+        if (trailer >= ReplayFormat.HEADER_SIZE
+                && ReplayFormat.isTrailer(trailer, data.getLong(trailer), data.getLong(trailer + 8), data.getInt(trailer + 16))) {
+            int indexOffset = (int) data.getLong(trailer);
+            this.battleCount = data.getLong(trailer + 8);
+            this.index = data.duplicate().position(indexOffset).limit(trailer).slice().asLongBuffer();
+        } else {
+            // The last session never wrote its footer
+            ByteBuffer scan = data.duplicate().position(ReplayFormat.HEADER_SIZE);
+            long[] offsets = ReplayFormat.scanBattles(scan);
+            this.battleCount = offsets.length;
+            this.index = LongBuffer.wrap(offsets);
+        }
+        this.data = data;
+    }
+
+    /**
+     * Maps the archive at the given path.
+     */
+    public static ReplayArchive open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Replay archives over 2 GiB cannot be mapped");
+            }
+            return new ReplayArchive(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * @return number of battles in the archive (IDs run from 0 to getBattleCount() - 1)
+     */
+    public long getBattleCount() {
+        return battleCount;
+    }
+
+    /**
+     * Decodes one whole battle.
+     * @param battleId position of the battle in the archive
+     */
+    public Replay get(long battleId) {
+        Cursor cursor = new Cursor();
+        cursor.seek(battleId);
+        return cursor.toReplay();
+    }
+
+    /**
+     * Opens a cursor positioned on the given battle.
+     * @param battleId position of the battle in the archive
+     */
+    public Cursor cursor(long battleId) {
+        Cursor cursor = new Cursor();
+        cursor.seek(battleId);
+        return cursor;
+    }
+
+    /**
+     * Scans the archive in battle ID order. The iterator hands out the same {@link Cursor} every time,
+     * moved to the next battle, so a scan allocates nothing per battle; copy out anything needed later
+     * (e.g. with {@link Cursor#toReplay()}).
+     */
+    @Override
+    public Iterator<Cursor> iterator() {
+        return new Iterator<>() {
+            private final Cursor cursor = new Cursor();
+            private long next;
+
+            @Override
+            public boolean hasNext() {
+                return next < battleCount;
+            }
+
+            @Override
+            public Cursor next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                cursor.seek(next++);
+                return cursor;
+            }
+        };
+    }
+
+    private long offset(long battleId) {
+        if (battleId < 0 || battleId >= battleCount) {
+            throw new IndexOutOfBoundsException("Invalid battle ID: " + battleId);
+        }
+        return index.get((int) battleId);
+    }
+
+    /**
+     * Walks one battle at a time. Moving to a battle only skips over its teams; teams and turns are
+     * decoded on request, and turns are read one round at a time with {@link #nextRound()}.
+     */
+    public final class Cursor {
+        private final ByteBuffer view = data.duplicate();
+        private long battleId = -1;
+        private long seed;
+        private int teamsStart;
+        private int turnsStart;
+        private int round;
+        private int player1Code;
+        private int player2Code;
+
+        private Cursor() {
+        }
+
+        /**
+         * Moves to the start of a battle.
+         */
+        public void seek(long battleId) {
+            view.position((int) offset(battleId));
+            this.battleId = battleId;
+            this.seed = ReplayFormat.readVarint(view);
+            this.teamsStart = view.position();
+            ReplayFormat.skipTeam(view);
+            ReplayFormat.skipTeam(view);
+            this.turnsStart = view.position();
+            this.round = -1;
+        }
+
+        public long getBattleId() {
+            return battleId;
+        }
+
+        public long getSeed() {
+            return seed;
+        }
+
+        /**
+         * Advances to the next round of the current battle.
+         * @return false once every round has been read
+         */
+        public boolean nextRound() {
+            int code = (int) ReplayFormat.readVarint(view);
+            if (code == ReplayFormat.END_OF_BATTLE) {
+                // Stay on the terminator so further calls keep returning false
+                view.position(view.position() - 1);
+                return false;
+            }
+            player1Code = code;
+            player2Code = (int) ReplayFormat.readVarint(view);
+            round++;
+            return true;
+        }
+
+        /**
+         * Goes back to before the first round of the current battle.
+         */
+        public void rewind() {
+            view.position(turnsStart);
+            round = -1;
+        }
+
+        /**
+         * @return 0-indexed round the cursor is on
+         */
+        public int getRound() {
+            return round;
+        }
+
+        /**
+         * @param playerN 1 or 2
+         * @return that player's turn in the current round
+         */
+        public Turn getTurn(int playerN) {
+            if (round < 0) {
+                throw new IllegalStateException("Call nextRound() before reading turns");
+            }
+            if (playerN != 1 && playerN != 2) {
+                throw new IllegalArgumentException();
+            }
+            return ReplayFormat.decodeTurn(playerN, (playerN == 1) ? player1Code : player2Code);
+        }
+
+        /**
+         * Builds fresh copies of a player's team as it was at the start of the battle.
+         * @param playerN 1 or 2
+         */
+        public List<Pokemon> createTeam(int playerN) {
+            return toReplay().createTeam(playerN);
+        }
+
+        /**
+         * Decodes the whole battle, leaving the cursor where it was.
+         */
+        public Replay toReplay() {
+            if (battleId < 0) {
+                throw new IllegalStateException("Cursor is not on a battle");
+            }
+
+            int saved = view.position();
+            view.position(teamsStart);
+            int[][] team1 = readTeam();
+            int[][] team2 = readTeam();
+
+            int[] turns = new int[32];
+            int count = 0;
+            int code;
+            while ((code = (int) ReplayFormat.readVarint(view)) != ReplayFormat.END_OF_BATTLE) {
+                if (count == turns.length) {
+                    turns = Arrays.copyOf(turns, count * 2);
+                }
+                turns[count++] = code;
+            }
+            view.position(saved);
+            return new Replay(seed, team1, team2, Arrays.copyOf(turns, count));
+        }
+
+        private int[][] readTeam() {
+            int[][] members = new int[(int) ReplayFormat.readVarint(view)][];
+            for (int i = 0; i < members.length; i++) {
+                int species = (int) ReplayFormat.readVarint(view);
+                int level = (int) ReplayFormat.readVarint(view);
+                int[] member = new int[2 + (int) ReplayFormat.readVarint(view)];
+                member[0] = species;
+                member[1] = level;
+                for (int m = 2; m < member.length; m++) {
+                    member[m] = (int) ReplayFormat.readVarint(view);
+                }
+                members[i] = member;
+            }
+            return members;
+        }
+    }
+}
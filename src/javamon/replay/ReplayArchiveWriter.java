@@ -0,0 +1,166 @@
+package javamon.replay;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.file.*;
+import java.util.*;
+import javamon.entities.*;
+
+/**
+ * Appends battles to a replay archive: a replay log plus a footer index from battle ID to file offset,
+ * which lets {@link ReplayArchive} seek straight to any battle.
+ *
+ * <p>Opening an existing archive continues it: the old footer is cut off, new battles take its place and
+ * a combined index is written on {@link #close()}, so the file only ever holds one index. Until then
+ * the archive has no footer; if the session ends without a close, {@link ReplayArchive} and the next
+ * {@link #open} rebuild the index by scanning the battles, and the next open cuts off whatever follows
+ * the last complete one (a battle or footer that was being written). Not thread-safe.
+ */
+public class ReplayArchiveWriter extends ReplayWriter {
+    private final FileChannel file;
+    private long[] offsets;
+    private int count;
+    private long pendingOffset;
+
+    private ReplayArchiveWriter(FileChannel file, long position, long[] offsets, int count) {
+        super(file, position);
+        this.file = file;
+        this.offsets = offsets;
+        this.count = count;
+    }
+
+    /**
+     * Creates an archive at the given path, or reopens an existing one to append more battles. An archive
+     * whose last session was not closed is recovered first, dropping a battle cut off halfway.
+     */
+    public static ReplayArchiveWriter open(Path path) throws IOException {
+        FileChannel file = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            long size = file.size();
+            if (size == 0) {
+                return new ReplayArchiveWriter(file, 0, new long[1024], 0);
+            }
+
+            ByteBuffer header = readFully(file, 0, ReplayFormat.HEADER_SIZE);
+            if (header.getInt() != ReplayFormat.MAGIC || header.get() != ReplayFormat.VERSION) {
+                throw new IOException("Not a replay archive");
+            }
+            ReplayFormat.checkRegistry(header.getInt());
+            if (size >= ReplayFormat.HEADER_SIZE + ReplayFormat.TRAILER_SIZE) {
+                long position = size - ReplayFormat.TRAILER_SIZE;
+                ByteBuffer trailer = readFully(file, position, ReplayFormat.TRAILER_SIZE);
+                long indexOffset = trailer.getLong();
+                long battles = trailer.getLong();
+                if (ReplayFormat.isTrailer(position, indexOffset, battles, trailer.getInt())) {
+                    long[] offsets = readIndex(file, indexOffset, battles);
+                    // New battles overwrite the footer; a crash from here on is handled by recover()
+                    file.truncate(indexOffset);
+                    file.position(indexOffset);
+                    return new ReplayArchiveWriter(file, indexOffset, offsets, (int) battles);
+                }
+            }
+            return recover(file);
+        } catch (IOException | RuntimeException e) {
+            file.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Rebuilds the index of an archive whose last session ended without a footer by scanning its
+     * battles, and cuts off what follows the last complete one.
+     */
+    private static ReplayArchiveWriter recover(FileChannel file) throws IOException {
+        if (file.size() > Integer.MAX_VALUE) {
+            throw new IOException("Replay archives over 2 GiB cannot be recovered");
+        }
+        ByteBuffer data = readFully(file, 0, (int) file.size());
+        data.position(ReplayFormat.HEADER_SIZE);
+        long[] found = ReplayFormat.scanBattles(data);
+        long[] offsets = Arrays.copyOf(found, Math.max(1024, found.length * 2));
+        int end = data.position();
+
+        file.truncate(end);
+        file.position(end);
+        return new ReplayArchiveWriter(file, end, offsets, found.length);
+    }
+
+    private static long[] readIndex(FileChannel file, long indexOffset, long battles) throws IOException {
+        if (battles > Integer.MAX_VALUE / 16) {
+            throw new IOException("Replay archive is too large to append to");
+        }
+        int n = (int) battles;
+        long[] offsets = new long[Math.max(1024, n * 2)];
+        readFully(file, indexOffset, n * 8).asLongBuffer().get(offsets, 0, n);
+        return offsets;
+    }
+
+    @Override
+    public void beginBattle(long seed, List<Pokemon> team1, List<Pokemon> team2) {
+        long offset = position();
+        super.beginBattle(seed, team1, team2);
+        pendingOffset = offset;
+    }
+
+    @Override
+    public void endBattle() {
+        super.endBattle();
+        if (count == offsets.length) {
+            offsets = Arrays.copyOf(offsets, count * 2);
+        }
+        offsets[count++] = pendingOffset;
+    }
+
+    /**
+     * @return number of battles in the archive, including those already there when it was opened
+     */
+    @Override
+    public long getBattleCount() {
+        return count;
+    }
+
+    /**
+     * Writes the footer index and closes the archive. A battle still being recorded is dropped: its bytes
+     * are cut off so the footer takes their place, since a partial battle left in the file would end the
+     * scan that recovers a later crashed session, losing every battle after it.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+            long indexOffset = position();
+            if (isInBattle()) {
+                indexOffset = pendingOffset;
+                file.truncate(indexOffset);
+                file.position(indexOffset);
+            }
+            ByteBuffer footer = ByteBuffer.allocate(count * 8 + ReplayFormat.TRAILER_SIZE);
+            footer.asLongBuffer().put(offsets, 0, count);
+            footer.position(count * 8);
+            footer.putLong(indexOffset);
+            footer.putLong(count);
+            footer.putInt(ReplayFormat.ARCHIVE_MAGIC);
+            footer.flip();
+            while (footer.hasRemaining()) {
+                file.write(footer);
+            }
+        } finally {
+            super.close();
+        }
+    }
+
+    private static ByteBuffer readFully(FileChannel file, long position, int length) throws IOException {
+        if (position < 0) {
+            throw new IOException("Not a replay archive");
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (file.read(buffer, position + buffer.position()) < 0) {
+                throw new EOFException("Replay archive is truncated");
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+}
@@ -0,0 +1,222 @@
+package javamon.replay;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.zip.CRC32;
+import javamon.battle.Turn;
+import javamon.data.RegistryData;
+import javamon.entities.PokemonRegistry;
+import javamon.entities.moves.*;
+
+/**
+ * Shared constants and encoding helpers for the binary replay format.
+ *
+ * <p>A replay log starts with the magic {@code "JRPL"}, a version byte and the fingerprint of the registry
+ * it was recorded against, followed by battles back to back. Species and move IDs are dense registry
+ * indices that shift whenever a species or move is added, so logs are only read back under the registry
+ * whose fingerprint they carry. Every number is an unsigned LEB128 varint, so a battle is a few bytes per turn:
+ * <pre>
+ * battle   seed, team 1, team 2, round*, 0
+ * team     size, member*
+ * member   species ID, level, move count, move ID*
+ * round    player 1 turn code, player 2 turn code
+ * </pre>
+ * A turn code is {@code 1 + (argument << 1 | isSwitch)}, where the argument is the move ID or the team
+ * index switched to. Codes are never zero, so a zero ends the battle.
+ *
+ * <p>A replay archive is a log followed by a footer: one big-endian {@code long} offset per battle, then a
+ * trailer holding the index offset, the battle count and the magic {@code "JRPX"}. Battle IDs are
+ * positions in the index, in the order the battles were appended. An archive without a valid trailer
+ * (its writer never closed) is still readable: battles are self-delimiting, so the index can be rebuilt
+ * by scanning them with {@link #scanBattles}. A footer cannot pass for a battle, since its first offset
+ * is far below 2^56 and so starts with two zero bytes, which read as an empty team.
+ */
+final class ReplayFormat {
+    static final int MAGIC = 0x4A52504C; // "JRPL"
+    static final byte VERSION = 2;
+    static final int HEADER_SIZE = 4 + 1 + 4;
+    static final int END_OF_BATTLE = 0;
+    static final int MAX_VARINT_BYTES = 10;
+    static final int MAX_TEAM_SIZE = 6;
+    static final int MAX_MOVES = 4;
+
+    static final int ARCHIVE_MAGIC = 0x4A525058; // "JRPX"
+    static final int TRAILER_SIZE = 8 + 8 + 4;
+
+    private ReplayFormat() {}
+
+    /**
+     * @return fingerprint of the species and move IDs in use: the registry file's checksum plus the name
+     *         of every move, including those defined in code, in ID order
+     */
+    static int registryFingerprint() {
+        return Fingerprint.VALUE;
+    }
+
+    /**
+     * @throws IOException if the data was recorded against another registry, whose IDs may mean other
+     *         species and moves
+     */
+    static void checkRegistry(int fingerprint) throws IOException {
+        if (fingerprint != registryFingerprint()) {
+            throw new IOException(String.format("Replay data was recorded against another registry (fingerprint %08x, current %08x)",
+                    fingerprint, registryFingerprint()));
+        }
+    }
+
+    private static class Fingerprint {
+        private static final int VALUE = compute();
+
+        private static int compute() {
+            CRC32 crc = new CRC32();
+            crc.update(ByteBuffer.allocate(4).putInt(0, RegistryData.get().getChecksum()));
+            for (int id = 0; id < MoveRegistry.size(); id++) {
+                crc.update(MoveRegistry.get(id).getName().getBytes(StandardCharsets.UTF_8));
+                crc.update(0);
+            }
+            return (int) crc.getValue();
+        }
+    }
+
+    static int encodeTurn(Turn turn) {
+        if (turn.getType() == Turn.TurnType.Switch) {
+            return 1 + ((turn.getNewPokemon() << 1) | 1);
+        }
+        return 1 + (turn.getMoveId() << 1);
+    }
+
+    static Turn decodeTurn(int playerN, int code) {
+        int value = code - 1;
+        if ((value & 1) != 0) {
+            return new Turn(playerN, value >>> 1);
+        }
+        return Turn.move(playerN, value >>> 1);
+    }
+
+    static void writeVarint(ByteBuffer buffer, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    /**
+     * Finds the battles that follow one another from the buffer's position, for an archive whose footer
+     * is missing. Stops at the end of the buffer or at the first record that is cut off or is not a
+     * well-formed battle, leaving the buffer positioned just after the last good one.
+     * @return start offset of every battle found, in order
+     */
+    static long[] scanBattles(ByteBuffer buffer) {
+        long[] offsets = new long[1024];
+        int count = 0;
+        while (buffer.hasRemaining()) {
+            int start = buffer.position();
+            boolean valid;
+            try {
+                valid = skipBattle(buffer);
+            } catch (BufferUnderflowException | IllegalStateException e) {
+                valid = false;
+            }
+            if (!valid) {
+                buffer.position(start);
+                break;
+            }
+            if (count == offsets.length) {
+                offsets = Arrays.copyOf(offsets, count * 2);
+            }
+            offsets[count++] = start;
+        }
+        return Arrays.copyOf(offsets, count);
+    }
+
+    /**
+     * Skips one battle, checking that every field is in range for the current registry.
+     * @return false if the bytes are not a battle
+     * @throws BufferUnderflowException if the battle runs past the end of the buffer
+     */
+    private static boolean skipBattle(ByteBuffer buffer) {
+        readVarint(buffer); // seed
+        int size1 = skipValidTeam(buffer);
+        int size2 = skipValidTeam(buffer);
+        if (size1 == 0 || size2 == 0) {
+            return false;
+        }
+        long code;
+        while ((code = readVarint(buffer)) != END_OF_BATTLE) {
+            if (!isValidTurn(code, size1) || !isValidTurn(readVarint(buffer), size2)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return team size, or 0 if the team is not valid
+     */
+    private static int skipValidTeam(ByteBuffer buffer) {
+        long size = readVarint(buffer);
+        if (size < 1 || size > MAX_TEAM_SIZE) {
+            return 0;
+        }
+        for (int i = 0; i < size; i++) {
+            long species = readVarint(buffer);
+            long level = readVarint(buffer);
+            long moves = readVarint(buffer);
+            if (species < 0 || species >= PokemonRegistry.size() || level < 1 || moves < 0 || moves > MAX_MOVES) {
+                return 0;
+            }
+            for (int m = 0; m < moves; m++) {
+                long move = readVarint(buffer);
+                if (move < 0 || move >= MoveRegistry.size()) {
+                    return 0;
+                }
+            }
+        }
+        return (int) size;
+    }
+
+    private static boolean isValidTurn(long code, int teamSize) {
+        if (code == END_OF_BATTLE) {
+            return false;
+        }
+        long argument = (code - 1) >>> 1;
+        boolean isSwitch = ((code - 1) & 1) != 0;
+        return isSwitch ? argument < teamSize : argument < MoveRegistry.size();
+    }
+
+    static void skipTeam(ByteBuffer buffer) {
+        long size = readVarint(buffer);
+        for (long i = 0; i < size; i++) {
+            readVarint(buffer); // species
+            readVarint(buffer); // level
+            long moves = readVarint(buffer);
+            for (long m = 0; m < moves; m++) {
+                readVarint(buffer);
+            }
+        }
+    }
+
+    /**
+     * @param position where the candidate trailer starts
+     * @return whether the fields read there make a trailer whose index ends right before it
+     */
+    static boolean isTrailer(long position, long indexOffset, long battles, int magic) {
+        return magic == ARCHIVE_MAGIC && indexOffset >= HEADER_SIZE && battles >= 0
+                && battles <= (position - indexOffset) / 8 && indexOffset + battles * 8 == position;
+    }
+
+    static long readVarint(ByteBuffer buffer) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalStateException("Malformed varint in replay data");
+    }
+}
@@ -0,0 +1,135 @@
+package javamon.replay;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.file.*;
+import java.util.*;
+
+/**
+ * Reads battles back from a binary replay log written by {@link ReplayWriter}, one at a time.
+ * Not thread-safe.
+ */
+public class ReplayReader implements Closeable {
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final ReadableByteChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    private boolean eof;
+
+    /**
+     * Opens the replay log at the given path.
+     */
+    public ReplayReader(Path path) throws IOException {
+        this(FileChannel.open(path, StandardOpenOption.READ));
+    }
+
+    /**
+     * Reads a replay log from the given channel, which is closed with the reader.
+     */
+    public ReplayReader(ReadableByteChannel channel) throws IOException {
+        if (channel == null) {
+            throw new IllegalArgumentException("Replay log needs a channel!");
+        }
+        this.channel = channel;
+        buffer.flip();
+
+        fill(ReplayFormat.HEADER_SIZE);
+        if (buffer.remaining() < ReplayFormat.HEADER_SIZE || buffer.getInt() != ReplayFormat.MAGIC) {
+            throw new IOException("Not a replay log");
+        }
+        byte version = buffer.get();
+        if (version != ReplayFormat.VERSION) {
+            throw new IOException("Unsupported replay log version: " + version);
+        }
+        ReplayFormat.checkRegistry(buffer.getInt());
+    }
+
+    /**
+     * @return the next battle, or null once the log is exhausted
+     */
+    public Replay read() throws IOException {
+        fill(1);
+        if (!buffer.hasRemaining()) {
+            return null;
+        }
+
+        long seed = readVarint();
+        int[][] team1 = readTeam();
+        int[][] team2 = readTeam();
+
+        int[] turns = new int[32];
+        int count = 0;
+        int code;
+        while ((code = readInt()) != ReplayFormat.END_OF_BATTLE) {
+            if (count == turns.length) {
+                turns = Arrays.copyOf(turns, count * 2);
+            }
+            turns[count++] = code;
+        }
+        if (count % 2 != 0) {
+            throw new IOException("Replay log has an incomplete round");
+        }
+        return new Replay(seed, team1, team2, Arrays.copyOf(turns, count));
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private int[][] readTeam() throws IOException {
+        // Sizes are checked before anything is allocated from them, so a corrupt log fails as an IOException
+        long size = readVarint();
+        if (size < 1 || size > ReplayFormat.MAX_TEAM_SIZE) {
+            throw new IOException("Replay log has an invalid team size: " + size);
+        }
+        int[][] members = new int[(int) size][];
+        for (int i = 0; i < members.length; i++) {
+            int species = readInt();
+            int level = readInt();
+            long moves = readVarint();
+            if (moves < 0 || moves > ReplayFormat.MAX_MOVES) {
+                throw new IOException("Replay log has an invalid move count: " + moves);
+            }
+            int[] member = new int[2 + (int) moves];
+            member[0] = species;
+            member[1] = level;
+            for (int m = 2; m < member.length; m++) {
+                member[m] = readInt();
+            }
+            members[i] = member;
+        }
+        return members;
+    }
+
+    private int readInt() throws IOException {
+        return (int) readVarint();
+    }
+
+    private long readVarint() throws IOException {
+        fill(ReplayFormat.MAX_VARINT_BYTES);
+        try {
+            return ReplayFormat.readVarint(buffer);
+        } catch (BufferUnderflowException e) {
+            throw new EOFException("Replay log ends in the middle of a battle");
+        }
+    }
+
+    /**
+     * Tops the buffer up until it holds at least {@code needed} bytes or the channel is exhausted.
+     */
+    private void fill(int needed) throws IOException {
+        if (buffer.remaining() >= needed || eof) {
+            return;
+        }
+        buffer.compact();
+        while (buffer.position() < needed) {
+            if (channel.read(buffer) < 0) {
+                eof = true;
+                break;
+            }
+        }
+        buffer.flip();
+    }
+}
@@ -0,0 +1,156 @@
+package javamon.replay;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.file.*;
+import java.util.*;
+import javamon.battle.*;
+import javamon.entities.*;
+
+/**
+ * Appends battles to a binary replay log (see {@link ReplayFormat} for the layout).
+ *
+ * <p>A battle is bracketed by {@link #beginBattle} and {@link #endBattle}. In between, the writer is passed to
+ * {@link BattleEngine#playOutTurns(BattleListener)} as the listener and records each round's turns as they are
+ * resolved. Output goes through a buffer to a file channel, so recording costs a few bytes per turn and
+ * one write per 64 KiB. Not thread-safe; give each thread its own log.
+ */
+public class ReplayWriter implements BattleListener, Closeable {
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final WritableByteChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    private long flushed; // Bytes already handed to the channel, counted from the start of the file
+    private boolean inBattle;
+    private long battles;
+
+    /**
+     * Creates (or truncates) a replay log at the given path.
+     */
+    public ReplayWriter(Path path) throws IOException {
+        this(FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING));
+    }
+
+    /**
+     * Writes a replay log to the given channel, which is closed with the writer.
+     */
+    public ReplayWriter(WritableByteChannel channel) throws IOException {
+        this(channel, 0);
+    }
+
+    /**
+     * Continues a log whose first {@code position} bytes are already in place (the header is only written at 0).
+     */
+    ReplayWriter(WritableByteChannel channel, long position) {
+        if (channel == null) {
+            throw new IllegalArgumentException("Replay log needs a channel!");
+        }
+        this.channel = channel;
+        this.flushed = position;
+        if (position == 0) {
+            buffer.putInt(ReplayFormat.MAGIC);
+            buffer.put(ReplayFormat.VERSION);
+            buffer.putInt(ReplayFormat.registryFingerprint());
+        }
+    }
+
+    /**
+     * Starts recording a battle. The teams must be fresh (full HP and PP), since only their composition is stored.
+     * @param seed seed the battle's {@link BattleEngine} is created with
+     */
+    public void beginBattle(long seed, List<Pokemon> team1, List<Pokemon> team2) {
+        if (inBattle) {
+            throw new IllegalStateException("Previous battle was not ended");
+        }
+
+        int[][] members1 = Replay.encodeTeam(team1);
+        int[][] members2 = Replay.encodeTeam(team2);
+        write(seed);
+        writeTeam(members1);
+        writeTeam(members2);
+        inBattle = true;
+    }
+
+    @Override
+    public void onRoundStart(int turnN, Turn player1Turn, Turn player2Turn) {
+        if (!inBattle) {
+            throw new IllegalStateException("No battle is being recorded");
+        }
+        write(ReplayFormat.encodeTurn(player1Turn));
+        write(ReplayFormat.encodeTurn(player2Turn));
+    }
+
+    /**
+     * Finishes the battle started by the last {@link #beginBattle}.
+     */
+    public void endBattle() {
+        if (!inBattle) {
+            throw new IllegalStateException("No battle is being recorded");
+        }
+        write(ReplayFormat.END_OF_BATTLE);
+        inBattle = false;
+        battles++;
+    }
+
+    /**
+     * @return number of battles completed so far
+     */
+    public long getBattleCount() {
+        return battles;
+    }
+
+    /**
+     * Writes out any buffered bytes.
+     */
+    public void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            flushed += channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * @return offset in the file at which the next byte will land
+     */
+    long position() {
+        return flushed + buffer.position();
+    }
+
+    boolean isInBattle() {
+        return inBattle;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void writeTeam(int[][] members) {
+        write(members.length);
+        for (int[] member : members) {
+            write(member[0]);
+            write(member[1]);
+            write(member.length - 2);
+            for (int m = 2; m < member.length; m++) {
+                write(member[m]);
+            }
+        }
+    }
+
+    private void write(long value) {
+        if (buffer.remaining() < ReplayFormat.MAX_VARINT_BYTES) {
+            try {
+                flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not write replay log", e);
+            }
+        }
+        ReplayFormat.writeVarint(buffer, value);
+    }
+}
@@ -5,15 +5,27 @@ import static javamon.types.Type.*;
 
 public class TypeChart {
 
-    // Outer Map: Attacker -> Inner Map
-    // Inner Map: Defender -> Multiplier
-    private static final Map<Type, Map<Type, Double>> chart = new EnumMap<>(Type.class);
+    // Effectiveness encoded in quarters, so every possible dual-type result is an exact small int
+    public static final int IMMUNE = 0;
+    public static final int QUARTER = 1;
+    public static final int HALF = 2;
+    public static final int NEUTRAL = 4;
+    public static final int DOUBLE = 8;
+    public static final int QUADRUPLE = 16;
+
+    private static final int TYPE_COUNT = Type.values().length;
+    // Defender slots are a type ordinal, or NONE for the empty second slot of a single-typed defender
+    private static final int NONE = TYPE_COUNT;
+    private static final int SLOTS = TYPE_COUNT + 1;
+
+    // Single-type chart, flattened as [attacker * TYPE_COUNT + defender]
+    private static final double[] chart = new double[TYPE_COUNT * TYPE_COUNT];
+
+    // Dual-type chart in quarters, flattened as [(attacker * SLOTS + type1) * SLOTS + type2]
+    private static final byte[] dualChart = new byte[TYPE_COUNT * SLOTS * SLOTS];
 
     static {
-        // Initialize inner map for every type
-        for (Type t : Type.values()) {
-            chart.put(t, new EnumMap<>(Type.class));
-        }
+        Arrays.fill(chart, 1.0);
 
         // 1. SUPER EFFECTIVE (2.0x)
         register(Fire, 2.0, Grass, Ice, Bug, Steel);
@@ -63,29 +75,68 @@ public class TypeChart {
         register(Psychic, 0.0, Dark);
         register(Ghost, 0.0, Normal);
         register(Dragon, 0.0, Fairy);
+
+        // Precompute every attacker x (type1, type2) combination
+        for (int attacker = 0; attacker < TYPE_COUNT; attacker++) {
+            for (int type1 = 0; type1 < SLOTS; type1++) {
+                for (int type2 = 0; type2 < SLOTS; type2++) {
+                    double multiplier = 1.0;
+                    if (type1 != NONE) {
+                        multiplier *= chart[attacker * TYPE_COUNT + type1];
+                    }
+                    if (type2 != NONE && type2 != type1) {
+                        multiplier *= chart[attacker * TYPE_COUNT + type2];
+                    }
+                    dualChart[(attacker * SLOTS + type1) * SLOTS + type2] = (byte) (multiplier * NEUTRAL);
+                }
+            }
+        }
     }
 
     private static void register(Type attacker, double multi, Type... defenders) {
         for (Type defender : defenders) {
-            chart.get(attacker).put(defender, multi);
+            chart[attacker.ordinal() * TYPE_COUNT + defender.ordinal()] = multi;
         }
     }
 
     public static double getEffectiveness(Type attacker, List<Type> defenderTypes) {
-        double multiplier = 1.0;
+        if (defenderTypes.size() <= 2) {
+            Type type1 = defenderTypes.isEmpty() ? null : defenderTypes.get(0);
+            Type type2 = (defenderTypes.size() < 2) ? null : defenderTypes.get(1);
+            return getEffectiveness(attacker, type1, type2);
+        }
 
-        for (Type defender : defenderTypes) {
-            multiplier *= getMultiplier(attacker, defender);
+        double multiplier = 1.0;
+        for (int i = 0; i < defenderTypes.size(); i++) {
+            multiplier *= getMultiplier(attacker, defenderTypes.get(i));
         }
-        
         return multiplier;
     }
 
+    /**
+     * @param type2 second defending type, or null for a single-typed defender
+     * @return combined multiplier (0, 0.25, 0.5, 1, 2 or 4)
+     */
+    public static double getEffectiveness(Type attacker, Type type1, Type type2) {
+        return getEffectivenessQuarters(attacker, type1, type2) / (double) NEUTRAL;
+    }
+
+    /**
+     * Single array load into the precomputed dual-type chart.
+     * @param type2 second defending type, or null for a single-typed defender
+     * @return combined multiplier in quarters ({@link #IMMUNE} through {@link #QUADRUPLE})
+     */
+    public static int getEffectivenessQuarters(Type attacker, Type type1, Type type2) {
+        int slot1 = (type1 == null) ? NONE : type1.ordinal();
+        int slot2 = (type2 == null) ? NONE : type2.ordinal();
+        return dualChart[(attacker.ordinal() * SLOTS + slot1) * SLOTS + slot2];
+    }
+
     /**
      * Helper to safely get a multiplier. 
      * Returns 1.0 if no specific interaction was registered.
      */
     public static double getMultiplier(Type attacker, Type defender) {
-        return chart.get(attacker).getOrDefault(defender, 1.0);
+        return chart[attacker.ordinal() * TYPE_COUNT + defender.ordinal()];
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,80 @@
+package javamon.util;
+
+/**
+ * Source of randomness for a single battle (speed ties, accuracy, damage rolls, effect procs).
+ * Every random decision in the battle pipeline goes through one of these, so a battle created
+ * from a seed can be replayed exactly. Instances are not thread-safe; give each thread its own,
+ * e.g. via {@link #split()}.
+ *
+ * <p>Code that runs while a round resolves (the engine, moves and their effects) may draw only through
+ * {@link #nextInt}, {@link #nextDouble}, {@link #nextBoolean}, the {@code chance} checks,
+ * {@link #nextDamageRoll} and {@link #split()}: searches that branch on chance swap in a generator
+ * that enumerates the outcomes of exactly those draws. {@link #nextLong()} is for seeding battles and
+ * searches from outside a round. With assertions enabled, the engine fails any round that calls it.
+ */
+public interface BattleRandom {
+
+    /**
+     * Creates the default generator for the given seed.
+     */
+    static BattleRandom seeded(long seed) {
+        return new SplittableBattleRandom(seed);
+    }
+
+    /**
+     * @return uniformly distributed int in [0, bound)
+     */
+    int nextInt(int bound);
+
+    /**
+     * Not available while a round resolves (see above).
+     * @return uniformly distributed long, e.g. for seeding another battle
+     */
+    long nextLong();
+
+    /**
+     * @return uniformly distributed double in [0.0, 1.0)
+     */
+    double nextDouble();
+
+    /**
+     * @return true or false with equal probability
+     */
+    boolean nextBoolean();
+
+    /**
+     * Draws the random damage roll of a hit. The result is uniform like {@link #nextDouble()}; the
+     * arguments describe the hit only so that generators that enumerate outcomes can work out (with
+     * {@code DamagingMove.rollThreshold}) where the roll starts knocking the defender out, and branch
+     * on that exactly. Other generators ignore them, so live battles pay nothing for it.
+     * @param baseDamage damage before STAB, type effectiveness and the roll
+     * @param stab whether the move gets the same-type attack bonus
+     * @param typeEffectiveness type multiplier of the hit
+     * @param koDamage damage that knocks the defender out, i.e. its current HP
+     * @return uniformly distributed double in [0.0, 1.0)
+     */
+    default double nextDamageRoll(double baseDamage, boolean stab, double typeEffectiveness, int koDamage) {
+        return nextDouble();
+    }
+
+    /**
+     * Rolls a percentage check, such as move accuracy.
+     * @param percent chance of success out of 100
+     */
+    default boolean chance(int percent) {
+        return nextInt(100) < percent;
+    }
+
+    /**
+     * Rolls a probability check, such as a secondary effect.
+     * @param probability chance of success (0.0 to 1.0)
+     */
+    default boolean chance(double probability) {
+        return nextDouble() < probability;
+    }
+
+    /**
+     * @return a new generator whose stream is independent of this one (advances this generator)
+     */
+    BattleRandom split();
+}
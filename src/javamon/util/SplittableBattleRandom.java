@@ -0,0 +1,44 @@
+package javamon.util;
+
+import java.util.*;
+
+/**
+ * Default {@link BattleRandom}, backed by {@link SplittableRandom}.
+ * Unlike {@code java.util.Random} there is no atomic seed update, so each battle pays nothing for thread safety.
+ */
+public final class SplittableBattleRandom implements BattleRandom {
+    private final SplittableRandom random;
+
+    public SplittableBattleRandom(long seed) {
+        this(new SplittableRandom(seed));
+    }
+
+    private SplittableBattleRandom(SplittableRandom random) {
+        this.random = random;
+    }
+
+    @Override
+    public int nextInt(int bound) {
+        return random.nextInt(bound);
+    }
+
+    @Override
+    public long nextLong() {
+        return random.nextLong();
+    }
+
+    @Override
+    public double nextDouble() {
+        return random.nextDouble();
+    }
+
+    @Override
+    public boolean nextBoolean() {
+        return random.nextBoolean();
+    }
+
+    @Override
+    public BattleRandom split() {
+        return new SplittableBattleRandom(random.split());
+    }
+}
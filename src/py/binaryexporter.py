@@ -0,0 +1,195 @@
+import json
+import struct
+from pathlib import Path
+
+import filterhelper
+
+"""
+Build-time converter from the JSON databases to the compact binary registry
+(javamon/data/registry.bin) that the Java side memory-maps at runtime.
+
+Layout (all values big-endian):
+
+    header   magic "JMON", u16 version, u16 reserved,
+             i32 species count, i32 move count,
+             i32 species table offset, i32 move table offset, i32 string pool offset,
+             i32 name index offset, i32 name index size (power of two)
+    species  fixed 16-byte records:
+             i32 name offset, u16 name length, u8 type1, u8 type2 (0xFF = none),
+             u8 hp, u8 atk, u8 def, u8 spa, u8 spd, u8 spe, 2 bytes padding
+    moves    fixed 16-byte records:
+             i32 name offset, u16 name length, u8 type, u8 kind (0 = status, 1 = physical, 2 = special),
+             u16 power, u8 accuracy (0xFF = never misses), u8 pp, i8 priority, 3 bytes padding
+    strings  UTF-8 names, offsets relative to the start of the pool
+    index    open-addressing hash table of i32 species IDs (-1 = empty), keyed by the
+             32-bit FNV-1a hash of the UTF-8 name and probed linearly, so a name lookup
+             never has to decode the other names
+
+Type bytes are ordinals of the Java `Type` enum, so TYPES must stay in the same order.
+"""
+
+MAGIC = b"JMON"
+VERSION = 1
+HEADER = struct.Struct(">4sHHiiiiiii")
+SPECIES_RECORD = struct.Struct(">iHBB6B2x")
+MOVE_RECORD = struct.Struct(">iHBBHBBb3x")
+
+TYPES = [
+    "Normal", "Fire", "Water", "Electric", "Grass", "Ice", "Fighting", "Poison", "Ground",
+    "Flying", "Psychic", "Bug", "Rock", "Ghost", "Dragon", "Dark", "Steel", "Fairy",
+]
+NO_TYPE = 0xFF
+NEVER_MISSES = 0xFF
+KIND_STATUS, KIND_PHYSICAL, KIND_SPECIAL = 0, 1, 2
+EMPTY_SLOT = -1
+
+
+class StringPool:
+    """Accumulates UTF-8 names and hands out (offset, length) pairs."""
+
+    def __init__(self):
+        self.data = bytearray()
+
+    def add(self, s: str):
+        encoded = s.encode("utf-8")
+        offset = len(self.data)
+        self.data += encoded
+        return offset, len(encoded)
+
+
+def fnv1a(data: bytes) -> int:
+    """32-bit FNV-1a hash; must match RegistryData.hash on the Java side."""
+    h = 0x811C9DC5
+    for b in data:
+        h ^= b
+        h = (h * 0x01000193) & 0xFFFFFFFF
+    return h
+
+
+def name_index(species):
+    """Builds the species name hash table at no more than 50% load."""
+    size = 1
+    while size < 2 * len(species):
+        size *= 2
+
+    slots = [EMPTY_SLOT] * size
+    for species_id, poke in enumerate(species):
+        slot = fnv1a(poke["name"].encode("utf-8")) & (size - 1)
+        while slots[slot] != EMPTY_SLOT:
+            slot = (slot + 1) & (size - 1)
+        slots[slot] = species_id
+    return struct.pack(f">{size}i", *slots), size
+
+
+def type_index(name):
+    return TYPES.index(name)
+
+
+def species_records(species, pool: StringPool):
+    records = bytearray()
+    for poke in species:
+        types = poke["types"]
+        stats = poke["stats"]
+        offset, length = pool.add(poke["name"])
+        records += SPECIES_RECORD.pack(
+            offset,
+            length,
+            type_index(types[0]),
+            type_index(types[1]) if len(types) > 1 else NO_TYPE,
+            stats["hp"],
+            stats["attack"],
+            stats["defense"],
+            stats["special_attack"],
+            stats["special_defense"],
+            stats["speed"],
+        )
+    return records
+
+
+def implemented_moves(moves, priorities_path: Path):
+    """
+    Moves the engine can represent without custom code: moves with no effect, plus moves
+    whose only effect is priority. Mirrors the selection made by filterhelper.
+    Returns (move, priority) pairs.
+    """
+    priority_moves = filterhelper.parse_priorities_file(priorities_path)
+    priority_map = filterhelper.parse_priorities_with_values(priorities_path)
+
+    selected = [(m, 0) for m in filterhelper.moves_without_effect(moves)]
+    seen = set(m.get("name") for m, _ in selected)
+    for m in filterhelper.moves_with_priority_only(moves, priority_moves):
+        # A move with no effect text also counts as priority-only; keep the first entry
+        if m.get("name") not in seen:
+            selected.append((m, priority_map.get(m.get("name"), 0)))
+    return selected
+
+
+def move_records(selected, pool: StringPool):
+    records = bytearray()
+    for move, priority in selected:
+        category = (move.get("category") or "").strip().lower()
+        stats = move.get("stats", {}) or {}
+        power = stats.get("power", None)
+        accuracy = stats.get("accuracy", None)
+        pp = stats.get("pp", None)
+
+        if category in ("physical", "special") and power is not None:
+            kind = KIND_PHYSICAL if category == "physical" else KIND_SPECIAL
+        else:
+            kind = KIND_STATUS
+            power = 0
+
+        if accuracy is None or (isinstance(accuracy, str) and accuracy.lower() in ("infinity", "inf")):
+            accuracy = NEVER_MISSES
+
+        offset, length = pool.add(move["name"])
+        records += MOVE_RECORD.pack(
+            offset,
+            length,
+            type_index(move.get("type", "Normal")),
+            kind,
+            power,
+            accuracy,
+            pp if pp is not None else 10,
+            priority,
+        )
+    return records
+
+
+def build(species, selected_moves) -> bytes:
+    pool = StringPool()
+    species_table = species_records(species, pool)
+    move_table = move_records(selected_moves, pool)
+
+    index_table, index_size = name_index(species)
+
+    species_offset = HEADER.size
+    move_offset = species_offset + len(species_table)
+    pool_offset = move_offset + len(move_table)
+    # Keep the index 4-byte aligned
+    padding = (-(pool_offset + len(pool.data))) % 4
+    index_offset = pool_offset + len(pool.data) + padding
+    header = HEADER.pack(MAGIC, VERSION, 0, len(species), len(selected_moves),
+                         species_offset, move_offset, pool_offset, index_offset, index_size)
+    return bytes(header + species_table + move_table + pool.data + bytes(padding) + index_table)
+
+
+def main():
+    here = Path(__file__).resolve().parent
+    species_path = here / "pokemon_species.json"
+    # The backup holds the full move list; pokemon_moves.json only keeps moves still to be implemented
+    moves_path = here / "pokemon_moves.backup.json"
+    priorities_path = here / "priorities.txt"
+    out_path = here.parent / "javamon" / "data" / "registry.bin"
+
+    with species_path.open("r", encoding="utf-8") as f:
+        species = json.load(f)
+    selected = implemented_moves(filterhelper.load_moves(moves_path), priorities_path)
+
+    data = build(species, selected)
+    out_path.write_bytes(data)
+    print(f"Wrote {len(species)} species and {len(selected)} moves ({len(data)} bytes) to {out_path}")
+
+
+if __name__ == "__main__":
+    main()
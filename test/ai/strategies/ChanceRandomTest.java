@@ -0,0 +1,98 @@
+package ai.strategies;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static javamon.battle.RandomBattles.*;
+
+import java.util.*;
+import org.junit.jupiter.api.Test;
+import javamon.battle.*;
+import javamon.entities.*;
+import javamon.entities.moves.*;
+import javamon.util.BattleRandom;
+
+/**
+ * {@link ChanceRandom} must enumerate every outcome of a round exactly once, with probabilities that add
+ * up to 1. Run with assertions enabled, this also checks that no move draws outside the
+ * {@link BattleRandom} contract.
+ */
+class ChanceRandomTest {
+    private static final int BATTLES = 200;
+    private static final int MAX_ROUNDS = 30;
+    private static final double EPSILON = 1e-9;
+
+    @Test
+    void roundOutcomesAddUpToOne() {
+        ChanceRandom chance = new ChanceRandom();
+        for (long seed = 0; seed < BATTLES; seed++) {
+            SplittableRandom rng = new SplittableRandom(seed);
+            BattleEngine engine = new BattleEngine(randomTeam(rng), randomTeam(rng), seed);
+
+            for (int round = 0; round < MAX_ROUNDS && !engine.isFinished(); round++) {
+                Turn turn1 = engine.toTurn(1, randomAction(engine, 1, rng));
+                Turn turn2 = engine.toTurn(2, randomAction(engine, 2, rng));
+                double total = 0.0;
+                chance.reset();
+                do {
+                    engine.make(turn1, turn2, chance);
+                    engine.unmake();
+                    total += chance.getProbability();
+                } while (chance.next());
+                assertEquals(1.0, total, EPSILON, "outcomes of round " + round + " (seed " + seed + ")");
+
+                engine.queueAction(1, randomAction(engine, 1, rng));
+                engine.queueAction(2, randomAction(engine, 2, rng));
+                engine.playOutTurns();
+            }
+        }
+    }
+
+    @Test
+    void splitStreamIsEnumeratedToo() {
+        ChanceRandom chance = new ChanceRandom();
+        Set<String> outcomes = new HashSet<>();
+        double total = 0.0;
+        chance.reset();
+        do {
+            BattleRandom split = chance.split();
+            outcomes.add(chance.nextBoolean() + "/" + split.nextInt(3));
+            total += chance.getProbability();
+        } while (chance.next());
+
+        assertEquals(6, outcomes.size());
+        assertEquals(1.0, total, EPSILON);
+    }
+
+    @Test
+    void damageRollsBranchOnTheExactKoChance() {
+        ChanceRandom chance = new ChanceRandom();
+        DamageOracle oracle = new DamageOracle();
+        SplittableRandom rng = new SplittableRandom(7);
+        int checked = 0;
+        while (checked < 2000) {
+            Move move = MoveRegistry.get(rng.nextInt(MoveRegistry.size()));
+            if (!(move instanceof DamagingMove) || move.getEffect() != null) {
+                continue;
+            }
+            int level = 5 + rng.nextInt(60);
+            Pokemon attacker = PokemonRegistry.create(rng.nextInt(PokemonRegistry.size()), level, new int[0]);
+            Pokemon defender = PokemonRegistry.create(rng.nextInt(PokemonRegistry.size()), level, new int[0]);
+            int hp = 1 + rng.nextInt(defender.getMaxHp());
+
+            double koChance = 0.0;
+            chance.reset();
+            do {
+                defender.setCurrentHp(hp);
+                move.apply(attacker, defender, chance, BattleListener.NONE);
+                if (defender.isKnockedOut()) {
+                    koChance += chance.getProbability();
+                }
+            } while (chance.next());
+            defender.setCurrentHp(hp);
+
+            // The engine has rolled accuracy before the move applies
+            assertEquals(oracle.getRange(attacker, defender, move).getChanceAtLeast(hp), koChance, EPSILON,
+                    move.getName() + " against " + defender.getNickname() + " at " + hp + " HP");
+            checked++;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package ai.strategies;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+import org.junit.jupiter.api.Test;
+import ai.BattleContext;
+import javamon.battle.*;
+import javamon.entities.*;
+
+/**
+ * Star1/Star2 pruning, killer moves and iterative deepening must not change the result: the strategy has
+ * to find the same value and an equally good action as a plain expectiminimax over the same
+ * {@link ChanceRandom} outcomes.
+ */
+class ExpectiminimaxStrategyTest {
+    private static final int DEPTH = 3;
+    private static final int POSITIONS = 6;
+    private static final double EPSILON = 1e-9;
+
+    @Test
+    void prunedSearchMatchesPlainExpectiminimax() {
+        int compared = 0;
+        for (int position = 0; position < POSITIONS; position++) {
+            BattleEngine engine = position(position);
+            for (int playerN = 1; playerN <= 2; playerN++) {
+                if (Integer.bitCount(engine.getLegalActions(playerN)) < 2) {
+                    continue;
+                }
+                ExpectiminimaxStrategy strategy = new ExpectiminimaxStrategy(DEPTH, 0);
+                Turn turn = strategy.decideTurn(new BattleContext(engine, playerN));
+
+                Expectiminimax plain = new Expectiminimax(engine, playerN);
+                double[] values = plain.rootValues(DEPTH);
+                double best = Arrays.stream(values).filter(v -> !Double.isNaN(v)).max().getAsDouble();
+                String where = "position " + position + ", player " + playerN;
+                assertEquals(best, strategy.getLastValue(), EPSILON, where);
+
+                // Actions that tie for the best value are equally right, and the two searches order them differently
+                int action = actionOf(engine, playerN, turn);
+                assertEquals(best, values[action], EPSILON, where + ": action " + action + " is not a best action");
+                compared++;
+            }
+        }
+        assertTrue(compared >= POSITIONS, "too few positions had a choice to make");
+    }
+
+    /**
+     * A fixed position: the opening of a small battle, played on with seeded random actions. Low levels
+     * and few HP keep knockout rolls common.
+     */
+    private static BattleEngine position(int n) {
+        List<Pokemon> team1 = List.of(PokemonRegistry.create("Charmander", 12, new String[]{"Ember", "Slam"}),
+                PokemonRegistry.create("Pidgey", 11, new String[]{"Wing Attack", "Quick Attack"}));
+        List<Pokemon> team2 = List.of(PokemonRegistry.create("Bulbasaur", 12, new String[]{"Vine Whip", "Growl"}),
+                PokemonRegistry.create("Squirtle", 11, new String[]{"Water Gun", "Aqua Jet"}));
+        BattleEngine engine = new BattleEngine(team1, team2, n);
+        SplittableRandom rng = new SplittableRandom(n);
+        for (int round = 0; round < n && !engine.isFinished(); round++) {
+            for (int playerN = 1; playerN <= 2; playerN++) {
+                int mask = engine.getLegalActions(playerN);
+                engine.queueAction(playerN, BattleEngine.nthAction(mask, rng.nextInt(Integer.bitCount(mask))));
+            }
+            engine.playOutTurns();
+        }
+        return engine;
+    }
+
+    private static int actionOf(BattleEngine engine, int playerN, Turn turn) {
+        for (int mask = engine.getLegalActions(playerN); mask != 0; mask &= mask - 1) {
+            int action = Integer.numberOfTrailingZeros(mask);
+            Turn candidate = engine.toTurn(playerN, action);
+            if (candidate.getType() == turn.getType() && candidate.getMoveId() == turn.getMoveId()
+                    && candidate.getNewPokemon() == turn.getNewPokemon()) {
+                return action;
+            }
+        }
+        throw new AssertionError("Strategy chose an illegal turn");
+    }
+
+    /**
+     * The strategy's model without any pruning or move ordering: this player chooses, the opponent answers,
+     * and every outcome {@link ChanceRandom} enumerates is searched. Values are memoized by state and depth,
+     * which saves time without changing any of them.
+     */
+    private static final class Expectiminimax {
+        private final BattleEngine simulation;
+        private final ChanceRandom chance = new ChanceRandom();
+        private final int me;
+        private final int opponent;
+        private final Map<BattleState, double[]> memo = new HashMap<>();
+
+        Expectiminimax(BattleEngine engine, int playerN) {
+            this.simulation = engine.copy(chance);
+            this.me = playerN;
+            this.opponent = 3 - playerN;
+        }
+
+        /**
+         * @return value of each of this player's actions at the root, NaN for illegal ones
+         */
+        double[] rootValues(int depth) {
+            BattleState root = simulation.snapshot();
+            double[] values = new double[BattleEngine.MAX_ACTIONS];
+            Arrays.fill(values, Double.NaN);
+            int myMask = simulation.getLegalActions(me);
+            for (int mask = myMask; mask != 0; mask &= mask - 1) {
+                int action = Integer.numberOfTrailingZeros(mask);
+                values[action] = min(root, depth, action);
+            }
+            return values;
+        }
+
+        private double max(BattleState state, int depth) {
+            simulation.restore(state);
+            if (state.isFinished() || depth == 0) {
+                return SearchActions.evaluate(simulation, me);
+            }
+            double[] known = memo.computeIfAbsent(state, s -> new double[DEPTH + 1]);
+            if (known[depth] != 0.0) {
+                return known[depth] - 1.0; // Stored shifted by one, so 0.0 means not yet searched
+            }
+
+            double best = Double.NEGATIVE_INFINITY;
+            for (int mask = simulation.getLegalActions(me); mask != 0; mask &= mask - 1) {
+                best = Math.max(best, min(state, depth, Integer.numberOfTrailingZeros(mask)));
+            }
+            known[depth] = best + 1.0;
+            return best;
+        }
+
+        private double min(BattleState state, int depth, int myAction) {
+            simulation.restore(state);
+            double best = Double.POSITIVE_INFINITY;
+            for (int mask = simulation.getLegalActions(opponent); mask != 0; mask &= mask - 1) {
+                int action = Integer.numberOfTrailingZeros(mask);
+                double value = (me == 1) ? expected(state, depth, myAction, action) : expected(state, depth, action, myAction);
+                best = Math.min(best, value);
+            }
+            return best;
+        }
+
+        private double expected(BattleState state, int depth, int action1, int action2) {
+            List<BattleState> children = new ArrayList<>();
+            List<Double> probabilities = new ArrayList<>();
+            chance.reset();
+            do {
+                simulation.restore(state);
+                simulation.queueAction(1, action1);
+                simulation.queueAction(2, action2);
+                simulation.playOutTurns();
+                children.add(simulation.snapshot());
+                probabilities.add(chance.getProbability());
+            } while (chance.next());
+
+            double sum = 0.0;
+            for (int i = 0; i < children.size(); i++) {
+                sum += probabilities.get(i) * max(children.get(i), depth - 1);
+            }
+            return sum;
+        }
+    }
+}
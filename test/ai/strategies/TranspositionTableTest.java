@@ -0,0 +1,161 @@
+package ai.strategies;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.reflect.Field;
+import org.junit.jupiter.api.Test;
+import javamon.battle.BattleEngine;
+
+/**
+ * Every replacement policy must hand back exactly what was stored, never a torn entry, and must let
+ * entries from earlier searches give way.
+ */
+class TranspositionTableTest {
+    private static final int CAPACITY = 64;
+    // Keys with the same low bits and no high bits land in the same place
+    private static final long A = 4;
+    private static final long B = A + CAPACITY;
+    private static final long C = A + 2 * CAPACITY;
+    private static final long D = A + 3 * CAPACITY;
+
+    @Test
+    void storedEntriesRoundTrip() {
+        for (TranspositionTable.Replacement replacement : TranspositionTable.Replacement.values()) {
+            TranspositionTable table = new TranspositionTable(CAPACITY, replacement);
+            TranspositionTable.Entry entry = new TranspositionTable.Entry();
+            assertFalse(table.probe(A, entry), replacement.name());
+
+            table.store(A, 0.375, 7, TranspositionTable.Bound.Lower, 10);
+            table.store(A + 1, 0.5, 300, TranspositionTable.Bound.Exact, -1);
+            assertEntry(table, A, 0.375, 7, TranspositionTable.Bound.Lower, 10);
+            assertEntry(table, A + 1, 0.5, 255, TranspositionTable.Bound.Exact, -1); // Depth is capped
+            assertFalse(table.probe(B, entry), replacement.name() + ": another key must miss");
+
+            // The same position is always updated, even by a shallower search
+            table.store(A, 0.25, 3, TranspositionTable.Bound.Upper, 0);
+            assertEntry(table, A, 0.25, 3, TranspositionTable.Bound.Upper, 0);
+            assertEquals(3, table.getHits());
+            assertEquals(5, table.getProbes());
+        }
+    }
+
+    @Test
+    void actionCodesOutsideTheEngineRangeAreRejected() {
+        TranspositionTable table = new TranspositionTable(CAPACITY, TranspositionTable.Replacement.AlwaysReplace);
+        table.store(A, 0.5, 1, TranspositionTable.Bound.Exact, BattleEngine.MAX_ACTIONS - 1);
+        assertThrows(IllegalArgumentException.class,
+                () -> table.store(A, 0.5, 1, TranspositionTable.Bound.Exact, BattleEngine.MAX_ACTIONS));
+        assertThrows(IllegalArgumentException.class, () -> table.store(A, 0.5, 1, TranspositionTable.Bound.Exact, -2));
+    }
+
+    @Test
+    void alwaysReplaceKeepsTheNewest() {
+        TranspositionTable table = new TranspositionTable(CAPACITY, TranspositionTable.Replacement.AlwaysReplace);
+        table.store(A, 0.9, 10, TranspositionTable.Bound.Exact, 1);
+        table.store(B, 0.1, 1, TranspositionTable.Bound.Exact, 2);
+        assertMiss(table, A);
+        assertEntry(table, B, 0.1, 1, TranspositionTable.Bound.Exact, 2);
+    }
+
+    @Test
+    void depthPreferredKeepsDeeperEntriesUntilTheyAge() {
+        TranspositionTable table = new TranspositionTable(CAPACITY, TranspositionTable.Replacement.DepthPreferred);
+        table.store(A, 0.9, 10, TranspositionTable.Bound.Exact, 1);
+        table.store(B, 0.1, 2, TranspositionTable.Bound.Exact, 2);
+        assertEntry(table, A, 0.9, 10, TranspositionTable.Bound.Exact, 1);
+        assertMiss(table, B);
+
+        table.store(B, 0.2, 10, TranspositionTable.Bound.Exact, 2);
+        assertEntry(table, B, 0.2, 10, TranspositionTable.Bound.Exact, 2);
+
+        // After a new search even a shallow result displaces the old one
+        table.newSearch();
+        table.store(C, 0.3, 1, TranspositionTable.Bound.Exact, 3);
+        assertEntry(table, C, 0.3, 1, TranspositionTable.Bound.Exact, 3);
+        assertMiss(table, B);
+    }
+
+    @Test
+    void twoTierDemotesRatherThanDrops() {
+        TranspositionTable table = new TranspositionTable(CAPACITY, TranspositionTable.Replacement.TwoTier);
+        table.store(A, 0.9, 10, TranspositionTable.Bound.Exact, 1);
+        // Turned away by the deep slot, so it takes the other one
+        table.store(B, 0.1, 2, TranspositionTable.Bound.Exact, 2);
+        assertEntry(table, A, 0.9, 10, TranspositionTable.Bound.Exact, 1);
+        assertEntry(table, B, 0.1, 2, TranspositionTable.Bound.Exact, 2);
+
+        // The second slot always takes the newest
+        table.store(C, 0.2, 1, TranspositionTable.Bound.Exact, 3);
+        assertEntry(table, A, 0.9, 10, TranspositionTable.Bound.Exact, 1);
+        assertEntry(table, C, 0.2, 1, TranspositionTable.Bound.Exact, 3);
+        assertMiss(table, B);
+
+        // An aged deep entry gives way, but moves to the second slot instead of being lost
+        table.newSearch();
+        table.store(D, 0.3, 1, TranspositionTable.Bound.Lower, 4);
+        assertEntry(table, D, 0.3, 1, TranspositionTable.Bound.Lower, 4);
+        assertEntry(table, A, 0.9, 10, TranspositionTable.Bound.Exact, 1);
+        assertMiss(table, C);
+    }
+
+    @Test
+    void tornEntriesMiss() throws ReflectiveOperationException {
+        for (TranspositionTable.Replacement replacement : TranspositionTable.Replacement.values()) {
+            TranspositionTable table = new TranspositionTable(CAPACITY, replacement);
+            TranspositionTable other = new TranspositionTable(CAPACITY, replacement);
+            table.store(A, 0.9, 10, TranspositionTable.Bound.Exact, 1);
+            other.store(B, 0.1, 2, TranspositionTable.Bound.Upper, 2);
+            long[] words = words(table);
+            long[] racing = words(other);
+            int base = slotOf(words, A);
+            assertEquals(base, slotOf(racing, B));
+
+            // A write of B raced with a reader: every mix of old and new words must miss, for A and for B
+            for (int torn = 1; torn < 7; torn++) {
+                long[] saved = words.clone();
+                for (int w = 0; w < 3; w++) {
+                    if ((torn & (1 << w)) != 0) {
+                        words[base + w] = racing[base + w];
+                    }
+                }
+                assertFalse(table.probe(B, new TranspositionTable.Entry()), replacement.name() + ", torn " + torn);
+                assertFalse(table.probe(A, new TranspositionTable.Entry()), replacement.name() + ", torn " + torn);
+                System.arraycopy(saved, 0, words, 0, words.length);
+            }
+            assertEntry(table, A, 0.9, 10, TranspositionTable.Bound.Exact, 1);
+        }
+    }
+
+    private static void assertEntry(TranspositionTable table, long key, double value, int depth,
+            TranspositionTable.Bound bound, int bestAction) {
+        TranspositionTable.Entry entry = new TranspositionTable.Entry();
+        String where = table.getReplacement() + ", key " + key;
+        assertTrue(table.probe(key, entry), where + " missed");
+        assertEquals(value, entry.getValue(), where);
+        assertEquals(depth, entry.getDepth(), where);
+        assertEquals(bound, entry.getBound(), where);
+        assertEquals(bestAction, entry.getBestAction(), where);
+    }
+
+    private static void assertMiss(TranspositionTable table, long key) {
+        assertFalse(table.probe(key, new TranspositionTable.Entry()), table.getReplacement() + ", key " + key + " hit");
+    }
+
+    private static long[] words(TranspositionTable table) throws ReflectiveOperationException {
+        Field field = TranspositionTable.class.getDeclaredField("table");
+        field.setAccessible(true);
+        return (long[]) field.get(table);
+    }
+
+    /**
+     * @return offset of the first word of the only entry in use
+     */
+    private static int slotOf(long[] words, long key) {
+        for (int base = 0; base < words.length; base += 3) {
+            if (words[base + 2] != 0) {
+                return base;
+            }
+        }
+        throw new AssertionError("No entry stored for key " + key);
+    }
+}
@@ -0,0 +1,74 @@
+package javamon.battle;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static javamon.battle.RandomBattles.*;
+
+import java.util.*;
+import org.junit.jupiter.api.Test;
+import javamon.util.BattleRandom;
+
+/**
+ * A state's Zobrist hash is worked out from the state before it; whatever path led there (rounds played,
+ * made and unmade, restores, transitions), it must equal the hash of the state computed from scratch.
+ */
+class BattleStateTest {
+    private static final int BATTLES = 200;
+    private static final int MAX_ROUNDS = 60;
+
+    @Test
+    void zobristHashMatchesHashFromScratch() {
+        for (long seed = 0; seed < BATTLES; seed++) {
+            SplittableRandom rng = new SplittableRandom(seed);
+            BattleEngine engine = new BattleEngine(randomTeam(rng), randomTeam(rng), seed);
+            BattleRandom random = BattleRandom.seeded(seed);
+            List<BattleState> seen = new ArrayList<>();
+
+            for (int round = 0; round < MAX_ROUNDS && !engine.isFinished(); round++) {
+                BattleState state = engine.snapshot();
+                assertHashed(state, seed);
+                seen.add(state);
+
+                switch (rng.nextInt(4)) {
+                    case 0: // Jump back to an earlier state, then on from there
+                        engine.restore(seen.get(rng.nextInt(seen.size())));
+                        break;
+                    case 1:
+                        engine.make(randomTurn(engine, 1, rng), randomTurn(engine, 2, rng), random);
+                        assertHashed(engine.snapshot(), seed);
+                        engine.unmake();
+                        break;
+                    case 2:
+                        assertHashed(engine.transition(state, randomTurn(engine, 1, rng), randomTurn(engine, 2, rng), random), seed);
+                        break;
+                    default:
+                        break;
+                }
+                if (engine.isFinished()) {
+                    break;
+                }
+                engine.queueAction(1, randomAction(engine, 1, rng));
+                engine.queueAction(2, randomAction(engine, 2, rng));
+                engine.playOutTurns();
+            }
+            assertHashed(engine.copy(random).snapshot(), seed);
+        }
+    }
+
+    @Test
+    void turnNumberIsNotHashed() {
+        SplittableRandom rng = new SplittableRandom(1);
+        BattleEngine engine = new BattleEngine(randomTeam(rng), randomTeam(rng), 1L);
+        BattleState state = engine.snapshot();
+        int[] later = state.data().clone();
+        later[0] += 10;
+
+        engine.restore(new BattleState(later, BattleState.zobristHash(later)));
+        BattleState same = engine.snapshot();
+        assertNotEquals(state, same);
+        assertEquals(state.zobristHash(), same.zobristHash());
+    }
+
+    private static void assertHashed(BattleState state, long seed) {
+        assertEquals(BattleState.zobristHash(state.data()), state.zobristHash(), "hash drifted (seed " + seed + ")");
+    }
+}
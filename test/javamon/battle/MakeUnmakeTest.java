@@ -0,0 +1,98 @@
+package javamon.battle;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static javamon.battle.RandomBattles.*;
+
+import java.util.*;
+import org.junit.jupiter.api.Test;
+import javamon.util.BattleRandom;
+
+/**
+ * {@link BattleEngine#make} followed by {@link BattleEngine#unmake()} must leave the engine exactly as it
+ * was, however deep the rounds are nested and whatever the battle did in between.
+ */
+class MakeUnmakeTest {
+    private static final int BATTLES = 300;
+    private static final int MAX_ROUNDS = 150;
+    private static final int SEARCH_DEPTH = 3;
+    private static final int SEARCH_WIDTH = 2;
+
+    @Test
+    void makeThenUnmakeIsIdentity() {
+        for (long seed = 0; seed < BATTLES; seed++) {
+            SplittableRandom rng = new SplittableRandom(seed);
+            BattleEngine engine = new BattleEngine(randomTeam(rng), randomTeam(rng), seed);
+            BattleRandom random = BattleRandom.seeded(seed);
+
+            for (int round = 0; round < MAX_ROUNDS && !engine.isFinished(); round++) {
+                BattleState before = engine.snapshot();
+                engine.make(randomTurn(engine, 1, rng), randomTurn(engine, 2, rng), random);
+                engine.unmake();
+                assertEquals(before, engine.snapshot(), "make then unmake changed the state (seed " + seed + ")");
+                assertEquals(0, engine.getMakeDepth());
+
+                // Then play a round for real, so later makes start from varied states
+                engine.queueAction(1, randomAction(engine, 1, rng));
+                engine.queueAction(2, randomAction(engine, 2, rng));
+                engine.playOutTurns();
+            }
+        }
+    }
+
+    @Test
+    void nestedMakesUnwindToEachParent() {
+        for (long seed = 0; seed < BATTLES; seed++) {
+            SplittableRandom rng = new SplittableRandom(seed);
+            BattleEngine engine = new BattleEngine(randomTeam(rng), randomTeam(rng), seed);
+            BattleRandom random = BattleRandom.seeded(seed);
+
+            for (int round = 0; round < 20 && !engine.isFinished(); round++) {
+                search(engine, SEARCH_DEPTH, rng, random, seed);
+                engine.make(randomTurn(engine, 1, rng), randomTurn(engine, 2, rng), random);
+            }
+        }
+    }
+
+    @Test
+    void unwindingWholeBattleRestoresEverySnapshot() {
+        for (long seed = 0; seed < BATTLES; seed++) {
+            SplittableRandom rng = new SplittableRandom(seed);
+            BattleEngine engine = new BattleEngine(randomTeam(rng), randomTeam(rng), seed);
+            BattleRandom random = BattleRandom.seeded(seed);
+
+            List<BattleState> history = new ArrayList<>();
+            while (!engine.isFinished() && history.size() < MAX_ROUNDS) {
+                history.add(engine.snapshot());
+                engine.make(randomTurn(engine, 1, rng), randomTurn(engine, 2, rng), random);
+            }
+            assertEquals(history.size(), engine.getMakeDepth());
+
+            for (int i = history.size() - 1; i >= 0; i--) {
+                engine.unmake();
+                assertEquals(history.get(i), engine.snapshot(), "unwinding missed round " + i + " (seed " + seed + ")");
+            }
+        }
+    }
+
+    @Test
+    void unmakeWithoutMakeFails() {
+        SplittableRandom rng = new SplittableRandom(1);
+        BattleEngine engine = new BattleEngine(randomTeam(rng), randomTeam(rng), 1L);
+        assertThrows(IllegalStateException.class, engine::unmake);
+    }
+
+    private static void search(BattleEngine engine, int depth, SplittableRandom rng, BattleRandom random, long seed) {
+        if (depth == 0 || engine.isFinished()) {
+            return;
+        }
+        for (int i = 0; i < SEARCH_WIDTH; i++) {
+            BattleState before = engine.snapshot();
+            int makeDepth = engine.getMakeDepth();
+            engine.make(randomTurn(engine, 1, rng), randomTurn(engine, 2, rng), random);
+            search(engine, depth - 1, rng, random, seed);
+            engine.unmake();
+            assertEquals(before, engine.snapshot(), "nested unmake changed the state (seed " + seed + ")");
+            assertEquals(makeDepth, engine.getMakeDepth());
+        }
+    }
+}
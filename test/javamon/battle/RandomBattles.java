@@ -0,0 +1,45 @@
+package javamon.battle;
+
+import java.util.*;
+import javamon.entities.*;
+import javamon.entities.moves.*;
+
+/**
+ * Random teams and legal random actions, shared by the tests that play seeded random battles.
+ */
+public final class RandomBattles {
+    private RandomBattles() {}
+
+    /**
+     * 1 to 6 random Pokemon with 1 to 4 distinct random moves each.
+     */
+    public static List<Pokemon> randomTeam(SplittableRandom rng) {
+        int size = 1 + rng.nextInt(6);
+        int[] species = new int[size];
+        int[][] moves = new int[size][];
+        for (int i = 0; i < size; i++) {
+            species[i] = rng.nextInt(PokemonRegistry.size());
+            moves[i] = rng.ints(0, MoveRegistry.size())
+                    .filter(id -> id != MoveRegistry.STRUGGLE_ID)
+                    .distinct()
+                    .limit(1 + rng.nextInt(4))
+                    .toArray();
+        }
+        return PokemonRegistry.createTeam(species, 5 + rng.nextInt(60), moves);
+    }
+
+    /**
+     * @return one of the player's legal actions, chosen uniformly
+     */
+    public static int randomAction(BattleEngine engine, int playerN, SplittableRandom rng) {
+        int mask = engine.getLegalActions(playerN);
+        return BattleEngine.nthAction(mask, rng.nextInt(Integer.bitCount(mask)));
+    }
+
+    /**
+     * @return {@link #randomAction} as a turn
+     */
+    public static Turn randomTurn(BattleEngine engine, int playerN, SplittableRandom rng) {
+        return engine.toTurn(playerN, randomAction(engine, playerN, rng));
+    }
+}
@@ -0,0 +1,63 @@
+package javamon.entities;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+import org.junit.jupiter.api.Test;
+import javamon.battle.BattleEngine;
+import javamon.entities.moves.*;
+import javamon.util.BattleRandom;
+
+class PokemonTest {
+    private static final String[] MOVES = {"Tackle", "Growl", "Ember", "Quick Attack"};
+
+    @Test
+    void fifthMoveIsRejected() {
+        Pokemon poke = PokemonRegistry.create("Charmander", 20, MOVES);
+        assertThrows(IllegalArgumentException.class, () -> poke.learnMove(MoveRegistry.get("Water Gun")));
+        assertEquals(4, poke.getMoveSlotCount());
+    }
+
+    @Test
+    void packedPPRoundTripsEverySlot() {
+        Pokemon poke = PokemonRegistry.create("Charmander", 20, MOVES);
+        for (int slot = 0; slot < MOVES.length; slot++) {
+            for (int i = 0; i <= slot; i++) {
+                poke.decrementPP(MOVES[slot]);
+            }
+        }
+        int packed = poke.getPackedPP();
+
+        Pokemon fresh = PokemonRegistry.create("Charmander", 20, MOVES);
+        fresh.setPackedPP(packed);
+        for (int slot = 0; slot < MOVES.length; slot++) {
+            assertEquals(poke.getSlotPP(slot), fresh.getSlotPP(slot), "slot " + slot);
+        }
+    }
+
+    @Test
+    void copyStartsStagesOver() {
+        Pokemon poke = PokemonRegistry.create("Charmander", 20, MOVES);
+        poke.modifyStat(Stat.Attack, 2);
+        poke.modifyStat(Stat.Speed, -1);
+
+        Pokemon copy = new Pokemon(poke);
+        for (Stat stat : Stat.values()) {
+            assertEquals(0, copy.getStatStage(stat), stat.name());
+        }
+        assertEquals(2, poke.getStatStage(Stat.Attack));
+    }
+
+    @Test
+    void reusedTeamStartsNextBattleNeutral() {
+        List<Pokemon> team = List.of(PokemonRegistry.create("Charmander", 20, MOVES));
+        List<Pokemon> other = List.of(PokemonRegistry.create("Squirtle", 20, MOVES));
+        BattleEngine engine = new BattleEngine(team, other, 1L);
+        engine.getPokemon(1).get(0).modifyStat(Stat.Attack, 2);
+
+        // A battle continued through copy() keeps its stages; a new battle from the same team does not
+        assertEquals(2, engine.copy(BattleRandom.seeded(1)).getPokemon(1).get(0).getStatStage(Stat.Attack));
+        assertEquals(0, new BattleEngine(engine.getPokemon(1), other, 2L).getPokemon(1).get(0).getStatStage(Stat.Attack));
+        assertEquals(0, team.get(0).getStatStage(Stat.Attack));
+    }
+}
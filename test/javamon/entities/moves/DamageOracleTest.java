@@ -0,0 +1,281 @@
+package javamon.entities.moves;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+import org.junit.jupiter.api.Test;
+import javamon.battle.BattleListener;
+import javamon.entities.*;
+import javamon.util.BattleRandom;
+
+/**
+ * The oracle must predict exactly what {@link DamagingMove#apply} deals. Its multi-hit KO chances are
+ * checked against an exact enumeration over every outcome of every use: hit or miss, then each damage
+ * the roll can deal with the probability of the rolls that deal it, found by bisecting the roll against
+ * {@code apply()} itself.
+ *
+ * <p>{@code ai.strategies.ChanceRandom} enumerates only the knockout of a single hit exactly; the rolls
+ * below the threshold share a few buckets, so the HP left for a second hit would only be approximate.
+ */
+class DamageOracleTest {
+    private static final int MATCHUPS = 300;
+    private static final int MAX_USES = 4;
+    private static final double EPSILON = 1e-9;
+
+    @Test
+    void rangeMatchesApply() {
+        DamageOracle oracle = new DamageOracle();
+        SplittableRandom rng = new SplittableRandom(3);
+        for (int i = 0; i < MATCHUPS; i++) {
+            Move move = randomMove(rng);
+            Pokemon attacker = randomPokemon(rng);
+            Pokemon defender = randomPokemon(rng);
+            DamageOracle.Range range = oracle.getRange(attacker, defender, move);
+            String where = move.getName() + " against " + defender.getNickname();
+
+            assertEquals(dealt(attacker, defender, move, 0.0), range.getMin(), where + ": min");
+            assertEquals(dealt(attacker, defender, move, DamagingMove.HIGHEST_ROLL), range.getMax(), where + ": max");
+            for (int roll = 0; roll < DamageOracle.ROLLS; roll++) {
+                double midpoint = (roll + 0.5) / DamageOracle.ROLLS;
+                assertEquals(dealt(attacker, defender, move, midpoint), range.getRoll(roll), where + ": roll " + roll);
+            }
+        }
+    }
+
+    @Test
+    void koChanceOverSeveralUsesMatchesEnumeration() {
+        DamageOracle oracle = new DamageOracle();
+        SplittableRandom rng = new SplittableRandom(5);
+        int inaccurate = 0;
+        for (int i = 0; i < MATCHUPS; i++) {
+            Move move = randomMove(rng);
+            Pokemon attacker = randomPokemon(rng);
+            Pokemon defender = randomPokemon(rng);
+            double[] damage = damageDistribution(attacker, defender, move);
+            double hitChance = (move.getAccuracy() >= 100) ? 1.0 : move.getAccuracy() / 100.0;
+            if (hitChance < 1.0) {
+                inaccurate++;
+            }
+
+            for (int uses = 1; uses <= MAX_USES; uses++) {
+                int hp = 1 + rng.nextInt(defender.getMaxHp());
+                defender.setCurrentHp(hp);
+                double expected = koChance(damage, hitChance, hp, uses, new HashMap<>());
+                assertEquals(expected, oracle.getKoChance(attacker, defender, move, uses), EPSILON,
+                        move.getName() + " x" + uses + " against " + defender.getNickname() + " at " + hp + " HP");
+            }
+        }
+        assertTrue(inaccurate >= MATCHUPS / 10, "too few moves that can miss");
+    }
+
+    @Test
+    void koChanceShortcuts() {
+        DamageOracle oracle = new DamageOracle();
+        Pokemon attacker = PokemonRegistry.create("Charmander", 20);
+        Pokemon defender = PokemonRegistry.create("Bulbasaur", 20);
+        Move tackle = MoveRegistry.get("Tackle");
+        int max = oracle.getRange(attacker, defender, tackle).getMax();
+
+        assertThrows(IllegalArgumentException.class, () -> oracle.getKoChance(attacker, defender, tackle, 0));
+
+        // Every hit at the top roll still falls short
+        defender.setCurrentHp(3 * max + 1);
+        assertEquals(0.0, oracle.getKoChance(attacker, defender, tackle, 3));
+        defender.setCurrentHp(3 * max);
+        assertTrue(oracle.getKoChance(attacker, defender, tackle, 3) > 0.0);
+
+        // Already fainted, or a move that deals no damage
+        defender.setCurrentHp(0);
+        assertEquals(1.0, oracle.getKoChance(attacker, defender, tackle, 2));
+        defender.setCurrentHp(1);
+        assertEquals(0.0, oracle.getKoChance(attacker, defender, MoveRegistry.get("Growl"), 3));
+    }
+
+    @Test
+    void leastRecentlyUsedRangeIsEvicted() {
+        DamageOracle oracle = new DamageOracle(2);
+        Pokemon attacker = PokemonRegistry.create("Charmander", 20);
+        Pokemon defender = PokemonRegistry.create("Bulbasaur", 20);
+        Move tackle = MoveRegistry.get("Tackle");
+        Move scratch = MoveRegistry.get("Scratch");
+        Move pound = MoveRegistry.get("Pound");
+        oracle.getRange(attacker, defender, tackle);
+        oracle.getRange(attacker, defender, scratch);
+        oracle.getRange(attacker, defender, tackle);
+        oracle.getRange(attacker, defender, pound);
+        assertEquals(2, oracle.getSize());
+
+        // Scratch was used least recently, so it made room for Pound
+        long misses = oracle.getMisses();
+        oracle.getRange(attacker, defender, tackle);
+        oracle.getRange(attacker, defender, pound);
+        assertEquals(misses, oracle.getMisses());
+        oracle.getRange(attacker, defender, scratch);
+        assertEquals(misses + 1, oracle.getMisses());
+    }
+
+    @Test
+    void evictionFollowsLeastRecentlyUsedOrder() {
+        int capacity = 17;
+        DamageOracle oracle = new DamageOracle(capacity);
+        DamageOracle fresh = new DamageOracle();
+        Pokemon attacker = PokemonRegistry.create("Mew", 50);
+        Pokemon defender = PokemonRegistry.create("Snorlax", 50);
+        // Every move gives its own key, so the model only has to track move IDs
+        List<Move> moves = new ArrayList<>();
+        for (int id = 0; id < MoveRegistry.size(); id++) {
+            if (MoveRegistry.get(id) instanceof DamagingMove && moves.size() < 3 * capacity) {
+                moves.add(MoveRegistry.get(id));
+            }
+        }
+        Map<Integer, Boolean> model = new LinkedHashMap<Integer, Boolean>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Boolean> eldest) {
+                return size() > capacity;
+            }
+        };
+
+        SplittableRandom rng = new SplittableRandom(9);
+        for (int query = 0; query < 20_000; query++) {
+            // Skewed towards the first moves, so some stay hot while the rest churn
+            Move move = moves.get(Math.min(rng.nextInt(moves.size()), rng.nextInt(moves.size())));
+            boolean cached = model.get(move.getId()) != null;
+            model.put(move.getId(), Boolean.TRUE);
+
+            long hits = oracle.getHits();
+            DamageOracle.Range range = oracle.getRange(attacker, defender, move);
+            assertEquals(cached, oracle.getHits() > hits, move.getName() + " at query " + query);
+            assertEquals(model.size(), oracle.getSize());
+            DamageOracle.Range expected = fresh.getRange(attacker, defender, move);
+            assertEquals(expected.getMin(), range.getMin(), move.getName());
+            assertEquals(expected.getMax(), range.getMax(), move.getName());
+            assertEquals(expected.getAverage(), range.getAverage(), move.getName());
+        }
+    }
+
+    /**
+     * @return chance that the defender, with the given HP left, faints within the given number of uses
+     */
+    private static double koChance(double[] damage, double hitChance, int hp, int uses, Map<Long, Double> memo) {
+        if (hp <= 0) {
+            return 1.0;
+        }
+        if (uses == 0) {
+            return 0.0;
+        }
+        Long key = (long) hp * (MAX_USES + 1) + uses;
+        Double known = memo.get(key);
+        if (known != null) {
+            return known;
+        }
+
+        double chance = (1.0 - hitChance) * koChance(damage, hitChance, hp, uses - 1, memo);
+        for (int dealt = 0; dealt < damage.length; dealt++) {
+            if (damage[dealt] > 0.0) {
+                chance += hitChance * damage[dealt] * koChance(damage, hitChance, hp - dealt, uses - 1, memo);
+            }
+        }
+        memo.put(key, chance);
+        return chance;
+    }
+
+    /**
+     * @return probability of each damage one hit can deal, indexed by damage
+     */
+    private static double[] damageDistribution(Pokemon attacker, Pokemon defender, Move move) {
+        int top = dealt(attacker, defender, move, DamagingMove.HIGHEST_ROLL);
+        double[] distribution = new double[top + 1];
+        long low = Double.doubleToRawLongBits(0.0);
+        int damage = dealt(attacker, defender, move, 0.0);
+        while (damage < top) {
+            // First roll that deals more: bisect between one that does not and the highest, which does
+            long below = low;
+            long above = Double.doubleToRawLongBits(DamagingMove.HIGHEST_ROLL);
+            while (above - below > 1) {
+                long mid = (below + above) >>> 1;
+                if (dealt(attacker, defender, move, Double.longBitsToDouble(mid)) > damage) {
+                    above = mid;
+                } else {
+                    below = mid;
+                }
+            }
+            distribution[damage] = Double.longBitsToDouble(above) - Double.longBitsToDouble(low);
+            low = above;
+            damage = dealt(attacker, defender, move, Double.longBitsToDouble(above));
+        }
+        distribution[top] = 1.0 - Double.longBitsToDouble(low);
+        return distribution;
+    }
+
+    /**
+     * @return damage apply() deals with the given roll, leaving the defender's HP as it was
+     */
+    private static int dealt(Pokemon attacker, Pokemon defender, Move move, double roll) {
+        int hp = defender.getCurrentHp();
+        int[] dealt = new int[1];
+        move.apply(attacker, defender, new FixedRoll(roll), new BattleListener() {
+            @Override
+            public void onDamage(Pokemon target, int damage, DamageSource source) {
+                dealt[0] = damage;
+            }
+        });
+        defender.setCurrentHp(hp);
+        return dealt[0];
+    }
+
+    /**
+     * A damaging move without an effect, so that using it changes nothing but the defender's HP.
+     */
+    private static Move randomMove(SplittableRandom rng) {
+        while (true) {
+            Move move = MoveRegistry.get(rng.nextInt(MoveRegistry.size()));
+            if (move instanceof DamagingMove && move.getEffect() == null) {
+                return move;
+            }
+        }
+    }
+
+    private static Pokemon randomPokemon(SplittableRandom rng) {
+        Pokemon poke = PokemonRegistry.create(rng.nextInt(PokemonRegistry.size()), 5 + rng.nextInt(60), new int[0]);
+        for (Stat stat : new Stat[]{Stat.Attack, Stat.Defense, Stat.SpecialAttack, Stat.SpecialDefense}) {
+            poke.modifyStat(stat, rng.nextInt(5) - 2);
+        }
+        return poke;
+    }
+
+    /**
+     * Draws the same damage roll every time; the moves used here draw nothing else.
+     */
+    private static final class FixedRoll implements BattleRandom {
+        private final double roll;
+
+        FixedRoll(double roll) {
+            this.roll = roll;
+        }
+
+        @Override
+        public double nextDouble() {
+            return roll;
+        }
+
+        @Override
+        public int nextInt(int bound) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public long nextLong() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean nextBoolean() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public BattleRandom split() {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package javamon.replay;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.*;
+import java.nio.channels.*;
+import java.nio.file.*;
+import java.util.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import javamon.battle.*;
+import javamon.entities.*;
+
+/**
+ * Reopening an archive must never lose the battles already in it, whether or not the session that
+ * appends to it is closed, and must not leave dead indices behind.
+ */
+class ReplayArchiveTest {
+    @TempDir
+    Path dir;
+
+    @Test
+    void reopenAppendsToIndex() throws IOException {
+        Path path = dir.resolve("archive.bin");
+        List<Long> seeds = new ArrayList<>();
+        try (ReplayArchiveWriter writer = ReplayArchiveWriter.open(path)) {
+            record(writer, seeds, 40);
+        }
+        long size = Files.size(path);
+        try (ReplayArchiveWriter writer = ReplayArchiveWriter.open(path)) {
+            assertEquals(40, writer.getBattleCount());
+            record(writer, seeds, 25);
+        }
+        assertBattles(ReplayArchive.open(path), seeds);
+
+        // The old footer was overwritten: reopening without recording leaves the file as it was
+        size = Files.size(path);
+        try (ReplayArchiveWriter writer = ReplayArchiveWriter.open(path)) {
+            assertEquals(65, writer.getBattleCount());
+        }
+        assertEquals(size, Files.size(path));
+    }
+
+    @Test
+    void crashedSessionKeepsEarlierBattles() throws IOException {
+        Path path = dir.resolve("archive.bin");
+        Path crashed = dir.resolve("crashed.bin");
+        List<Long> seeds = new ArrayList<>();
+        try (ReplayArchiveWriter writer = ReplayArchiveWriter.open(path)) {
+            record(writer, seeds, 40);
+        }
+        try (ReplayArchiveWriter writer = ReplayArchiveWriter.open(path)) {
+            record(writer, seeds, 25);
+            crash(writer, path, crashed);
+        }
+
+        // Readers rebuild the index from the complete battles
+        assertBattles(ReplayArchive.open(crashed), seeds);
+
+        // Reopening does the same and drops the partial battle
+        try (ReplayArchiveWriter writer = ReplayArchiveWriter.open(crashed)) {
+            assertEquals(seeds.size(), writer.getBattleCount());
+            record(writer, seeds, 10);
+        }
+        assertBattles(ReplayArchive.open(crashed), seeds);
+    }
+
+    @Test
+    void crashedFirstSessionIsRecovered() throws IOException {
+        Path path = dir.resolve("archive.bin");
+        Path crashed = dir.resolve("crashed.bin");
+        List<Long> seeds = new ArrayList<>();
+        try (ReplayArchiveWriter writer = ReplayArchiveWriter.open(path)) {
+            record(writer, seeds, 30);
+            crash(writer, path, crashed);
+        }
+
+        assertBattles(ReplayArchive.open(crashed), seeds);
+        try (ReplayArchiveWriter writer = ReplayArchiveWriter.open(crashed)) {
+            assertEquals(30, writer.getBattleCount());
+        }
+        assertBattles(ReplayArchive.open(crashed), seeds);
+    }
+
+    @Test
+    void crashWhileClosingIsRecovered() throws IOException {
+        Path path = dir.resolve("archive.bin");
+        Path crashed = dir.resolve("crashed.bin");
+        List<Long> seeds = new ArrayList<>();
+        try (ReplayArchiveWriter writer = ReplayArchiveWriter.open(path)) {
+            record(writer, seeds, 30);
+        }
+        long footer = 30 * 8 + ReplayFormat.TRAILER_SIZE;
+        long battlesEnd = Files.size(path) - footer;
+
+        // Every cut through the footer: its offsets must not pass for battles
+        for (long cut = 1; cut < footer; cut += 7) {
+            Files.copy(path, crashed, StandardCopyOption.REPLACE_EXISTING);
+            try (FileChannel channel = FileChannel.open(crashed, StandardOpenOption.WRITE)) {
+                channel.truncate(battlesEnd + cut);
+            }
+            assertBattles(ReplayArchive.open(crashed), seeds);
+            try (ReplayArchiveWriter writer = ReplayArchiveWriter.open(crashed)) {
+                assertEquals(30, writer.getBattleCount());
+            }
+            assertEquals(battlesEnd + footer, Files.size(crashed));
+        }
+    }
+
+    @Test
+    void battleLeftOpenOnCloseIsDropped() throws IOException {
+        Path path = dir.resolve("archive.bin");
+        Path crashed = dir.resolve("crashed.bin");
+        List<Long> seeds = new ArrayList<>();
+        try (ReplayArchiveWriter writer = ReplayArchiveWriter.open(path)) {
+            record(writer, seeds, 20);
+            startBattle(writer);
+        }
+        assertBattles(ReplayArchive.open(path), seeds);
+
+        // A partial battle left in front of the new ones would stop recovery there and lose them
+        try (ReplayArchiveWriter writer = ReplayArchiveWriter.open(path)) {
+            assertEquals(20, writer.getBattleCount());
+            record(writer, seeds, 15);
+            crash(writer, path, crashed);
+        }
+        assertBattles(ReplayArchive.open(crashed), seeds);
+        try (ReplayArchiveWriter writer = ReplayArchiveWriter.open(crashed)) {
+            assertEquals(35, writer.getBattleCount());
+        }
+        assertBattles(ReplayArchive.open(crashed), seeds);
+    }
+
+    @Test
+    void otherRegistryIsRejected() throws IOException {
+        Path log = dir.resolve("log.bin");
+        Path archive = dir.resolve("archive.bin");
+        try (ReplayWriter writer = new ReplayWriter(log)) {
+            record(writer, new ArrayList<>(), 5);
+        }
+        try (ReplayArchiveWriter writer = ReplayArchiveWriter.open(archive)) {
+            record(writer, new ArrayList<>(), 5);
+        }
+        for (Path path : List.of(log, archive)) {
+            // Stand-in for a log recorded before a move was added: same data, other fingerprint
+            byte[] bytes = Files.readAllBytes(path);
+            bytes[ReplayFormat.HEADER_SIZE - 1] ^= 1;
+            Files.write(path, bytes);
+        }
+
+        assertThrows(IOException.class, () -> new ReplayReader(log));
+        assertThrows(IOException.class, () -> ReplayArchive.open(archive));
+        assertThrows(IOException.class, () -> ReplayArchiveWriter.open(archive));
+    }
+
+    /**
+     * Starts one more battle, then copies the file as it is on disk, as if the process died there.
+     */
+    private static void crash(ReplayArchiveWriter writer, Path path, Path copy) throws IOException {
+        startBattle(writer);
+        writer.flush();
+        Files.copy(path, copy);
+        writer.endBattle();
+    }
+
+    /**
+     * Starts a battle and records its first round, leaving it unfinished.
+     */
+    private static void startBattle(ReplayArchiveWriter writer) {
+        BattleEngine engine = new BattleEngine(team1(), team2(), -1L);
+        writer.beginBattle(-1L, team1(), team2());
+        engine.queueAction(1, 1); // Tackle
+        engine.queueAction(2, 1);
+        engine.playOutTurns(writer);
+    }
+
+    private static void record(ReplayWriter writer, List<Long> seeds, int battles) {
+        for (int i = 0; i < battles; i++) {
+            long seed = 1000L + seeds.size();
+            SplittableRandom rng = new SplittableRandom(seed);
+            BattleEngine engine = new BattleEngine(team1(), team2(), seed);
+            writer.beginBattle(seed, team1(), team2());
+            while (!engine.isFinished()) {
+                for (int playerN = 1; playerN <= 2; playerN++) {
+                    int mask = engine.getLegalActions(playerN);
+                    engine.queueAction(playerN, BattleEngine.nthAction(mask, rng.nextInt(Integer.bitCount(mask))));
+                }
+                engine.playOutTurns(writer);
+            }
+            writer.endBattle();
+            seeds.add(seed);
+        }
+    }
+
+    private static void assertBattles(ReplayArchive archive, List<Long> seeds) {
+        assertEquals(seeds.size(), archive.getBattleCount());
+        for (ReplayArchive.Cursor cursor : archive) {
+            long id = cursor.getBattleId();
+            assertEquals(seeds.get((int) id), cursor.getSeed(), "wrong seed for battle " + id);
+            assertTrue(cursor.toReplay().play(BattleListener.NONE).isFinished(), "battle " + id + " does not replay to the end");
+        }
+    }
+
+    private static List<Pokemon> team1() {
+        return List.of(PokemonRegistry.create("Charmander", 20, new String[]{"Ember", "Tackle"}),
+                PokemonRegistry.create("Bulbasaur", 20, new String[]{"Vine Whip", "Tackle"}));
+    }
+
+    private static List<Pokemon> team2() {
+        return List.of(PokemonRegistry.create("Squirtle", 20, new String[]{"Water Gun", "Tackle"}),
+                PokemonRegistry.create("Pikachu", 20, new String[]{"Quick Attack", "Tackle"}));
+    }
+}
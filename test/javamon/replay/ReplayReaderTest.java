@@ -0,0 +1,58 @@
+package javamon.replay;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import org.junit.jupiter.api.Test;
+
+/**
+ * A corrupt log must fail as an {@link IOException}, never by sizing an array from a bad count.
+ */
+class ReplayReaderTest {
+    @Test
+    void oversizedTeamIsRejected() {
+        assertCorrupt(1L, 1_000_000_000L);
+    }
+
+    @Test
+    void negativeTeamSizeIsRejected() {
+        assertCorrupt(1L, -1L);
+    }
+
+    @Test
+    void emptyTeamIsRejected() {
+        assertCorrupt(1L, 0L);
+    }
+
+    @Test
+    void tooManyMovesAreRejected() {
+        // Seed, then a team of one: species, level, move count
+        assertCorrupt(1L, 1L, 0L, 20L, 1_000_000_000L);
+        assertCorrupt(1L, 1L, 0L, 20L, 5L);
+        assertCorrupt(1L, 1L, 0L, 20L, -1L);
+    }
+
+    private static void assertCorrupt(long... varints) {
+        assertThrows(IOException.class, () -> {
+            try (ReplayReader reader = new ReplayReader(Channels.newChannel(new ByteArrayInputStream(log(varints))))) {
+                reader.read();
+            }
+        });
+    }
+
+    /**
+     * @return an empty log's header followed by the given varints
+     */
+    private static byte[] log(long... varints) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        new ReplayWriter(Channels.newChannel(bytes)).close();
+        ByteBuffer battle = ByteBuffer.allocate(ReplayFormat.MAX_VARINT_BYTES * varints.length);
+        for (long varint : varints) {
+            ReplayFormat.writeVarint(battle, varint);
+        }
+        bytes.write(battle.array(), 0, battle.position());
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,52 @@
+package javamon.replay;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.*;
+import java.nio.channels.*;
+import java.util.*;
+import org.junit.jupiter.api.Test;
+import javamon.entities.*;
+import javamon.types.Type;
+
+/**
+ * Teams a log could not rebuild must be refused when the battle is recorded, not when it is read back.
+ */
+class ReplayWriterTest {
+    @Test
+    void freshRegistryTeamsAreRecorded() throws IOException {
+        try (ReplayWriter writer = writer()) {
+            writer.beginBattle(1L, List.of(poke()), List.of(poke()));
+            writer.endBattle();
+            assertEquals(1, writer.getBattleCount());
+        }
+    }
+
+    @Test
+    void statStagesAreLeftOut() throws IOException {
+        // The engine starts every battle at neutral stages, so a log rebuilds the battle that is played
+        Pokemon boosted = poke();
+        boosted.modifyStat(Stat.Attack, 1);
+        try (ReplayWriter writer = writer()) {
+            writer.beginBattle(1L, List.of(boosted), List.of(poke()));
+            writer.endBattle();
+            assertEquals(1, writer.getBattleCount());
+        }
+    }
+
+    @Test
+    void speciesOutsideRegistryAreRejected() throws IOException {
+        PokemonSpecies custom = new PokemonSpecies("Missingno", List.of(Type.Normal), 33, 136, 0, 6, 6, 29);
+        try (ReplayWriter writer = writer()) {
+            assertThrows(IllegalArgumentException.class, () -> writer.beginBattle(1L, List.of(poke()), List.of(custom.create(20))));
+        }
+    }
+
+    private static ReplayWriter writer() throws IOException {
+        return new ReplayWriter(Channels.newChannel(new ByteArrayOutputStream()));
+    }
+
+    private static Pokemon poke() {
+        return PokemonRegistry.create("Charmander", 20, new String[]{"Ember", "Tackle"});
+    }
+}